@@ -0,0 +1,169 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.microbenchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH wrapper around all microbenchmarks operating on a fixed, predefined system (Ar55, water
+ * clusters, CO on Pd, kanamycin,...). The result of every call is consumed by a Blackhole so that
+ * the JIT cannot eliminate it.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"--enable-preview", "--add-modules=jdk.incubator.vector"})
+public class FixedSystemBenchmarks {
+
+  @Param({
+    "LJFFEnergy",
+    "LJFFGradient",
+    "MixedLJFFEnergy",
+    "MixedLJFFGradient",
+    "AdaptiveLJFFEnergy",
+    "AdaptiveLJFFGradient",
+    "TIP3PEnergy",
+    "TIP3PGradient",
+    "TIP4PEnergy",
+    "TIP4PGradient",
+    "WaterTTM3FSmall",
+    "WaterTTM3FLarge",
+    "UFFSurfaceEnergy",
+    "UFFSurfaceGradient",
+    "UFFFrozenSurfaceEnergy",
+    "UFFFrozenSurfaceGradient",
+    "UFFLargeMoleculeEnergy",
+    "UFFLargeMoleculeGradient",
+    "AdvPairwiseCD",
+    "AdvPairwiseCDCheckOnly",
+    "Aligning",
+    "GeometryCopy",
+    "Angle",
+    "Angle2",
+    "Dihedral"
+  })
+  public String benchmark;
+
+  private SingleMicroBenchmark bench;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.bench = create(benchmark);
+  }
+
+  @Benchmark
+  public void run(final Blackhole bh) throws Exception {
+    bh.consume(bench.runSingle());
+  }
+
+  static SingleMicroBenchmark create(final String name) {
+    switch (name) {
+      case "LJFFEnergy":
+        return new LJFFEnergyBench();
+      case "LJFFGradient":
+        return new LJFFGradientBench();
+      case "MixedLJFFEnergy":
+        return new MixedLJFFEnergyBench();
+      case "MixedLJFFGradient":
+        return new MixedLJFFGradientBench();
+      case "AdaptiveLJFFEnergy":
+        return new AdaptiveLJFFEnergyBench();
+      case "AdaptiveLJFFGradient":
+        return new AdaptiveLJFFGradientBench();
+      case "TIP3PEnergy":
+        return new TIP3PEnergyBench();
+      case "TIP3PGradient":
+        return new TIP3PGradientBench();
+      case "TIP4PEnergy":
+        return new TIP4PEnergyBench();
+      case "TIP4PGradient":
+        return new TIP4PGradientBench();
+      case "WaterTTM3FSmall":
+        return new WaterTTM3FSmallBenchmark();
+      case "WaterTTM3FLarge":
+        return new WaterTTM3FLargeBenchmark();
+      case "UFFSurfaceEnergy":
+        return new UFFSurfaceEnergyBenchmark();
+      case "UFFSurfaceGradient":
+        return new UFFSurfaceGradientBenchmark();
+      case "UFFFrozenSurfaceEnergy":
+        return new UFFFrozenSurfaceEnergyBenchmark();
+      case "UFFFrozenSurfaceGradient":
+        return new UFFFrozenSurfaceGradientBenchmark();
+      case "UFFLargeMoleculeEnergy":
+        return new UFFLargeMoleculeEnergyBenchmark();
+      case "UFFLargeMoleculeGradient":
+        return new UFFLargeMoleculeGradientBenchmark();
+      case "AdvPairwiseCD":
+        return new AdvPairwiseCDBenchmark();
+      case "AdvPairwiseCDCheckOnly":
+        return new AdvPairwiseCDCheckOnlyBenchmark();
+      case "Aligning":
+        return new AligningBench();
+      case "GeometryCopy":
+        return new GeometryCopyBench();
+      case "Angle":
+        return new AngleBench();
+      case "Angle2":
+        return new AngleBench2();
+      case "Dihedral":
+        return new DihedralBench();
+      default:
+        throw new IllegalArgumentException("No fixed system microbenchmark called " + name + ".");
+    }
+  }
+}
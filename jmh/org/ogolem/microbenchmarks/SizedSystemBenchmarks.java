@@ -0,0 +1,137 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.microbenchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH wrapper around the microbenchmarks whose system size can be chosen: MixedLJ local
+ * optimization (number of atoms), matrix multiplications (dimension) and the analytic test
+ * functions of the adaptive subsystem (number of dimensions). The size grid can be overridden on
+ * the JMH command line, e.g. -p size=38,55.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"--enable-preview", "--add-modules=jdk.incubator.vector"})
+public class SizedSystemBenchmarks {
+
+  @Param({
+    "MixedLJLocOpt",
+    "MatMult",
+    "Mat3x3Mult",
+    "Ackley",
+    "AckleyGrad",
+    "Lunacek",
+    "LunacekGrad",
+    "Rastrigin",
+    "RastriginGrad",
+    "SchafferF7",
+    "SchafferF7Grad",
+    "Schwefel",
+    "SchwefelGrad"
+  })
+  public String benchmark;
+
+  @Param({"38", "55", "100", "150"})
+  public int size;
+
+  private SingleMicroBenchmark bench;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.bench = create(benchmark, size);
+  }
+
+  @Benchmark
+  public void run(final Blackhole bh) throws Exception {
+    bh.consume(bench.runSingle());
+  }
+
+  static SingleMicroBenchmark create(final String name, final int size) {
+    switch (name) {
+      case "MixedLJLocOpt":
+        return new MixedLJLocOptBench(size);
+      case "MatMult":
+        return new MatMultBenchmark(size, size, size);
+      case "Mat3x3Mult":
+        return new Mat3x3MultBenchmark(size);
+      case "Ackley":
+        return new AckleyBench(size);
+      case "AckleyGrad":
+        return new AckleyGradBench(size);
+      case "Lunacek":
+        return new LunacekBench(size);
+      case "LunacekGrad":
+        return new LunacekGradBench(size);
+      case "Rastrigin":
+        return new RastriginBench(size);
+      case "RastriginGrad":
+        return new RastriginGradBench(size);
+      case "SchafferF7":
+        return new SchafferF7Bench(size);
+      case "SchafferF7Grad":
+        return new SchafferF7GradBench(size);
+      case "Schwefel":
+        return new SchwefelBench(size);
+      case "SchwefelGrad":
+        return new SchwefelGradBench(size);
+      default:
+        throw new IllegalArgumentException("No sized microbenchmark called " + name + ".");
+    }
+  }
+}
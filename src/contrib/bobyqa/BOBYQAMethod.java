@@ -46,6 +46,19 @@ public interface BOBYQAMethod {
     
     double computeObjectiveValue(double[] point);
     
+    /**
+     * Computes the function values at several independent points. The default
+     * evaluates them one after the other, in order. Implementations may evaluate
+     * them concurrently.
+     * @param points the points, must not be changed
+     * @param values the function values, same order as the points
+     */
+    default void computeObjectiveValues(final double[][] points, final double[] values){
+        for(int i = 0; i < points.length; i++){
+            values[i] = computeObjectiveValue(points[i]);
+        }
+    }
+    
     void normalizeFromBounds(final double[][] bounds, final double[] point, final double[] normalized);
     
     void denormalizeToBounds(final double[][] bounds, final double[] normalized, final double[] point);
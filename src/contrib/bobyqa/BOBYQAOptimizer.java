@@ -1940,6 +1940,44 @@ public class BOBYQAOptimizer implements Serializable {
         // of function values so far. The coordinates of the displacement of the
         // next initial interpolation point from XBASE are set in XPT(NF+1,.).
 
+        // The first 2*N+1 interpolation points only depend on XBASE, RHOBEG and
+        // the bounds (the switches below never touch a point still to come), so
+        // their function values are requested up front in a single call that
+        // may evaluate them concurrently.
+
+        final int npre = Math.max(1, Math.min(Math.min(npt, (n << 1) + 1), maxfun));
+        final double[][] prePoints = new double[npre][n];
+        final double[] preValues = new double[npre];
+        for (k = 1; k <= npre; k++) {
+            int jstep = 0;
+            double step = zero;
+            if (k >= 2 && k <= n + 1) {
+                jstep = k - 1;
+                step = (su.get(jstep) == zero) ? -rhobeg : rhobeg;
+            } else if (k >= n + 2) {
+                jstep = k - 1 - n;
+                step = -rhobeg;
+                if (sl.get(jstep) == zero) {
+                    step = Math.min(two * rhobeg, su.get(jstep));
+                }
+                if (su.get(jstep) == zero) {
+                    step = Math.max(-two * rhobeg, sl.get(jstep));
+                }
+            }
+            for (j = 1; j <= n; j++) {
+                final double xptj = (j == jstep) ? step : zero;
+                double xj = Math.min(Math.max(xl.get(j), xbase.get(j) + xptj), xu.get(j));
+                if (xptj == sl.get(j)) {
+                    xj = xl.get(j);
+                }
+                if (xptj == su.get(j)) {
+                    xj = xu.get(j);
+                }
+                prePoints[k - 1][j - 1] = xj;
+            }
+        }
+        met.computeObjectiveValues(prePoints, preValues);
+
         nf.value = 0;
         do {
             nfm = nf.value;
@@ -2001,7 +2039,7 @@ public class BOBYQAOptimizer implements Serializable {
                     x.set(j, xu.get(j));
                 }
             }
-            f = met.computeObjectiveValue(x.getAll());
+            f = (nf.value <= npre) ? preValues[nf.value - 1] : met.computeObjectiveValue(x.getAll());
             if (!isMinimize)
                 f = -f;
             fval.set(nf.value, f);
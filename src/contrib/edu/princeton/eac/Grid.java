@@ -56,7 +56,7 @@ import org.slf4j.LoggerFactory;
  * big a deal) but only somehwere around 50-75% (ballpark!).
  *
  * @author Johannes Dieterich
- * @version 2020-12-26
+ * @version 2026-10-18
  */
 public class Grid<T> implements Cloneable, Serializable, Iterable<double[]> {
 
@@ -214,6 +214,17 @@ public class Grid<T> implements Cloneable, Serializable, Iterable<double[]> {
     this.auxDataInGrid.set(index, data);
   }
 
+  /**
+   * Attaches data to a grid point by its position in the list of all grid points. Avoids the linear
+   * search of {@link #attachToPoint(double[], Object)} when the position is known.
+   *
+   * @param index the position of the grid point
+   * @param data the data to attach
+   */
+  public void attachToIndex(final int index, final T data) {
+    this.auxDataInGrid.set(index, data);
+  }
+
   public T getDataForGridPoint(final double[] point) throws Exception {
 
     final int index = gridPoints.indexOf(point);
@@ -4,7 +4,7 @@ package contrib.newuoa;
  * Interface defining what a method to be used with NEWUOA must handle.
  * @author Jonas Feldt
  * @author Johannes Dieterich
- * @version 2011-11-19
+ * @version 2026-10-18
  */
 public interface NEWUOAMethod {
     
@@ -15,4 +15,18 @@ public interface NEWUOAMethod {
      * @return The function value at this point
      */
     double computeObjectiveValue(final int n, final double[] point);
+    
+    /**
+     * Computes the function values at several independent points. The default
+     * evaluates them one after the other, in order. Implementations may evaluate
+     * them concurrently.
+     * @param n Dimensionality of the problem.
+     * @param points The points, must not be changed.
+     * @param values The function values, same order as the points.
+     */
+    default void computeObjectiveValues(final int n, final double[][] points, final double[] values){
+        for(int i = 0; i < points.length; i++){
+            values[i] = computeObjectiveValue(n, points[i]);
+        }
+    }
 }
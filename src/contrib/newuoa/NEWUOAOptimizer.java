@@ -8,7 +8,7 @@ import org.ogolem.helpers.Tuple;
  * The actual NEWUAO optimization engine.
  * @author Jonas Feldt
  * @author Johannes Dieterich
- * @version 2012-06-24
+ * @version 2026-10-18
  */
 public class NEWUOAOptimizer implements Serializable {
 	
@@ -219,6 +219,26 @@ public class NEWUOAOptimizer implements Serializable {
 		double fSave = 0;
 		double vQuad = 0;
 		
+//		The first 2*N+1 interpolation points are XBASE and XBASE plus/minus RHOBEG
+//		along each coordinate, independent of any function value. Request them up
+//		front in a single call that may evaluate them concurrently.
+		
+		final int nPre = Math.max(1, Math.min(Math.min(npt, 2 * n + 1), nfTest));
+		final double[][] prePoints = new double[nPre][n];
+		final double[] preValues = new double[nPre];
+		for (int k = 0; k < nPre; k++) {
+			for (int j = 0; j < n; j++) {
+				double step = 0;
+				if (k >= 1 && k <= n && j == k - 1) {
+					step = rhoBeg;
+				} else if (k > n && j == k - n - 1) {
+					step = -rhoBeg;
+				}
+				prePoints[k][j] = step + xBase[j];
+			}
+		}
+		met.computeObjectiveValues(n, prePoints, preValues);
+		
 		int state = 50;		
 		for (;;) {
 			switch (state) {
@@ -548,7 +568,7 @@ public class NEWUOAOptimizer implements Serializable {
 						continue;
 					}
 				}
-				f = met.computeObjectiveValue(n, x);
+				f = (nf < nPre) ? preValues[nf] : met.computeObjectiveValue(n, x);
 				if (iPrint == 3) {
 //					System.out.println("Function number " + nf + "   f = "
 //							+ f + "  The corresponding X is: ");
@@ -54,7 +54,7 @@ import org.ogolem.io.InputPrimitives;
  * *all* systems calculated with this object are the same! Please note this!
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
 public final class AdaptiveAmberAngleTerm implements AdaptiveInteractionTerm {
 
@@ -110,6 +110,14 @@ public final class AdaptiveAmberAngleTerm implements AdaptiveInteractionTerm {
     return new AdaptiveAmberAngleTerm(this);
   }
 
+  /**
+   * @return the cached parameter offsets, one per interaction. Null before the first evaluation or
+   *     if caching is disabled.
+   */
+  int[] getParamOffsetCache() {
+    return paramOffsetCache;
+  }
+
   @Override
   public double partialInteraction(Topology topology, AdaptiveParameters params) {
 
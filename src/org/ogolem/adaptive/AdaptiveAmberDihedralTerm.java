@@ -55,7 +55,7 @@ import org.ogolem.math.TrivialLinearAlgebra;
  * dihedral.
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
 public final class AdaptiveAmberDihedralTerm implements AdaptiveInteractionTerm {
   // XXX do not always compute both sin/cos() depending upon param[0] and param[3]
@@ -113,6 +113,14 @@ public final class AdaptiveAmberDihedralTerm implements AdaptiveInteractionTerm
     return new AdaptiveAmberDihedralTerm(this);
   }
 
+  /**
+   * @return the cached parameter offsets, one per interaction. Null before the first evaluation or
+   *     if caching is disabled.
+   */
+  int[] getParamOffsetCache() {
+    return paramOffsetCache;
+  }
+
   @Override
   public double partialInteraction(final Topology topology, final AdaptiveParameters params) {
 
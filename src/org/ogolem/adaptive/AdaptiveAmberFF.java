@@ -54,15 +54,17 @@ import org.ogolem.math.SinLookup;
 
 /**
  * An adaptivable AMBER-style force field. Please note that this FF ONLY guarantees to work with one
- * system at a time!
+ * system at a time! When used as a backend with caching, the bonded terms can optionally be
+ * compiled once into vectorized kernels (see VectorizedBondedTerms).
  *
  * @author Johannes Dieterich
- * @version 2020-12-30
+ * @version 2026-10-18
  */
 public class AdaptiveAmberFF extends AbstractAdaptiveBackend {
 
   private static final long serialVersionUID = (long) 20150727;
   private static final boolean DEBUG = false;
+  private static final int NOBONDEDTERMS = 3;
 
   private final AdaptiveInteractionTerm[] terms;
   private final AdaptiveParameters params;
@@ -72,6 +74,8 @@ public class AdaptiveAmberFF extends AbstractAdaptiveBackend {
   private final boolean useShifter;
   private ArrayList<Topology> topoCache;
   private final AmberMath math;
+  private final boolean useVectorKernels;
+  private VectorizedBondedTerms bondedKernels;
   private double[][] xyz; // used as an object cache when in backend mode.
 
   public AdaptiveAmberFF(
@@ -83,7 +87,34 @@ public class AdaptiveAmberFF extends AbstractAdaptiveBackend {
       int whichSin,
       boolean useTotalEnergyShifter)
       throws Exception {
+    this(
+        bIsInAdaptive,
+        parameters,
+        useCaching,
+        whichAcos,
+        whichCos,
+        whichSin,
+        useTotalEnergyShifter,
+        false);
+  }
+
+  /**
+   * @param useVectorizedBonded whether the bonded terms should be evaluated by the vectorized
+   *     kernels. Only effective in backend mode with caching enabled, the kernels use the exact
+   *     trigonometric functions regardless of the lookup choices.
+   */
+  public AdaptiveAmberFF(
+      boolean bIsInAdaptive,
+      AdaptiveParameters parameters,
+      boolean useCaching,
+      int whichAcos,
+      int whichCos,
+      int whichSin,
+      boolean useTotalEnergyShifter,
+      boolean useVectorizedBonded)
+      throws Exception {
     this.useCaches = useCaching;
+    this.useVectorKernels = useVectorizedBonded && useCaching && !bIsInAdaptive;
     this.useShifter = useTotalEnergyShifter;
     this.terms = (useShifter) ? new AdaptiveInteractionTerm[5] : new AdaptiveInteractionTerm[4];
     // add individual terms
@@ -160,6 +191,8 @@ public class AdaptiveAmberFF extends AbstractAdaptiveBackend {
   private AdaptiveAmberFF(final AdaptiveAmberFF orig) {
     this.math = orig.math.copy();
     this.useCaches = orig.useCaches;
+    this.useVectorKernels = orig.useVectorKernels;
+    this.bondedKernels = (orig.bondedKernels == null) ? null : orig.bondedKernels.copy();
     this.useShifter = orig.useShifter;
     this.terms = new AdaptiveInteractionTerm[orig.terms.length];
     int c = 0;
@@ -221,8 +254,22 @@ public class AdaptiveAmberFF extends AbstractAdaptiveBackend {
     // now compute all contributions
     final ArrayList<Gradient> gradContrib = new ArrayList<>();
     double energy = 0.0;
-    for (final AdaptiveInteractionTerm term : terms) {
-      final Gradient grad = term.partialCartesianGradient(topology, params);
+    int firstTerm = 0;
+    if (useVectorKernels) {
+      if (bondedKernels == null) {
+        compileBondedKernels(topology);
+      }
+      final double[][] bondedGrad = new double[3][iNoOfAtoms];
+      final double bondedE = bondedKernels.gradient(xyz1D, iNoOfAtoms, bondedGrad);
+      final Gradient grad = new Gradient();
+      grad.setGradientTotal(bondedGrad);
+      grad.setTotalEnergy(bondedE);
+      energy += bondedE;
+      gradContrib.add(grad);
+      firstTerm = NOBONDEDTERMS;
+    }
+    for (int t = firstTerm; t < terms.length; t++) {
+      final Gradient grad = terms[t].partialCartesianGradient(topology, params);
       energy += grad.getTotalEnergy();
       gradContrib.add(grad);
     }
@@ -280,13 +327,50 @@ public class AdaptiveAmberFF extends AbstractAdaptiveBackend {
 
     // now all interaction terms
     double energy = 0.0;
-    for (final AdaptiveInteractionTerm term : terms) {
-      energy += term.partialInteraction(topology, params);
+    int firstTerm = 0;
+    if (useVectorKernels) {
+      if (bondedKernels == null) {
+        compileBondedKernels(topology);
+      }
+      energy += bondedKernels.energy(xyz1D, iNoOfAtoms);
+      firstTerm = NOBONDEDTERMS;
+    }
+    for (int t = firstTerm; t < terms.length; t++) {
+      energy += terms[t].partialInteraction(topology, params);
     }
 
     return energy;
   }
 
+  /**
+   * Compiles the bond, angle and dihedral terms (the first three) into vectorized kernels. A first
+   * scalar evaluation fills the caches of the terms with the parameter offsets.
+   *
+   * @param topology the topology of the (only) system
+   */
+  private void compileBondedKernels(final Topology topology) {
+
+    for (int t = 0; t < NOBONDEDTERMS; t++) {
+      terms[t].partialInteraction(topology, params);
+    }
+
+    final AdaptiveCachedBondTerm bondTerm = (AdaptiveCachedBondTerm) terms[0];
+    final AdaptiveAmberAngleTerm angleTerm = (AdaptiveAmberAngleTerm) terms[1];
+    final AdaptiveAmberDihedralTerm dihedralTerm = (AdaptiveAmberDihedralTerm) terms[2];
+
+    bondedKernels =
+        new VectorizedBondedTerms(
+            bondTerm.getBondList(),
+            bondTerm.getParamOffsetCache(),
+            topology.get13ContributionsField(),
+            angleTerm.getParamOffsetCache(),
+            topology.get14ContributionsField(),
+            dihedralTerm.getParamOffsetCache(),
+            params.getAllParamters(),
+            bondTerm.distCutoff,
+            AdaptiveBondedHarmonicTerm.CUTOFF);
+  }
+
   @Override
   public double energyOfStructWithParams(
       final CartesianCoordinates cartes,
@@ -48,7 +48,7 @@ import org.ogolem.core.Topology;
  * aggressive use of caching in order to optimize performance.
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
 public final class AdaptiveCachedBondTerm extends AdaptiveBondedHarmonicTerm {
 
@@ -76,6 +76,22 @@ public final class AdaptiveCachedBondTerm extends AdaptiveBondedHarmonicTerm {
     return new AdaptiveCachedBondTerm(this);
   }
 
+  /**
+   * @return the cached parameter offsets, one per interaction. Null before the first evaluation or
+   *     if caching is disabled.
+   */
+  int[] getParamOffsetCache() {
+    return paramOffsetCache;
+  }
+
+  /**
+   * @return the cached bonded pairs, matching the parameter offsets. Null before the first
+   *     evaluation.
+   */
+  int[][] getBondList() {
+    return allBonds;
+  }
+
   @Override
   public double partialInteraction(Topology topology, AdaptiveParameters params) {
 
@@ -100,7 +100,7 @@ import org.ogolem.properties.StressTensor;
  * A configuration object for the adaptive package.
  *
  * @author Johannes Dieterich
- * @version 2021-07-21
+ * @version 2026-10-18
  */
 public class AdaptiveConf implements Configuration<Double, AdaptiveParameters> {
 
@@ -110,7 +110,7 @@ public class AdaptiveConf implements Configuration<Double, AdaptiveParameters> {
   };
 
   // the ID
-  private static final long serialVersionUID = (long) 20170914;
+  private static final long serialVersionUID = (long) 20261018;
 
   public AdaptiveConf(final String[] saAdaptiveContent, final GlobalConfig globconf)
       throws Exception {
@@ -184,6 +184,16 @@ public class AdaptiveConf implements Configuration<Double, AdaptiveParameters> {
           System.err.println(
               "Wrong input for ParameterDetailedStats: " + e.toString() + ". NOT ENABLED!");
         }
+      } else if (lineAdapConf.startsWith("ParameterDetailedStatsInterval=")) {
+        final String sTemp2 = lineAdapConf.substring(31).trim();
+        try {
+          detailedStatsInterval = Long.parseLong(sTemp2);
+        } catch (Exception e) {
+          System.err.println(
+              "Wrong input for ParameterDetailedStatsInterval: "
+                  + e.toString()
+                  + ". NOT EXPORTED!");
+        }
       } else if (lineAdapConf.startsWith("ParamSeedingFolder=")) {
         final String s = lineAdapConf.substring(19).trim();
         paramSeedFolder = s;
@@ -359,6 +369,32 @@ public class AdaptiveConf implements Configuration<Double, AdaptiveParameters> {
         } catch (Exception e) {
           System.err.println("Wrong input in MaxTasksToSubmit= . Using default. " + e.toString());
         }
+      } else if (lineAdapConf.startsWith("IslandModel=")) {
+        final String sTemp2 = lineAdapConf.substring(12).trim();
+        try {
+          islandConfig = org.ogolem.generic.threading.IslandConfig.parse(sTemp2);
+        } catch (Exception e) {
+          throw new Exception("Wrong input in IslandModel=: " + e.getMessage(), e);
+        }
+      } else if (lineAdapConf.startsWith("VirtualThreads=")) {
+        useVirtualThreads = Boolean.parseBoolean(lineAdapConf.substring(15).trim());
+      } else if (lineAdapConf.startsWith("MaxExternalProcesses=")) {
+        final String sTemp2 = lineAdapConf.substring(21).trim();
+        try {
+          maxExternalProcesses = Integer.parseInt(sTemp2);
+        } catch (Exception e) {
+          System.err.println(
+              "Wrong input in MaxExternalProcesses= . Using default. " + e.toString());
+        }
+      } else if (lineAdapConf.startsWith("ParamGradientThreads=")) {
+        final String sTemp2 = lineAdapConf.substring(21).trim();
+        try {
+          final int iThreads = Integer.parseInt(sTemp2);
+          paramGradientThreads = iThreads;
+        } catch (Exception e) {
+          System.err.println(
+              "Wrong input in ParamGradientThreads= . Using default. " + e.toString());
+        }
       } else if (lineAdapConf.startsWith("ParameterLocOpt=")) {
         final String sTemp2 = lineAdapConf.substring(16).trim();
         whichParamLocOpt = sTemp2;
@@ -636,13 +672,18 @@ public class AdaptiveConf implements Configuration<Double, AdaptiveParameters> {
   boolean printBorders = true;
 
   /*
-   * whether or not detailed stats are wanted at the expense of an additional
-   * synchronization point (potential slowdown). only applicable for the SMP
-   * case.
+   * whether or not detailed stats are wanted at the expense of some (lock-free)
+   * counting and timing. only applicable for the SMP case.
    * ParameterDetailedStats=
    */
   boolean enableDetailedStats = false;
 
+  /**
+   * seconds between two snapshots of the detailed stats written to detailedstats.jsonl, zero for
+   * none. ParameterDetailedStatsInterval=
+   */
+  long detailedStatsInterval = 0;
+
   /** TODO keyword and doc */
   int addsToNicheStats = 100000;
 
@@ -747,6 +788,21 @@ public class AdaptiveConf implements Configuration<Double, AdaptiveParameters> {
    */
   int maxTasksToSubmit = org.ogolem.generic.threading.GenericOGOLEMOptimization.DEFAULTSUBSTOWAIT;
 
+  /** how many threads every parameter gradient may use ParamGradientThreads= */
+  int paramGradientThreads = 1;
+
+  /** the engine (and pool) for the parameter gradients, created on first use */
+  private transient ParameterGradientEngine paramGradEngine = null;
+
+  /** the island model for shared-memory runs, null for a single pool IslandModel= */
+  org.ogolem.generic.threading.IslandConfig islandConfig = null;
+
+  /** whether tasks run on virtual threads VirtualThreads= */
+  boolean useVirtualThreads = false;
+
+  /** how many external programs may run at once, zero for no limit MaxExternalProcesses= */
+  int maxExternalProcesses = 0;
+
   /**
    * A reference adaptivable which is automatically set during the input reading. AdaptivableChoice=
    */
@@ -1338,10 +1394,12 @@ public class AdaptiveConf implements Configuration<Double, AdaptiveParameters> {
       adapt = new GenericCaller(noParams);
       sWhichMethod = "generic caller";
     } else if (s.startsWith("genericnativecaller:")) {
-      final String s2 = s.substring("generinativeccaller:".length());
-      final int noParams = Integer.parseInt(s2);
-      adapt = new GenericNativeCaller(noParams);
-      sWhichMethod = "generic native caller";
+      // genericnativecaller:NOPARAMS[,ffm]
+      final String[] s2 = s.substring("genericnativecaller:".length()).trim().split("\\,");
+      final int noParams = Integer.parseInt(s2[0].trim());
+      final boolean useFFM = (s2.length > 1 && s2[1].trim().equalsIgnoreCase("ffm"));
+      adapt = new GenericNativeCaller(noParams, useFFM);
+      sWhichMethod = (useFFM) ? "generic native caller (FFM)" : "generic native caller";
     } else {
       throw new RuntimeException("ERROR: No valid adaptivable choice found.");
     }
@@ -2711,11 +2769,31 @@ public class AdaptiveConf implements Configuration<Double, AdaptiveParameters> {
     }
 
     final GenericFitnessFunction genFunc =
-        new GenericFitnessFunction(batcher, terms, weights, printContributions);
+        new GenericFitnessFunction(
+            batcher, terms, weights, printContributions, getParameterGradientEngine());
 
     return genFunc;
   }
 
+  /**
+   * @return the engine for all parameter gradients of this configuration, created with
+   *     paramGradientThreads on first use
+   */
+  synchronized ParameterGradientEngine getParameterGradientEngine() {
+    if (paramGradEngine == null) {
+      paramGradEngine = new ParameterGradientEngine(paramGradientThreads);
+    }
+    return paramGradEngine;
+  }
+
+  /** Closes the engine for the parameter gradients, if any. A later use creates a new one. */
+  synchronized void closeParameterGradientEngine() {
+    if (paramGradEngine != null) {
+      paramGradEngine.close();
+      paramGradEngine = null;
+    }
+  }
+
   private List<SerialBatchedPropertyCalculator.PropertyBatch> createBatches() {
 
     int maxRefID = -1;
@@ -3270,6 +3348,26 @@ public class AdaptiveConf implements Configuration<Double, AdaptiveParameters> {
     return enableDetailedStats;
   }
 
+  @Override
+  public long getDetailedStatsInterval() throws Exception {
+    return detailedStatsInterval;
+  }
+
+  @Override
+  public org.ogolem.generic.threading.IslandConfig getIslandConfig() throws Exception {
+    return islandConfig;
+  }
+
+  @Override
+  public boolean useVirtualThreads() throws Exception {
+    return useVirtualThreads;
+  }
+
+  @Override
+  public int getMaxExternalProcesses() throws Exception {
+    return maxExternalProcesses;
+  }
+
   @Override
   public NicheComputer<Double, AdaptiveParameters> getNicheComputer() throws Exception {
     if (doNiching) {
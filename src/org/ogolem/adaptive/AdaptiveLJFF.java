@@ -41,12 +41,14 @@ package org.ogolem.adaptive;
 import static org.ogolem.math.FastFunctions.pow;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import org.ogolem.core.AtomicProperties;
 import org.ogolem.core.BondInfo;
 import org.ogolem.core.CartesianCoordinates;
 import org.ogolem.core.Gradient;
+import org.ogolem.core.IncrementalEnergyBackend;
 import org.ogolem.helpers.Machine;
 
 /**
@@ -55,9 +57,10 @@ import org.ogolem.helpers.Machine;
  * three body terms (untested and buggy).
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
-public final class AdaptiveLJFF extends AbstractAdaptiveBackend {
+public final class AdaptiveLJFF extends AbstractAdaptiveBackend
+    implements IncrementalEnergyBackend, KeyDecomposableAdaptivable {
 
   // XXX implement Horner scheme for the pow() calls
 
@@ -842,6 +845,128 @@ public final class AdaptiveLJFF extends AbstractAdaptiveBackend {
     return dEnergy;
   }
 
+  /**
+   * Only the two-body part is evaluated incrementally. If three-body terms are enabled, the total
+   * energy is returned which is a valid (if slow) subset energy by the contract of the interface.
+   */
+  @Override
+  public double subsetEnergy(
+      final double[] daXYZ1D,
+      final int[] subset,
+      final String[] saAtomTypes,
+      final short[] atomNos,
+      final int[] atsPerMol,
+      final int iNoOfAtoms,
+      final BondInfo bonds,
+      final boolean hasRigidEnv) {
+
+    if (use3Body && iNoOfAtoms > 2) {
+      return energyCalculation(
+          -1,
+          -1,
+          daXYZ1D,
+          saAtomTypes,
+          atomNos,
+          atsPerMol,
+          new double[iNoOfAtoms],
+          iNoOfAtoms,
+          null,
+          null,
+          bonds,
+          hasRigidEnv);
+    } else if (discard2Body) {
+      return 0.0;
+    }
+
+    if (useCaching && paramOffsetCache == null) {
+      // initialize caches
+      initializeCaches(params, saAtomTypes, use3Body);
+    }
+
+    int lastOffset = 0;
+    for (int i = 0; i < atsPerMol.length - 1; i++) {
+      lastOffset += atsPerMol[i];
+    }
+
+    final int firstLoopAtomNo = (hasRigidEnv) ? lastOffset - 1 : iNoOfAtoms - 1;
+
+    double d2Body = 0.0;
+    for (final int a : subset) {
+
+      final double xa = daXYZ1D[a];
+      final double ya = daXYZ1D[iNoOfAtoms + a];
+      final double za = daXYZ1D[2 * iNoOfAtoms + a];
+      final double radA = AtomicProperties.giveRadius(atomNos[a]);
+
+      for (int b = 0; b < iNoOfAtoms; b++) {
+        if (b == a || (b < a && Arrays.binarySearch(subset, b) >= 0)) {
+          continue;
+        } // self or pair within the subset already counted
+        final int i = Math.min(a, b);
+        final int j = Math.max(a, b);
+        if (i >= firstLoopAtomNo) {
+          continue;
+        }
+
+        double[] daParams = params.getAllParamters();
+        int offset = 0;
+        if (easyMix) {
+          final double[] daFirstParams = params.getParametersForKey(saAtomTypes[i]);
+          if (daFirstParams == null) {
+            continue;
+          }
+          final double[] daSecParams = params.getParametersForKey(saAtomTypes[j]);
+          if (daSecParams == null) {
+            continue;
+          }
+          daParams = mixParams(daFirstParams, daSecParams);
+        } else if (!useCaching) {
+          daParams = params.getParametersForKey(saAtomTypes[i] + saAtomTypes[j]);
+          if (daParams == null) {
+            daParams = params.getParametersForKey(saAtomTypes[j] + saAtomTypes[i]);
+            if (daParams == null) {
+              continue;
+            }
+          }
+        } else {
+          // same pair counting as in energyCalculation()
+          final int counter = i * (iNoOfAtoms - 1) - i * (i - 1) / 2 + (j - i - 1);
+          offset = paramOffsetCache[counter];
+        }
+
+        final double dX = xa - daXYZ1D[b];
+        final double dY = ya - daXYZ1D[iNoOfAtoms + b];
+        final double dZ = za - daXYZ1D[2 * iNoOfAtoms + b];
+
+        final double dDist = Math.sqrt(dX * dX + dY * dY + dZ * dZ);
+
+        // check whether one should use a cutoff
+        final double dAddedRadii = radA + AtomicProperties.giveRadius(atomNos[b]);
+
+        if (dDist < (closeCutBlow * dAddedRadii)) {
+          // use cutoff.
+          d2Body += FixedValues.NONCONVERGEDENERGY;
+          continue;
+        } else if (dDist > (farCutBlow * dAddedRadii)) {
+          continue;
+        }
+
+        // calculate the contributions
+        final double epsFac = 4 * daParams[offset];
+        final double distInv = 1.0 / dDist;
+
+        int iCounter = offset + 1;
+        for (int iPot = startPot; iPot <= endPot; iPot = iPot + potIncr) {
+          final double dSign = Math.signum(daParams[iCounter]);
+          d2Body += epsFac * dSign * pow((daParams[iCounter] * distInv), iPot);
+          iCounter++;
+        }
+      }
+    }
+
+    return d2Body;
+  }
+
   @Override
   public double energyOfStructWithParams(
       final CartesianCoordinates cartes,
@@ -1101,6 +1226,180 @@ public final class AdaptiveLJFF extends AbstractAdaptiveBackend {
     return dEnergy;
   }
 
+  @Override
+  public double energyOfStructForKey(
+      final CartesianCoordinates cartes,
+      final AdaptiveParameters params,
+      final int geomID,
+      final BondInfo bonds,
+      final String key) {
+
+    if (use3Body && cartes.getNoOfAtoms() > 2) {
+      // the three-body parameters do not decompose as easily, stay with the total energy
+      return energyOfStructWithParams(cartes, params, geomID, bonds);
+    } else if (discard2Body) {
+      return 0.0;
+    }
+
+    return twoBodyForKey(
+        cartes, params, key, cartes.containedEnvType() == CartesianCoordinates.ENVTYPE.RIGID, null);
+  }
+
+  @Override
+  public boolean analyticalGradientForKey(
+      final CartesianCoordinates cartes,
+      final AdaptiveParameters params,
+      final int geomID,
+      final BondInfo bonds,
+      final String key,
+      final double[] grad) {
+
+    if (easyMix || (use3Body && cartes.getNoOfAtoms() > 2)) {
+      // no analytical derivatives through the mixing rules or for the three-body terms (yet)
+      return false;
+    }
+
+    final int start = params.getStartPointForKey(key);
+    final int end = start + params.getAmountOfParametersForKey(key);
+    for (int i = start; i < end; i++) {
+      grad[i] = 0.0;
+    }
+
+    if (!discard2Body) {
+      twoBodyForKey(
+          cartes,
+          params,
+          key,
+          cartes.containedEnvType() == CartesianCoordinates.ENVTYPE.RIGID,
+          grad);
+    }
+
+    return true;
+  }
+
+  /**
+   * The two-body energy of all pairs whose parameters depend on the given key. If a gradient array
+   * is passed (not for mixed parameters), the analytical derivatives with respect to the key's
+   * parameters are added to it.
+   */
+  private double twoBodyForKey(
+      final CartesianCoordinates cartes,
+      final AdaptiveParameters params,
+      final String key,
+      final boolean hasRigidEnv,
+      final double[] grad) {
+
+    assert (grad == null || !easyMix);
+
+    final int iNoOfAtoms = cartes.getNoOfAtoms();
+    final String[] saAtoms = cartes.getAllAtomTypes();
+    final double[][] daXYZ = cartes.getAllXYZCoord();
+    final short[] atomNos = cartes.getAllAtomNumbers();
+    final int keyStart = params.getStartPointForKey(key);
+
+    if (useCaching && paramOffsetCache == null) {
+      // initialize caches
+      initializeCaches(params, saAtoms, use3Body);
+    }
+
+    final int[] atsPerMol = cartes.getAllAtomsPerMol();
+    int lastOffset = 0;
+    for (int i = 0; i < atsPerMol.length - 1; i++) {
+      lastOffset += atsPerMol[i];
+    }
+
+    final double[] allParams = params.getAllParamters();
+    double d2Body = 0.0;
+    int counter = -1;
+
+    final int firstLoopAtomNo = (hasRigidEnv) ? lastOffset - 1 : iNoOfAtoms - 1;
+    for (int i = 0; i < firstLoopAtomNo; i++) {
+
+      final double[] daFirstParams = (easyMix) ? params.getParametersForKey(saAtoms[i]) : null;
+      if (easyMix && daFirstParams == null) {
+        continue;
+      }
+
+      final double rad1 = AtomicProperties.giveRadius(atomNos[i]);
+
+      final double xi = daXYZ[0][i];
+      final double yi = daXYZ[1][i];
+      final double zi = daXYZ[2][i];
+
+      for (int j = i + 1; j < iNoOfAtoms; j++) {
+
+        counter++;
+
+        // does this pair depend on the key at all?
+        final double[] daParams;
+        final int offset;
+        if (easyMix) {
+          if (!key.equals(saAtoms[i]) && !key.equals(saAtoms[j])) {
+            continue;
+          }
+          final double[] daSecParams = params.getParametersForKey(saAtoms[j]);
+          if (daSecParams == null) {
+            continue;
+          }
+          daParams = mixParams(daFirstParams, daSecParams);
+          offset = 0;
+        } else {
+          int pos;
+          if (useCaching) {
+            pos = paramOffsetCache[counter];
+          } else {
+            pos = params.getStartPointForKey(saAtoms[i] + saAtoms[j]);
+            if (pos < 0) {
+              pos = params.getStartPointForKey(saAtoms[j] + saAtoms[i]);
+            }
+          }
+          if (pos != keyStart) {
+            continue;
+          }
+          daParams = allParams;
+          offset = pos;
+        }
+
+        final double dX = xi - daXYZ[0][j];
+        final double dY = yi - daXYZ[1][j];
+        final double dZ = zi - daXYZ[2][j];
+
+        final double dDist = Math.sqrt(dX * dX + dY * dY + dZ * dZ);
+
+        // check whether one should use a cutoff
+        final double dAddedRadii = rad1 + AtomicProperties.giveRadius(atomNos[j]);
+
+        if (dDist < (closeCutBlow * dAddedRadii)) {
+          // use cutoff.
+          d2Body += FixedValues.NONCONVERGEDENERGY;
+          continue;
+        } else if (dDist > (farCutBlow * dAddedRadii)) {
+          continue;
+        }
+
+        // calculate the contributions
+        final double epsFac = 4 * daParams[offset];
+        final double distInv = 1.0 / dDist;
+
+        int iCounter = offset + 1;
+        for (int iPot = startPot; iPot <= endPot; iPot = iPot + potIncr) {
+          final double dSign = Math.signum(daParams[iCounter]);
+          final double term = dSign * pow((daParams[iCounter] * distInv), iPot);
+          d2Body += epsFac * term;
+          if (grad != null) {
+            // d/deps and d/dsigma_k of 4 eps sign(sigma_k) (sigma_k/r)^k
+            grad[offset] += 4 * term;
+            grad[iCounter] +=
+                epsFac * dSign * iPot * pow((daParams[iCounter] * distInv), iPot - 1) * distInv;
+          }
+          iCounter++;
+        }
+      }
+    }
+
+    return d2Body;
+  }
+
   @Override
   public double gradientOfStructWithParams(
       final CartesianCoordinates cartes,
@@ -1109,7 +1408,7 @@ public final class AdaptiveLJFF extends AbstractAdaptiveBackend {
       final BondInfo bonds,
       final double[] grad) {
 
-    // XXX just a numerical gradient ATM
+    // analytical for unmixed 2-body parameters, key-local numerical otherwise
     return NumericalGradients.calculateParamGrad(cartes, params, this, geomID, bonds, grad);
   }
 
@@ -55,7 +55,7 @@ import org.ogolem.properties.Property;
  * Provides global optimization of MOPAC parameters.
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
 public final class AdaptiveMopacCaller extends AbstractAdaptivable implements Newton {
 
@@ -271,10 +271,9 @@ public final class AdaptiveMopacCaller extends AbstractAdaptivable implements Ne
      */
     Process proc;
     try {
-      final Runtime rt = Runtime.getRuntime();
       final String[] saCommand = new String[] {"mopac", sMopacBasis};
       final File dir = new File(sMopacFolder);
-      proc = rt.exec(saCommand, null, dir);
+      proc = ExternalProcesses.exec(saCommand, null, dir);
 
       // any error message?
       final StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
@@ -54,7 +54,7 @@ import org.ogolem.properties.Property;
  * Calls orca and allows the manipulation of semiempirical parameters.
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
 public final class AdaptiveOrcaCaller extends AbstractAdaptivable implements Newton {
 
@@ -268,9 +268,8 @@ public final class AdaptiveOrcaCaller extends AbstractAdaptivable implements New
      */
     String[] saOutput;
     try {
-      Runtime rt = Runtime.getRuntime();
       String[] saCmd = new String[] {"orca", sOrcaInput};
-      Process proc = rt.exec(saCmd);
+      Process proc = ExternalProcesses.exec(saCmd);
 
       // any error message?
       StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
@@ -346,9 +345,8 @@ public final class AdaptiveOrcaCaller extends AbstractAdaptivable implements New
      */
     String[] saOutput;
     try {
-      Runtime rt = Runtime.getRuntime();
       String[] saCmd = new String[] {"orca", sOrcaInput};
-      Process proc = rt.exec(saCmd);
+      Process proc = ExternalProcesses.exec(saCmd);
 
       // any error message?
       StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
@@ -527,9 +525,8 @@ public final class AdaptiveOrcaCaller extends AbstractAdaptivable implements New
      */
     String[] saOutput;
     try {
-      Runtime rt = Runtime.getRuntime();
       String[] saCmd = new String[] {"orca", sOrcaInput};
-      Process proc = rt.exec(saCmd);
+      Process proc = ExternalProcesses.exec(saCmd);
 
       // any error message?
       StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
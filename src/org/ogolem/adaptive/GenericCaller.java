@@ -48,6 +48,7 @@ import org.ogolem.adaptive.genericfitness.ReferenceGenericVectorData;
 import org.ogolem.adaptive.genericfitness.ReferenceInputData;
 import org.ogolem.core.BondInfo;
 import org.ogolem.core.CartesianCoordinates;
+import org.ogolem.core.ExternalProcesses;
 import org.ogolem.core.StreamGobbler;
 import org.ogolem.io.InputPrimitives;
 import org.ogolem.io.ManipulationPrimitives;
@@ -62,7 +63,7 @@ import org.ogolem.properties.Property;
  * An interface to wire through the generic properties.
  *
  * @author Johannes Dieterich
- * @version 2020-12-30
+ * @version 2026-10-18
  */
 public class GenericCaller implements Adaptivable {
 
@@ -275,10 +276,9 @@ public class GenericCaller implements Adaptivable {
       // call a script with the ID of the scalar type and the ID of the reference point
       Process proc;
       try {
-        final Runtime rt = Runtime.getRuntime();
         final String[] cmd = new String[] {magicScript, "" + typeID, "" + pointID};
         final File dir = new File(folder);
-        proc = rt.exec(cmd, null, dir);
+        proc = ExternalProcesses.exec(cmd, null, dir);
 
         // any error message?
         final StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
@@ -380,10 +380,9 @@ public class GenericCaller implements Adaptivable {
       // call a script with the ID of the scalar type and the ID of the reference point
       Process proc;
       try {
-        final Runtime rt = Runtime.getRuntime();
         final String[] cmd = new String[] {magicScript, "" + typeID, "" + pointID};
         final File dir = new File(folder);
-        proc = rt.exec(cmd, null, dir);
+        proc = ExternalProcesses.exec(cmd, null, dir);
 
         // any error message?
         final StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
@@ -488,10 +487,9 @@ public class GenericCaller implements Adaptivable {
       // call a script with the ID of the scalar type and the ID of the reference point
       Process proc;
       try {
-        final Runtime rt = Runtime.getRuntime();
         final String[] cmd = new String[] {magicScript, "" + typeID, "" + pointID};
         final File dir = new File(folder);
-        proc = rt.exec(cmd, null, dir);
+        proc = ExternalProcesses.exec(cmd, null, dir);
 
         // any error message?
         final StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
@@ -600,10 +598,9 @@ public class GenericCaller implements Adaptivable {
       // call a script with the ID of the scalar type and the ID of the reference point
       Process proc;
       try {
-        final Runtime rt = Runtime.getRuntime();
         final String[] cmd = new String[] {magicScript, "" + typeID, "" + pointID};
         final File dir = new File(folder);
-        proc = rt.exec(cmd, null, dir);
+        proc = ExternalProcesses.exec(cmd, null, dir);
 
         // any error message?
         final StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
@@ -36,6 +36,11 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 */
 package org.ogolem.adaptive;
 
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
 import java.util.ArrayList;
 import java.util.List;
 import org.ogolem.adaptive.genericfitness.GenericReferencePoint;
@@ -44,15 +49,26 @@ import org.ogolem.adaptive.genericfitness.ReferenceGenericScalarData;
 import org.ogolem.adaptive.genericfitness.ReferenceInputData;
 import org.ogolem.core.BondInfo;
 import org.ogolem.core.CartesianCoordinates;
+import org.ogolem.helpers.NativeLibraries;
 import org.ogolem.io.InputPrimitives;
 import org.ogolem.properties.GenericScalarProperty;
 import org.ogolem.properties.Property;
 
 /**
- * An interface to call a native library for evaluations.
+ * An interface to call a native library for evaluations. Either through JNI (libNOPFL with the JNI
+ * signatures below) or, alternatively, through the foreign function API against the plain C symbols
+ *
+ * <pre>
+ * int64_t nopfl_initialize(int32_t noParams);
+ * double nopfl_fitness_scalar(int64_t handle, int32_t noParams, const double* params,
+ *     int32_t typeID, int64_t pointID);
+ * </pre>
+ *
+ * in which case the parameters are handed over in an off-heap buffer that every copy allocates once
+ * and reuses.
  *
  * @author Johannes Dieterich
- * @version 2020-12-30
+ * @version 2026-10-18
  */
 public class GenericNativeCaller implements Adaptivable {
 
@@ -60,7 +76,10 @@ public class GenericNativeCaller implements Adaptivable {
 
   private final int noParams;
   private final double[][] borders;
+  private final boolean useFFM;
   private long handle;
+  private transient MemorySegment paramSeg;
+  private transient MethodHandle fitnessHandle;
 
   private static native long initialize(final int noParams);
 
@@ -71,31 +90,75 @@ public class GenericNativeCaller implements Adaptivable {
       final int typeID,
       final long pointID);
 
+  private static final String LIBRARY = "NOPFL"; // native OGOLEM parameter fitting library
+
+  private static final FunctionDescriptor INITDESC =
+      FunctionDescriptor.of(ValueLayout.JAVA_LONG, ValueLayout.JAVA_INT);
+
+  private static final FunctionDescriptor FITNESSDESC =
+      FunctionDescriptor.of(
+          ValueLayout.JAVA_DOUBLE,
+          ValueLayout.JAVA_LONG,
+          ValueLayout.JAVA_INT,
+          ValueLayout.ADDRESS,
+          ValueLayout.JAVA_INT,
+          ValueLayout.JAVA_LONG);
+
+  private static volatile boolean jniLoaded = false;
+
   /*
-   * Loading of external library libNOPFL.so (for UNIX) with a JNI interface
+   * Loading of external library libNOPFL.so (for UNIX) with a JNI interface, only once needed.
+   * Also called on the fitness path, as deserialized instances never ran through the constructor.
    */
-  static {
-    System.loadLibrary("NOPFL"); // native OGOLEM parameter fitting library
+  private static synchronized void loadJNI() {
+    if (!jniLoaded) {
+      System.loadLibrary(LIBRARY);
+      jniLoaded = true;
+    }
   }
 
   GenericNativeCaller(final int noParams) throws Exception {
+    this(noParams, false);
+  }
+
+  GenericNativeCaller(final int noParams, final boolean useFFM) throws Exception {
+    this(noParams, useFFM, "genericnative.borders");
+  }
+
+  GenericNativeCaller(final int noParams, final boolean useFFM, final String bordersFile)
+      throws Exception {
     assert (noParams > 0);
     this.noParams = noParams;
+    this.useFFM = useFFM;
     this.borders = new double[2][noParams];
 
-    final String[] dat = InputPrimitives.readFileIn("genericnative.borders");
+    final String[] dat = InputPrimitives.readFileIn(bordersFile);
     for (int i = 0; i < noParams; i++) {
       final String[] line = dat[i].trim().split("\\s+");
       borders[0][i] = Double.parseDouble(line[0]);
       borders[1][i] = Double.parseDouble(line[1]);
     }
 
-    handle = initialize(noParams);
+    if (useFFM) {
+      try {
+        handle =
+            (long)
+                NativeLibraries.downcall(LIBRARY, "nopfl_initialize", INITDESC)
+                    .invokeExact(noParams);
+      } catch (Throwable t) {
+        throw new Exception("Failure to initialize native library through FFM.", t);
+      }
+    } else {
+      loadJNI();
+      handle = initialize(noParams);
+    }
   }
 
   private GenericNativeCaller(final GenericNativeCaller orig) {
     this.noParams = orig.noParams;
     this.borders = orig.borders;
+    this.useFFM = orig.useFFM;
+    this.handle = orig.handle;
   }
 
   @Override
@@ -103,6 +166,29 @@ public class GenericNativeCaller implements Adaptivable {
     return new GenericNativeCaller(this);
   }
 
+  private double fitnessScalarJNI(final double[] params, final int typeID, final long pointID) {
+    if (!jniLoaded) {
+      loadJNI();
+    }
+    return fitnessScalar(handle, noParams, params, typeID, pointID);
+  }
+
+  private synchronized double fitnessScalarFFM(
+      final double[] params, final int typeID, final long pointID) {
+
+    if (paramSeg == null) {
+      paramSeg = Arena.ofAuto().allocate(ValueLayout.JAVA_DOUBLE.byteSize() * noParams, 8);
+      fitnessHandle = NativeLibraries.downcall(LIBRARY, "nopfl_fitness_scalar", FITNESSDESC);
+    }
+    MemorySegment.copy(params, 0, paramSeg, ValueLayout.JAVA_DOUBLE, 0, noParams);
+
+    try {
+      return (double) fitnessHandle.invokeExact(handle, noParams, paramSeg, typeID, pointID);
+    } catch (Throwable t) {
+      throw new RuntimeException("Failure in native fitness call through FFM.", t);
+    }
+  }
+
   @Override
   public double energyOfStructWithParams(
       CartesianCoordinates cartes, AdaptiveParameters params, int geomID, BondInfo bonds) {
@@ -215,7 +301,10 @@ public class GenericNativeCaller implements Adaptivable {
       final int typeID = data.getTypeID();
       final double[] params = p.getAllParamters();
 
-      final double scalar = fitnessScalar(handle, noParams, params, typeID, pointID);
+      final double scalar =
+          (useFFM)
+              ? fitnessScalarFFM(params, typeID, pointID)
+              : fitnessScalarJNI(params, typeID, pointID);
 
       return new GenericScalarProperty(scalar, typeID);
     }
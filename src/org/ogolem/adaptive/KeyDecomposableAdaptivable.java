@@ -0,0 +1,96 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.adaptive;
+
+import org.ogolem.core.BondInfo;
+import org.ogolem.core.CartesianCoordinates;
+
+/**
+ * An adaptivable whose energy decomposes along the keys of its AdaptiveParameters, i.e., which can
+ * evaluate only the terms that a given parameter key enters. Parameter gradients then only need to
+ * re-evaluate these terms for every displaced parameter, see ParameterGradientEngine.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public interface KeyDecomposableAdaptivable extends Adaptivable {
+
+  /**
+   * The energy of all terms depending on the parameters stored under the given key. Contributions
+   * not depending on these parameters may be (partially) included, e.g., by falling back to the
+   * total energy for terms that do not decompose. Hence, only differences between calls with the
+   * same key and structure are meaningful.
+   *
+   * @param cartes the structure
+   * @param params the parameters
+   * @param geomID the ID of the structure
+   * @param bonds the bonding information of the structure
+   * @param key the parameter key
+   * @return the energy of the terms depending on the parameters of this key
+   */
+  double energyOfStructForKey(
+      final CartesianCoordinates cartes,
+      final AdaptiveParameters params,
+      final int geomID,
+      final BondInfo bonds,
+      final String key);
+
+  /**
+   * Analytical derivatives of the energy with respect to all parameters of the given key. Only the
+   * positions of this key in the gradient may be touched, since other keys may be worked on
+   * concurrently.
+   *
+   * @param cartes the structure
+   * @param params the parameters
+   * @param geomID the ID of the structure
+   * @param bonds the bonding information of the structure
+   * @param key the parameter key
+   * @param grad the parameter gradient, the positions of this key are set on exit if true is
+   *     returned
+   * @return true if analytical derivatives are available for this key, false otherwise (then they
+   *     will be calculated numerically)
+   */
+  default boolean analyticalGradientForKey(
+      final CartesianCoordinates cartes,
+      final AdaptiveParameters params,
+      final int geomID,
+      final BondInfo bonds,
+      final String key,
+      final double[] grad) {
+    return false;
+  }
+}
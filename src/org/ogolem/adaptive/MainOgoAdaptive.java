@@ -61,7 +61,7 @@ import org.ogolem.properties.Energy;
  * The main class of the adaptive package designed to do a paramterization.
  *
  * @author Johannes Dieterich
- * @version 2020-07-27
+ * @version 2026-10-18
  */
 public class MainOgoAdaptive {
 
@@ -135,6 +135,12 @@ public class MainOgoAdaptive {
     }
     adapConf.outputFolder = outFolder;
 
+    if (adapConf.paramGradientThreads < 1) {
+      System.err.println(
+          "WARNING: Number of threads for parameter gradients must be positive, using one.");
+      adapConf.paramGradientThreads = 1;
+    }
+
     // check whether all of our references should have the same spins and charges
     if (adapConf.allRefsSameChargesAndSpins) {
       final List<GenericReferencePoint<Energy, ReferenceGeomData<Energy, CartesianCoordinates>>>
@@ -400,6 +406,7 @@ public class MainOgoAdaptive {
 
     // run it
     final AdaptiveParameters best = opter.globOpt(noThreads);
+    adapConf.closeParameterGradientEngine();
 
     // be (almost) done ;-)
 
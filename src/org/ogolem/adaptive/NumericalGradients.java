@@ -49,7 +49,7 @@ import org.ogolem.properties.Property;
 /**
  * Computes numerical parameter gradients.
  * @author Johannes Dieterich
- * @version 2016-02-24
+ * @version 2026-10-18
  */
 public class NumericalGradients extends org.ogolem.core.NumericalGradients {
     
@@ -62,50 +62,16 @@ public class NumericalGradients extends org.ogolem.core.NumericalGradients {
     static double calculateParamGrad(final CartesianCoordinates cartes,
             final AdaptiveParameters params, Adaptivable adaptivable, final int geomID,
             final BondInfo bonds, final double[] daGrad, final boolean twoPoint){
-
-        final double dMachinePrecision = Machine.calcMachinePrecision();
-        final int iNoOfParams = params.getNumberOfParamters();
-        final double[] daOrigParamsCopy = params.getAllParamtersCopy();
-
-        final double dTotEnergy = adaptivable.energyOfStructWithParams(cartes, params, geomID, bonds);
-        for(int i = 0; i < iNoOfParams; i++){
-
-            double dH = 1000 * Math.sqrt(dMachinePrecision) * daOrigParamsCopy[i];
-            if(dH == 0.0) {dH = Math.sqrt(dMachinePrecision);}
-
-            final double dVariableVal1 = daOrigParamsCopy[i] + dH;
-            final double dVariableVal2 = daOrigParamsCopy[i] - dH;
-
-            // put them in
-            params.setParameterAtPos(dVariableVal1, i);
-            final double dEnergy1 = adaptivable.energyOfStructWithParams(cartes, params, geomID, bonds);
-            
-            if(twoPoint){
-                // put the original value back in
-                params.setParameterAtPos(daOrigParamsCopy[i], i);
-                // calculate the two point stencil
-                daGrad[i] = (dEnergy1 - dTotEnergy) / dH;
-                continue;
-            }
-
-            params.setParameterAtPos(dVariableVal2,i);
-            final double dEnergy2 = adaptivable.energyOfStructWithParams(cartes, params, geomID, bonds);
-
-            // put the original value back in
-            params.setParameterAtPos(daOrigParamsCopy[i], i);
-
-            // calculate the three point stencil
-            daGrad[i] = (dEnergy1 - dEnergy2) / (2.0 * dH);
-        }
-
-        return dTotEnergy;
+        // key-local, possibly analytical and parallel: see ParameterGradientEngine
+        return ParameterGradientEngine.current().calculateParamGrad(cartes, params, adaptivable,
+                geomID, bonds, daGrad, twoPoint);
     }
 
     static ParameterGradient calculateParamGrad(final Topology topology,
             final AdaptiveParameters params, AdaptiveInteractionTerm term,
             int start, int end){
 
-        final double dMachinePrecision = Machine.calcMachinePrecision();
+        final double dMachinePrecision = Machine.getMachinePrec();
 
         final int iNoOfParams = params.getNumberOfParamters();
 
@@ -151,7 +117,7 @@ public class NumericalGradients extends org.ogolem.core.NumericalGradients {
         
         System.err.println("WARNING: SOMETHING OFF IN THIS METHOD");
 
-        final double dMachinePrecision = Machine.calcMachinePrecision();
+        final double dMachinePrecision = Machine.getMachinePrec();
         final double machPrecSqrt = Math.sqrt(dMachinePrecision);
 
         final int iNoOfAtoms = refTopo.getNumberOfAtoms();
@@ -218,7 +184,7 @@ public class NumericalGradients extends org.ogolem.core.NumericalGradients {
         final int noOfParams = params.length;
         assert(params.length == grad.length);
         
-        final double machinePrecision = Machine.calcMachinePrecision();
+        final double machinePrecision = Machine.getMachinePrec();
 
         for(int i = 0; i < noOfParams; i++){
 
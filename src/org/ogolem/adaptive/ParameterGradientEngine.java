@@ -0,0 +1,300 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.adaptive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.ogolem.core.BondInfo;
+import org.ogolem.core.CartesianCoordinates;
+import org.ogolem.helpers.Machine;
+
+/**
+ * Parameter gradients of adaptivables. The parameters are split into work units along the keys of
+ * the AdaptiveParameters layout: for a KeyDecomposableAdaptivable, a displaced parameter only
+ * requires the terms its key enters and analytical derivatives are used for every key the
+ * adaptivable provides them for. Other adaptivables fall back to full energy evaluations on blocks
+ * of parameter columns. With more than one thread, the work units are distributed over the thread
+ * pool of the engine and every task borrows one of noThreads copies of the parameters and the
+ * adaptivable, so adaptivables do not need to be thread-safe.
+ *
+ * <p>An engine is created from the configuration by its owner, which also closes it and with it the
+ * pool. Adaptivables request their numerical parameter gradients through NumericalGradients, which
+ * uses the engine bound by runWith() in the calling thread and serial evaluation otherwise.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public final class ParameterGradientEngine implements AutoCloseable {
+
+  private static final double NUMPREC = Math.sqrt(Machine.getMachinePrec());
+
+  private static final ParameterGradientEngine SERIAL = new ParameterGradientEngine(1);
+
+  private static final ScopedValue<ParameterGradientEngine> CURRENT = ScopedValue.newInstance();
+
+  private final int noThreads;
+  private final ExecutorService pool;
+
+  /**
+   * @param threads the number of threads used for every parameter gradient, must be positive. With
+   *     one, gradients are evaluated serially in the calling thread and no pool is created.
+   */
+  public ParameterGradientEngine(final int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException(
+          "Number of threads for parameter gradients must be positive, is " + threads);
+    }
+    this.noThreads = threads;
+    this.pool =
+        (threads == 1)
+            ? null
+            : Executors.newFixedThreadPool(
+                threads,
+                r -> {
+                  final Thread t = new Thread(r, "ogolem-paramgrad");
+                  t.setDaemon(true);
+                  return t;
+                });
+  }
+
+  public int getNumberOfThreads() {
+    return noThreads;
+  }
+
+  /**
+   * @return the engine bound in the calling thread, a serial one if there is none
+   */
+  static ParameterGradientEngine current() {
+    return CURRENT.orElse(SERIAL);
+  }
+
+  /**
+   * Runs an operation with this engine bound in the calling thread, i.e., every parameter gradient
+   * requested through NumericalGradients during it uses this engine.
+   *
+   * @param op the operation
+   * @return the result of the operation
+   */
+  public <T> T runWith(final Supplier<T> op) {
+    final List<T> result = new ArrayList<>(1);
+    ScopedValue.where(CURRENT, this).run(() -> result.add(op.get()));
+    return result.get(0);
+  }
+
+  /** Shuts down the pool, the engine must not be used afterwards. */
+  @Override
+  public void close() {
+    if (pool != null) {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * Calculates the parameter gradient.
+   *
+   * @param cartes the structure
+   * @param params the parameters, will be displaced and restored during the calculation
+   * @param adaptivable the adaptivable
+   * @param geomID the ID of the structure
+   * @param bonds the bonding information of the structure
+   * @param grad the parameter gradient, on exit
+   * @param twoPoint whether to use two-point (forward) instead of three-point (central) stencils
+   * @return the total energy
+   */
+  double calculateParamGrad(
+      final CartesianCoordinates cartes,
+      final AdaptiveParameters params,
+      final Adaptivable adaptivable,
+      final int geomID,
+      final BondInfo bonds,
+      final double[] grad,
+      final boolean twoPoint) {
+
+    final double totEnergy = adaptivable.energyOfStructWithParams(cartes, params, geomID, bonds);
+    final int threads = noThreads;
+
+    // the work units: keys for decomposable adaptivables, blocks of columns otherwise
+    final List<String> unitKeys = new ArrayList<>();
+    final List<int[]> unitRanges = new ArrayList<>();
+    if (adaptivable instanceof KeyDecomposableAdaptivable) {
+      for (final String key : params.getAllKeysCopy()) {
+        final int start = params.getStartPointForKey(key);
+        unitKeys.add(key);
+        unitRanges.add(new int[] {start, start + params.getAmountOfParametersForKey(key)});
+      }
+    } else {
+      final int noParams = params.getNumberOfParamters();
+      final int noBlocks = Math.max(1, Math.min(threads, noParams));
+      for (int b = 0; b < noBlocks; b++) {
+        unitKeys.add(null);
+        unitRanges.add(new int[] {b * noParams / noBlocks, (b + 1) * noParams / noBlocks});
+      }
+    }
+
+    if (threads == 1 || unitKeys.size() == 1) {
+      for (int u = 0; u < unitKeys.size(); u++) {
+        final int[] range = unitRanges.get(u);
+        unitGradient(
+            cartes,
+            params,
+            adaptivable,
+            geomID,
+            bonds,
+            grad,
+            twoPoint,
+            unitKeys.get(u),
+            range[0],
+            range[1],
+            totEnergy);
+      }
+      return totEnergy;
+    }
+
+    final int noCopies = Math.min(threads, unitKeys.size());
+    final BlockingQueue<AdaptiveParameters> paramCopies = new ArrayBlockingQueue<>(noCopies);
+    final BlockingQueue<Adaptivable> adaptivableCopies = new ArrayBlockingQueue<>(noCopies);
+    for (int i = 0; i < noCopies; i++) {
+      paramCopies.add(new AdaptiveParameters(params, true));
+      adaptivableCopies.add(adaptivable.copy());
+    }
+
+    final ExecutorService exec = pool;
+    final List<Future<?>> futures = new ArrayList<>(unitKeys.size());
+    for (int u = 0; u < unitKeys.size(); u++) {
+      final String key = unitKeys.get(u);
+      final int[] range = unitRanges.get(u);
+      futures.add(
+          exec.submit(
+              () -> {
+                final AdaptiveParameters p = paramCopies.take();
+                final Adaptivable a = adaptivableCopies.take();
+                try {
+                  unitGradient(
+                      cartes, p, a, geomID, bonds, grad, twoPoint, key, range[0], range[1],
+                      totEnergy);
+                } finally {
+                  adaptivableCopies.put(a);
+                  paramCopies.put(p);
+                }
+                return null;
+              }));
+    }
+
+    try {
+      for (final Future<?> f : futures) {
+        f.get();
+      }
+    } catch (InterruptedException e) {
+      futures.forEach(f -> f.cancel(true));
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while calculating the parameter gradient.", e);
+    } catch (ExecutionException e) {
+      futures.forEach(f -> f.cancel(true));
+      throw new RuntimeException("Failure in calculating the parameter gradient.", e.getCause());
+    }
+
+    return totEnergy;
+  }
+
+  private static void unitGradient(
+      final CartesianCoordinates cartes,
+      final AdaptiveParameters params,
+      final Adaptivable adaptivable,
+      final int geomID,
+      final BondInfo bonds,
+      final double[] grad,
+      final boolean twoPoint,
+      final String key,
+      final int start,
+      final int end,
+      final double totEnergy) {
+
+    final KeyDecomposableAdaptivable decomp =
+        (key == null) ? null : (KeyDecomposableAdaptivable) adaptivable;
+    if (decomp != null
+        && decomp.analyticalGradientForKey(cartes, params, geomID, bonds, key, grad)) {
+      return;
+    }
+
+    final double refEnergy =
+        (!twoPoint)
+            ? 0.0
+            : (decomp == null)
+                ? totEnergy
+                : decomp.energyOfStructForKey(cartes, params, geomID, bonds, key);
+
+    final double[] vals = params.getAllParamters();
+    for (int i = start; i < end; i++) {
+
+      final double orig = vals[i];
+      double h = 1000 * NUMPREC * orig;
+      if (h == 0.0) {
+        h = NUMPREC;
+      }
+
+      params.setParameterAtPos(orig + h, i);
+      final double energy1 =
+          (decomp == null)
+              ? adaptivable.energyOfStructWithParams(cartes, params, geomID, bonds)
+              : decomp.energyOfStructForKey(cartes, params, geomID, bonds, key);
+
+      if (twoPoint) {
+        params.setParameterAtPos(orig, i);
+        grad[i] = (energy1 - refEnergy) / h;
+        continue;
+      }
+
+      params.setParameterAtPos(orig - h, i);
+      final double energy2 =
+          (decomp == null)
+              ? adaptivable.energyOfStructWithParams(cartes, params, geomID, bonds)
+              : decomp.energyOfStructForKey(cartes, params, geomID, bonds, key);
+
+      params.setParameterAtPos(orig, i);
+
+      // the three point stencil
+      grad[i] = (energy1 - energy2) / (2.0 * h);
+    }
+  }
+}
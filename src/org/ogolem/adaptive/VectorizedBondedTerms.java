@@ -0,0 +1,539 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.adaptive;
+
+import java.io.Serializable;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.ogolem.generic.Copyable;
+
+/**
+ * The bonded terms (harmonic bonds, AMBER angles and dihedrals) of a fixed topology, compiled into
+ * flat, type-sorted term lists: atom index arrays plus the parameters of every term. Each term
+ * class is evaluated with a vector kernel, gathering the coordinates lane-wise by the index arrays.
+ * Since several terms of a chunk may share atoms, the gradient contributions are first stored per
+ * term and subsequently scatter-added in a scalar loop. Note that the exact trigonometric functions
+ * are used, any lookup tables configured for the scalar terms are ignored. Angle and dihedral terms
+ * whose angle comes out NaN are skipped with a warning, as in the scalar terms. The dihedral is
+ * obtained from atan2 rather than acos, hence it is continuous for (nearly) linear arrangements
+ * where the scalar term snaps to 0 or pi.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+final class VectorizedBondedTerms implements Serializable, Copyable {
+
+  private static final long serialVersionUID = (long) 20261018;
+
+  private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+  private static final double TINY = 1e-20;
+
+  private final double bondCutoff;
+  private final double bondCutoffEnergy;
+
+  // bonds: i, j, force constant, equilibrium distance
+  private final int noBonds;
+  private final int[] bondI;
+  private final int[] bondJ;
+  private final double[] bondK;
+  private final double[] bondR0;
+
+  // angles: i, j (center), k, force constant, equilibrium angle
+  private final int noAngles;
+  private final int[] angleI;
+  private final int[] angleJ;
+  private final int[] angleK;
+  private final double[] angleKTheta;
+  private final double[] angleTheta0;
+
+  // dihedrals: i, j, k, l, two cosine series terms with barrier, multiplicity, phase
+  private final int noDihedrals;
+  private final int[] dihI;
+  private final int[] dihJ;
+  private final int[] dihK;
+  private final int[] dihL;
+  private final double[] dihV1;
+  private final double[] dihN1;
+  private final double[] dihG1;
+  private final double[] dihV2;
+  private final double[] dihN2;
+  private final double[] dihG2;
+
+  // per term gradient contributions, before scatter-adding them
+  private transient double[][] scratch;
+
+  /**
+   * Compiles the bonded terms.
+   *
+   * @param bonds the bonded pairs
+   * @param bondOffsets the parameter offsets of the bonds (force constant, distance)
+   * @param angles the angle triples, center atom in the middle
+   * @param angleOffsets the parameter offsets of the angles (force constant, angle)
+   * @param dihedrals the dihedral quadruples
+   * @param dihedralOffsets the parameter offsets of the dihedrals (two times barrier, multiplicity,
+   *     phase)
+   * @param params all parameters
+   * @param bondCutoff the distance deviation above which a bond contributes a constant penalty
+   * @param bondCutoffEnergy the penalty
+   */
+  VectorizedBondedTerms(
+      final int[][] bonds,
+      final int[] bondOffsets,
+      final int[][] angles,
+      final int[] angleOffsets,
+      final int[][] dihedrals,
+      final int[] dihedralOffsets,
+      final double[] params,
+      final double bondCutoff,
+      final double bondCutoffEnergy) {
+    assert (bonds.length == bondOffsets.length);
+    assert (angles.length == angleOffsets.length);
+    assert (dihedrals.length == dihedralOffsets.length);
+
+    this.bondCutoff = bondCutoff;
+    this.bondCutoffEnergy = bondCutoffEnergy;
+
+    // type sorted: terms sharing parameters are adjacent
+    final int[] bOrder = typeSorted(bondOffsets, bonds);
+    this.noBonds = bOrder.length;
+    this.bondI = new int[padded(noBonds)];
+    this.bondJ = new int[padded(noBonds)];
+    this.bondK = new double[padded(noBonds)];
+    this.bondR0 = new double[padded(noBonds)];
+    for (int t = 0; t < noBonds; t++) {
+      final int b = bOrder[t];
+      final int off = bondOffsets[b];
+      bondI[t] = bonds[b][0];
+      bondJ[t] = bonds[b][1];
+      bondK[t] = params[off];
+      bondR0[t] = params[off + 1];
+    }
+
+    final int[] aOrder = typeSorted(angleOffsets, angles);
+    this.noAngles = aOrder.length;
+    this.angleI = new int[padded(noAngles)];
+    this.angleJ = new int[padded(noAngles)];
+    this.angleK = new int[padded(noAngles)];
+    this.angleKTheta = new double[padded(noAngles)];
+    this.angleTheta0 = new double[padded(noAngles)];
+    for (int t = 0; t < noAngles; t++) {
+      final int a = aOrder[t];
+      final int off = angleOffsets[a];
+      angleI[t] = angles[a][0];
+      angleJ[t] = angles[a][1];
+      angleK[t] = angles[a][2];
+      angleKTheta[t] = params[off];
+      angleTheta0[t] = params[off + 1];
+    }
+
+    final int[] dOrder = typeSorted(dihedralOffsets, dihedrals);
+    this.noDihedrals = dOrder.length;
+    this.dihI = new int[padded(noDihedrals)];
+    this.dihJ = new int[padded(noDihedrals)];
+    this.dihK = new int[padded(noDihedrals)];
+    this.dihL = new int[padded(noDihedrals)];
+    this.dihV1 = new double[padded(noDihedrals)];
+    this.dihN1 = new double[padded(noDihedrals)];
+    this.dihG1 = new double[padded(noDihedrals)];
+    this.dihV2 = new double[padded(noDihedrals)];
+    this.dihN2 = new double[padded(noDihedrals)];
+    this.dihG2 = new double[padded(noDihedrals)];
+    for (int t = 0; t < noDihedrals; t++) {
+      final int d = dOrder[t];
+      final int off = dihedralOffsets[d];
+      dihI[t] = dihedrals[d][0];
+      dihJ[t] = dihedrals[d][1];
+      dihK[t] = dihedrals[d][2];
+      dihL[t] = dihedrals[d][3];
+      dihV1[t] = params[off];
+      dihN1[t] = params[off + 1];
+      dihG1[t] = params[off + 2];
+      dihV2[t] = params[off + 3];
+      dihN2[t] = params[off + 4];
+      dihG2[t] = params[off + 5];
+    }
+  }
+
+  private VectorizedBondedTerms(final VectorizedBondedTerms orig) {
+    // the compiled terms are immutable and can be shared, only the scratch is per copy
+    this.bondCutoff = orig.bondCutoff;
+    this.bondCutoffEnergy = orig.bondCutoffEnergy;
+    this.noBonds = orig.noBonds;
+    this.bondI = orig.bondI;
+    this.bondJ = orig.bondJ;
+    this.bondK = orig.bondK;
+    this.bondR0 = orig.bondR0;
+    this.noAngles = orig.noAngles;
+    this.angleI = orig.angleI;
+    this.angleJ = orig.angleJ;
+    this.angleK = orig.angleK;
+    this.angleKTheta = orig.angleKTheta;
+    this.angleTheta0 = orig.angleTheta0;
+    this.noDihedrals = orig.noDihedrals;
+    this.dihI = orig.dihI;
+    this.dihJ = orig.dihJ;
+    this.dihK = orig.dihK;
+    this.dihL = orig.dihL;
+    this.dihV1 = orig.dihV1;
+    this.dihN1 = orig.dihN1;
+    this.dihG1 = orig.dihG1;
+    this.dihV2 = orig.dihV2;
+    this.dihN2 = orig.dihN2;
+    this.dihG2 = orig.dihG2;
+  }
+
+  @Override
+  public VectorizedBondedTerms copy() {
+    return new VectorizedBondedTerms(this);
+  }
+
+  /**
+   * @return the number of terms rounded up to full vectors, the index and parameter arrays are
+   *     padded (with atom 0 and zero parameters) to this length since the gathers always read a
+   *     full index vector
+   */
+  private static int padded(final int noTerms) {
+    return SPECIES.loopBound(noTerms + SPECIES.length() - 1);
+  }
+
+  private static int[] typeSorted(final int[] offsets, final int[][] terms) {
+    return IntStream.range(0, offsets.length)
+        .boxed()
+        .sorted(
+            Comparator.<Integer>comparingInt(t -> offsets[t]).thenComparingInt(t -> terms[t][0]))
+        .mapToInt(Integer::intValue)
+        .toArray();
+  }
+
+  int getNumberOfBonds() {
+    return noBonds;
+  }
+
+  int getNumberOfAngles() {
+    return noAngles;
+  }
+
+  int getNumberOfDihedrals() {
+    return noDihedrals;
+  }
+
+  /**
+   * The energy of all bonded terms.
+   *
+   * @param xyz1D the cartesian coordinates, all x, all y, all z
+   * @param noAtoms the number of atoms
+   * @return the bonded energy
+   */
+  double energy(final double[] xyz1D, final int noAtoms) {
+    return bonds(xyz1D, noAtoms, null)
+        + angles(xyz1D, noAtoms, null)
+        + dihedrals(xyz1D, noAtoms, null);
+  }
+
+  /**
+   * The energy and gradient of all bonded terms.
+   *
+   * @param xyz1D the cartesian coordinates, all x, all y, all z
+   * @param noAtoms the number of atoms
+   * @param grad the gradient, in the 3 x noAtoms layout. Contributions are added.
+   * @return the bonded energy
+   */
+  double gradient(final double[] xyz1D, final int noAtoms, final double[][] grad) {
+
+    final int maxTerms = padded(Math.max(noBonds, Math.max(noAngles, noDihedrals)));
+    if (scratch == null || scratch[0].length < maxTerms) {
+      scratch = new double[9][maxTerms];
+    }
+
+    return bonds(xyz1D, noAtoms, grad)
+        + angles(xyz1D, noAtoms, grad)
+        + dihedrals(xyz1D, noAtoms, grad);
+  }
+
+  private double bonds(final double[] xyz1D, final int noAtoms, final double[][] grad) {
+
+    final int offY = noAtoms;
+    final int offZ = 2 * noAtoms;
+    double energy = 0.0;
+    for (int t = 0; t < noBonds; t += SPECIES.length()) {
+      final VectorMask<Double> m = SPECIES.indexInRange(t, noBonds);
+
+      final var dx =
+          DoubleVector.fromArray(SPECIES, xyz1D, 0, bondI, t, m)
+              .sub(DoubleVector.fromArray(SPECIES, xyz1D, 0, bondJ, t, m));
+      final var dy =
+          DoubleVector.fromArray(SPECIES, xyz1D, offY, bondI, t, m)
+              .sub(DoubleVector.fromArray(SPECIES, xyz1D, offY, bondJ, t, m));
+      final var dz =
+          DoubleVector.fromArray(SPECIES, xyz1D, offZ, bondI, t, m)
+              .sub(DoubleVector.fromArray(SPECIES, xyz1D, offZ, bondJ, t, m));
+      final var dist = dx.mul(dx).add(dy.mul(dy)).add(dz.mul(dz)).lanewise(VectorOperators.SQRT);
+
+      final var k = DoubleVector.fromArray(SPECIES, bondK, t, m);
+      final var dev = dist.sub(DoubleVector.fromArray(SPECIES, bondR0, t, m));
+      final var cut = dev.compare(VectorOperators.GE, bondCutoff);
+
+      final var e = k.mul(dev).mul(dev).mul(0.5).blend(bondCutoffEnergy, cut);
+      energy += e.reduceLanes(VectorOperators.ADD, m);
+
+      if (grad != null) {
+        final var f = k.mul(dev).div(dist).blend(0.0, cut);
+        f.mul(dx).intoArray(scratch[0], t, m);
+        f.mul(dy).intoArray(scratch[1], t, m);
+        f.mul(dz).intoArray(scratch[2], t, m);
+      }
+    }
+
+    if (grad != null) {
+      for (int t = 0; t < noBonds; t++) {
+        final int i = bondI[t];
+        final int j = bondJ[t];
+        for (int c = 0; c < 3; c++) {
+          grad[c][i] += scratch[c][t];
+          grad[c][j] -= scratch[c][t];
+        }
+      }
+    }
+
+    return energy;
+  }
+
+  private double angles(final double[] xyz1D, final int noAtoms, final double[][] grad) {
+
+    final int offY = noAtoms;
+    final int offZ = 2 * noAtoms;
+    double energy = 0.0;
+    for (int t = 0; t < noAngles; t += SPECIES.length()) {
+      final VectorMask<Double> m = SPECIES.indexInRange(t, noAngles);
+
+      final var xj = DoubleVector.fromArray(SPECIES, xyz1D, 0, angleJ, t, m);
+      final var yj = DoubleVector.fromArray(SPECIES, xyz1D, offY, angleJ, t, m);
+      final var zj = DoubleVector.fromArray(SPECIES, xyz1D, offZ, angleJ, t, m);
+      final var ux = DoubleVector.fromArray(SPECIES, xyz1D, 0, angleI, t, m).sub(xj);
+      final var uy = DoubleVector.fromArray(SPECIES, xyz1D, offY, angleI, t, m).sub(yj);
+      final var uz = DoubleVector.fromArray(SPECIES, xyz1D, offZ, angleI, t, m).sub(zj);
+      final var vx = DoubleVector.fromArray(SPECIES, xyz1D, 0, angleK, t, m).sub(xj);
+      final var vy = DoubleVector.fromArray(SPECIES, xyz1D, offY, angleK, t, m).sub(yj);
+      final var vz = DoubleVector.fromArray(SPECIES, xyz1D, offZ, angleK, t, m).sub(zj);
+
+      final var uu = ux.mul(ux).add(uy.mul(uy)).add(uz.mul(uz));
+      final var vv = vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz));
+      final var uv = ux.mul(vx).add(uy.mul(vy)).add(uz.mul(vz));
+      final var invNorms =
+          DoubleVector.broadcast(SPECIES, 1.0).div(uu.mul(vv).lanewise(VectorOperators.SQRT));
+      // not clamped: as in the scalar term, an angle that comes out NaN is skipped
+      final var cos = uv.mul(invNorms);
+      final var angle = cos.lanewise(VectorOperators.ACOS);
+      final var nan = angle.test(VectorOperators.IS_NAN).and(m);
+      if (nan.anyTrue()) {
+        warnNaN("angle", nan, t, angleI, angleJ, angleK);
+      }
+      final var valid = m.andNot(nan);
+
+      final var k = DoubleVector.fromArray(SPECIES, angleKTheta, t, m);
+      final var dev = angle.sub(DoubleVector.fromArray(SPECIES, angleTheta0, t, m));
+      energy += k.mul(dev).mul(dev).mul(0.5).reduceLanes(VectorOperators.ADD, valid);
+
+      if (grad != null) {
+        // dE/dcos = k (theta - theta0) * (-1/sin)
+        final var sin = cos.mul(cos).neg().add(1.0).max(TINY).lanewise(VectorOperators.SQRT);
+        final var dEdCos = k.mul(dev).neg().div(sin);
+        final var fu = dEdCos.mul(cos).div(uu);
+        final var fv = dEdCos.mul(cos).div(vv);
+        final var fuv = dEdCos.mul(invNorms);
+        // atom i: dcos/du = v/(|u||v|) - cos u/|u|^2, atom k analogous
+        fuv.mul(vx).sub(fu.mul(ux)).blend(0.0, nan).intoArray(scratch[0], t, m);
+        fuv.mul(vy).sub(fu.mul(uy)).blend(0.0, nan).intoArray(scratch[1], t, m);
+        fuv.mul(vz).sub(fu.mul(uz)).blend(0.0, nan).intoArray(scratch[2], t, m);
+        fuv.mul(ux).sub(fv.mul(vx)).blend(0.0, nan).intoArray(scratch[3], t, m);
+        fuv.mul(uy).sub(fv.mul(vy)).blend(0.0, nan).intoArray(scratch[4], t, m);
+        fuv.mul(uz).sub(fv.mul(vz)).blend(0.0, nan).intoArray(scratch[5], t, m);
+      }
+    }
+
+    if (grad != null) {
+      for (int t = 0; t < noAngles; t++) {
+        final int i = angleI[t];
+        final int j = angleJ[t];
+        final int k = angleK[t];
+        for (int c = 0; c < 3; c++) {
+          final double gi = scratch[c][t];
+          final double gk = scratch[c + 3][t];
+          grad[c][i] += gi;
+          grad[c][k] += gk;
+          grad[c][j] -= gi + gk;
+        }
+      }
+    }
+
+    return energy;
+  }
+
+  private double dihedrals(final double[] xyz1D, final int noAtoms, final double[][] grad) {
+
+    final int offY = noAtoms;
+    final int offZ = 2 * noAtoms;
+    double energy = 0.0;
+    for (int t = 0; t < noDihedrals; t += SPECIES.length()) {
+      final VectorMask<Double> m = SPECIES.indexInRange(t, noDihedrals);
+
+      final var xj = DoubleVector.fromArray(SPECIES, xyz1D, 0, dihJ, t, m);
+      final var yj = DoubleVector.fromArray(SPECIES, xyz1D, offY, dihJ, t, m);
+      final var zj = DoubleVector.fromArray(SPECIES, xyz1D, offZ, dihJ, t, m);
+      final var xk = DoubleVector.fromArray(SPECIES, xyz1D, 0, dihK, t, m);
+      final var yk = DoubleVector.fromArray(SPECIES, xyz1D, offY, dihK, t, m);
+      final var zk = DoubleVector.fromArray(SPECIES, xyz1D, offZ, dihK, t, m);
+
+      // F = x_i - x_j, G = x_j - x_k, H = x_l - x_k
+      final var fx = DoubleVector.fromArray(SPECIES, xyz1D, 0, dihI, t, m).sub(xj);
+      final var fy = DoubleVector.fromArray(SPECIES, xyz1D, offY, dihI, t, m).sub(yj);
+      final var fz = DoubleVector.fromArray(SPECIES, xyz1D, offZ, dihI, t, m).sub(zj);
+      final var gx = xj.sub(xk);
+      final var gy = yj.sub(yk);
+      final var gz = zj.sub(zk);
+      final var hx = DoubleVector.fromArray(SPECIES, xyz1D, 0, dihL, t, m).sub(xk);
+      final var hy = DoubleVector.fromArray(SPECIES, xyz1D, offY, dihL, t, m).sub(yk);
+      final var hz = DoubleVector.fromArray(SPECIES, xyz1D, offZ, dihL, t, m).sub(zk);
+
+      // A = F x G, B = H x G
+      final var ax = fy.mul(gz).sub(fz.mul(gy));
+      final var ay = fz.mul(gx).sub(fx.mul(gz));
+      final var az = fx.mul(gy).sub(fy.mul(gx));
+      final var bx = hy.mul(gz).sub(hz.mul(gy));
+      final var by = hz.mul(gx).sub(hx.mul(gz));
+      final var bz = hx.mul(gy).sub(hy.mul(gx));
+
+      final var aa = ax.mul(ax).add(ay.mul(ay)).add(az.mul(az)).max(TINY);
+      final var bb = bx.mul(bx).add(by.mul(by)).add(bz.mul(bz)).max(TINY);
+      final var gNorm = gx.mul(gx).add(gy.mul(gy)).add(gz.mul(gz)).lanewise(VectorOperators.SQRT);
+
+      // the signed dihedral, same convention as CoordTranslation.calcDihedral()
+      final var cosPart = ax.mul(bx).add(ay.mul(by)).add(az.mul(bz));
+      final var sinPart =
+          by.mul(az)
+              .sub(bz.mul(ay))
+              .mul(gx)
+              .add(bz.mul(ax).sub(bx.mul(az)).mul(gy))
+              .add(bx.mul(ay).sub(by.mul(ax)).mul(gz))
+              .div(gNorm);
+      final var phi = sinPart.lanewise(VectorOperators.ATAN2, cosPart);
+      final var nan = phi.test(VectorOperators.IS_NAN).and(m);
+      if (nan.anyTrue()) {
+        warnNaN("dihedral", nan, t, dihI, dihJ, dihK, dihL);
+      }
+      final var valid = m.andNot(nan);
+
+      final var v1 = DoubleVector.fromArray(SPECIES, dihV1, t, m);
+      final var n1 = DoubleVector.fromArray(SPECIES, dihN1, t, m);
+      final var arg1 = n1.mul(phi).sub(DoubleVector.fromArray(SPECIES, dihG1, t, m));
+      final var v2 = DoubleVector.fromArray(SPECIES, dihV2, t, m);
+      final var n2 = DoubleVector.fromArray(SPECIES, dihN2, t, m);
+      final var arg2 = n2.mul(phi).sub(DoubleVector.fromArray(SPECIES, dihG2, t, m));
+
+      final var e =
+          v1.mul(arg1.lanewise(VectorOperators.COS).add(1.0))
+              .add(v2.mul(arg2.lanewise(VectorOperators.COS).add(1.0)))
+              .mul(0.5);
+      energy += e.reduceLanes(VectorOperators.ADD, valid);
+
+      if (grad != null) {
+        final var dEdPhi =
+            v1.mul(n1)
+                .mul(arg1.lanewise(VectorOperators.SIN))
+                .add(v2.mul(n2).mul(arg2.lanewise(VectorOperators.SIN)))
+                .mul(-0.5);
+
+        // Blondel/Karplus: dphi/dx_i = -|G|/|A|^2 A, dphi/dx_l = |G|/|B|^2 B
+        final var fi = dEdPhi.mul(gNorm).div(aa).neg();
+        final var fl = dEdPhi.mul(gNorm).div(bb);
+        fi.mul(ax).blend(0.0, nan).intoArray(scratch[0], t, m);
+        fi.mul(ay).blend(0.0, nan).intoArray(scratch[1], t, m);
+        fi.mul(az).blend(0.0, nan).intoArray(scratch[2], t, m);
+        fl.mul(bx).blend(0.0, nan).intoArray(scratch[3], t, m);
+        fl.mul(by).blend(0.0, nan).intoArray(scratch[4], t, m);
+        fl.mul(bz).blend(0.0, nan).intoArray(scratch[5], t, m);
+
+        // the part shared (with opposite signs) by the inner atoms j and k
+        final var fg = fx.mul(gx).add(fy.mul(gy)).add(fz.mul(gz));
+        final var hg = hx.mul(gx).add(hy.mul(gy)).add(hz.mul(gz));
+        final var sa = dEdPhi.mul(fg).div(aa.mul(gNorm));
+        final var sb = dEdPhi.mul(hg).div(bb.mul(gNorm));
+        sa.mul(ax).sub(sb.mul(bx)).blend(0.0, nan).intoArray(scratch[6], t, m);
+        sa.mul(ay).sub(sb.mul(by)).blend(0.0, nan).intoArray(scratch[7], t, m);
+        sa.mul(az).sub(sb.mul(bz)).blend(0.0, nan).intoArray(scratch[8], t, m);
+      }
+    }
+
+    if (grad != null) {
+      for (int t = 0; t < noDihedrals; t++) {
+        final int i = dihI[t];
+        final int j = dihJ[t];
+        final int k = dihK[t];
+        final int l = dihL[t];
+        for (int c = 0; c < 3; c++) {
+          final double gi = scratch[c][t];
+          final double gl = scratch[c + 3][t];
+          final double inner = scratch[c + 6][t];
+          grad[c][i] += gi;
+          grad[c][l] += gl;
+          grad[c][j] += -gi + inner;
+          grad[c][k] += -gl - inner;
+        }
+      }
+    }
+
+    return energy;
+  }
+
+  private static void warnNaN(
+      final String term, final VectorMask<Double> nan, final int t, final int[]... atoms) {
+    for (int lane = 0; lane < SPECIES.length(); lane++) {
+      if (nan.laneIsSet(lane)) {
+        final StringBuilder sb = new StringBuilder("WARNING: NaN angle in Amber " + term + " for");
+        for (final int[] at : atoms) {
+          sb.append(' ').append(at[t + lane]);
+        }
+        System.err.println(sb.append(". Continuing."));
+      }
+    }
+  }
+}
@@ -47,6 +47,7 @@ import java.util.List;
 import org.apache.commons.math3.util.FastMath;
 import org.ogolem.adaptive.AdaptiveParameters;
 import org.ogolem.adaptive.ParameterGradient;
+import org.ogolem.adaptive.ParameterGradientEngine;
 import org.ogolem.generic.Copyable;
 import org.ogolem.properties.Property;
 
@@ -64,13 +65,28 @@ public class GenericFitnessFunction implements Copyable, Serializable {
   private final List<Double> termWeights;
   private final BatchedPropertyCalculator batcher;
   private final boolean printContributions;
+  // shared by all copies, owned (and closed) by whoever created it. Serial if not set.
+  private final transient ParameterGradientEngine paramGrads;
 
-  @SuppressWarnings("rawtypes")
   public GenericFitnessFunction(
       final BatchedPropertyCalculator batcher,
       final List<GenericFitnessTerm<?>> terms,
       final List<Double> termWeights,
       final boolean printContributions) {
+    this(batcher, terms, termWeights, printContributions, null);
+  }
+
+  /**
+   * @param paramGrads the engine for the numerical parameter gradients of the adaptivables, may be
+   *     null for serial evaluation
+   */
+  @SuppressWarnings("rawtypes")
+  public GenericFitnessFunction(
+      final BatchedPropertyCalculator batcher,
+      final List<GenericFitnessTerm<?>> terms,
+      final List<Double> termWeights,
+      final boolean printContributions,
+      final ParameterGradientEngine paramGrads) {
     this.terms = terms;
     this.termWeights = termWeights;
     assert (terms.size() == termWeights.size());
@@ -88,6 +104,7 @@ public class GenericFitnessFunction implements Copyable, Serializable {
       }
     }
     this.printContributions = printContributions;
+    this.paramGrads = paramGrads;
   }
 
   /**
@@ -114,6 +131,7 @@ public class GenericFitnessFunction implements Copyable, Serializable {
       }
     }
     this.printContributions = orig.printContributions;
+    this.paramGrads = orig.paramGrads;
   }
 
   @Override
@@ -151,6 +169,15 @@ public class GenericFitnessFunction implements Copyable, Serializable {
 
   public ParameterGradient evaluateGradient(final AdaptiveParameters parameters) {
 
+    if (paramGrads != null) {
+      return paramGrads.runWith(() -> gradient(parameters));
+    }
+
+    return gradient(parameters);
+  }
+
+  private ParameterGradient gradient(final AdaptiveParameters parameters) {
+
     // recall the batcher! XXX not yet implemented
     // batcher.recalcForNewParameters(parameters);
 
@@ -54,7 +54,7 @@ import org.ogolem.qmdff.SimpleEVB2;
  * A backend constructing factory.
  *
  * @author Johannes Dieterich
- * @version 2020-07-19
+ * @version 2026-10-18
  */
 public class BackendFactory {
 
@@ -141,6 +141,72 @@ public class BackendFactory {
       final int howMany = Integer.parseInt(sub[1].trim());
       final double cutE = Double.parseDouble(sub[2].trim());
       back = new FFEngineWrapper(which, howMany, cutE);
+    } else if (sBackend.startsWith("nativeffm:")) {
+      // nativeffm:FFID,CUTE[,LIBRARY]
+      final String[] sub = sBackend.substring(10).trim().split("\\,");
+      final int which = Integer.parseInt(sub[0].trim());
+      final double cutE = Double.parseDouble(sub[1].trim());
+      final String library = (sub.length > 2) ? sub[2].trim() : NativeFFBridge.DEFAULTLIBRARY;
+      back = new NativeFFBridge(library, which, cutE);
+    } else if (sBackend.startsWith("periodicff:")) {
+      final String[] s2 = sBackend.substring(11).trim().split("\\,");
+
+      double[][] cellVecs = null;
+      final boolean[] periodic = new boolean[] {true, true, true};
+      double cutoff = -1.0;
+      boolean useLJ = true;
+      boolean useWolf = false;
+      double alpha = 0.2 / Constants.ANGTOBOHR;
+      for (final String token : s2) {
+        if (token.startsWith("cell=")) {
+          cellVecs = PeriodicCell.parseCellVectors(token.substring(5).trim());
+        } else if (token.startsWith("pbc=")) {
+          final String pbc = token.substring(4).trim();
+          periodic[0] = pbc.contains("a");
+          periodic[1] = pbc.contains("b");
+          periodic[2] = pbc.contains("c");
+        } else if (token.startsWith("cutoff=")) {
+          cutoff = Double.parseDouble(token.substring(7).trim()) * Constants.ANGTOBOHR;
+        } else if (token.startsWith("lj=")) {
+          final String lj = token.substring(3).trim();
+          if (lj.equalsIgnoreCase("true")) {
+            useLJ = true;
+          } else if (lj.equalsIgnoreCase("false")) {
+            useLJ = false;
+          } else {
+            throw new RuntimeException("Illegal value " + lj + " for lj= of periodicff.");
+          }
+        } else if (token.startsWith("coulomb=")) {
+          final String coul = token.substring(8).trim();
+          if (coul.equalsIgnoreCase("wolf")) {
+            useWolf = true;
+          } else if (coul.equalsIgnoreCase("none")) {
+            useWolf = false;
+          } else {
+            throw new RuntimeException("Unknown Coulomb treatment " + coul + " for periodicff.");
+          }
+        } else if (token.startsWith("alpha=")) {
+          alpha = Double.parseDouble(token.substring(6).trim()) / Constants.ANGTOBOHR;
+        } else {
+          throw new RuntimeException("Unknown token " + token + " for periodicff.");
+        }
+      }
+
+      if (cellVecs == null) {
+        throw new RuntimeException("periodicff requires a cell= definition.");
+      }
+      final PeriodicCell cell = new PeriodicCell(cellVecs, periodic);
+      if (cutoff <= 0.0) {
+        // default: 9 Angstrom or half the smallest periodic width, if smaller
+        cutoff = 9.0 * Constants.ANGTOBOHR;
+        for (int k = 0; k < 3; k++) {
+          if (periodic[k]) {
+            cutoff = Math.min(cutoff, 0.5 * cell.getWidth(k));
+          }
+        }
+      }
+
+      back = new PeriodicPairForceField(cell, cutoff, useLJ, useWolf, alpha);
     } else if (sBackend.startsWith("molpro:")) {
       String sTemp3 = sBackend.substring(7).trim();
       if (sTemp3.equalsIgnoreCase("am1/vdz") || sTemp3.equalsIgnoreCase("am1")) {
@@ -398,10 +464,11 @@ public class BackendFactory {
       if (sBackend.endsWith("nocache")) {
         useCache = false;
       }
+      final boolean vectorized = sBackend.contains("vectorized");
       try {
         back =
             new org.ogolem.adaptive.AdaptiveAmberFF(
-                false, params, useCache, whichAcos, whichCos, whichSin, totalShift);
+                false, params, useCache, whichAcos, whichCos, whichSin, totalShift, vectorized);
       } catch (Exception e) {
         System.err.println("ERROR: Couldn't setup adaptive AMBER FF. Stack coming...");
         e.printStackTrace(System.err);
@@ -53,7 +53,7 @@ import org.ogolem.io.OutputPrimitives;
  * Calls CP2K for local optimization.
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
 final class CP2KCaller extends AbstractLocOpt {
 
@@ -223,12 +223,11 @@ final class CP2KCaller extends AbstractLocOpt {
     // String[] saCP2KStream;
     Process proc = null;
     try {
-      final Runtime rt = Runtime.getRuntime();
       final String sLocalInp = sCP2KFolder + ".inp";
       final String[] saCommand = new String[] {"cp2k.sopt", sLocalInp};
       final File dir = new File(sCP2KFolder);
 
-      proc = rt.exec(saCommand, null, dir);
+      proc = ExternalProcesses.exec(saCommand, null, dir);
 
       // any error message?
       final StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
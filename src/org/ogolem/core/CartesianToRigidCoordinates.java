@@ -46,7 +46,7 @@ import org.ogolem.generic.GenericBackend;
  * Turns a Cartesian backend into a rigid body one.
  *
  * @author Johannes Dieterich
- * @version 2020-12-30
+ * @version 2026-10-18
  */
 public class CartesianToRigidCoordinates implements CoordinateRepresentation {
 
@@ -155,7 +155,7 @@ public class CartesianToRigidCoordinates implements CoordinateRepresentation {
       cartes.recalcAtomNumbers();
       cartes.setAllCharges(m.getAllCharges());
       cartes.setAllSpins(m.getAllSpins());
-      cartes.setAllXYZAsCopy(m.getReferenceCartesians());
+      cartes.setAllXYZAsCopy(m.getReferenceCartesiansReadOnly());
 
       final double[] displ = cartes.calculateTheCOM(); // ideally, all zeros
       cartes.moveCoordsToCOM(); // we move these to the COM to make rotations easier and then
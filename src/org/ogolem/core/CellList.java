@@ -0,0 +1,267 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import java.util.Arrays;
+
+/**
+ * A linked-cell list for a periodic (or partially periodic) cell. Bins all atoms into cells of at
+ * least the cutoff width and collects all minimum-image pairs within the cutoff by only looking at
+ * neighboring cells, i.e., in O(N) instead of O(N^2). If there are too few cells along a periodic
+ * direction for the 27 neighbor cells to be distinct, only a single cell is used along it.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+final class CellList {
+
+  private final PeriodicCell cell;
+  private final double cutoff;
+  private final double cutoffSq;
+
+  private int[] head = new int[0];
+  private int[] next = new int[0];
+  private int[] bins = new int[0];
+  private double[] frac = new double[0];
+
+  // the pairs i < j, with the minimum image difference vector x_i - x_j
+  private int noPairs = 0;
+  private int[] pairI = new int[0];
+  private int[] pairJ = new int[0];
+  private double[] pairDX = new double[0];
+  private double[] pairDY = new double[0];
+  private double[] pairDZ = new double[0];
+  private double[] pairDistSq = new double[0];
+
+  CellList(final PeriodicCell cell, final double cutoff) {
+    assert (cutoff > 0.0);
+    for (int k = 0; k < 3; k++) {
+      if (cell.isPeriodic(k) && 2.0 * cutoff > cell.getWidth(k)) {
+        throw new IllegalArgumentException(
+            "Cutoff "
+                + cutoff
+                + " larger than half the cell width "
+                + cell.getWidth(k)
+                + " along periodic direction "
+                + k
+                + ".");
+      }
+    }
+    this.cell = cell;
+    this.cutoff = cutoff;
+    this.cutoffSq = cutoff * cutoff;
+  }
+
+  /**
+   * Builds the pair list for the given coordinates.
+   *
+   * @param xyz1D the cartesian coordinates in bohr, in the usual 1D layout (all x, all y, all z)
+   * @param noAtoms the number of atoms
+   * @return the number of pairs within the cutoff
+   */
+  int build(final double[] xyz1D, final int noAtoms) {
+
+    if (frac.length < 3 * noAtoms) {
+      frac = new double[3 * noAtoms];
+      next = new int[noAtoms];
+      bins = new int[3 * noAtoms];
+    }
+
+    // the binning along all three cell vectors
+    final int[] noCells = new int[3];
+    final boolean[] wrap = new boolean[3];
+    for (int k = 0; k < 3; k++) {
+      double min = Double.MAX_VALUE;
+      double max = -Double.MAX_VALUE;
+      for (int i = 0; i < noAtoms; i++) {
+        double s = cell.fractional(k, xyz1D[i], xyz1D[i + noAtoms], xyz1D[i + 2 * noAtoms]);
+        if (cell.isPeriodic(k)) {
+          s -= Math.floor(s);
+        }
+        frac[k * noAtoms + i] = s;
+        min = Math.min(min, s);
+        max = Math.max(max, s);
+      }
+
+      if (cell.isPeriodic(k)) {
+        final int n = (int) Math.floor(cell.getWidth(k) / cutoff);
+        noCells[k] = (n >= 3) ? n : 1;
+        wrap[k] = (n >= 3);
+        min = 0.0;
+        max = 1.0;
+      } else {
+        final double extent = (max - min) * cell.getWidth(k);
+        noCells[k] = Math.max(1, (int) Math.floor(extent / cutoff));
+      }
+
+      final double span = (max > min) ? max - min : 1.0;
+      for (int i = 0; i < noAtoms; i++) {
+        final int c = (int) ((frac[k * noAtoms + i] - min) / span * noCells[k]);
+        bins[k * noAtoms + i] = Math.min(noCells[k] - 1, Math.max(0, c));
+      }
+    }
+
+    final int totalCells = noCells[0] * noCells[1] * noCells[2];
+    if (head.length < totalCells) {
+      head = new int[totalCells];
+    }
+    Arrays.fill(head, 0, totalCells, -1);
+    for (int i = 0; i < noAtoms; i++) {
+      final int c = (bins[i] * noCells[1] + bins[noAtoms + i]) * noCells[2] + bins[2 * noAtoms + i];
+      next[i] = head[c];
+      head[c] = i;
+    }
+
+    // collect the pairs
+    noPairs = 0;
+    final double[] d = new double[3];
+    for (int ca = 0; ca < noCells[0]; ca++) {
+      for (int cb = 0; cb < noCells[1]; cb++) {
+        for (int cc = 0; cc < noCells[2]; cc++) {
+          final int c = (ca * noCells[1] + cb) * noCells[2] + cc;
+          if (head[c] < 0) {
+            continue;
+          }
+          for (int da = -1; da <= 1; da++) {
+            final int na = neighbor(ca, da, noCells[0], wrap[0]);
+            if (na < 0) {
+              continue;
+            }
+            for (int db = -1; db <= 1; db++) {
+              final int nb = neighbor(cb, db, noCells[1], wrap[1]);
+              if (nb < 0) {
+                continue;
+              }
+              for (int dc = -1; dc <= 1; dc++) {
+                final int nc = neighbor(cc, dc, noCells[2], wrap[2]);
+                if (nc < 0) {
+                  continue;
+                }
+                final int n = (na * noCells[1] + nb) * noCells[2] + nc;
+                for (int i = head[c]; i >= 0; i = next[i]) {
+                  for (int j = head[n]; j >= 0; j = next[j]) {
+                    if (j <= i) {
+                      continue;
+                    }
+                    d[0] = xyz1D[i] - xyz1D[j];
+                    d[1] = xyz1D[i + noAtoms] - xyz1D[j + noAtoms];
+                    d[2] = xyz1D[i + 2 * noAtoms] - xyz1D[j + 2 * noAtoms];
+                    cell.minimumImage(d);
+                    final double distSq = d[0] * d[0] + d[1] * d[1] + d[2] * d[2];
+                    if (distSq < cutoffSq) {
+                      addPair(i, j, d, distSq);
+                    }
+                  }
+                }
+              }
+            }
+          }
+        }
+      }
+    }
+
+    return noPairs;
+  }
+
+  /**
+   * @return the neighboring cell index along one direction or -1 if there is none
+   */
+  private static int neighbor(
+      final int c, final int offset, final int noCells, final boolean wrap) {
+
+    if (noCells == 1) {
+      // only the cell itself
+      return (offset == 0) ? 0 : -1;
+    }
+
+    final int n = c + offset;
+    if (wrap) {
+      return (n + noCells) % noCells;
+    }
+
+    return (n < 0 || n >= noCells) ? -1 : n;
+  }
+
+  private void addPair(final int i, final int j, final double[] d, final double distSq) {
+
+    if (noPairs == pairI.length) {
+      final int newLength = Math.max(64, 2 * pairI.length);
+      pairI = Arrays.copyOf(pairI, newLength);
+      pairJ = Arrays.copyOf(pairJ, newLength);
+      pairDX = Arrays.copyOf(pairDX, newLength);
+      pairDY = Arrays.copyOf(pairDY, newLength);
+      pairDZ = Arrays.copyOf(pairDZ, newLength);
+      pairDistSq = Arrays.copyOf(pairDistSq, newLength);
+    }
+
+    pairI[noPairs] = i;
+    pairJ[noPairs] = j;
+    pairDX[noPairs] = d[0];
+    pairDY[noPairs] = d[1];
+    pairDZ[noPairs] = d[2];
+    pairDistSq[noPairs] = distSq;
+    noPairs++;
+  }
+
+  int getNoOfPairs() {
+    return noPairs;
+  }
+
+  int[] getPairI() {
+    return pairI;
+  }
+
+  int[] getPairJ() {
+    return pairJ;
+  }
+
+  double[] getPairDX() {
+    return pairDX;
+  }
+
+  double[] getPairDY() {
+    return pairDY;
+  }
+
+  double[] getPairDZ() {
+    return pairDZ;
+  }
+
+  double[] getPairDistSq() {
+    return pairDistSq;
+  }
+}
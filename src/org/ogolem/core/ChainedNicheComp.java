@@ -38,6 +38,7 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 package org.ogolem.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.ogolem.generic.genericpool.Niche;
 import org.ogolem.generic.genericpool.NicheComputer;
@@ -45,7 +46,7 @@ import org.ogolem.generic.genericpool.NicheComputer;
 /**
  * Chains multiple niche computations together.
  * @author Johannes Dieterich
- * @version 2020-04-29
+ * @version 2026-10-18
  */
 class ChainedNicheComp implements NicheComputer<Molecule,Geometry> {
     
@@ -79,4 +80,24 @@ class ChainedNicheComp implements NicheComputer<Molecule,Geometry> {
         
         return new Niche(nicheString);
     }
+    
+    @Override
+    public List<Niche> computeNiches(final List<Geometry> geoms){
+        
+        final String[] nicheStrings = new String[geoms.size()];
+        Arrays.fill(nicheStrings, "");
+        for(final NicheComputer<Molecule,Geometry> comp : nicheComps){
+            final List<Niche> niches = comp.computeNiches(geoms);
+            for(int i = 0; i < nicheStrings.length; i++){
+                nicheStrings[i] += niches.get(i).getID();
+            }
+        }
+        
+        final List<Niche> res = new ArrayList<>(nicheStrings.length);
+        for(final String nicheString : nicheStrings){
+            res.add(new Niche(nicheString));
+        }
+        
+        return res;
+    }
 }
@@ -51,7 +51,7 @@ import org.ogolem.math.TrivialLinearAlgebra;
  * representations.
  *
  * @author Johannes Dieterich
- * @version 2026-02-21
+ * @version 2026-10-18
  */
 public final class CoordTranslation {
 
@@ -174,18 +174,16 @@ public final class CoordTranslation {
         cartesian.setAtomNumbers(molecule.getAtomNumbers());
         cartesian.setAllAtomTypes(molecule.getAtomTypes());
         if (coordsAsCopy) {
-          final double[][] xyz = molecule.getReferenceCartesians();
+          final double[][] xyz = molecule.getReferenceCartesiansReadOnly();
           final double[][] xyzC = new double[3][noOfAtoms];
           System.arraycopy(xyz[0], 0, xyzC[0], 0, noOfAtoms);
           System.arraycopy(xyz[1], 0, xyzC[1], 0, noOfAtoms);
           System.arraycopy(xyz[2], 0, xyzC[2], 0, noOfAtoms);
           cartesian.setAllXYZ(xyzC);
         } else {
-          cartesian.setAllXYZ(molecule.getReferenceCartesians());
+          // only read from here on: rotation and translation below work on new coordinates
+          cartesian.setAllXYZ(molecule.getReferenceCartesiansReadOnly());
         }
-        // OK, this should not be necessary. But god knows what has happened to the coordinates in
-        // the meanwhile: better be safe than sorry
-        cartesian.moveCoordsToCOM();
       } else {
         final ZMatrix zmat = molecule.getZMatrix();
         molecule.moveReferenceToCOM();
@@ -204,7 +202,21 @@ public final class CoordTranslation {
       }
 
       // rotate the geometry with the euler angles
-      final double[][] daXYZ = rotateXYZ(cartesian.getAllXYZCoord(), molecule.getOrientation());
+      final double[][] refXYZ = cartesian.getAllXYZCoord();
+      double[][] daXYZ = rotateXYZ(refXYZ, molecule.getOrientation());
+      if (!molecule.getFlexy()) {
+        if (daXYZ == refXYZ) {
+          // no rotation, we must not touch the reference coordinates
+          daXYZ = new double[3][];
+          daXYZ[0] = refXYZ[0].clone();
+          daXYZ[1] = refXYZ[1].clone();
+          daXYZ[2] = refXYZ[2].clone();
+        }
+        // OK, this should not be necessary. But god knows what has happened to the coordinates in
+        // the meanwhile: better be safe than sorry. Centering commutes with the rotation.
+        cartesian.setAllXYZ(daXYZ);
+        cartesian.moveCoordsToCOM();
+      }
 
       // move it to the center of mass
       moveToCOM(daXYZ, molecule.getExternalCenterOfMass());
@@ -1974,52 +1986,13 @@ public final class CoordTranslation {
     final CartesianCoordinates aligned = new CartesianCoordinates(cartes);
     aligned.moveCoordsToCOM();
 
-    // set up the kearsley matrix
-    final org.ejml.data.DMatrixRMaj matKearsley =
-        setupKearsleyMatrix(refCartes, aligned.getAllXYZCoord());
-
-    final org.ejml.interfaces.decomposition.EigenDecomposition_F64<org.ejml.data.DMatrixRMaj> eig =
-        org.ejml.dense.row.factory.DecompositionFactory_DDRM.eig(4, true, true);
-    eig.decompose(matKearsley);
-    final int noEigenVals = eig.getNumberOfEigenvalues();
-    if (noEigenVals == 0) {
-      throw new Exception("Kearsely matrix decomposition has no eigenvalues.");
-    }
-
-    int minEigenValueIndex = -1;
-    double minEigenValue = Double.MAX_VALUE;
-    for (int i = 0; i < noEigenVals; i++) {
-      final org.ejml.data.Complex_F64 eval = eig.getEigenvalue(i);
-      if (!eval.isReal()) {
-        continue;
-      } // do not check if the eigenvalue is complex and error (since symmetric matrices have no
-      // complex ones) - has caused numerical issues
-      final double d = eval.getReal();
-      if (d < minEigenValue) {
-        minEigenValue = d;
-        minEigenValueIndex = i;
-      }
-    }
-    if (minEigenValueIndex < 0) {
-      throw new Exception("Kearsely matrix has no real eigenvalues - this shouldn't happen.");
-    }
-
-    final org.ejml.data.DMatrixRMaj matEigenVec = eig.getEigenVector(minEigenValueIndex);
-    if (matEigenVec == null) {
-      // this really shouldn't happen here as we checked above
-      throw new Exception(
-          "Kearsley matrix decomposition - minimal eigenvalue is complex, should not happen here.");
-    }
-
-    // calculate the rotation matrix
-    final Matrix3x3 rotMat = calculateRotationMatrix(matEigenVec);
+    // allocation-free Kearsley alignment on the workspace of this thread
     final double[][] alignedXYZ = aligned.getAllXYZCoord();
-    final double[][] alignedXYZCop = aligned.getAllXYZCoordsCopy();
-    org.ogolem.math.TrivialLinearAlgebra.matMult(
-        rotMat, alignedXYZCop, alignedXYZ[0].length, alignedXYZ);
-
     final double rmsd =
-        Math.sqrt(minEigenValue / Math.min(refCartes[0].length, cartes.getNoOfAtoms()));
+        KearsleyAligner.forThread().align(refCartes, alignedXYZ, alignedXYZ[0].length, alignedXYZ);
+    if (Double.isNaN(rmsd)) {
+      throw new Exception("Kearsley alignment failed, NaN RMSD.");
+    }
 
     return new Tuple<>(aligned, rmsd);
   }
@@ -2346,114 +2319,6 @@ public final class CoordTranslation {
     xyz[2] = r * cos(om);
   }
 
-  /**
-   * Sets the Kearsley matrix up.
-   *
-   * @param refCoords The reference coordinate set, with the COM being 0.0,0.0,0.0.
-   * @param coords The to be moved coordinate set, with the COM being 0.0,0.0,0.0.
-   * @return The Kearsley matrix, needs to be initialized with zeros!
-   */
-  private static org.ejml.data.DMatrixRMaj setupKearsleyMatrix(
-      final double[][] refCoords, final double[][] coords) {
-
-    assert (refCoords != null);
-    assert (coords != null);
-    assert (refCoords.length == 3);
-    assert (coords.length == 3);
-
-    final int noOfAtoms = refCoords[0].length;
-
-    // set the actual kearsley matrix up
-    final double[] diff = new double[3];
-    final double[] summ = new double[3];
-    double kearsley00 = 0.0,
-        kearsley01 = 0.0,
-        kearsley02 = 0.0,
-        kearsley03 = 0.0,
-        kearsley11 = 0.0,
-        kearsley12 = 0.0,
-        kearsley13 = 0.0,
-        kearsley22 = 0.0,
-        kearsley23 = 0.0,
-        kearsley33 = 0.0;
-
-    // NOTE: this is clearly not an efficient way to set the matrix up, we'd
-    //   prefer to loop the other way round
-    for (int i = 0; i < noOfAtoms; i++) {
-
-      for (int j = 0; j < 3; j++) {
-        diff[j] = refCoords[j][i] - coords[j][i];
-        summ[j] = refCoords[j][i] + coords[j][i];
-      }
-
-      kearsley00 += diff[0] * diff[0] + diff[1] * diff[1] + diff[2] * diff[2];
-      kearsley01 += summ[1] * diff[2] - diff[1] * summ[2];
-      kearsley02 += diff[0] * summ[2] - summ[0] * diff[2];
-      kearsley03 += summ[0] * diff[1] - diff[0] * summ[1];
-
-      kearsley11 += summ[1] * summ[1] + summ[2] * summ[2] + diff[0] * diff[0];
-      kearsley12 += diff[0] * diff[1] - summ[0] * summ[1];
-      kearsley13 += diff[0] * diff[2] - summ[0] * summ[2];
-
-      kearsley22 += summ[0] * summ[0] + summ[2] * summ[2] + diff[1] * diff[1];
-      kearsley23 += diff[1] * diff[2] - summ[1] * summ[2];
-
-      kearsley33 += summ[0] * summ[0] + summ[1] * summ[1] + diff[2] * diff[2];
-    }
-
-    final org.ejml.data.DMatrixRMaj matKearsley = new org.ejml.data.DMatrixRMaj(4, 4);
-    matKearsley.unsafe_set(0, 0, kearsley00);
-    matKearsley.unsafe_set(0, 1, kearsley01);
-    matKearsley.unsafe_set(0, 2, kearsley02);
-    matKearsley.unsafe_set(0, 3, kearsley03);
-    matKearsley.unsafe_set(1, 0, kearsley01);
-    matKearsley.unsafe_set(1, 1, kearsley11);
-    matKearsley.unsafe_set(1, 2, kearsley12);
-    matKearsley.unsafe_set(1, 3, kearsley13);
-    matKearsley.unsafe_set(2, 0, kearsley02);
-    matKearsley.unsafe_set(2, 1, kearsley12);
-    matKearsley.unsafe_set(2, 2, kearsley22);
-    matKearsley.unsafe_set(2, 3, kearsley23);
-    matKearsley.unsafe_set(3, 0, kearsley03);
-    matKearsley.unsafe_set(3, 1, kearsley13);
-    matKearsley.unsafe_set(3, 2, kearsley23);
-    matKearsley.unsafe_set(3, 3, kearsley33);
-
-    return matKearsley;
-  }
-
-  /**
-   * Calculate the rotation matrix from the quaternion representing the optimal superposition.
-   *
-   * @param eigen The eigenvalue matrix.
-   * @param rot The minimum [3,3] rotation matrix, changed on exit.
-   * @return The rotation matrix.
-   */
-  private static Matrix3x3 calculateRotationMatrix(final org.ejml.data.DMatrixRMaj eigen) {
-
-    final double q1 = eigen.get(0, 0);
-    final double q2 = eigen.get(1, 0);
-    final double q3 = eigen.get(2, 0);
-    final double q4 = eigen.get(3, 0);
-
-    final double rot00 = q1 * q1 + q2 * q2 - q3 * q3 - q4 * q4;
-    final double rot01 = 2 * (q2 * q3 + q1 * q4);
-    final double rot02 = 2 * (q2 * q4 - q1 * q3);
-
-    final double rot10 = 2 * (q2 * q3 - q1 * q4);
-    final double rot11 = q1 * q1 + q3 * q3 - q2 * q2 - q4 * q4;
-    final double rot12 = 2 * (q3 * q4 + q1 * q2);
-
-    final double rot20 = 2 * (q2 * q4 + q1 * q3);
-    final double rot21 = 2 * (q3 * q4 - q1 * q2);
-    final double rot22 = q1 * q1 + q4 * q4 - q2 * q2 - q3 * q3;
-
-    final Matrix3x3 rot =
-        new Matrix3x3(rot00, rot01, rot02, rot10, rot11, rot12, rot20, rot21, rot22);
-
-    return rot;
-  }
-
   /**
    * rotates a set of cartesian coordinates such that the point is on the z-axis. Taken from phenix
    * and optimized (sorry, Bernd!).
@@ -35,33 +35,43 @@
  */
 package org.ogolem.core;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.ogolem.generic.genericpool.Niche;
 import org.ogolem.generic.genericpool.NicheComputer;
 
 /**
  * Nicher based on eigenvalues of geometry Coulomb matrix w/o charges The discrimination power
- * increases with width becoming smaller and with number getting larger.
+ * increases with width becoming smaller and with number getting larger. Eigenvalue spectra are
+ * cached per geometry and shared between all copies.
  *
  * @author Bernd Hartke
- * @version 2021-07-06
+ * @version 2026-10-18
  */
 class CoulombMatrixNicheComp implements NicheComputer<Molecule, Geometry> {
 
-  private static final long serialVersionUID = (long) 20180513;
+  private static final long serialVersionUID = (long) 20261018;
   private final double width;
   private final int number;
+  private final CoulombSpectra spectra;
 
   public static final double DEFAULTWIDTH = 0.1;
   public static final int DEFAULTNUMBER = 1;
 
   CoulombMatrixNicheComp(final double width, final int number) {
+    this(width, number, CoulombSpectra.DEFAULTCACHESIZE);
+  }
+
+  CoulombMatrixNicheComp(final double width, final int number, final int cacheSize) {
     this.width = width;
     this.number = number;
+    this.spectra = new CoulombSpectra(cacheSize);
   }
 
   private CoulombMatrixNicheComp(final CoulombMatrixNicheComp orig) {
     this.width = orig.width;
     this.number = orig.number;
+    this.spectra = orig.spectra; // shared on purpose
   }
 
   @Override
@@ -71,13 +81,22 @@ class CoulombMatrixNicheComp implements NicheComputer<Molecule, Geometry> {
 
   @Override
   public Niche computeNiche(final Geometry g) {
-    final double[][] allCOMs = g.getAllCOMs();
-    final int noMols = allCOMs[0].length;
-    final contrib.jama.Matrix cMatrix = new contrib.jama.Matrix(noMols, noMols);
-    setupCoulombMatrix(allCOMs, cMatrix.getArray(), noMols);
-    final contrib.jama.EigenvalueDecomposition eigen =
-        new contrib.jama.EigenvalueDecomposition(cMatrix, true);
-    double[] evals = eigen.getRealEigenvalues();
+    return designate(spectra.spectrum(g));
+  }
+
+  @Override
+  public List<Niche> computeNiches(final List<Geometry> geoms) {
+    final List<double[]> allEvals = spectra.spectra(geoms);
+    final List<Niche> niches = new ArrayList<>(allEvals.size());
+    for (final double[] evals : allEvals) {
+      niches.add(designate(evals));
+    }
+
+    return niches;
+  }
+
+  private Niche designate(final double[] evals) {
+    final int noMols = evals.length;
     double[] percDiffs = new double[noMols - 1];
     // this baseline is arbitrary; evals[0] would be more logical, but this would give div-by-zero
     // below
@@ -113,21 +132,4 @@ class CoulombMatrixNicheComp implements NicheComputer<Molecule, Geometry> {
             0, designator.length() - 1); // remove trailing dash, just for aesthetics...
     return new Niche(designator);
   }
-
-  private static void setupCoulombMatrix(
-      final double[][] allCOMs, final double[][] coulombMatrix, final int noMols) {
-    // sets up neutral Coulomb matrix (no charges); full matrix with explizit symmetrization
-    for (int i = 0; i < noMols; i++) {
-      for (int j = i + 1; j < noMols; j++) {
-        final double dx = allCOMs[0][i] - allCOMs[0][j];
-        final double dy = allCOMs[1][i] - allCOMs[1][j];
-        final double dz = allCOMs[2][i] - allCOMs[2][j];
-        final double n = Math.sqrt(dx * dx + dy * dy + dz * dz);
-        final double distInv = n == 0 ? 0.0 : 1.0 / n;
-        coulombMatrix[i][j] = distInv; // should have been Z_i Z_j / dist_ij in case of charges
-        coulombMatrix[j][i] = distInv; // explicit symmetrization
-      }
-      coulombMatrix[i][i] = 0.0; // should have been some simple function of charge (e.g. 0.5*Z^2.4)
-    }
-  }
 }
@@ -0,0 +1,170 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.ogolem.math.TrivialLinearAlgebra;
+
+/**
+ * Sorted eigenvalue spectra of the charge-free Coulomb matrices of geometries, i.e., of the inverse
+ * distances between all centers of mass. Spectra are cached per geometry ID in a bounded LRU cache
+ * and reused as long as the centers of mass did not change. Shared between all copies of a niche
+ * computer and thread-safe.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+final class CoulombSpectra implements Serializable {
+
+  private static final long serialVersionUID = (long) 20261018;
+
+  public static final int DEFAULTCACHESIZE = 1024;
+
+  private final int cacheSize;
+  private transient Map<Long, Entry> cache;
+
+  CoulombSpectra(final int cacheSize) {
+    assert (cacheSize >= 0);
+    this.cacheSize = cacheSize;
+  }
+
+  /**
+   * @param g the geometry
+   * @return the eigenvalues of its Coulomb matrix, ascending. Must not be changed.
+   */
+  double[] spectrum(final Geometry g) {
+
+    final long id = g.getID();
+    final double[][] coms = g.getAllCOMs();
+    final double[] cached = lookup(id, coms);
+    if (cached != null) {
+      return cached;
+    }
+
+    final double[] evals = compute(coms);
+    store(id, coms, evals);
+
+    return evals;
+  }
+
+  /**
+   * The spectra of many geometries at once, computed in parallel where not cached.
+   *
+   * @param geoms the geometries
+   * @return the eigenvalues of their Coulomb matrices, ascending, same order as the geometries.
+   *     Must not be changed.
+   */
+  List<double[]> spectra(final List<Geometry> geoms) {
+
+    final double[][] res = new double[geoms.size()][];
+    IntStream.range(0, geoms.size()).parallel().forEach(i -> res[i] = spectrum(geoms.get(i)));
+
+    return new ArrayList<>(Arrays.asList(res));
+  }
+
+  static double[] compute(final double[][] coms) {
+
+    final int noMols = coms[0].length;
+    // neutral Coulomb matrix (no charges), upper triangle only
+    final double[][] cMatrix = new double[noMols][noMols];
+    for (int i = 0; i < noMols; i++) {
+      for (int j = i + 1; j < noMols; j++) {
+        final double dx = coms[0][i] - coms[0][j];
+        final double dy = coms[1][i] - coms[1][j];
+        final double dz = coms[2][i] - coms[2][j];
+        final double n = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        // should have been Z_i Z_j / dist_ij in case of charges
+        cMatrix[i][j] = n == 0 ? 0.0 : 1.0 / n;
+      }
+      // the diagonal should have been some simple function of charge (e.g. 0.5*Z^2.4)
+    }
+
+    final double[] evals = new double[noMols];
+    TrivialLinearAlgebra.symmetricEigenvalues(cMatrix, evals, new double[noMols]);
+
+    return evals;
+  }
+
+  private synchronized double[] lookup(final long id, final double[][] coms) {
+
+    if (cache == null) {
+      return null;
+    }
+    final Entry e = cache.get(id);
+    if (e == null || !Arrays.deepEquals(e.coms, coms)) {
+      return null;
+    }
+
+    return e.evals;
+  }
+
+  private synchronized void store(final long id, final double[][] coms, final double[] evals) {
+
+    if (cacheSize == 0) {
+      return;
+    }
+    if (cache == null) {
+      cache =
+          new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = (long) 20261018;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Entry> eldest) {
+              return size() > cacheSize;
+            }
+          };
+    }
+    cache.put(id, new Entry(coms, evals));
+  }
+
+  private static final class Entry {
+
+    final double[][] coms;
+    final double[] evals;
+
+    Entry(final double[][] coms, final double[] evals) {
+      this.coms = coms;
+      this.evals = evals;
+    }
+  }
+}
@@ -0,0 +1,361 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import java.util.stream.IntStream;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Early pruning of candidate placements for one molecule in the directed mutations. All atoms but
+ * the ones of the moved molecule are put once into a linked-cell spatial hash (sorted, primitive
+ * structure of arrays), a candidate placement is then only checked against the atoms in the
+ * neighboring cells. The criterion is the one of the pairwise collision detections (distance below
+ * the blown sum of radii, bonded pairs excluded) with a tiny safety margin, i.e., a candidate
+ * rejected here would have been rejected by the full collision detection as well. Candidates
+ * surviving need to be confirmed by the full collision detection as collisions within the rest of
+ * the system are not checked here. Immutable after construction and hence thread-safe.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+final class DirMutGridScreener {
+
+  private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+  // only prune clear collisions, numerical noise at the threshold is left to the full check
+  private static final double SAFETYFACTOR = 1.0 - 1e-10;
+  private static final int MAXCELLS = 1 << 22;
+  static final int PARALLELTHRESHOLD = 2048;
+
+  private final int molStart;
+  private final int molEnd;
+
+  // the moved molecule: offsets of its atoms w.r.t. the reference point, blown radii
+  private final double[] molDX;
+  private final double[] molDY;
+  private final double[] molDZ;
+  private final double[] molRad;
+  private final boolean[] molBondedToRest;
+
+  // the rest, sorted by cell (x fastest)
+  private final double[] restX;
+  private final double[] restY;
+  private final double[] restZ;
+  private final double[] restRad;
+  private final int[] cellStart;
+  private final double minX, minY, minZ;
+  private final double cellSize;
+  private final int nX, nY, nZ;
+
+  /**
+   * @param cartes the complete cartesian coordinates with the molecule at some reference position
+   * @param molID the index of the molecule to be moved around
+   * @param refPoint the reference point (typically the COM) of the molecule in cartes, candidate
+   *     placements are specified relative to it
+   * @param blowFactor the blow factor of the collision detection
+   * @param bonds the bonding information
+   */
+  DirMutGridScreener(
+      final CartesianCoordinates cartes,
+      final int molID,
+      final double[] refPoint,
+      final double blowFactor,
+      final BondInfo bonds) {
+
+    final int noAtoms = cartes.getNoOfAtoms();
+    final int[] atsPerMol = cartes.getAllAtomsPerMol();
+    int off = 0;
+    for (int i = 0; i < molID; i++) {
+      off += atsPerMol[i];
+    }
+    this.molStart = off;
+    this.molEnd = off + atsPerMol[molID];
+
+    final double[][] xyz = cartes.getAllXYZCoord();
+    final short[] numbers = cartes.getAllAtomNumbers();
+
+    final int noMolAts = molEnd - molStart;
+    this.molDX = new double[noMolAts];
+    this.molDY = new double[noMolAts];
+    this.molDZ = new double[noMolAts];
+    this.molRad = new double[noMolAts];
+    this.molBondedToRest = new boolean[noMolAts];
+    double maxRad = 0.0;
+    for (int i = 0; i < noMolAts; i++) {
+      final int at = molStart + i;
+      molDX[i] = xyz[0][at] - refPoint[0];
+      molDY[i] = xyz[1][at] - refPoint[1];
+      molDZ[i] = xyz[2][at] - refPoint[2];
+      molRad[i] = blowFactor * AtomicProperties.giveRadius(numbers[at]);
+      maxRad = Math.max(maxRad, molRad[i]);
+      for (int j = 0; j < noAtoms && bonds != null; j++) {
+        if ((j < molStart || j >= molEnd) && bonds.hasBond(at, j)) {
+          molBondedToRest[i] = true;
+          break;
+        }
+      }
+    }
+
+    // bounding box of the rest
+    final int noRest = noAtoms - noMolAts;
+    double x0 = Double.POSITIVE_INFINITY, y0 = Double.POSITIVE_INFINITY;
+    double z0 = Double.POSITIVE_INFINITY;
+    double x1 = Double.NEGATIVE_INFINITY, y1 = Double.NEGATIVE_INFINITY;
+    double z1 = Double.NEGATIVE_INFINITY;
+    double maxRestRad = 0.0;
+    for (int i = 0; i < noAtoms; i++) {
+      if (i >= molStart && i < molEnd) {
+        continue;
+      }
+      x0 = Math.min(x0, xyz[0][i]);
+      y0 = Math.min(y0, xyz[1][i]);
+      z0 = Math.min(z0, xyz[2][i]);
+      x1 = Math.max(x1, xyz[0][i]);
+      y1 = Math.max(y1, xyz[1][i]);
+      z1 = Math.max(z1, xyz[2][i]);
+      maxRestRad = Math.max(maxRestRad, blowFactor * AtomicProperties.giveRadius(numbers[i]));
+    }
+
+    // any pair closer than this is a potential collision: one cell of neighbors suffices
+    double cell = Math.max(maxRad + maxRestRad, 1e-6);
+    if (noRest == 0) {
+      x0 = y0 = z0 = x1 = y1 = z1 = 0.0;
+    }
+    int nx = (int) Math.floor((x1 - x0) / cell) + 1;
+    int ny = (int) Math.floor((y1 - y0) / cell) + 1;
+    int nz = (int) Math.floor((z1 - z0) / cell) + 1;
+    while ((long) nx * ny * nz > MAXCELLS) {
+      cell *= 2;
+      nx = (int) Math.floor((x1 - x0) / cell) + 1;
+      ny = (int) Math.floor((y1 - y0) / cell) + 1;
+      nz = (int) Math.floor((z1 - z0) / cell) + 1;
+    }
+    this.cellSize = cell;
+    this.minX = x0;
+    this.minY = y0;
+    this.minZ = z0;
+    this.nX = nx;
+    this.nY = ny;
+    this.nZ = nz;
+
+    // counting sort of the rest into the cells
+    final int noCells = nx * ny * nz;
+    final int[] cellOf = new int[noAtoms];
+    this.cellStart = new int[noCells + 1];
+    for (int i = 0; i < noAtoms; i++) {
+      if (i >= molStart && i < molEnd) {
+        continue;
+      }
+      final int c = cellIndex(xyz[0][i], xyz[1][i], xyz[2][i]);
+      cellOf[i] = c;
+      cellStart[c + 1]++;
+    }
+    for (int c = 0; c < noCells; c++) {
+      cellStart[c + 1] += cellStart[c];
+    }
+    final int[] fill = new int[noCells];
+    this.restX = new double[noRest];
+    this.restY = new double[noRest];
+    this.restZ = new double[noRest];
+    this.restRad = new double[noRest];
+    for (int i = 0; i < noAtoms; i++) {
+      if (i >= molStart && i < molEnd) {
+        continue;
+      }
+      final int c = cellOf[i];
+      final int pos = cellStart[c] + fill[c]++;
+      restX[pos] = xyz[0][i];
+      restY[pos] = xyz[1][i];
+      restZ[pos] = xyz[2][i];
+      restRad[pos] = blowFactor * AtomicProperties.giveRadius(numbers[i]);
+    }
+  }
+
+  /**
+   * @return the index of the first atom of the moved molecule in the cartesian coordinates
+   */
+  int getMolStart() {
+    return molStart;
+  }
+
+  /**
+   * @return one past the index of the last atom of the moved molecule
+   */
+  int getMolEnd() {
+    return molEnd;
+  }
+
+  /**
+   * Checks a translated placement of the molecule (same orientation as in the reference).
+   *
+   * @param px x of the new reference point
+   * @param py y of the new reference point
+   * @param pz z of the new reference point
+   * @return false if the placement definitely collides, true if it may be collision free
+   */
+  boolean mayBeFree(final double px, final double py, final double pz) {
+
+    for (int i = 0; i < molRad.length; i++) {
+      if (molBondedToRest[i]) {
+        continue;
+      }
+      if (collides(px + molDX[i], py + molDY[i], pz + molDZ[i], molRad[i])) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Checks an arbitrary placement of the molecule, e.g. with changed orientation.
+   *
+   * @param xyz the complete cartesian coordinates (3 x noAtoms) with the molecule in the new place
+   * @return false if the placement definitely collides, true if it may be collision free
+   */
+  boolean mayBeFree(final double[][] xyz) {
+
+    for (int i = 0; i < molRad.length; i++) {
+      if (molBondedToRest[i]) {
+        continue;
+      }
+      final int at = molStart + i;
+      if (collides(xyz[0][at], xyz[1][at], xyz[2][at], molRad[i])) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Screens a batch of translated placements, splitting large batches over the common fork-join
+   * pool.
+   *
+   * @param cx x of the candidate reference points
+   * @param cy y of the candidate reference points
+   * @param cz z of the candidate reference points
+   * @param n the number of candidates
+   * @param free on exit: whether each candidate may be collision free
+   * @return the number of candidates that may be collision free
+   */
+  int screen(
+      final double[] cx, final double[] cy, final double[] cz, final int n, final boolean[] free) {
+
+    if (n >= PARALLELTHRESHOLD) {
+      IntStream.range(0, n).parallel().forEach(i -> free[i] = mayBeFree(cx[i], cy[i], cz[i]));
+    } else {
+      for (int i = 0; i < n; i++) {
+        free[i] = mayBeFree(cx[i], cy[i], cz[i]);
+      }
+    }
+
+    int count = 0;
+    for (int i = 0; i < n; i++) {
+      if (free[i]) count++;
+    }
+
+    return count;
+  }
+
+  private int cellIndex(final double x, final double y, final double z) {
+    final int ix = clamp((int) Math.floor((x - minX) / cellSize), nX);
+    final int iy = clamp((int) Math.floor((y - minY) / cellSize), nY);
+    final int iz = clamp((int) Math.floor((z - minZ) / cellSize), nZ);
+    return (iz * nY + iy) * nX + ix;
+  }
+
+  private static int clamp(final int i, final int n) {
+    return (i < 0) ? 0 : (i >= n) ? n - 1 : i;
+  }
+
+  private boolean collides(final double x, final double y, final double z, final double rad) {
+
+    final int ix = (int) Math.floor((x - minX) / cellSize);
+    final int iy = (int) Math.floor((y - minY) / cellSize);
+    final int iz = (int) Math.floor((z - minZ) / cellSize);
+    if (ix < -1 || ix > nX || iy < -1 || iy > nY || iz < -1 || iz > nZ) {
+      // more than one cell away from all atoms of the rest
+      return false;
+    }
+
+    final int xLo = Math.max(0, ix - 1);
+    final int xHi = Math.min(nX - 1, ix + 1);
+    if (xLo > xHi) {
+      return false;
+    }
+    final var vX = DoubleVector.broadcast(SPECIES, x);
+    final var vY = DoubleVector.broadcast(SPECIES, y);
+    final var vZ = DoubleVector.broadcast(SPECIES, z);
+    final var vRad = DoubleVector.broadcast(SPECIES, rad);
+    for (int cz = Math.max(0, iz - 1); cz <= Math.min(nZ - 1, iz + 1); cz++) {
+      for (int cy = Math.max(0, iy - 1); cy <= Math.min(nY - 1, iy + 1); cy++) {
+        // x is the fastest index, so the three neighboring cells are one contiguous slice
+        final int rowOff = (cz * nY + cy) * nX;
+        final int start = cellStart[rowOff + xLo];
+        final int end = cellStart[rowOff + xHi + 1];
+        int j = start;
+        final int loopBound = start + SPECIES.loopBound(end - start);
+        for (; j < loopBound; j += SPECIES.length()) {
+          final var vDX = DoubleVector.fromArray(SPECIES, restX, j).sub(vX);
+          final var vDY = DoubleVector.fromArray(SPECIES, restY, j).sub(vY);
+          final var vDZ = DoubleVector.fromArray(SPECIES, restZ, j).sub(vZ);
+          final var vDistSq = vDZ.fma(vDZ, vDX.fma(vDX, vDY.mul(vDY)));
+          final var vThresh =
+              DoubleVector.fromArray(SPECIES, restRad, j).add(vRad).mul(SAFETYFACTOR);
+          final VectorMask<Double> vColl = vDistSq.lt(vThresh.mul(vThresh));
+          if (vColl.anyTrue()) {
+            return true;
+          }
+        }
+        // scalar tail
+        for (; j < end; j++) {
+          final double dx = restX[j] - x;
+          final double dy = restY[j] - y;
+          final double dz = restZ[j] - z;
+          final double thresh = (restRad[j] + rad) * SAFETYFACTOR;
+          if (dx * dx + dy * dy + dz * dz < thresh * thresh) {
+            return true;
+          }
+        }
+      }
+    }
+
+    return false;
+  }
+}
@@ -50,7 +50,7 @@ import org.ogolem.helpers.Tuple;
  *
  * @author Bernd Hartke
  * @author Johannes Dieterich
- * @version 2020-12-30
+ * @version 2026-10-18
  */
 public class DirectedMutation implements GenericMutation<Molecule, Geometry> {
 
@@ -187,6 +187,7 @@ public class DirectedMutation implements GenericMutation<Molecule, Geometry> {
             cRanges,
             cRanges.avPairDist,
             oldPoint,
+            indexMolMove,
             mol,
             work,
             collDetect,
@@ -349,6 +350,7 @@ public class DirectedMutation implements GenericMutation<Molecule, Geometry> {
       final CoordRanges cRanges,
       final double pointDist,
       final double[] oldPoint,
+      final int molID,
       Molecule mol,
       Geometry work,
       final CollisionDetectionEngine collDetect,
@@ -376,52 +378,36 @@ public class DirectedMutation implements GenericMutation<Molecule, Geometry> {
     final double xIncr = Math.abs(cRanges.xEnd - cRanges.xBegin) / (double) iPointsX;
     final double yIncr = Math.abs(cRanges.yEnd - cRanges.yBegin) / (double) iPointsY;
     final double zIncr = Math.abs(cRanges.zEnd - cRanges.zBegin) / (double) iPointsZ;
-    double testX, testY, testZ;
-    double checkX, checkY, checkZ, checkSquared;
-    double pointDistSquared = pointDist * pointDist;
-    testX = cRanges.xBegin - xIncr;
+    final double pointDistSquared = pointDist * pointDist;
+
+    // generate all candidates (far enough away from the old point) into primitive arrays
+    final int maxPoints = Math.max(0, iPointsX) * Math.max(0, iPointsY) * Math.max(0, iPointsZ);
+    final double[] candX = new double[maxPoints];
+    final double[] candY = new double[maxPoints];
+    final double[] candZ = new double[maxPoints];
+    int noCands = 0;
     int countSelfColl = 0;
+    double testX = cRanges.xBegin - xIncr;
     for (int ix = 0; ix < iPointsX; ix++) {
       testX += xIncr;
-      testY = cRanges.yBegin - yIncr;
+      final double checkX = testX - oldPoint[0];
+      double testY = cRanges.yBegin - yIncr;
       for (int iy = 0; iy < iPointsY; iy++) {
         testY += yIncr;
-        testZ = cRanges.zBegin - zIncr;
+        final double checkY = testY - oldPoint[1];
+        double testZ = cRanges.zBegin - zIncr;
         for (int iz = 0; iz < iPointsZ; iz++) {
           testZ += zIncr;
           // test for distance w.r.t. old point
-          checkX = testX - oldPoint[0];
-          checkY = testY - oldPoint[1];
-          checkZ = testZ - oldPoint[2];
-          checkSquared = checkX * checkX + checkY * checkY + checkZ * checkZ;
-          // do following stuff only if distance w.r.t. old point is large enough,
+          final double checkZ = testZ - oldPoint[2];
+          final double checkSquared = checkX * checkX + checkY * checkY + checkZ * checkZ;
+          // keep the point only if distance w.r.t. old point is large enough,
           // to avoid re-discovery of old point...
           if (checkSquared > pointDistSquared) {
-            // choose point w/in interval and test for collision
-            double[] point = new double[3];
-            point[0] = testX;
-            point[1] = testY;
-            point[2] = testZ;
-            if (DEBUG) {
-              System.out.println(
-                  point[0] * BOHRTOANG
-                      + " , "
-                      + point[1] * BOHRTOANG
-                      + " , "
-                      + point[2] * BOHRTOANG);
-            }
-            // Try to weed out the worst positioning attempts by CD:
-            mol.setExternalCenterOfMass(point); // see below: what are the Eulers here?!
-            final CartesianCoordinates cart = work.getCartesians();
-
-            final CollisionInfo collinfo = collDetect.checkForCollision(cart, blowColl, bonds);
-
-            if (!collinfo.hasCollision()) {
-              if (DEBUG) {
-                System.out.println("DEBUG: added nonColl point " + Arrays.toString(point));
-              }
-              alGoodPoints.add(point);
-            }
+            candX[noCands] = testX;
+            candY[noCands] = testY;
+            candZ[noCands] = testZ;
+            noCands++;
           } else {
             countSelfColl += 1;
             if (DEBUG) {
@@ -438,6 +424,39 @@ public class DirectedMutation implements GenericMutation<Molecule, Geometry> {
       }
     }
 
+    // weed out the clear collisions of the moved molecule with the rest in one (parallel) batch
+    final DirMutGridScreener screener =
+        new DirMutGridScreener(work.getCartesians(), molID, oldPoint, blowColl, bonds);
+    final boolean[] mayBeFree = new boolean[noCands];
+    final int noSurvivors = screener.screen(candX, candY, candZ, noCands, mayBeFree);
+    if (DEBUG) {
+      System.out.println(
+          "DEBUG: " + noSurvivors + " of " + noCands + " candidates survived the screening.");
+    }
+
+    // confirm the survivors with the full collision detection
+    for (int i = 0; i < noCands; i++) {
+      if (!mayBeFree[i]) {
+        continue;
+      }
+      final double[] point = {candX[i], candY[i], candZ[i]};
+      if (DEBUG) {
+        System.out.println(
+            point[0] * BOHRTOANG + " , " + point[1] * BOHRTOANG + " , " + point[2] * BOHRTOANG);
+      }
+      mol.setExternalCenterOfMass(point); // see below: what are the Eulers here?!
+      final CartesianCoordinates cart = work.getCartesians();
+
+      final CollisionInfo collinfo = collDetect.checkForCollision(cart, blowColl, bonds);
+
+      if (!collinfo.hasCollision()) {
+        if (DEBUG) {
+          System.out.println("DEBUG: added nonColl point " + Arrays.toString(point));
+        }
+        alGoodPoints.add(point);
+      }
+    }
+
     if (DEBUG) {
       System.out.println("DEBUG: number of collision-free positions: " + alGoodPoints.size());
     }
@@ -0,0 +1,178 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.Semaphore;
+import org.ogolem.generic.tracing.ExternalProcessEvent;
+import org.ogolem.generic.tracing.TaskTrace;
+
+/**
+ * Starts external programs, optionally limiting how many of them may run at once. Meant for running
+ * many more tasks than cores (e.g., on virtual threads), with the limit then keeping the number of
+ * actual processes at what the node can take. A slot is taken before the process starts (blocking
+ * until one is free) and given back once the process has exited.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public final class ExternalProcesses {
+
+  private static volatile Semaphore limit = null;
+  private static volatile int maxConcurrent = 0;
+
+  private ExternalProcesses() {}
+
+  /**
+   * Sets how many external processes may run at once. Processes already running keep counting
+   * against the previous limit.
+   *
+   * @param max the maximum, zero or negative for no limit (the default)
+   */
+  public static synchronized void setMaxConcurrent(final int max) {
+    maxConcurrent = Math.max(0, max);
+    limit = (max > 0) ? new Semaphore(max, true) : null;
+  }
+
+  /**
+   * @return the maximum number of concurrent external processes, zero if there is no limit
+   */
+  public static int getMaxConcurrent() {
+    return maxConcurrent;
+  }
+
+  /**
+   * @return how many more external processes may be started right now, -1 if there is no limit
+   */
+  static int availableSlots() {
+    final Semaphore sema = limit;
+    return (sema == null) ? -1 : sema.availablePermits();
+  }
+
+  /**
+   * Same as Runtime.exec(String[]), but honoring the limit.
+   *
+   * @param cmdArray the command and its arguments
+   * @return the started process
+   * @throws IOException if the process can't be started or waiting for a slot got interrupted
+   */
+  public static Process exec(final String[] cmdArray) throws IOException {
+    return exec(cmdArray, null, null);
+  }
+
+  /**
+   * Same as Runtime.exec(String[],String[],File), but honoring the limit.
+   *
+   * @param cmdArray the command and its arguments
+   * @param envp the environment, null to inherit it
+   * @param dir the working directory, null for the current one
+   * @return the started process
+   * @throws IOException if the process can't be started or waiting for a slot got interrupted
+   */
+  public static Process exec(final String[] cmdArray, final String[] envp, final File dir)
+      throws IOException {
+    final ExternalProcessEvent ev = startEvent(cmdArray[0]);
+    final Semaphore sema = acquire();
+    try {
+      return onExit(Runtime.getRuntime().exec(cmdArray, envp, dir), sema, ev);
+    } catch (IOException | RuntimeException e) {
+      if (sema != null) sema.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Same as ProcessBuilder.start(), but honoring the limit.
+   *
+   * @param pb the process builder
+   * @return the started process
+   * @throws IOException if the process can't be started or waiting for a slot got interrupted
+   */
+  public static Process start(final ProcessBuilder pb) throws IOException {
+    final ExternalProcessEvent ev = startEvent(pb.command().isEmpty() ? "" : pb.command().get(0));
+    final Semaphore sema = acquire();
+    try {
+      return onExit(pb.start(), sema, ev);
+    } catch (IOException | RuntimeException e) {
+      if (sema != null) sema.release();
+      throw e;
+    }
+  }
+
+  private static Semaphore acquire() throws IOException {
+    final Semaphore sema = limit;
+    if (sema == null) {
+      return null;
+    }
+    try {
+      sema.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting to start an external process.");
+    }
+    return sema;
+  }
+
+  private static ExternalProcessEvent startEvent(final String command) {
+    final ExternalProcessEvent ev = new ExternalProcessEvent();
+    if (ev.isEnabled()) {
+      ev.command = command;
+      ev.taskID = TaskTrace.currentTask();
+    }
+    ev.begin();
+    return ev;
+  }
+
+  private static Process onExit(
+      final Process proc, final Semaphore sema, final ExternalProcessEvent ev) {
+    if (sema != null || ev.isEnabled()) {
+      proc.onExit()
+          .whenComplete(
+              (p, t) -> {
+                if (sema != null) sema.release();
+                ev.end();
+                if (ev.shouldCommit()) {
+                  ev.exitCode = (t == null) ? p.exitValue() : -1;
+                  ev.commit();
+                }
+              });
+    }
+    return proc;
+  }
+}
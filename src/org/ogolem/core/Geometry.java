@@ -51,7 +51,7 @@ import org.ogolem.random.Lottery;
  * lot of states, getters and setters as well as methods.
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
 public class Geometry extends ContinuousProblem<Molecule> {
 
@@ -189,7 +189,7 @@ public class Geometry extends ContinuousProblem<Molecule> {
     }
     this.env = (orig.env == null) ? null : orig.env.copy();
     assert (orig.bonds != null);
-    this.bonds = orig.bonds.copy();
+    this.bonds = orig.bonds; // effectively immutable, hence shared
     this.properties = new ArrayList<>();
     for (int i = 0; i < orig.properties.size(); i++) {
       final Property prop = orig.properties.get(i);
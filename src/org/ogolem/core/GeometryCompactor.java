@@ -0,0 +1,241 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+import org.ogolem.generic.genericpool.IndividualCompactor;
+
+/**
+ * Compact pool storage for geometries. All static data (atom types, charges, spins, bonds, the
+ * reference structures of the molecules) lives once in a template geometry, a pooled geometry only
+ * keeps its IDs, fitness and the external coordinates (COM and Euler angles) of its rigid molecules
+ * in a primitive array, optionally in single precision. Molecules that deviate from the template
+ * (flexible ones, ones with a modified reference structure or of a different type at that position)
+ * are kept in full. Geometries with an environment or properties are not packed at all.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public final class GeometryCompactor implements IndividualCompactor<Molecule, Geometry> {
+
+  private static final long serialVersionUID = (long) 20261018;
+
+  private final Geometry template;
+  private final boolean singlePrecision;
+
+  /**
+   * @param template the template geometry, typically the reference geometry of the run. Is copied.
+   * @param singlePrecision whether the external coordinates are stored as floats. This halves the
+   *     footprint again but rounds COMs to about 1e-7 relative precision upon restoration.
+   */
+  public GeometryCompactor(final Geometry template, final boolean singlePrecision) {
+    assert (template != null);
+    this.template = template.copy();
+    this.template.resetProperties();
+    this.singlePrecision = singlePrecision;
+  }
+
+  @Override
+  public Serializable compact(final Geometry geom) {
+
+    final int noMols = template.getNumberOfIndieParticles();
+    if (geom.getNumberOfIndieParticles() != noMols
+        || geom.containsEnvironment()
+        || geom.getPropertyIterator().hasNext()) {
+      return null;
+    }
+
+    final double[] extCoords = new double[6 * noMols];
+    double[] energies = null;
+    Molecule[] verbatim = null;
+    for (int i = 0; i < noMols; i++) {
+      final Molecule mol = geom.getMoleculeAtPosition(i);
+      final Molecule ref = template.getMoleculeAtPosition(i);
+      if (!matchesTemplate(mol, ref)) {
+        if (verbatim == null) {
+          verbatim = new Molecule[noMols];
+        }
+        verbatim[i] = mol.copy();
+        continue;
+      }
+      final double[] com = mol.getExternalCenterOfMass();
+      final double[] eulers = mol.getOrientation();
+      System.arraycopy(com, 0, extCoords, 6 * i, 3);
+      System.arraycopy(eulers, 0, extCoords, 6 * i + 3, 3);
+      if (mol.getEnergy() != ref.getEnergy()) {
+        if (energies == null) {
+          energies = new double[noMols];
+          for (int j = 0; j < noMols; j++) {
+            energies[j] = template.getMoleculeAtPosition(j).getEnergy();
+          }
+        }
+        energies[i] = mol.getEnergy();
+      }
+    }
+
+    final float[] extCoordsSingle;
+    if (singlePrecision) {
+      extCoordsSingle = new float[extCoords.length];
+      for (int i = 0; i < extCoords.length; i++) {
+        extCoordsSingle[i] = (float) extCoords[i];
+      }
+    } else {
+      extCoordsSingle = null;
+    }
+
+    return new PackedGeometry(
+        geom.getID(),
+        geom.getFatherID(),
+        geom.getMotherID(),
+        geom.getFitness(),
+        geom.isLocalOptimized(),
+        singlePrecision ? null : extCoords,
+        extCoordsSingle,
+        energies,
+        verbatim);
+  }
+
+  @Override
+  public Geometry expand(final Serializable compact) {
+
+    final PackedGeometry packed = (PackedGeometry) compact;
+    final Geometry geom = template.copy();
+    geom.setID(packed.id);
+    geom.setFatherID(packed.fatherID);
+    geom.setMotherID(packed.motherID);
+    geom.setFitness(packed.fitness);
+    geom.setLocalOptimized(packed.isLocOpt);
+
+    final int noMols = geom.getNumberOfIndieParticles();
+    for (int i = 0; i < noMols; i++) {
+      if (packed.verbatim != null && packed.verbatim[i] != null) {
+        geom.setMoleculeAtPosition(i, packed.verbatim[i].copy());
+        continue;
+      }
+      final Molecule mol = geom.getMoleculeAtPosition(i);
+      final int off = 6 * i;
+      if (packed.extCoords != null) {
+        final double[] c = packed.extCoords;
+        mol.setExternalCenterOfMass(c[off], c[off + 1], c[off + 2]);
+        mol.setOrientation(c[off + 3], c[off + 4], c[off + 5]);
+      } else {
+        final float[] c = packed.extCoordsSingle;
+        mol.setExternalCenterOfMass(c[off], c[off + 1], c[off + 2]);
+        mol.setOrientation(c[off + 3], c[off + 4], c[off + 5]);
+      }
+      if (packed.energies != null) {
+        mol.setEnergy(packed.energies[i]);
+      }
+    }
+
+    return geom;
+  }
+
+  /**
+   * Whether the molecule is a rigid molecule that differs from the template molecule only in its
+   * external coordinates and energy.
+   */
+  private static boolean matchesTemplate(final Molecule mol, final Molecule ref) {
+
+    if (mol.getFlexy()
+        || ref.getFlexy()
+        || mol.getMolPosition() != ref.getMolPosition()
+        || mol.getNumberOfAtoms() != ref.getNumberOfAtoms()
+        || mol.isConstricted() != ref.isConstricted()
+        || mol.getID() != ref.getID()
+        || mol.getFatherID() != ref.getFatherID()
+        || mol.getMotherID() != ref.getMotherID()
+        || !Objects.equals(mol.getSID(), ref.getSID())) {
+      return false;
+    }
+
+    if (!Arrays.equals(mol.getAtomTypes(), ref.getAtomTypes())
+        || !Arrays.equals(mol.getAllCharges(), ref.getAllCharges())
+        || !Arrays.equals(mol.getAllSpins(), ref.getAllSpins())
+        || !Arrays.deepEquals(mol.getConstraints(), ref.getConstraints())) {
+      return false;
+    }
+
+    final double[][] xyz = mol.getReferenceCartesiansReadOnly();
+    final double[][] refXYZ = ref.getReferenceCartesiansReadOnly();
+    return Arrays.equals(xyz[0], refXYZ[0])
+        && Arrays.equals(xyz[1], refXYZ[1])
+        && Arrays.equals(xyz[2], refXYZ[2]);
+  }
+
+  /** The compact form of a geometry. Never modified after construction. */
+  private static final class PackedGeometry implements Serializable {
+
+    private static final long serialVersionUID = (long) 20261018;
+
+    private final long id;
+    private final long fatherID;
+    private final long motherID;
+    private final double fitness;
+    private final boolean isLocOpt;
+    // COM and Euler angles per molecule, exactly one of the two is non-null
+    private final double[] extCoords;
+    private final float[] extCoordsSingle;
+    // null if all energies are the template's
+    private final double[] energies;
+    // null if all molecules are packed, otherwise non-null for the molecules kept in full
+    private final Molecule[] verbatim;
+
+    private PackedGeometry(
+        final long id,
+        final long fatherID,
+        final long motherID,
+        final double fitness,
+        final boolean isLocOpt,
+        final double[] extCoords,
+        final float[] extCoordsSingle,
+        final double[] energies,
+        final Molecule[] verbatim) {
+      this.id = id;
+      this.fatherID = fatherID;
+      this.motherID = motherID;
+      this.fitness = fitness;
+      this.isLocOpt = isLocOpt;
+      this.extCoords = extCoords;
+      this.extCoordsSingle = extCoordsSingle;
+      this.energies = energies;
+      this.verbatim = verbatim;
+    }
+  }
+}
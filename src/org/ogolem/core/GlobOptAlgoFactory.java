@@ -59,7 +59,7 @@ import org.slf4j.LoggerFactory;
  * Factory to build the global optimization from input.
  *
  * @author Johannes Dieterich
- * @version 2020-08-10
+ * @version 2026-10-18
  */
 public class GlobOptAlgoFactory extends GenericGlobalOptimizationFactory<Molecule, Geometry> {
 
@@ -1032,17 +1032,14 @@ public class GlobOptAlgoFactory extends GenericGlobalOptimizationFactory<Molecul
 
       double blowDiss = globConf.blowFacDissocDetect;
       double blowColl = globConf.blowFacBondDetect;
-      CollisionDetection.CDTYPE whichCollDetect = globConf.getWhichCollisionEngine();
-      DissociationDetection.DDTYPE whichDissDetect = globConf.whichDissociationEngine;
       NorwayGeometryMutation.MUTMODE mode =
           NorwayGeometryMutation.MUTMODE.ASCENDING; // ascending by default
       for (final String token : tokens) {
         if (token.startsWith("colldetect=")) {
-          final String sub = stringToken("colldetect=", token);
-          whichCollDetect = CollisionDetection.parseType(sub);
+          // still validated for input compatibility, the packing uses its own pairwise test
+          CollisionDetection.parseType(stringToken("colldetect=", token));
         } else if (token.startsWith("dissdetect=")) {
-          final String sub = stringToken("dissdetect=", token);
-          whichDissDetect = DissociationDetection.parseType(sub);
+          DissociationDetection.parseType(stringToken("dissdetect=", token));
         } else if (token.startsWith("blowdiss=")) {
           blowDiss = doubleToken("blowdiss=", token);
         } else if (token.startsWith("blowcoll=")) {
@@ -1065,29 +1062,21 @@ public class GlobOptAlgoFactory extends GenericGlobalOptimizationFactory<Molecul
       }
 
       return new NorwayGeometryMutation(
-          NorwayGeometryMutation.PACKDIM.THREED,
-          whichCollDetect,
-          blowColl,
-          blowDiss,
-          whichDissDetect,
-          mode);
+          NorwayGeometryMutation.PACKDIM.THREED, blowColl, blowDiss, mode);
     } else if (mutString.startsWith("norway2D:")) {
 
       final String[] tokens = tokenizeThirdLevel(mutString.substring(7));
 
       double blowDiss = globConf.blowFacDissocDetect;
       double blowColl = globConf.blowFacBondDetect;
-      CollisionDetection.CDTYPE whichCollDetect = globConf.getWhichCollisionEngine();
-      DissociationDetection.DDTYPE whichDissDetect = globConf.whichDissociationEngine;
       NorwayGeometryMutation.MUTMODE mode =
           NorwayGeometryMutation.MUTMODE.ASCENDING; // ascending by default
       for (final String token : tokens) {
         if (token.startsWith("colldetect=")) {
-          final String sub = stringToken("colldetect=", token);
-          whichCollDetect = CollisionDetection.parseType(sub);
+          // still validated for input compatibility, the packing uses its own pairwise test
+          CollisionDetection.parseType(stringToken("colldetect=", token));
         } else if (token.startsWith("dissdetect=")) {
-          final String sub = stringToken("dissdetect=", token);
-          whichDissDetect = DissociationDetection.parseType(sub);
+          DissociationDetection.parseType(stringToken("dissdetect=", token));
         } else if (token.startsWith("blowdiss=")) {
           blowDiss = doubleToken("blowdiss=", token);
         } else if (token.startsWith("blowcoll=")) {
@@ -1109,12 +1098,7 @@ public class GlobOptAlgoFactory extends GenericGlobalOptimizationFactory<Molecul
         }
       }
       return new NorwayGeometryMutation(
-          NorwayGeometryMutation.PACKDIM.TWOD,
-          whichCollDetect,
-          blowColl,
-          blowDiss,
-          whichDissDetect,
-          mode);
+          NorwayGeometryMutation.PACKDIM.TWOD, blowColl, blowDiss, mode);
     } else if (mutString.startsWith("xchangemut:")) {
 
       final String[] tokens = tokenizeThirdLevel(mutString.substring(11));
@@ -68,12 +68,12 @@ import org.ogolem.random.Lottery;
  * "constructor madness". Default values are provided.
  *
  * @author Johannes Dieterich
- * @version 2022-02-05
+ * @version 2026-10-18
  */
 public class GlobalConfig implements Configuration<Molecule, Geometry> {
 
   // the ID
-  private static final long serialVersionUID = (long) 20200729;
+  private static final long serialVersionUID = (long) 20261018;
 
   // the pool size: PoolSize=
   int poolSize = 100;
@@ -82,13 +82,18 @@ public class GlobalConfig implements Configuration<Molecule, Geometry> {
   boolean growCell = false;
 
   /*
-   * whether or not detailed stats are wanted at the expense of an additional
-   * synchronization point (potential slowdown). only applicable for the SMP
-   * case.
+   * whether or not detailed stats are wanted at the expense of some (lock-free)
+   * counting and timing. only applicable for the SMP case.
    * ClusterDetailedStats=
    */
   boolean enableDetailedStats = false;
 
+  /**
+   * seconds between two snapshots of the detailed stats written to detailedstats.jsonl, zero for
+   * none. ClusterDetailedStatsInterval=
+   */
+  long detailedStatsInterval = 0;
+
   /** To disable logging to either out or log file. SilentMode= */
   boolean silentMode = false;
 
@@ -330,6 +335,21 @@ public class GlobalConfig implements Configuration<Molecule, Geometry> {
   /** The number of tasks to submit in one chunk. TasksToSubmit= */
   int tasksToSubmit = org.ogolem.generic.threading.GenericOGOLEMOptimization.DEFAULTSUBSTOWAIT;
 
+  /** The island model for shared-memory runs, null for a single pool. IslandModel= */
+  org.ogolem.generic.threading.IslandConfig islandConfig = null;
+
+  /** Whether tasks run on virtual threads. VirtualThreads= */
+  boolean useVirtualThreads = false;
+
+  /** How many external programs may run at once, zero for no limit. MaxExternalProcesses= */
+  int maxExternalProcesses = 0;
+
+  /** Whether pool individuals are stored in compact form. CompactPool= */
+  boolean compactPool = false;
+
+  /** Whether compactly stored pool individuals use single precision. CompactPool=float */
+  boolean compactPoolSingle = false;
+
   /**
    * for usage with adaptive methods, we also want/need an adaptive configuration in here by
    * default, it is null'd and just filled if specified in the input
@@ -652,6 +672,10 @@ public class GlobalConfig implements Configuration<Molecule, Geometry> {
 
     config.setDiversityChecker(diversityChecker);
 
+    if (compactPool) {
+      config.setCompactor(new GeometryCompactor(new Geometry(geoConf), compactPoolSingle));
+    }
+
     if (doNiching) {
       config.setAddsToStats(this.addsToNicheStats);
       config.setNicher(new SimpleNicher<>(this.noOfIndividualsPerNicheAtMax));
@@ -782,6 +806,7 @@ public class GlobalConfig implements Configuration<Molecule, Geometry> {
       case "coulomb":
         double cwidth = CoulombMatrixNicheComp.DEFAULTWIDTH;
         int cnumber = CoulombMatrixNicheComp.DEFAULTNUMBER;
+        int ccache = CoulombSpectra.DEFAULTCACHESIZE;
 
         final String[] optionsCoul = nicherOptions.trim().split("\\;");
         for (final String opt : optionsCoul) {
@@ -796,12 +821,18 @@ public class GlobalConfig implements Configuration<Molecule, Geometry> {
             if (cnumber < 1) {
               throw new RuntimeException("cnumber < 1 makes no sense in Coulomb Matrix nicher.");
             }
+          } else if (opt.trim().startsWith("cache=")) {
+            final String cache = opt.trim().substring(6).trim();
+            ccache = Integer.parseInt(cache);
+            if (ccache < 0) {
+              throw new RuntimeException("cache < 0 makes no sense in Coulomb Matrix nicher.");
+            }
           } else {
             throw new RuntimeException("Illegal option " + opt + " for Coulomb Matrix nicher.");
           }
         }
 
-        final CoulombMatrixNicheComp cmatrix = new CoulombMatrixNicheComp(cwidth, cnumber);
+        final CoulombMatrixNicheComp cmatrix = new CoulombMatrixNicheComp(cwidth, cnumber, ccache);
         nicher = cmatrix;
         break;
       default:
@@ -986,6 +1017,26 @@ public class GlobalConfig implements Configuration<Molecule, Geometry> {
     return enableDetailedStats;
   }
 
+  @Override
+  public long getDetailedStatsInterval() throws Exception {
+    return detailedStatsInterval;
+  }
+
+  @Override
+  public org.ogolem.generic.threading.IslandConfig getIslandConfig() throws Exception {
+    return islandConfig;
+  }
+
+  @Override
+  public boolean useVirtualThreads() throws Exception {
+    return useVirtualThreads;
+  }
+
+  @Override
+  public int getMaxExternalProcesses() throws Exception {
+    return maxExternalProcesses;
+  }
+
   @Override
   public NicheComputer<Molecule, Geometry> getNicheComputer() throws Exception {
     if (doNiching) {
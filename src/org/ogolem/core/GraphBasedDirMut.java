@@ -59,7 +59,7 @@ import org.ogolem.random.RandomUtils;
  *
  * @author Johannes Dieterich
  * @author Bernd Hartke
- * @version 2020-12-30
+ * @version 2026-10-18
  */
 public class GraphBasedDirMut implements GenericMutation<Molecule, Geometry> {
 
@@ -604,6 +604,9 @@ public class GraphBasedDirMut implements GenericMutation<Molecule, Geometry> {
       final int noPointsPsi = (noAts == 1) ? 1 : (int) Math.floor(2 * Math.PI / eulerIncr);
       int evalCounter = 0;
       int collCounter = 0;
+      // the rest of the cluster does not move: prune clear collisions through a spatial hash
+      final DirMutGridScreener screener =
+          new DirMutGridScreener(work.getCartesians(), leastConnID, comFirst, blowColl, bonds);
       for (int x = 0; x < noPoints; x++) {
         final double currX = comSec[0] - gridHalfLength + x * gridIncr;
         comFirst[0] = currX;
@@ -625,7 +628,9 @@ public class GraphBasedDirMut implements GenericMutation<Molecule, Geometry> {
 
                   // ok, check for collisions and energy
                   final CartesianCoordinates currC = work.getCartesians();
-                  final boolean hasColl = collDetect.checkOnlyForCollision(currC, blowColl, bonds);
+                  final boolean hasColl =
+                      !screener.mayBeFree(currC.getAllXYZCoord())
+                          || collDetect.checkOnlyForCollision(currC, blowColl, bonds);
                   if (DEBUG) {
                     System.out.println(
                         "DEBUG: For "
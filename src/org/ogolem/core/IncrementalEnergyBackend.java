@@ -0,0 +1,125 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+/**
+ * An optional extension for (pairwise additive) backends which can evaluate the energy of only
+ * those contributions that involve a small subset of atoms. This allows to get the energy change of
+ * moving k atoms in O(N*k) instead of a full O(N^2) energy evaluation, e.g., for Monte Carlo type
+ * moves or numerical derivatives. Callers should check for this interface and fall back to
+ * energyCalculation(...) if it is not implemented.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public interface IncrementalEnergyBackend extends CartesianFullBackend {
+
+  /**
+   * The energy of all contributions involving at least one atom of the subset, i.e., all
+   * interactions between a subset atom and any other atom plus all interactions within the subset,
+   * counted exactly as energyCalculation(...) would count them. Implementations are free to add a
+   * contribution that does not depend on the positions of the subset atoms (e.g., by falling back
+   * to the total energy for terms that cannot be decomposed), so only differences between calls
+   * with the same subset and identical coordinates of all other atoms are meaningful.
+   *
+   * @param xyz1D the Cartesian coordinates as a 1D array, see energyCalculation(...)
+   * @param subset the indices of the atoms in the subset, sorted ascending and without duplicates
+   * @param saAtomTypes the atom types as strings
+   * @param atomNos the atom numbers associated with the atom types
+   * @param atsPerMol array of length molecules, each entry defining how many atoms are in this
+   *     molecule
+   * @param iNoOfAtoms the total number of atoms
+   * @param bonds the bonds in this "atom assembly" (i.e., geometry)
+   * @param hasRigidEnvironment whether the coordinate set contains a rigid environment, see
+   *     energyCalculation(...)
+   * @return the energy of the contributions involving the subset
+   */
+  double subsetEnergy(
+      final double[] xyz1D,
+      final int[] subset,
+      final String[] saAtomTypes,
+      final short[] atomNos,
+      final int[] atsPerMol,
+      final int iNoOfAtoms,
+      final BondInfo bonds,
+      final boolean hasRigidEnvironment);
+
+  /**
+   * The energy change when moving the subset atoms from their positions in xyz1D to new positions.
+   *
+   * @param xyz1D the Cartesian coordinates as a 1D array before the move, not changed on exit
+   * @param subset the indices of the moved atoms, sorted ascending and without duplicates
+   * @param newXYZ the new positions of the moved atoms, 3 x subset.length
+   * @param saAtomTypes the atom types as strings
+   * @param atomNos the atom numbers associated with the atom types
+   * @param atsPerMol array of length molecules, each entry defining how many atoms are in this
+   *     molecule
+   * @param iNoOfAtoms the total number of atoms
+   * @param bonds the bonds in this "atom assembly" (i.e., geometry)
+   * @param hasRigidEnvironment whether the coordinate set contains a rigid environment
+   * @return the energy after the move minus the energy before the move
+   */
+  default double energyChange(
+      final double[] xyz1D,
+      final int[] subset,
+      final double[][] newXYZ,
+      final String[] saAtomTypes,
+      final short[] atomNos,
+      final int[] atsPerMol,
+      final int iNoOfAtoms,
+      final BondInfo bonds,
+      final boolean hasRigidEnvironment) {
+
+    final double before =
+        subsetEnergy(
+            xyz1D, subset, saAtomTypes, atomNos, atsPerMol, iNoOfAtoms, bonds, hasRigidEnvironment);
+
+    final double[] moved = xyz1D.clone();
+    for (int k = 0; k < subset.length; k++) {
+      final int at = subset[k];
+      moved[at] = newXYZ[0][k];
+      moved[at + iNoOfAtoms] = newXYZ[1][k];
+      moved[at + 2 * iNoOfAtoms] = newXYZ[2][k];
+    }
+
+    final double after =
+        subsetEnergy(
+            moved, subset, saAtomTypes, atomNos, atsPerMol, iNoOfAtoms, bonds, hasRigidEnvironment);
+
+    return after - before;
+  }
+}
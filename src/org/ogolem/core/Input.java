@@ -60,6 +60,7 @@ import org.ogolem.helpers.Tuple3D;
 import org.ogolem.io.InputPrimitives;
 import org.ogolem.io.InquiryPrimitives;
 import org.ogolem.io.ManipulationPrimitives;
+import org.ogolem.io.MappedOutputParser;
 import org.ogolem.md.MDConfig;
 import org.ogolem.random.Lottery;
 import org.ogolem.random.RNGenerator;
@@ -72,7 +73,7 @@ import org.slf4j.LoggerFactory;
  * and configures a GlobalConfig object.
  *
  * @author Johannes Dieterich
- * @version 2021-07-04
+ * @version 2026-10-18
  */
 public final class Input {
 
@@ -287,6 +288,14 @@ public final class Input {
           System.err.println(
               "Wrong input for ClusterDetailedStats: " + e.toString() + ". NOT ENABLED!");
         }
+      } else if (line.startsWith("ClusterDetailedStatsInterval=")) {
+        final String sTemp2 = line.substring(29).trim();
+        try {
+          globConf.detailedStatsInterval = Long.parseLong(sTemp2);
+        } catch (Exception e) {
+          System.err.println(
+              "Wrong input for ClusterDetailedStatsInterval: " + e.toString() + ". NOT EXPORTED!");
+        }
       } else if (line.startsWith("DebugLevel=")) {
         final String s2 = line.substring(11).trim();
         try {
@@ -634,6 +643,46 @@ public final class Input {
         } catch (Exception e) {
           System.err.println("Wrong input in TasksToSubmit: " + e.toString() + " default used.");
         }
+      } else if (line.startsWith("IslandModel=")) {
+        final String sTemp2 = line.substring(12).trim();
+        try {
+          globConf.islandConfig = org.ogolem.generic.threading.IslandConfig.parse(sTemp2);
+        } catch (Exception e) {
+          throw new Exception("Wrong input in IslandModel=: " + e.getMessage(), e);
+        }
+      } else if (line.startsWith("VirtualThreads=")) {
+        globConf.useVirtualThreads = Boolean.parseBoolean(line.substring(15).trim());
+      } else if (line.startsWith("MaxExternalProcesses=")) {
+        final String sTemp2 = line.substring(21).trim();
+        try {
+          globConf.maxExternalProcesses = Integer.parseInt(sTemp2);
+        } catch (Exception e) {
+          System.err.println(
+              "Wrong input in MaxExternalProcesses: " + e.toString() + " default used.");
+        }
+      } else if (line.startsWith("CompactPool=")) {
+        final String sTemp2 = line.substring(12).trim();
+        switch (sTemp2) {
+          case "none":
+          case "false":
+            globConf.compactPool = false;
+            globConf.compactPoolSingle = false;
+            break;
+          case "double":
+          case "true":
+            globConf.compactPool = true;
+            globConf.compactPoolSingle = false;
+            break;
+          case "float":
+            globConf.compactPool = true;
+            globConf.compactPoolSingle = true;
+            break;
+          default:
+            throw new Exception(
+                "Illegal choice "
+                    + sTemp2
+                    + " for CompactPool=. Please specify none, double or float.");
+        }
       } else if (line.startsWith("IntLocOptMaxStep=")) {
         final String sTemp2 = line.substring(17).trim();
         try {
@@ -2131,214 +2180,126 @@ public final class Input {
   }
 
   static double ReadEnergyMolproOutput(String sMolproOut) throws InitIOException, CastException {
-    String[] saData;
-    try {
-      saData = InputPrimitives.readFileIn(sMolproOut);
-    } catch (Exception e) {
+    try (final MappedOutputParser parser = MappedOutputParser.open(sMolproOut)) {
+      return SearchMolproEnergy(parser);
+    } catch (IOException e) {
       throw new InitIOException("Error in reading molpros output file.", e);
     }
-    double dEnergy = 0.0;
-    try {
-      dEnergy = SearchMolproEnergy(saData);
-    } catch (CastException e) {
-      throw e;
-    }
-    return dEnergy;
   }
 
   static Gradient ReadGradientMolproOutput(String sMolproOut, int iNoOfAtoms)
       throws InitIOException, CastException {
-    String[] saData;
-    try {
-      saData = InputPrimitives.readFileIn(sMolproOut);
-    } catch (Exception e) {
-      throw new InitIOException("Error in reading molpros output file.", e);
-    }
 
-    // find the beginning of the gradient
-    int iGradientStart = 0;
-    for (int i = 0; i < saData.length; i++) {
-      if (saData[i].contains("GRADIENT FOR STATE 1.1")) {
-        iGradientStart = i + 4;
-        break;
-      } else {
-        // not found the start yet... next line
-      }
-    }
+    final double[][] daGradient = new double[3][iNoOfAtoms];
+    double dEnergy = 0.0;
+    try (final MappedOutputParser parser = MappedOutputParser.open(sMolproOut)) {
 
-    // put the gradient data into a String array
-    String[] saGradData = new String[iNoOfAtoms];
-    for (int i = 0; i < iNoOfAtoms; i++) {
-      saGradData[i] = saData[i + iGradientStart];
-    }
-
-    double[][] daGradient = new double[3][iNoOfAtoms];
-    for (int i = 0; i < saGradData.length; i++) {
-      String sTemp = saGradData[i].trim();
-      // System.OUT.println("DEBUG: Dealing with line: " + tmp);
-      // get rid of the atomic number
-      String sTemp2 = sTemp.substring(sTemp.indexOf(" "));
-      sTemp2 = sTemp2.trim();
-      // first value: dE/dx
-      int iEndOfNumber = sTemp2.indexOf(" ");
-      sTemp = sTemp2.substring(0, iEndOfNumber);
-      sTemp2 = sTemp2.substring(iEndOfNumber);
-      // System.OUT.println("DEBUG: dE/dx " + tmp);
-      try {
-        final double dNumber = Double.parseDouble(sTemp);
-        daGradient[0][i] = dNumber;
-      } catch (Exception e) {
-        throw new CastException(e);
-      }
-      // second value: dE/dy
-      sTemp2 = sTemp2.trim();
-      iEndOfNumber = sTemp2.indexOf(" ");
-      sTemp = sTemp2.substring(0, iEndOfNumber);
-      sTemp2 = sTemp2.substring(iEndOfNumber);
-      // System.OUT.println("DEBUG: dE/dy " + tmp);
-      try {
-        final double dNumber = Double.parseDouble(sTemp);
-        daGradient[1][i] = dNumber;
-      } catch (Exception e) {
-        throw new CastException(e);
-      }
-      // third value: dE/dz
-      sTemp2 = sTemp2.trim();
-      // System.OUT.println("DEBUG: dE/dz " + sTemp2);
-      try {
-        final double dNumber = Double.parseDouble(sTemp2);
-        daGradient[2][i] = dNumber;
-      } catch (Exception e) {
-        throw new CastException(e);
+      // find the beginning of the gradient
+      final int gradMarker = parser.indexOf("GRADIENT FOR STATE 1.1", 0);
+      int line = (gradMarker < 0) ? 0 : parser.advanceLines(gradMarker, 4);
+
+      for (int i = 0; i < iNoOfAtoms; i++) {
+        if (line < 0) {
+          throw new CastException("Molpro output ends within the gradient block.");
+        }
+        // first token is the atomic number, then dE/dx, dE/dy, dE/dz
+        try {
+          daGradient[0][i] = parser.parseDoubleToken(line, 1);
+          daGradient[1][i] = parser.parseDoubleToken(line, 2);
+          daGradient[2][i] = parser.parseDoubleToken(line, 3);
+        } catch (NumberFormatException e) {
+          throw new CastException(e);
+        }
+        line = parser.nextLine(line);
       }
-    }
-    Gradient gradient = new Gradient();
-    gradient.setGradientTotal(daGradient);
 
-    double dEnergy = 0.0;
-    try {
-      dEnergy = SearchMolproEnergy(saData);
-    } catch (CastException e) {
-      throw e;
+      dEnergy = SearchMolproEnergy(parser);
+    } catch (IOException e) {
+      throw new InitIOException("Error in reading molpros output file.", e);
     }
+
+    final Gradient gradient = new Gradient();
+    gradient.setGradientTotal(daGradient);
     gradient.setTotalEnergy(dEnergy);
     return gradient;
   }
 
-  private static double SearchMolproEnergy(String[] saData) throws CastException {
-    int iEnergyLine = 0;
-    for (int i = 0; i < saData.length; i++) {
-      if (saData[i].contains("Variable memory released")) {
-        iEnergyLine = i - 2;
-        // the break is rather important since it can sometimes print the same line twice
-        // (whyever...)
-        break;
+  private static double SearchMolproEnergy(final MappedOutputParser parser) throws CastException {
+
+    // the first occurence is important since it can sometimes print the same line twice
+    // (whyever...)
+    final int marker = parser.indexOf("Variable memory released", 0);
+    int energyLine = 0;
+    if (marker >= 0) {
+      energyLine = parser.lineStart(marker);
+      for (int i = 0; i < 2 && energyLine >= 0; i++) {
+        energyLine = parser.previousLine(energyLine);
       }
+      energyLine = Math.max(0, energyLine);
     }
-    String sTemp = saData[iEnergyLine].trim();
 
-    double dEnergy = FixedValues.NONCONVERGEDENERGY;
-    if (!sTemp.contains(" ")) {
-      try {
-        dEnergy = Double.parseDouble(sTemp);
-      } catch (Exception e) {
-        throw new CastException("Failure in casting molpros energy.", e);
-      }
-    } else {
-      sTemp = sTemp.substring(0, sTemp.indexOf(" "));
-      try {
-        dEnergy = Double.parseDouble(sTemp);
-      } catch (Exception e) {
-        throw new CastException("Failure in casting molpros energy.", e);
-      }
+    final int tok = parser.token(energyLine, 0);
+    if (tok < 0) {
+      throw new CastException("Failure in casting molpros energy: no energy found.");
+    }
+    try {
+      return parser.parseDouble(tok);
+    } catch (NumberFormatException e) {
+      throw new CastException("Failure in casting molpros energy.", e);
     }
-    return dEnergy;
   }
 
   static CartesianCoordinates ReadXYZMolproOutput(
       String sMolproLog, int iNoOfAtoms, int iNoOfMolecules, int[] iaAtPerMol)
       throws InitIOException, CastException {
 
-    CartesianCoordinates cartes = new CartesianCoordinates(iNoOfAtoms, iNoOfMolecules, iaAtPerMol);
-    String[] saData;
-    try {
-      saData = InputPrimitives.readFileIn(sMolproLog);
-    } catch (Exception e) {
-      throw new InitIOException("Error in reading molpros log file.", e);
-    }
-    /*
-     * get the "offset" for the optimized geometry
-     */
-    int iGeomOffset = saData.length - iNoOfAtoms - 3;
-
-    /*
-     * get the energy in a.u.
-     */
-    // System.OUT.println("DEBUG: The Energy line: " + saData[iGeomOffset]);
-    String sEnergy = saData[iGeomOffset].substring(saData[iGeomOffset].indexOf("=") + 1);
-    sEnergy = sEnergy.trim();
-    // System.OUT.println("DEBUG: The Energy as String " + sEnergy);
-    double dEnergy;
-    try {
-      dEnergy = Double.parseDouble(sEnergy);
-      // System.OUT.println("DEBUG: Energy " + dEnergy);
-    } catch (Exception e) {
-      throw new CastException(e);
-    }
-    cartes.setEnergy(dEnergy);
-
-    /*
-     * get the coordinates  (molpro's output: angstrom)
-     */
-    String sTemp;
-    String sTemp2;
-    int iEndOfNumber;
-    for (int i = 1 + iGeomOffset; i < iNoOfAtoms + 1 + iGeomOffset; i++) {
-      sTemp = saData[i];
-      // System.OUT.println("DEBUG: Dealing with: " + tmp);
-      sTemp = sTemp.trim();
-      // the atomic "name"
-      sTemp2 = sTemp.substring(0, sTemp.indexOf(" "));
-      cartes.setAtom(sTemp2, i - 1 - iGeomOffset);
-      sTemp = sTemp.substring(sTemp.indexOf(" "));
-      // System.OUT.println("DEBUG: Atom " + sTemp2);
-      // the coordinates
-      double[] daCoords = new double[3];
+    final CartesianCoordinates cartes =
+        new CartesianCoordinates(iNoOfAtoms, iNoOfMolecules, iaAtPerMol);
+    try (final MappedOutputParser parser = MappedOutputParser.open(sMolproLog)) {
 
-      // x
-      sTemp = sTemp.trim();
-      iEndOfNumber = sTemp.indexOf(" ");
-      sTemp2 = sTemp.substring(0, iEndOfNumber);
-      // System.OUT.println("DEBUG: Coordinate: " + sTemp2);
-      try {
-        daCoords[0] = Double.parseDouble(sTemp2) * ANGTOBOHR;
-      } catch (Exception e) {
-        throw new CastException(e);
+      /*
+       * get the "offset" for the optimized geometry: it is the last block of the log
+       */
+      int line = parser.lastLineStart();
+      for (int i = 0; i < iNoOfAtoms + 2 && line >= 0; i++) {
+        line = parser.previousLine(line);
       }
-
-      // y
-      sTemp = sTemp.substring(sTemp.indexOf(" "));
-      sTemp = sTemp.trim();
-      iEndOfNumber = sTemp.indexOf(" ");
-      sTemp2 = sTemp.substring(0, iEndOfNumber);
-      // System.OUT.println("DEBUG: Coordinate: " + sTemp2);
-      try {
-        daCoords[1] = Double.parseDouble(sTemp2) * ANGTOBOHR;
-      } catch (Exception e) {
-        throw new CastException(e);
+      if (line < 0) {
+        throw new CastException("Molpro log too short for " + iNoOfAtoms + " atoms.");
       }
 
-      // z
-      sTemp = sTemp.substring(sTemp.indexOf(" "));
-      sTemp = sTemp.trim();
-      // System.OUT.println("DEBUG: Coordinate: " + tmp);
+      /*
+       * get the energy in a.u.
+       */
+      final int eqMarker = parser.indexOf("=", line);
       try {
-        daCoords[1] = Double.parseDouble(sTemp) * ANGTOBOHR;
-      } catch (Exception e) {
+        cartes.setEnergy(parser.parseDouble(eqMarker + 1));
+      } catch (NumberFormatException e) {
         throw new CastException(e);
       }
 
-      cartes.setXYZCoordinatesOfAtom(daCoords, i - 1 - iGeomOffset);
+      /*
+       * get the coordinates  (molpro's output: angstrom)
+       */
+      final double[] daCoords = new double[3];
+      for (int i = 0; i < iNoOfAtoms; i++) {
+        line = parser.nextLine(line);
+        if (line < 0) {
+          throw new CastException("Molpro log ends within the geometry block.");
+        }
+        // the atomic "name"
+        cartes.setAtom(parser.tokenAt(parser.token(line, 0)), i);
+        try {
+          daCoords[0] = parser.parseDoubleToken(line, 1) * ANGTOBOHR;
+          daCoords[1] = parser.parseDoubleToken(line, 2) * ANGTOBOHR;
+          daCoords[2] = parser.parseDoubleToken(line, 3) * ANGTOBOHR;
+        } catch (NumberFormatException e) {
+          throw new CastException(e);
+        }
+        cartes.setXYZCoordinatesOfAtom(daCoords, i);
+      }
+    } catch (IOException e) {
+      throw new InitIOException("Error in reading molpros log file.", e);
     }
 
     return cartes;
@@ -0,0 +1,308 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Least-squares superposition after S. K. Kearsley, Acta. Cryst., 1989, A45, 208-210: the optimal
+ * rotation is the quaternion belonging to the smallest eigenvalue of a symmetric 4x4 matrix, the
+ * eigenvalue itself is the sum of squared deviations. This solves the 4x4 eigenproblem with cyclic
+ * Jacobi rotations on a reusable workspace, i.e., without any allocation per alignment. An aligner
+ * is NOT thread-safe, use one per thread (e.g. through forThread()).
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public final class KearsleyAligner {
+
+  private static final int MAXSWEEPS = 50;
+
+  private static final ThreadLocal<KearsleyAligner> PERTHREAD =
+      ThreadLocal.withInitial(KearsleyAligner::new);
+
+  // the Kearsley matrix (diagonalized in place) and the eigenvectors, both row-major 4x4
+  private final double[] mat = new double[16];
+  private final double[] vecs = new double[16];
+  private final double[] rot = new double[9];
+  private double minEigenvalue;
+
+  public KearsleyAligner() {}
+
+  /**
+   * @return the aligner workspace of the calling thread
+   */
+  public static KearsleyAligner forThread() {
+    return PERTHREAD.get();
+  }
+
+  /**
+   * Aligns a set of coordinates onto a reference. Both are assumed to be centered already.
+   *
+   * @param ref the reference, 3 x noAtoms
+   * @param xyz the coordinates to be aligned, 3 x noAtoms. Not changed.
+   * @param noAtoms the number of atoms
+   * @param aligned the rotated coordinates, 3 x noAtoms. Changed on exit, may be xyz itself.
+   * @return the RMSD after alignment
+   */
+  public double align(
+      final double[][] ref, final double[][] xyz, final int noAtoms, final double[][] aligned) {
+
+    final double rmsd = rmsd(ref, xyz, noAtoms);
+
+    for (int i = 0; i < noAtoms; i++) {
+      final double x = xyz[0][i];
+      final double y = xyz[1][i];
+      final double z = xyz[2][i];
+      aligned[0][i] = rot[0] * x + rot[1] * y + rot[2] * z;
+      aligned[1][i] = rot[3] * x + rot[4] * y + rot[5] * z;
+      aligned[2][i] = rot[6] * x + rot[7] * y + rot[8] * z;
+    }
+
+    return rmsd;
+  }
+
+  /**
+   * Computes the RMSD after optimal alignment without rotating anything. Both sets are assumed to
+   * be centered already. The optimal rotation is available through getRotation() afterwards.
+   *
+   * @param ref the reference, 3 x noAtoms
+   * @param xyz the other coordinates, 3 x noAtoms
+   * @param noAtoms the number of atoms
+   * @return the RMSD after alignment
+   */
+  public double rmsd(final double[][] ref, final double[][] xyz, final int noAtoms) {
+    assert (noAtoms > 0);
+
+    setupKearsleyMatrix(ref, xyz, noAtoms);
+    diagonalize();
+
+    // the eigenvector to the smallest eigenvalue is the optimal quaternion
+    int min = 0;
+    for (int i = 1; i < 4; i++) {
+      if (mat[5 * i] < mat[5 * min]) {
+        min = i;
+      }
+    }
+    minEigenvalue = mat[5 * min];
+    rotationFromQuaternion(vecs[min], vecs[4 + min], vecs[8 + min], vecs[12 + min]);
+
+    // round-off may produce a tiny negative sum of squares
+    return Math.sqrt(Math.max(0.0, minEigenvalue) / noAtoms);
+  }
+
+  /**
+   * @return the rotation matrix (row-major) of the last alignment. Not a copy.
+   */
+  public double[] getRotation() {
+    return rot;
+  }
+
+  /**
+   * Aligns many sets of coordinates onto one reference, in parallel with one workspace per thread.
+   * All sets are assumed to be centered already.
+   *
+   * @param ref the reference, 3 x noAtoms
+   * @param others the coordinates to be aligned, each 3 x noAtoms. Not changed.
+   * @param noAtoms the number of atoms
+   * @param aligned where to put the rotated coordinates, may be null if only the RMSDs are of
+   *     interest
+   * @return the RMSDs after alignment, in the order of others
+   */
+  public static double[] alignAll(
+      final double[][] ref,
+      final List<double[][]> others,
+      final int noAtoms,
+      final List<double[][]> aligned) {
+
+    assert (aligned == null || aligned.size() == others.size());
+
+    final double[] rmsds = new double[others.size()];
+    IntStream.range(0, others.size())
+        .parallel()
+        .forEach(
+            i -> {
+              final KearsleyAligner aligner = forThread();
+              rmsds[i] =
+                  (aligned == null)
+                      ? aligner.rmsd(ref, others.get(i), noAtoms)
+                      : aligner.align(ref, others.get(i), noAtoms, aligned.get(i));
+            });
+
+    return rmsds;
+  }
+
+  private void setupKearsleyMatrix(final double[][] ref, final double[][] xyz, final int noAtoms) {
+
+    final double[] refX = ref[0];
+    final double[] refY = ref[1];
+    final double[] refZ = ref[2];
+    final double[] x = xyz[0];
+    final double[] y = xyz[1];
+    final double[] z = xyz[2];
+
+    double k00 = 0.0, k01 = 0.0, k02 = 0.0, k03 = 0.0;
+    double k11 = 0.0, k12 = 0.0, k13 = 0.0;
+    double k22 = 0.0, k23 = 0.0;
+    double k33 = 0.0;
+    for (int i = 0; i < noAtoms; i++) {
+      final double dx = refX[i] - x[i];
+      final double dy = refY[i] - y[i];
+      final double dz = refZ[i] - z[i];
+      final double sx = refX[i] + x[i];
+      final double sy = refY[i] + y[i];
+      final double sz = refZ[i] + z[i];
+
+      k00 += dx * dx + dy * dy + dz * dz;
+      k01 += sy * dz - dy * sz;
+      k02 += dx * sz - sx * dz;
+      k03 += sx * dy - dx * sy;
+
+      k11 += sy * sy + sz * sz + dx * dx;
+      k12 += dx * dy - sx * sy;
+      k13 += dx * dz - sx * sz;
+
+      k22 += sx * sx + sz * sz + dy * dy;
+      k23 += dy * dz - sy * sz;
+
+      k33 += sx * sx + sy * sy + dz * dz;
+    }
+
+    mat[0] = k00;
+    mat[1] = k01;
+    mat[2] = k02;
+    mat[3] = k03;
+    mat[4] = k01;
+    mat[5] = k11;
+    mat[6] = k12;
+    mat[7] = k13;
+    mat[8] = k02;
+    mat[9] = k12;
+    mat[10] = k22;
+    mat[11] = k23;
+    mat[12] = k03;
+    mat[13] = k13;
+    mat[14] = k23;
+    mat[15] = k33;
+  }
+
+  /** Cyclic Jacobi on mat, eigenvalues end up on the diagonal and eigenvectors in vecs columns. */
+  private void diagonalize() {
+
+    for (int i = 0; i < 16; i++) {
+      vecs[i] = (i % 5 == 0) ? 1.0 : 0.0;
+    }
+
+    double scale = 0.0;
+    for (int i = 0; i < 16; i++) {
+      scale += mat[i] * mat[i];
+    }
+    final double thresh = 1e-30 * scale;
+
+    for (int sweep = 0; sweep < MAXSWEEPS; sweep++) {
+      double off = 0.0;
+      for (int p = 0; p < 3; p++) {
+        for (int q = p + 1; q < 4; q++) {
+          off += mat[4 * p + q] * mat[4 * p + q];
+        }
+      }
+      if (off <= thresh) {
+        return;
+      }
+
+      for (int p = 0; p < 3; p++) {
+        for (int q = p + 1; q < 4; q++) {
+          final double apq = mat[4 * p + q];
+          if (apq == 0.0) {
+            continue;
+          }
+          final double app = mat[5 * p];
+          final double aqq = mat[5 * q];
+          final double theta = (aqq - app) / (2.0 * apq);
+          final double t =
+              Math.signum(theta) / (Math.abs(theta) + Math.sqrt(theta * theta + 1.0))
+                  + ((theta == 0.0) ? 1.0 : 0.0);
+          final double c = 1.0 / Math.sqrt(t * t + 1.0);
+          final double s = t * c;
+
+          // A' = J^T A J for the rotation in the (p,q) plane
+          for (int k = 0; k < 4; k++) {
+            final double akp = mat[4 * k + p];
+            final double akq = mat[4 * k + q];
+            mat[4 * k + p] = c * akp - s * akq;
+            mat[4 * k + q] = s * akp + c * akq;
+          }
+          for (int k = 0; k < 4; k++) {
+            final double apk = mat[4 * p + k];
+            final double aqk = mat[4 * q + k];
+            mat[4 * p + k] = c * apk - s * aqk;
+            mat[4 * q + k] = s * apk + c * aqk;
+          }
+          for (int k = 0; k < 4; k++) {
+            final double vkp = vecs[4 * k + p];
+            final double vkq = vecs[4 * k + q];
+            vecs[4 * k + p] = c * vkp - s * vkq;
+            vecs[4 * k + q] = s * vkp + c * vkq;
+          }
+        }
+      }
+    }
+
+    System.err.println("WARNING: Jacobi diagonalization of Kearsley matrix not fully converged.");
+  }
+
+  private void rotationFromQuaternion(
+      final double q1, final double q2, final double q3, final double q4) {
+
+    // normalize, Jacobi rotations keep it normalized up to round-off only
+    final double norm = q1 * q1 + q2 * q2 + q3 * q3 + q4 * q4;
+    final double n = (norm > 0.0) ? 1.0 / norm : 1.0;
+
+    rot[0] = (q1 * q1 + q2 * q2 - q3 * q3 - q4 * q4) * n;
+    rot[1] = 2 * (q2 * q3 + q1 * q4) * n;
+    rot[2] = 2 * (q2 * q4 - q1 * q3) * n;
+
+    rot[3] = 2 * (q2 * q3 - q1 * q4) * n;
+    rot[4] = (q1 * q1 + q3 * q3 - q2 * q2 - q4 * q4) * n;
+    rot[5] = 2 * (q3 * q4 + q1 * q2) * n;
+
+    rot[6] = 2 * (q2 * q4 + q1 * q3) * n;
+    rot[7] = 2 * (q3 * q4 - q1 * q2) * n;
+    rot[8] = (q1 * q1 + q4 * q4 - q2 * q2 - q3 * q3) * n;
+  }
+}
@@ -38,6 +38,7 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 */
 package org.ogolem.core;
 
+import java.util.Arrays;
 import jdk.incubator.vector.DoubleVector;
 import jdk.incubator.vector.VectorOperators;
 import jdk.incubator.vector.VectorSpecies;
@@ -48,9 +49,9 @@ import jdk.incubator.vector.VectorSpecies;
  * the Backend interface, it depends on a 1D array of coordinates for calculation.
  *
  * @author Johannes Dieterich
- * @version 2021-04-22
+ * @version 2026-10-18
  */
-public class LennardJonesFF implements CartesianFullBackend {
+public class LennardJonesFF implements IncrementalEnergyBackend {
 
   // the ID
   private static final long serialVersionUID = (long) 20210422;
@@ -221,6 +222,84 @@ public class LennardJonesFF implements CartesianFullBackend {
     return dPotEnergyAdded;
   }
 
+  @Override
+  public double subsetEnergy(
+      final double[] xyz1D,
+      final int[] subset,
+      final String[] saAtomTypes,
+      final short[] atomNos,
+      final int[] atsPerMol,
+      final int iNoOfAtoms,
+      final BondInfo bonds,
+      final boolean hasRigidEnv) {
+
+    // the Lennard-Jones parameters
+    final double d4Epsilon;
+    final double dSigma;
+    if (Double.isNaN(eps)) {
+      d4Epsilon = 4.0 * AtomicProperties.giveLennardJonesEpsilon(saAtomTypes[0]);
+      dSigma = AtomicProperties.giveLennardJonesSigma(saAtomTypes[0]);
+      if (cache) {
+        eps = d4Epsilon;
+        sig = dSigma;
+      }
+    } else {
+      d4Epsilon = eps;
+      dSigma = sig;
+    }
+    final double dSigmaSq = dSigma * dSigma;
+
+    // the cutoff distance
+    final double dSeam = 0.64 * dSigma;
+    final double dSeamSquared = dSeam * dSeam;
+
+    // more constants... needed for cutting off the potential
+    final double t = 1.0 / 0.64;
+    final double tSq = t * t;
+    final double t6 = tSq * tSq * tSq;
+    final double t12 = t6 * t6;
+    final double dConst1 = (4.0 * (t12 - t6) - 10000.0) / dSeam;
+    final double dConst2 = 10000.0;
+
+    int lastOffset = 0;
+    for (int i = 0; i < atsPerMol.length - 1; i++) {
+      lastOffset += atsPerMol[i];
+    }
+
+    final int firstLoopAtomNo = (hasRigidEnv) ? lastOffset - 1 : iNoOfAtoms - 1;
+
+    double energy = 0.0;
+    for (final int a : subset) {
+      final double x0 = xyz1D[a];
+      final double y0 = xyz1D[a + iNoOfAtoms];
+      final double z0 = xyz1D[a + 2 * iNoOfAtoms];
+      for (int b = 0; b < iNoOfAtoms; b++) {
+        if (b == a || (b < a && Arrays.binarySearch(subset, b) >= 0)) {
+          continue;
+        } // self or pair within the subset already counted
+        final int i = Math.min(a, b);
+        if (i >= firstLoopAtomNo || atomNos[i] == 0) {
+          continue;
+        } // not counted in energyCalculation() either
+
+        final double dDistX = x0 - xyz1D[b];
+        final double dDistY = y0 - xyz1D[b + iNoOfAtoms];
+        final double dDistZ = z0 - xyz1D[b + 2 * iNoOfAtoms];
+        final double dDistSquared = dDistX * dDistX + dDistY * dDistY + dDistZ * dDistZ;
+        if (dDistSquared > dSeamSquared) {
+          final double dInvRPow2 = dSigmaSq / dDistSquared;
+          final double dInvRPow6 = dInvRPow2 * dInvRPow2 * dInvRPow2;
+          final double dInvRPow12 = dInvRPow6 * dInvRPow6;
+          energy += d4Epsilon * (dInvRPow12 - dInvRPow6);
+        } else {
+          energy += dConst1 * Math.sqrt(dDistSquared) + dConst2;
+        }
+      }
+    }
+
+    return energy;
+  }
+
   /**
    * same as above in blue... This provides the gradient, derived with exactly the same methods as
    * above. ATTENTION: This works so far just for clusters being build from identical atom types and
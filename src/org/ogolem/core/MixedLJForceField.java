@@ -48,9 +48,9 @@ import jdk.incubator.vector.VectorSpecies;
  * combination rules.
  *
  * @author Johannes Dieterich
- * @version 2022-02-05
+ * @version 2026-10-18
  */
-public class MixedLJForceField implements CartesianFullBackend {
+public class MixedLJForceField implements IncrementalEnergyBackend {
 
   // the ID
   private static final long serialVersionUID = (long) 20210422;
@@ -243,6 +243,87 @@ public class MixedLJForceField implements CartesianFullBackend {
     return dPotEnergyAdded;
   }
 
+  @Override
+  public double subsetEnergy(
+      final double[] xyz1D,
+      final int[] subset,
+      final String[] saAtomTypes,
+      final short[] atomNos,
+      final int[] atsPerMol,
+      final int iNoOfAtoms,
+      final BondInfo bonds,
+      final boolean hasRigidEnv) {
+
+    // some cutoff constants
+    final double t1 = 1.0 / 0.64;
+    final double t1Sq = t1 * t1;
+    final double t1Hex = t1Sq * t1Sq * t1Sq;
+    final double t112 = t1Hex * t1Hex;
+
+    // get all LJ parameters in O(N)
+    if (!cache || eps == null) {
+      eps = new double[iNoOfAtoms];
+      sig = new double[iNoOfAtoms];
+      for (int i = 0; i < iNoOfAtoms; i++) {
+        if (atomNos[i] == 0) {
+          continue;
+        } // dummy
+        eps[i] = AtomicProperties.giveLennardJonesEpsilon(saAtomTypes[i]);
+        sig[i] = AtomicProperties.giveLennardJonesSigma(saAtomTypes[i]);
+      }
+    }
+
+    int lastOffset = 0;
+    for (int i = 0; i < atsPerMol.length - 1; i++) {
+      lastOffset += atsPerMol[i];
+    }
+
+    final int firstLoopAtomNo = (hasRigidEnv) ? lastOffset - 1 : iNoOfAtoms - 1;
+
+    double energy = 0.0;
+    for (final int a : subset) {
+      if (atomNos[a] == 0) {
+        continue;
+      } // dummy
+      final double dEpsilon1 = eps[a];
+      final double dSigma1 = sig[a];
+      final double x0 = xyz1D[a];
+      final double y0 = xyz1D[a + iNoOfAtoms];
+      final double z0 = xyz1D[a + 2 * iNoOfAtoms];
+      for (int b = 0; b < iNoOfAtoms; b++) {
+        if (b == a || (b < a && Arrays.binarySearch(subset, b) >= 0)) {
+          continue;
+        } // self or pair within the subset already counted
+        if (Math.min(a, b) >= firstLoopAtomNo || atomNos[b] == 0) {
+          continue;
+        } // not counted in energyCalculation() either
+
+        final double dEpsilon = Math.sqrt(dEpsilon1 * eps[b]);
+        final double dSigma = 0.5 * (dSigma1 + sig[b]);
+
+        // the cutoff distance
+        final double dSeam = 0.64 * dSigma;
+        final double dSeamSquared = dSeam * dSeam;
+
+        final double dDistX = x0 - xyz1D[b];
+        final double dDistY = y0 - xyz1D[b + iNoOfAtoms];
+        final double dDistZ = z0 - xyz1D[b + 2 * iNoOfAtoms];
+        final double dDistSquared = dDistX * dDistX + dDistY * dDistY + dDistZ * dDistZ;
+        if (dDistSquared > dSeamSquared) {
+          final double dInvRPow2 = dSigma * dSigma / dDistSquared;
+          final double dInvRPow6 = dInvRPow2 * dInvRPow2 * dInvRPow2;
+          final double dInvRPow12 = dInvRPow6 * dInvRPow6;
+          energy += 4.0 * dEpsilon * (dInvRPow12 - dInvRPow6);
+        } else {
+          final double dConst1 = (4.0 * dEpsilon * (t112 - t1Hex) - 10000.0) / dSeam;
+          energy += dConst1 * Math.sqrt(dDistSquared) + 10000.0;
+        }
+      }
+    }
+
+    return energy;
+  }
+
   /**
    * same as above in blue... This provides the gradient, derived with exactly the same methods as
    * above.
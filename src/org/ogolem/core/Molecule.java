@@ -49,8 +49,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This describes a full molecules consisting of atoms and further information.
+ * Copies share all static data (atom types and numbers, charges, spins, degrees of freedom,
+ * constraints) with their original. The reference coordinates and the z-matrix are shared as
+ * well until either side writes them (copy-on-write).
  * @author Johannes Dieterich
- * @version 2020-04-29
+ * @version 2026-10-18
  */
 public class Molecule extends ContinuousProblem<Double> {
 
@@ -87,6 +90,9 @@ public class Molecule extends ContinuousProblem<Double> {
 
     // z matrix, just populated for a flexible molecule, otherwise null
     private ZMatrix zmat;
+    
+    // whether refXYZ and zmat may be referenced by another molecule as well and must be copied before writing
+    private boolean coordsShared = false;
 
     // the number of atoms
     private int noOfAtoms;
@@ -125,6 +131,7 @@ public class Molecule extends ContinuousProblem<Double> {
         this.extOrient = mc.externalOrient;
         this.atomTypes = mc.atomTypes;
         this.refXYZ = mc.refXYZ;
+        this.coordsShared = true; // still owned by the configuration
         if(mc.atomNumbers == null){
             // recalc always
             this.atomNumbers = null;
@@ -168,27 +175,22 @@ public class Molecule extends ContinuousProblem<Double> {
         this.isConstrained = original.isConstrained;
         this.extCOM = original.extCOM.clone();
         this.extOrient = original.extOrient.clone();
-        this.atomTypes = original.atomTypes.clone();
-        this.refXYZ = new double[3][this.noOfAtoms];
-        System.arraycopy(original.refXYZ[0], 0, this.refXYZ[0], 0, this.noOfAtoms);
-        System.arraycopy(original.refXYZ[1], 0, this.refXYZ[1], 0, this.noOfAtoms);
-        System.arraycopy(original.refXYZ[2], 0, this.refXYZ[2], 0, this.noOfAtoms);
-        if(original.atomNumbers == null){
-            // recalc always
-            this.atomNumbers = null;
-        } else{
-            assert(original.atomNumbers.length == original.noOfAtoms);
-            this.atomNumbers = original.atomNumbers.clone();
-        }
-        this.charges = original.charges.clone();
-        this.spins = original.spins.clone();
+        // never written in place, hence shared
+        this.atomTypes = original.atomTypes;
+        this.atomNumbers = original.atomNumbers;
+        this.charges = original.charges;
+        this.spins = original.spins;
         this.energy = original.energy;
+        // copy-on-write for both sides
+        this.refXYZ = original.refXYZ;
+        this.coordsShared = true;
+        original.coordsShared = true;
         if (isFlexy) {
-            this.zmat = new ZMatrix(original.zmat);
+            this.zmat = original.zmat;
             if(original.dofs == null){
                 System.out.println("FOUND ONE!!");
             }
-            this.dofs = original.dofs.clone();
+            this.dofs = original.dofs;
         }
         if(isConstrained){
             this.constraints = original.constraints;
@@ -262,13 +264,38 @@ public class Molecule extends ContinuousProblem<Double> {
     
     /**
      * Returns the reference set of cartesian coordinates for this molecule as
-     * an xyz[3][noAtoms] field. Be careful!
+     * an xyz[3][noAtoms] field. Be careful! Writes to it go into this molecule.
      * @return the reference cartesians
      */
     double[][] getReferenceCartesians(){
+        ownCoords(true);
+        return refXYZ;
+    }
+    
+    /**
+     * Returns the reference set of cartesian coordinates for this molecule as
+     * an xyz[3][noAtoms] field without unsharing it. Must NOT be modified.
+     * @return the reference cartesians, read-only
+     */
+    double[][] getReferenceCartesiansReadOnly(){
         return refXYZ;
     }
     
+    /**
+     * Makes sure this molecule exclusively owns its reference coordinates and z-matrix.
+     * @param keepContents whether the current coordinates need to be copied over or will be overwritten anyways
+     */
+    private void ownCoords(final boolean keepContents){
+        if(!coordsShared) {return;}
+        final double[][] xyz = new double[3][];
+        for(int i = 0; i < 3; i++){
+            xyz[i] = (keepContents) ? refXYZ[i].clone() : new double[noOfAtoms];
+        }
+        refXYZ = xyz;
+        if(zmat != null) {zmat = new ZMatrix(zmat);}
+        coordsShared = false;
+    }
+    
     public CartesianCoordinates getCartesians() {
         return CoordTranslation.moleculeToCartesian(this, true);
     }
@@ -324,6 +351,7 @@ public class Molecule extends ContinuousProblem<Double> {
         assert(xyz[1].length == noOfAtoms);
         assert(xyz[2].length == noOfAtoms);
         
+        ownCoords(false);
         System.arraycopy(xyz[0], 0, refXYZ[0], 0, noOfAtoms);
         System.arraycopy(xyz[1], 0, refXYZ[1], 0, noOfAtoms);
         System.arraycopy(xyz[2], 0, refXYZ[2], 0, noOfAtoms);
@@ -908,6 +936,7 @@ public class Molecule extends ContinuousProblem<Double> {
         assert(refXYZ.length == 3);
         assert(refXYZ[0].length == noOfAtoms);
         
+        ownCoords(true);
         double denominator = 0.0;
         for (int j = 0; j < 3; j++) {
             for (int i = 0; i < noOfAtoms; i++) {
@@ -1008,6 +1037,7 @@ public class Molecule extends ContinuousProblem<Double> {
         extOrient[2] = 0.0;
             
         // first copy the non-COM'd coordinates in
+        ownCoords(false);
         System.arraycopy(xyz[0], offset, refXYZ[0], 0, noOfAtoms);
         System.arraycopy(xyz[1], offset, refXYZ[1], 0, noOfAtoms);
         System.arraycopy(xyz[2], offset, refXYZ[2], 0, noOfAtoms);
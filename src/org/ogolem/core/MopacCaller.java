@@ -44,14 +44,14 @@ import static org.ogolem.core.Constants.EVTOHARTREE;
 
 import java.io.IOException;
 import java.util.Locale;
-import org.ogolem.io.InputPrimitives;
+import org.ogolem.io.MappedOutputParser;
 import org.ogolem.io.OutputPrimitives;
 
 /**
  * This calls the program suite Mopac for local geometry optimizations.
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
 final class MopacCaller extends AbstractLocOpt {
 
@@ -193,13 +193,12 @@ final class MopacCaller extends AbstractLocOpt {
      * call mopac
      */
     try {
-      Runtime rt = Runtime.getRuntime();
       String sMOPACCmd = System.getenv("OGO_MOPACCMD");
       if (sMOPACCmd == null) {
         // default
         sMOPACCmd = "mopac";
       }
-      Process proc = rt.exec(new String[] {sMOPACCmd, sMopacBasis});
+      Process proc = ExternalProcesses.exec(new String[] {sMOPACCmd, sMopacBasis});
 
       // any error message?
       StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
@@ -274,74 +273,60 @@ final class MopacCaller extends AbstractLocOpt {
       final String[] atoms)
       throws InitIOException, CastException {
 
-    /*
-     * get the string array
-     */
-    String[] saData;
-    try {
-      saData = InputPrimitives.readFileIn(sMopacOutput);
-    } catch (Exception e) {
-      throw new InitIOException("Error in reading mopac's output file.", e);
-    }
-
-    /*
-     * get the starting point for the geometry
-     */
-    CartesianCoordinates cartesians =
+    final CartesianCoordinates cartesians =
         new CartesianCoordinates(iNoOfAtoms, iNoOfMolecules, iaNoAtsPerMol);
     cartesians.setAllAtomTypes(atoms);
-    int iGeometryStart = 0;
-    for (int i = 0; i < saData.length; i++) {
-      // search for the last occurence of "CARTESIAN COORDINATES"
-      if (saData[i].contains("CARTESIAN COORDINATES")) {
-        iGeometryStart = i + 2;
-      }
-    }
 
-    // get the actual information...
-    final double[][] xyz = cartesians.getAllXYZCoord();
-    for (int i = iGeometryStart; i < iNoOfAtoms + iGeometryStart; i++) {
+    try (final MappedOutputParser parser = MappedOutputParser.open(sMopacOutput)) {
 
-      final String[] tmp = saData[i].trim().split("\\s+");
-      final String thisAt = atoms[i - iGeometryStart];
-      if (!thisAt.equalsIgnoreCase(tmp[1])) {
-        throw new CastException(
-            "Atoms mismatch " + (i - iGeometryStart) + " " + tmp[0] + " vs " + thisAt);
+      // search backwards for the last occurence of "CARTESIAN COORDINATES"
+      final int geomMarker = parser.lastIndexOf("CARTESIAN COORDINATES");
+      if (geomMarker < 0) {
+        throw new CastException("No cartesian coordinates in mopac output.");
       }
 
-      // now the actual set of coordinates
-      for (int coord = 0; coord < 3; coord++) {
+      // get the actual information...
+      final double[][] xyz = cartesians.getAllXYZCoord();
+      int line = parser.advanceLines(geomMarker, 2);
+      for (int i = 0; i < iNoOfAtoms; i++) {
+        if (line < 0) {
+          throw new CastException("Mopac output ends within the geometry block.");
+        }
+        final int atTok = parser.token(line, 1);
+        if (!parser.tokenEqualsIgnoreCase(atTok, atoms[i])) {
+          throw new CastException(
+              "Atoms mismatch " + i + " " + parser.tokenAt(atTok) + " vs " + atoms[i]);
+        }
+
+        // now the actual set of coordinates
         try {
-          xyz[coord][i - iGeometryStart] = Double.parseDouble(tmp[coord + 2]) * ANGTOBOHR;
-        } catch (Exception e) {
+          for (int coord = 0; coord < 3; coord++) {
+            xyz[coord][i] = parser.parseDoubleToken(line, coord + 2) * ANGTOBOHR;
+          }
+        } catch (NumberFormatException e) {
           throw new CastException("Failure in mopac coordinate casting.", e);
         }
+        line = parser.nextLine(line);
       }
-    }
 
-    // get the line of the energy
-    int iEnergyLine = 0;
-    for (int i = 0; i < saData.length; i++) {
-      if (saData[i].contains("TOTAL ENERGY")) {
-        iEnergyLine = i;
+      // get the line of the energy
+      final int energyMarker = parser.lastIndexOf("TOTAL ENERGY");
+      if (energyMarker < 0) {
+        throw new CastException("No total energy in mopac output.");
       }
-    }
 
-    // actually get to the energy, the 26 is really mopac output specific.
-    final String tmp = saData[iEnergyLine].trim().substring(26).trim();
-    // get rid of the EV in the end
-    final String[] tmp2 = tmp.split("\\s+");
-    double energy = 0.0;
-    try {
-      energy = Double.parseDouble(tmp2[0]) * EVTOHARTREE;
-    } catch (Exception e) {
-      System.err.println("Problems casting the energy of the mopac output.");
-      throw new CastException(e);
+      // actually get to the energy, the 26 is really mopac output specific.
+      final int energyPos = parser.skipWhite(parser.lineStart(energyMarker)) + 26;
+      try {
+        cartesians.setEnergy(parser.parseDouble(energyPos) * EVTOHARTREE);
+      } catch (NumberFormatException e) {
+        System.err.println("Problems casting the energy of the mopac output.");
+        throw new CastException(e);
+      }
+    } catch (IOException e) {
+      throw new InitIOException("Error in reading mopac's output file.", e);
     }
 
-    // set the energy
-    cartesians.setEnergy(energy);
-
     return cartesians;
   }
 
@@ -0,0 +1,274 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.MethodHandle;
+import org.ogolem.helpers.NativeLibraries;
+
+/**
+ * Calls a force field engine written in native code through the Foreign Function &amp; Memory API.
+ * Coordinates, gradient, atom numbers, molecule sizes and energy parts live in off-heap buffers
+ * owned by this backend (one set per copy, grown on demand) and only pointers to them are passed.
+ * Compared to FFEngineWrapper, no JNI glue or JNI array marshalling is involved. The library must
+ * export
+ *
+ * <pre>
+ * double ogo_ff_energy(int64_t id, int32_t iteration, int32_t ffID, int32_t noAtoms,
+ *     int32_t noMols, const int16_t* atomNos, const int32_t* atsPerMol, const double* xyz,
+ *     double* energyParts);
+ * double ogo_ff_gradient(int64_t id, int32_t iteration, int32_t ffID, int32_t noAtoms,
+ *     int32_t noMols, const int16_t* atomNos, const int32_t* atsPerMol, const double* xyz,
+ *     double* energyParts, double* grad);
+ * </pre>
+ *
+ * with coordinates and gradient laid out as in OGOLEM: first all x, then all y, then all z. The
+ * gradient buffer is zeroed before every call.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+final class NativeFFBridge implements CartesianFullBackend {
+
+  private static final long serialVersionUID = (long) 20261018;
+
+  static final String DEFAULTLIBRARY = "ogoff";
+
+  private static final FunctionDescriptor ENERGYDESC =
+      FunctionDescriptor.of(
+          JAVA_DOUBLE,
+          JAVA_LONG,
+          JAVA_INT,
+          JAVA_INT,
+          JAVA_INT,
+          JAVA_INT,
+          ADDRESS,
+          ADDRESS,
+          ADDRESS,
+          ADDRESS);
+  private static final FunctionDescriptor GRADIENTDESC = ENERGYDESC.appendArgumentLayouts(ADDRESS);
+
+  private final String library;
+  private final int ffID;
+  private final double cutE;
+  private transient Buffers buffers;
+
+  NativeFFBridge(final String library, final int ffID, final double cutE) {
+    this.library = library;
+    this.ffID = ffID;
+    this.cutE = cutE;
+  }
+
+  @Override
+  public NativeFFBridge copy() {
+    return new NativeFFBridge(library, ffID, cutE);
+  }
+
+  @Override
+  public String getMethodID() {
+    return "native FF bridge (" + library + ", FF " + ffID + ")";
+  }
+
+  @Override
+  public double energyCalculation(
+      long lID,
+      int iIteration,
+      double[] xyz1D,
+      String[] saAtomTypes,
+      short[] atomNos,
+      int[] atsPerMol,
+      double[] energyparts,
+      int iNoOfAtoms,
+      float[] faCharges,
+      short[] spins,
+      final BondInfo bonds,
+      final boolean hasRigidEnv) {
+
+    final int noMols = atsPerMol.length;
+    final Buffers b = prepare(xyz1D, atomNos, atsPerMol, iNoOfAtoms);
+
+    double energy = FixedValues.NONCONVERGEDENERGY;
+    try {
+      energy =
+          (double)
+              b.energy.invokeExact(
+                  lID,
+                  iIteration,
+                  ffID,
+                  iNoOfAtoms,
+                  noMols,
+                  b.atomNos,
+                  b.atsPerMol,
+                  b.xyz,
+                  b.energyParts);
+      MemorySegment.copy(b.energyParts, JAVA_DOUBLE, 0, energyparts, 0, noMols);
+    } catch (Throwable t) {
+      t.printStackTrace(System.err);
+    }
+
+    if (Double.isNaN(energy)
+        || Double.isInfinite(energy)
+        || energy >= FixedValues.NONCONVERGEDENERGY
+        || energy < cutE) return FixedValues.NONCONVERGEDENERGY;
+
+    return energy;
+  }
+
+  @Override
+  public void gradientCalculation(
+      long lID,
+      int iIteration,
+      double[] xyz1D,
+      String[] saAtomTypes,
+      short[] atomNos,
+      int[] atsPerMol,
+      double[] energyparts,
+      int iNoOfAtoms,
+      float[] faCharges,
+      short[] spins,
+      final BondInfo bonds,
+      final Gradient gradient,
+      final boolean hasRigidEnv) {
+
+    final int noMols = atsPerMol.length;
+    final Buffers b = prepare(xyz1D, atomNos, atsPerMol, iNoOfAtoms);
+    b.grad.asSlice(0, 3L * iNoOfAtoms * Double.BYTES).fill((byte) 0);
+
+    double energy = FixedValues.NONCONVERGEDENERGY;
+    try {
+      energy =
+          (double)
+              b.gradient.invokeExact(
+                  lID,
+                  iIteration,
+                  ffID,
+                  iNoOfAtoms,
+                  noMols,
+                  b.atomNos,
+                  b.atsPerMol,
+                  b.xyz,
+                  b.energyParts,
+                  b.grad);
+      MemorySegment.copy(b.energyParts, JAVA_DOUBLE, 0, energyparts, 0, noMols);
+    } catch (Throwable t) {
+      t.printStackTrace(System.err);
+    }
+
+    if (Double.isNaN(energy) || Double.isInfinite(energy)) {
+      throw new RuntimeException("NaN is bad in energy of gradient in NativeFFBridge!");
+    }
+
+    final double[][] g = gradient.getTotalGradient();
+    if (energy >= FixedValues.NONCONVERGEDENERGY) {
+      energy = FixedValues.NONCONVERGEDENERGY;
+      for (int coord = 0; coord < 3; coord++) {
+        for (int i = 0; i < iNoOfAtoms; i++) {
+          g[coord][i] = 0.0;
+        }
+      }
+      gradient.setTotalEnergy(energy);
+      return;
+    } else if (energy <= cutE) {
+      System.out.println(
+          "WARNING: Unreasonable energy " + energy + " detected. Assuming problem and correcting.");
+      energy = FixedValues.NONCONVERGEDENERGY;
+    }
+
+    for (int coord = 0; coord < 3; coord++) {
+      MemorySegment.copy(
+          b.grad, JAVA_DOUBLE, (long) coord * iNoOfAtoms * Double.BYTES, g[coord], 0, iNoOfAtoms);
+      for (int i = 0; i < iNoOfAtoms; i++) {
+        if (Double.isInfinite(g[coord][i]) || Double.isNaN(g[coord][i])) {
+          throw new RuntimeException("NaN is bad in gradient in NativeFFBridge!");
+        }
+      }
+    }
+
+    gradient.setTotalEnergy(energy);
+  }
+
+  private Buffers prepare(
+      final double[] xyz1D, final short[] atomNos, final int[] atsPerMol, final int noAtoms) {
+
+    if (buffers == null || buffers.noAtoms < noAtoms || buffers.noMols < atsPerMol.length) {
+      buffers = new Buffers(library, noAtoms, atsPerMol.length);
+    }
+    final Buffers b = buffers;
+
+    MemorySegment.copy(xyz1D, 0, b.xyz, JAVA_DOUBLE, 0, 3 * noAtoms);
+    MemorySegment.copy(atomNos, 0, b.atomNos, JAVA_SHORT, 0, noAtoms);
+    MemorySegment.copy(atsPerMol, 0, b.atsPerMol, JAVA_INT, 0, atsPerMol.length);
+
+    return b;
+  }
+
+  /** The off-heap buffers and downcall handles of one backend. Released by the GC. */
+  private static final class Buffers {
+
+    final int noAtoms;
+    final int noMols;
+    final MethodHandle energy;
+    final MethodHandle gradient;
+    final MemorySegment xyz;
+    final MemorySegment grad;
+    final MemorySegment atomNos;
+    final MemorySegment atsPerMol;
+    final MemorySegment energyParts;
+
+    Buffers(final String library, final int noAtoms, final int noMols) {
+      this.noAtoms = noAtoms;
+      this.noMols = noMols;
+      this.energy = NativeLibraries.downcall(library, "ogo_ff_energy", ENERGYDESC);
+      this.gradient = NativeLibraries.downcall(library, "ogo_ff_gradient", GRADIENTDESC);
+
+      final Arena arena = Arena.ofAuto();
+      this.xyz = arena.allocate(3L * noAtoms * Double.BYTES, Double.BYTES);
+      this.grad = arena.allocate(3L * noAtoms * Double.BYTES, Double.BYTES);
+      this.atomNos = arena.allocate((long) noAtoms * Short.BYTES, Short.BYTES);
+      this.atsPerMol = arena.allocate((long) noMols * Integer.BYTES, Integer.BYTES);
+      this.energyParts = arena.allocate((long) noMols * Double.BYTES, Double.BYTES);
+    }
+  }
+}
@@ -40,13 +40,14 @@ package org.ogolem.core;
 import org.ogolem.generic.GenericBackend;
 import org.ogolem.generic.GenericFitnessBackend;
 import org.ogolem.generic.GenericLocOpt;
+import org.ogolem.generic.stats.DetailedStatistics.Latency;
 import org.ogolem.generic.stats.GenericDetailStatistics;
 
 /**
  * An adaptor to fit the old Newton interface into the new generic world.
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
 public class NewtonAdaptor implements GenericLocOpt<Molecule, Geometry> {
 
@@ -75,6 +76,7 @@ public class NewtonAdaptor implements GenericLocOpt<Molecule, Geometry> {
   @Override
   public Geometry fitness(final Geometry individual, final boolean forceOneEval) {
 
+    final long start = GenericDetailStatistics.startTimer();
     if (forceOneEval) {
 
       GenericDetailStatistics.incrementFitnessEvals();
@@ -106,13 +108,17 @@ public class NewtonAdaptor implements GenericLocOpt<Molecule, Geometry> {
               individual.getBondInfo(),
               cartes.containedEnvType() == CartesianCoordinates.ENVTYPE.RIGID);
       individual.setFitness(e);
+      GenericDetailStatistics.recordLatency(Latency.FITNESS, start);
 
       return individual;
     }
 
     GenericDetailStatistics.incrementLocalOpts();
 
-    return newton.localOptimization(individual);
+    final Geometry opt = newton.localOptimization(individual);
+    GenericDetailStatistics.recordLatency(Latency.LOCALOPT, start);
+
+    return opt;
   }
 
   @Override
@@ -47,10 +47,14 @@ import org.ogolem.random.RandomUtils;
 
 /**
  * This is a an "experienced guess" algorithm. Since we know from the 3D knappsack problem that one
- * should arrange "big" molecules first to have an optimal packing, we do exactly this.
+ * should arrange "big" molecules first to have an optimal packing, we do exactly this. Molecules
+ * are placed one by one, every random placement is only checked against the neighbors of the
+ * already placed atoms in an incrementally built spatial hash (pairwise criterion with the blown
+ * radii for both collisions and dissociation), which keeps the packing cost close to linear in the
+ * cluster size. The configured collision and dissociation detection engines are hence not used.
  *
  * @author Johannes Dieterich
- * @version 2020-12-30
+ * @version 2026-10-18
  */
 public class NorwayGeometryMutation implements GenericMutation<Molecule, Geometry> {
 
@@ -59,7 +63,7 @@ public class NorwayGeometryMutation implements GenericMutation<Molecule, Geometr
     THREED
   };
 
-  private static final long serialVersionUID = (long) 20200809;
+  private static final long serialVersionUID = (long) 20261018;
   private static final boolean DEBUG = false;
 
   private static final int FAILEDATTEMPTSTOINCR = 500;
@@ -74,34 +78,22 @@ public class NorwayGeometryMutation implements GenericMutation<Molecule, Geometr
   };
 
   private final Lottery random = Lottery.getInstance();
-  private final CollisionDetection colldetect;
   private final double blowColl;
   private final double blowDiss;
-  private final DissociationDetection.DDTYPE whichDissDetect;
   private final MUTMODE mode;
   private final PACKDIM packdim;
 
   // TODO explicit DoF are not initialized
 
   public NorwayGeometryMutation(
-      final PACKDIM packdim,
-      final CollisionDetection.CDTYPE whichCollDetect,
-      final double blowColl,
-      final double blowDiss,
-      final DissociationDetection.DDTYPE whichDissDetect,
-      final MUTMODE mode) {
+      final PACKDIM packdim, final double blowColl, final double blowDiss, final MUTMODE mode) {
 
     assert (blowColl >= 0.0);
     assert (blowDiss >= 0.0);
-    assert (blowDiss >= blowColl);
-    assert (whichCollDetect != null);
-    assert (whichDissDetect != null);
     assert (mode != null);
 
-    this.colldetect = new CollisionDetection(whichCollDetect);
     this.blowColl = blowColl;
     this.blowDiss = blowDiss;
-    this.whichDissDetect = whichDissDetect;
     this.mode = mode;
     this.packdim = packdim;
   }
@@ -109,8 +101,6 @@ public class NorwayGeometryMutation implements GenericMutation<Molecule, Geometr
   NorwayGeometryMutation(final NorwayGeometryMutation orig) {
     this.blowColl = orig.blowColl;
     this.blowDiss = orig.blowDiss;
-    this.colldetect = orig.colldetect.copy();
-    this.whichDissDetect = orig.whichDissDetect;
     this.mode = orig.mode;
     this.packdim = orig.packdim;
   }
@@ -181,96 +171,51 @@ public class NorwayGeometryMutation implements GenericMutation<Molecule, Geometr
 
     assert (gc.geomMCs.size() == 1); // just to make sure...
 
-    // boolean for emergency exit
-    boolean hasEmergency = false;
+    // atomic radii per molecule and the largest one, the latter sizes the cells of the hash
+    final double[][] radii = new double[allMCs.size()][];
+    double maxRadius = 0.0;
+    int totAtoms = 0;
+    for (int i = 0; i < allMCs.size(); i++) {
+      final MoleculeConfig mc = allMCs.get(i);
+      radii[i] = new double[mc.noOfAtoms];
+      for (int j = 0; j < mc.noOfAtoms; j++) {
+        radii[i][j] = AtomicProperties.giveRadius(mc.atomTypes[j]);
+        maxRadius = Math.max(maxRadius, radii[i][j]);
+      }
+      totAtoms += mc.noOfAtoms;
+    }
 
-    // check the box size
-    double[] cellSize = returnInitialBoxSize(mutated.getCartesians());
+    // all atoms placed so far, only new candidates are tested against their neighbors in here
+    final NorwayPackingHash placed = new NorwayPackingHash(blowColl, blowDiss, maxRadius, totAtoms);
+    final Molecule first = new Molecule(gc.geomMCs.get(0));
+    placed.add(first.giveRotTransCartesians(), radii[order.get(0)], first.getNumberOfAtoms());
 
-    // get the collision info object
-    // XXX although of course only a single evaluation makes sense, this is somewhat unsafe...
-    final CollisionInfo collInfo = new SingleCollisionInfo();
+    // check the box size
+    double[] cellSize = returnInitialBoxSize(placed);
 
     /*
      * loop over all molecules
      */
     final double[] rndCOM = new double[3];
-    int noAtoms = gc.geomMCs.get(0).noOfAtoms;
-    int[] atsPerMol = new int[] {noAtoms};
     for (int molCounter = 1; molCounter < orig.getNumberOfIndieParticles(); molCounter++) {
 
       gc.noOfParticles++;
-      final int wherePlaced = place(whereIsWhat, allMCs, order.get(molCounter), gc);
+      final int molID = order.get(molCounter);
+      final int wherePlaced = place(whereIsWhat, allMCs, molID, gc);
 
       assert (gc.noOfParticles == gc.geomMCs.size());
 
-      final int atsThisMol = gc.geomMCs.get(wherePlaced).noOfAtoms;
-      final int offsetNoAtoms = noAtoms;
-      noAtoms += atsThisMol;
-
-      int jumpIndex = 0;
-      final int[] newAtsPerMol = new int[molCounter + 1];
-      for (int x = 0; x < wherePlaced; x++) {
-        newAtsPerMol[x] = atsPerMol[x];
-        jumpIndex += atsPerMol[x];
-      }
-      newAtsPerMol[wherePlaced] = atsThisMol;
-      for (int x = wherePlaced + 1; x < molCounter; x++) {
-        newAtsPerMol[x] = atsPerMol[x - 1];
-      }
-      atsPerMol = newAtsPerMol;
+      final MoleculeConfig mc = gc.geomMCs.get(wherePlaced);
+      final double[] molRadii = radii[molID];
+      final int atsThisMol = mc.noOfAtoms;
 
       // put it somewhere in space with some random orientation
       int countFailedAtt = 0;
       int countTotalFailed = 0;
       int countResets = 0;
-      int countIters = 0;
-
-      // prepare a cartesian as cache, add the molecular data that does not change by altering the
-      // Euler/COM
-      final CartesianCoordinates cartesCache =
-          new CartesianCoordinates(noAtoms, molCounter + 1, atsPerMol);
-      final double[][] xyz = cartesCache.getAllXYZCoord();
-      final String[] atoms = cartesCache.getAllAtomTypes();
-      int off = 0;
-      for (int x = 0; x < molCounter + 1; x++) {
-        if (x == wherePlaced) {
-          final MoleculeConfig mc = gc.geomMCs.get(x);
-          final int noMolAts = mc.noOfAtoms;
-          System.arraycopy(mc.atomTypes, 0, atoms, off, noMolAts);
-          off += noMolAts;
-          continue;
-        }
-        final Molecule mol = new Molecule(gc.geomMCs.get(x));
-        final double[][] molXYZ = mol.giveRotTransCartesians();
-        final String[] molAtoms = mol.getAtomTypes();
-        final int noMolAts = mol.getNumberOfAtoms();
-        System.arraycopy(molXYZ[0], 0, xyz[0], off, noMolAts);
-        System.arraycopy(molXYZ[1], 0, xyz[1], off, noMolAts);
-        System.arraycopy(molXYZ[2], 0, xyz[2], off, noMolAts);
-
-        System.arraycopy(molAtoms, 0, atoms, off, noMolAts);
-
-        off += noMolAts;
-      }
-
-      // to make sure as we cannot be sure that the MCs contain the atom numbers yet
-      cartesCache.recalcAtomNumbersForced();
-
-      collInfo.resizeDistsAndClearState(noAtoms);
-
-      if (DEBUG) {
-        final List<String> bondInfo = mutated.getBondInfo().translateToInput();
-        System.out.println("BondInfo coming");
-        bondInfo.forEach(
-            (s) -> {
-              System.out.println(s);
-            });
-      }
 
       final double[][] rotResult = new double[3][atsThisMol];
-      while (!hasEmergency) {
-        countIters++;
+      while (true) {
 
         if (countTotalFailed >= TRIESBEFORERESET) {
           System.err.println(
@@ -289,18 +234,8 @@ public class NorwayGeometryMutation implements GenericMutation<Molecule, Geometr
             break;
           }
 
-          // task: figure out the cell size w/o considering the location of the last added molecule
-          // also, we KNOW that there is one molecule close to or in 0/0/0
-          // so, set the coordinates of the last mol in our cache cartesian to that value
-          for (int coord = 0; coord < 3; coord++) {
-            for (int at = jumpIndex; at < jumpIndex + atsThisMol; at++) {
-              xyz[coord][at] = 0.0;
-            }
-          }
-
-          // we also know, that below routine does not actually do anything but looping over the
-          // coordinates
-          cellSize = returnInitialBoxSize(cartesCache);
+          // figure out the cell size w/o considering the location of the last added molecule
+          cellSize = returnInitialBoxSize(placed);
 
           // reset counters
           countFailedAtt = 0;
@@ -308,7 +243,7 @@ public class NorwayGeometryMutation implements GenericMutation<Molecule, Geometr
         }
 
         // set a random orientation
-        RandomUtils.randomEulers(gc.geomMCs.get(wherePlaced).externalOrient);
+        RandomUtils.randomEulers(mc.externalOrient);
 
         final int end = (packdim == PACKDIM.THREED) ? 3 : 2;
         for (int j = 0; j < end; j++) {
@@ -321,7 +256,7 @@ public class NorwayGeometryMutation implements GenericMutation<Molecule, Geometr
         }
 
         // set the COM in
-        final double[] extCOM = gc.geomMCs.get(wherePlaced).externalCOM;
+        final double[] extCOM = mc.externalCOM;
         extCOM[0] = rndCOM[0];
         extCOM[1] = rndCOM[1];
         extCOM[2] =
@@ -329,49 +264,22 @@ public class NorwayGeometryMutation implements GenericMutation<Molecule, Geometr
                 ? rndCOM[2]
                 : 0.0; /* keep it in x-y plane if not packing 3D */
 
-        // get the cartesian of this mol and put it into the cache object
-        final Molecule mol = new Molecule(gc.geomMCs.get(wherePlaced));
+        // get the cartesian of this mol
+        final Molecule mol = new Molecule(mc);
         mol.giveRotTransCartesians(rotResult);
-        final int noMolAts = mol.getNumberOfAtoms();
-        System.arraycopy(rotResult[0], 0, xyz[0], jumpIndex, noMolAts);
-        System.arraycopy(rotResult[1], 0, xyz[1], jumpIndex, noMolAts);
-        System.arraycopy(rotResult[2], 0, xyz[2], jumpIndex, noMolAts);
-
-        // collision and dissociation detection
-        final boolean hasCollision =
-            colldetect.checkOnlyForCollision(
-                cartesCache, blowColl, mutated.getBondInfo(), offsetNoAtoms, noAtoms);
-        if (!hasCollision) {
-
-          // to get the full pairwise distances needed for DD
-          collInfo.resizeDistsAndClearState(noAtoms);
-          colldetect.checkForCollision(cartesCache, blowColl, mutated.getBondInfo(), collInfo);
 
+        // collision and dissociation detection against the neighbors only
+        final int status = placed.test(rotResult, molRadii, atsThisMol);
+        if (status == NorwayPackingHash.FREE) {
+          // we found a geometry
           if (DEBUG) {
-            System.out.println("DEBUG: NO collision detected.");
+            System.out.println("DEBUG: NO collision and NO dissociation detected.");
           }
-          // do a dissociation detection
-          final boolean hasDissociation =
-              DissociationDetection.checkForDissociation(
-                  collInfo.getPairWiseDistances(),
-                  cartesCache.getAllAtomTypes(),
-                  cartesCache.getAllAtomNumbers(),
-                  blowDiss,
-                  whichDissDetect);
-
-          if (!hasDissociation) {
-            // we found a geometry
-            if (DEBUG) {
-              System.out.println("DEBUG: NO Dissociation detected.");
-            }
-            countFailedAtt = 0;
-            countIters = 0;
-            break;
-          } else {
-            countTotalFailed++;
-            if (DEBUG) {
-              System.out.println("DEBUG: Dissociation detected.");
-            }
+          break;
+        } else if (status == NorwayPackingHash.DETACHED) {
+          countTotalFailed++;
+          if (DEBUG) {
+            System.out.println("DEBUG: Dissociation detected.");
           }
         } else {
           // for incrementing the cell size (if needed)
@@ -379,18 +287,6 @@ public class NorwayGeometryMutation implements GenericMutation<Molecule, Geometr
           countTotalFailed++;
           if (DEBUG) {
             System.out.println("DEBUG: At least one collision detected.");
-            collInfo.resizeDistsAndClearState(noAtoms);
-            colldetect.checkForCollision(cartesCache, blowColl, mutated.getBondInfo(), collInfo);
-            final List<CollisionInfo.Collision> colls = collInfo.getCollisions();
-            System.out.println("Colls length " + colls.size());
-            colls.forEach(
-                (coll) -> {
-                  System.out.println(
-                      "DEBUG: Collision detected between "
-                          + coll.getAtomOne()
-                          + " and "
-                          + coll.getAtomTwo());
-                });
           }
         }
 
@@ -413,27 +309,13 @@ public class NorwayGeometryMutation implements GenericMutation<Molecule, Geometr
           }
           countFailedAtt = 0;
         }
-
-        /*if(countIters >= FixedValues.MAXTOEMERGENCY){
-            System.err.println("WARNING: Emergency caused in norway.");
-            hasEmergency = true;
-            break;
-        }*/
       }
 
-      /*if(hasEmergency){
-          break;
-      }*/
-
-      // we should really hand the packed geometries back...
-      mutated = new Geometry(gc);
+      placed.add(rotResult, molRadii, atsThisMol);
     }
 
-    /*if(hasEmergency){
-        // return a null'd set of geometries
-        System.out.println("WARNING: Noticing emergency in Norway packing. Bailing out. No big problem though.");
-        return orig;
-    }*/
+    // we should really hand the packed geometries back...
+    mutated = new Geometry(gc);
 
     if (orig.containsEnvironment()) {
       // the environment
@@ -456,23 +338,13 @@ public class NorwayGeometryMutation implements GenericMutation<Molecule, Geometr
     return mutated;
   }
 
-  private double[] returnInitialBoxSize(final CartesianCoordinates cartes) {
+  private double[] returnInitialBoxSize(final NorwayPackingHash placed) {
 
-    final double[][] coords = cartes.getAllXYZCoord();
     final int end = (packdim == PACKDIM.THREED) ? 3 : 2;
     final double[] box = new double[end];
 
-    // find the max/min values and round them up
-    for (int i = 0; i < end; i++) {
-      // loop over the coordinates
-      for (int j = 0; j < cartes.getNoOfAtoms(); j++) {
-        // loop over the atoms
-        final double d = Math.abs(coords[i][j]);
-        if (d > box[i]) {
-          box[i] = d;
-        }
-      }
-    }
+    // the max absolute values of the coordinates placed so far
+    System.arraycopy(placed.getExtent(), 0, box, 0, end);
 
     // add something (up to INCRBOHR bohr) on top
     for (int i = 0; i < end; i++) {
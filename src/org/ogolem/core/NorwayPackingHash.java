@@ -0,0 +1,283 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import java.util.Arrays;
+
+/**
+ * An incrementally growing spatial hash of the atoms already placed by the Norway packing. A
+ * candidate placement of the next molecule is only compared against the atoms in the 27 cells
+ * around each of its atoms instead of running collision and dissociation detection over the whole
+ * partial cluster. Cells are as long as the largest blown distance of either criterion, so this is
+ * exact: a candidate collides if any pair is closer than the blown (collision) sum of radii and is
+ * attached if any pair is within the blown (dissociation) sum of radii. As every accepted molecule
+ * is attached to the already connected partial cluster, the latter implies the packed cluster stays
+ * connected. Cells are addressed through an open-addressing table of packed cell indices, so space
+ * is unbounded and the box may grow freely. Not thread-safe.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+final class NorwayPackingHash {
+
+  static final int FREE = 0;
+  static final int COLLISION = 1;
+  static final int DETACHED = 2;
+
+  private static final long EMPTY = Long.MIN_VALUE;
+  private static final int CELLBITS = 21;
+  private static final long CELLMASK = (1L << CELLBITS) - 1;
+
+  private final double blowColl;
+  private final double blowDiss;
+  private final double invCell;
+
+  // placed atoms, structure of arrays, plus the linked list of atoms within one cell
+  private double[] xs;
+  private double[] ys;
+  private double[] zs;
+  private double[] rads;
+  private int[] next;
+  private int noAtoms = 0;
+
+  // open-addressing table: packed cell index -> first atom in that cell
+  private long[] keys;
+  private int[] heads;
+  private int noCells = 0;
+
+  private final double[] maxAbs = new double[3];
+
+  /**
+   * @param blowColl blow factor for the collision criterion
+   * @param blowDiss blow factor for the dissociation criterion
+   * @param maxRadius the largest atomic radius that will ever be added or tested
+   * @param expectedAtoms the expected number of atoms, for presizing
+   */
+  NorwayPackingHash(
+      final double blowColl,
+      final double blowDiss,
+      final double maxRadius,
+      final int expectedAtoms) {
+
+    assert (blowColl >= 0.0);
+    assert (blowDiss >= 0.0);
+    assert (maxRadius > 0.0);
+
+    this.blowColl = blowColl;
+    this.blowDiss = blowDiss;
+    // both criteria must be decidable from the 27 neighboring cells
+    this.invCell = 1.0 / (2 * Math.max(blowColl, blowDiss) * maxRadius);
+
+    final int cap = Math.max(16, expectedAtoms);
+    this.xs = new double[cap];
+    this.ys = new double[cap];
+    this.zs = new double[cap];
+    this.rads = new double[cap];
+    this.next = new int[cap];
+
+    final int tableSize = Integer.highestOneBit(Math.max(16, 2 * cap) - 1) << 1;
+    this.keys = new long[tableSize];
+    this.heads = new int[tableSize];
+    Arrays.fill(keys, EMPTY);
+  }
+
+  int getNumberOfAtoms() {
+    return noAtoms;
+  }
+
+  /**
+   * The largest absolute coordinate of all placed atoms per dimension.
+   *
+   * @return the extent, a reference, do not change
+   */
+  double[] getExtent() {
+    return maxAbs;
+  }
+
+  /**
+   * Tests a candidate placement against all placed atoms.
+   *
+   * @param xyz the Cartesian coordinates of the candidate, 3 x n
+   * @param radii the (unblown) atomic radii of the candidate
+   * @param n the number of atoms of the candidate
+   * @return COLLISION, DETACHED (no collision, but not within dissociation distance of any placed
+   *     atom) or FREE
+   */
+  int test(final double[][] xyz, final double[] radii, final int n) {
+
+    if (noAtoms == 0) {
+      return FREE;
+    }
+
+    boolean attached = false;
+    for (int i = 0; i < n; i++) {
+      final double x = xyz[0][i];
+      final double y = xyz[1][i];
+      final double z = xyz[2][i];
+      final double rad = radii[i];
+      final long cx = cellIndex(x);
+      final long cy = cellIndex(y);
+      final long cz = cellIndex(z);
+      for (long ix = cx - 1; ix <= cx + 1; ix++) {
+        for (long iy = cy - 1; iy <= cy + 1; iy++) {
+          for (long iz = cz - 1; iz <= cz + 1; iz++) {
+            for (int j = head(key(ix, iy, iz)); j >= 0; j = next[j]) {
+              final double dx = x - xs[j];
+              final double dy = y - ys[j];
+              final double dz = z - zs[j];
+              final double distSq = dx * dx + dy * dy + dz * dz;
+              final double radSum = rad + rads[j];
+              final double coll = blowColl * radSum;
+              if (distSq < coll * coll) {
+                return COLLISION;
+              }
+              final double diss = blowDiss * radSum;
+              attached |= (distSq <= diss * diss);
+            }
+          }
+        }
+      }
+    }
+
+    return (attached) ? FREE : DETACHED;
+  }
+
+  /**
+   * Adds the atoms of a (typically: successfully tested) molecule.
+   *
+   * @param xyz the Cartesian coordinates, 3 x n
+   * @param radii the (unblown) atomic radii
+   * @param n the number of atoms
+   */
+  void add(final double[][] xyz, final double[] radii, final int n) {
+
+    ensureAtomCapacity(noAtoms + n);
+    for (int i = 0; i < n; i++) {
+      final double x = xyz[0][i];
+      final double y = xyz[1][i];
+      final double z = xyz[2][i];
+      final int at = noAtoms++;
+      xs[at] = x;
+      ys[at] = y;
+      zs[at] = z;
+      rads[at] = radii[i];
+      maxAbs[0] = Math.max(maxAbs[0], Math.abs(x));
+      maxAbs[1] = Math.max(maxAbs[1], Math.abs(y));
+      maxAbs[2] = Math.max(maxAbs[2], Math.abs(z));
+
+      final int slot = slotFor(key(cellIndex(x), cellIndex(y), cellIndex(z)));
+      next[at] = heads[slot];
+      heads[slot] = at;
+    }
+  }
+
+  private long cellIndex(final double coord) {
+    return (long) Math.floor(coord * invCell);
+  }
+
+  private static long key(final long ix, final long iy, final long iz) {
+    // aliasing of far away cells only costs some extra distance computations
+    return ((ix & CELLMASK) << (2 * CELLBITS)) | ((iy & CELLMASK) << CELLBITS) | (iz & CELLMASK);
+  }
+
+  private int hash(final long key) {
+    return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & (keys.length - 1);
+  }
+
+  private int head(final long key) {
+    for (int slot = hash(key); ; slot = (slot + 1) & (keys.length - 1)) {
+      final long k = keys[slot];
+      if (k == key) {
+        return heads[slot];
+      } else if (k == EMPTY) {
+        return -1;
+      }
+    }
+  }
+
+  private int slotFor(final long key) {
+
+    if (2 * (noCells + 1) > keys.length) {
+      rehash();
+    }
+
+    int slot = hash(key);
+    while (keys[slot] != EMPTY) {
+      if (keys[slot] == key) {
+        return slot;
+      }
+      slot = (slot + 1) & (keys.length - 1);
+    }
+    keys[slot] = key;
+    heads[slot] = -1;
+    noCells++;
+
+    return slot;
+  }
+
+  private void rehash() {
+
+    final long[] oldKeys = keys;
+    final int[] oldHeads = heads;
+    keys = new long[2 * oldKeys.length];
+    heads = new int[2 * oldKeys.length];
+    Arrays.fill(keys, EMPTY);
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] == EMPTY) {
+        continue;
+      }
+      int slot = hash(oldKeys[i]);
+      while (keys[slot] != EMPTY) {
+        slot = (slot + 1) & (keys.length - 1);
+      }
+      keys[slot] = oldKeys[i];
+      heads[slot] = oldHeads[i];
+    }
+  }
+
+  private void ensureAtomCapacity(final int needed) {
+    if (needed <= xs.length) {
+      return;
+    }
+    final int cap = Math.max(needed, 2 * xs.length);
+    xs = Arrays.copyOf(xs, cap);
+    ys = Arrays.copyOf(ys, cap);
+    zs = Arrays.copyOf(zs, cap);
+    rads = Arrays.copyOf(rads, cap);
+    next = Arrays.copyOf(next, cap);
+  }
+}
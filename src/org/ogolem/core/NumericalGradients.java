@@ -45,7 +45,7 @@ import org.ogolem.helpers.Machine;
  * Gradients using numerical algorithms.
  *
  * @author Johannes Dieterich
- * @version 2020-12-30
+ * @version 2026-10-18
  */
 public class NumericalGradients {
 
@@ -72,9 +72,15 @@ public class NumericalGradients {
     final double[] gradient1D = new double[3 * noOfAtoms];
     // working copy of the coordinates
     final double[] xyzCopy = xyz.clone();
+    // pairwise backends only need the contributions of the displaced atom: O(N) per component
+    final IncrementalEnergyBackend incremental =
+        (backend instanceof IncrementalEnergyBackend inc) ? inc : null;
+    final int[] subset = new int[1];
 
     for (int i = 0; i < gradient1D.length; i++) {
 
+      subset[0] = i % noOfAtoms;
+
       // increment
       final double h =
           (xyzCopy[i] == 0.0) ? 100 * numericalPrecision : 100 * numericalPrecision * xyzCopy[i];
@@ -82,36 +88,42 @@ public class NumericalGradients {
       // first plus it
       xyzCopy[i] += h;
       final double energy1 =
-          backend.energyCalculation(
-              id,
-              iteration,
-              xyzCopy,
-              atoms,
-              atomNos,
-              atsPerMol,
-              energyparts,
-              noOfAtoms,
-              charges,
-              spins,
-              bonds,
-              hasRigidEnv);
+          (incremental != null)
+              ? incremental.subsetEnergy(
+                  xyzCopy, subset, atoms, atomNos, atsPerMol, noOfAtoms, bonds, hasRigidEnv)
+              : backend.energyCalculation(
+                  id,
+                  iteration,
+                  xyzCopy,
+                  atoms,
+                  atomNos,
+                  atsPerMol,
+                  energyparts,
+                  noOfAtoms,
+                  charges,
+                  spins,
+                  bonds,
+                  hasRigidEnv);
 
       // then minus it (there was the dH left from the step before)
       xyzCopy[i] -= 2 * h;
       final double energy2 =
-          backend.energyCalculation(
-              id,
-              iteration,
-              xyzCopy,
-              atoms,
-              atomNos,
-              atsPerMol,
-              energyparts,
-              noOfAtoms,
-              charges,
-              spins,
-              bonds,
-              hasRigidEnv);
+          (incremental != null)
+              ? incremental.subsetEnergy(
+                  xyzCopy, subset, atoms, atomNos, atsPerMol, noOfAtoms, bonds, hasRigidEnv)
+              : backend.energyCalculation(
+                  id,
+                  iteration,
+                  xyzCopy,
+                  atoms,
+                  atomNos,
+                  atsPerMol,
+                  energyparts,
+                  noOfAtoms,
+                  charges,
+                  spins,
+                  bonds,
+                  hasRigidEnv);
 
       xyzCopy[i] = xyz[i];
 
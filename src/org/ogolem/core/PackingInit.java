@@ -39,10 +39,11 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 package org.ogolem.core;
 
 /**
- * Packs the geometry for initialization.
+ * Packs the geometry for initialization. The packing brings its own pairwise collision and
+ * dissociation test, the configured engines are not used.
  *
  * @author Johannes Dieterich
- * @version 2020-08-09
+ * @version 2026-10-18
  */
 public final class PackingInit implements GeometryInitialization {
 
@@ -69,8 +70,7 @@ public final class PackingInit implements GeometryInitialization {
       final boolean molecularCD) {
 
     final NorwayGeometryMutation norway =
-        new NorwayGeometryMutation(
-            packDim, whichCollDetect, blowColl, blowDiss, whichDissocDetect, packingMode);
+        new NorwayGeometryMutation(packDim, blowColl, blowDiss, packingMode);
 
     final Geometry packed = norway.mutate(geom);
 
@@ -0,0 +1,192 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import java.io.Serializable;
+
+/**
+ * An immutable periodic cell spanned by three cell vectors (in bohr), periodic along all or only a
+ * subset of them (e.g., along a and b for a surface slab). Provides the minimum-image convention
+ * and the geometric quantities needed to set up linked-cell lists.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public final class PeriodicCell implements Serializable {
+
+  private static final long serialVersionUID = (long) 20261018;
+
+  private final double[][] cellVectors;
+  private final double[][] reciprocal;
+  private final double[] widths;
+  private final boolean[] periodic;
+
+  /**
+   * Constructs a new periodic cell.
+   *
+   * @param cellVectors the three cell vectors a, b, c as rows, in bohr. Will be copied.
+   * @param periodic whether the cell is periodic along a, b, c. Will be copied.
+   */
+  public PeriodicCell(final double[][] cellVectors, final boolean[] periodic) {
+    assert (cellVectors != null);
+    assert (cellVectors.length == 3);
+    assert (periodic != null);
+    assert (periodic.length == 3);
+
+    this.cellVectors = new double[3][];
+    for (int k = 0; k < 3; k++) {
+      assert (cellVectors[k].length == 3);
+      this.cellVectors[k] = cellVectors[k].clone();
+    }
+    this.periodic = periodic.clone();
+
+    // reciprocal vectors b_k = (a_l x a_m)/V, such that s_k = b_k . r
+    this.reciprocal = new double[3][3];
+    this.widths = new double[3];
+    final double[][] a = this.cellVectors;
+    final double volume =
+        a[0][0] * (a[1][1] * a[2][2] - a[1][2] * a[2][1])
+            - a[0][1] * (a[1][0] * a[2][2] - a[1][2] * a[2][0])
+            + a[0][2] * (a[1][0] * a[2][1] - a[1][1] * a[2][0]);
+    if (Math.abs(volume) < 1e-10) {
+      throw new IllegalArgumentException("Cell vectors are linearly dependent, volume " + volume);
+    }
+    for (int k = 0; k < 3; k++) {
+      final double[] l = a[(k + 1) % 3];
+      final double[] m = a[(k + 2) % 3];
+      reciprocal[k][0] = (l[1] * m[2] - l[2] * m[1]) / volume;
+      reciprocal[k][1] = (l[2] * m[0] - l[0] * m[2]) / volume;
+      reciprocal[k][2] = (l[0] * m[1] - l[1] * m[0]) / volume;
+      final double norm =
+          Math.sqrt(
+              reciprocal[k][0] * reciprocal[k][0]
+                  + reciprocal[k][1] * reciprocal[k][1]
+                  + reciprocal[k][2] * reciprocal[k][2]);
+      // distance between opposing faces
+      widths[k] = 1.0 / norm;
+    }
+  }
+
+  /**
+   * Parses a cell definition in Angstrom: either three slash separated box lengths for an
+   * orthorhombic cell or nine slash separated components of the a, b and c vectors.
+   *
+   * @param cell the cell definition
+   * @return the cell vectors as rows, in bohr
+   */
+  public static double[][] parseCellVectors(final String cell) {
+
+    final String[] tokens = cell.trim().split("\\/");
+    final double[][] vecs = new double[3][3];
+    if (tokens.length == 3) {
+      for (int k = 0; k < 3; k++) {
+        vecs[k][k] = Double.parseDouble(tokens[k].trim()) * Constants.ANGTOBOHR;
+      }
+    } else if (tokens.length == 9) {
+      for (int k = 0; k < 9; k++) {
+        vecs[k / 3][k % 3] = Double.parseDouble(tokens[k].trim()) * Constants.ANGTOBOHR;
+      }
+    } else {
+      throw new IllegalArgumentException(
+          "Cell definition must have three or nine components, not " + tokens.length + ".");
+    }
+
+    return vecs;
+  }
+
+  /**
+   * Computes a fractional coordinate of a cartesian position.
+   *
+   * @param k which cell vector
+   * @param x x component, in bohr
+   * @param y y component, in bohr
+   * @param z z component, in bohr
+   * @return the fractional coordinate along cell vector k, not wrapped
+   */
+  public double fractional(final int k, final double x, final double y, final double z) {
+    return reciprocal[k][0] * x + reciprocal[k][1] * y + reciprocal[k][2] * z;
+  }
+
+  /**
+   * Applies the minimum-image convention to a difference vector, in place. Only exact as long as
+   * the vector is shorter than half of the smallest periodic width.
+   *
+   * @param d the difference vector, in bohr. Will be changed on exit.
+   */
+  public void minimumImage(final double[] d) {
+
+    final double s0 =
+        (periodic[0])
+            ? Math.rint(reciprocal[0][0] * d[0] + reciprocal[0][1] * d[1] + reciprocal[0][2] * d[2])
+            : 0.0;
+    final double s1 =
+        (periodic[1])
+            ? Math.rint(reciprocal[1][0] * d[0] + reciprocal[1][1] * d[1] + reciprocal[1][2] * d[2])
+            : 0.0;
+    final double s2 =
+        (periodic[2])
+            ? Math.rint(reciprocal[2][0] * d[0] + reciprocal[2][1] * d[1] + reciprocal[2][2] * d[2])
+            : 0.0;
+
+    for (int c = 0; c < 3; c++) {
+      d[c] -= s0 * cellVectors[0][c] + s1 * cellVectors[1][c] + s2 * cellVectors[2][c];
+    }
+  }
+
+  /**
+   * @param k which cell vector
+   * @return the distance between the two faces of the cell spanned by the other two vectors
+   */
+  public double getWidth(final int k) {
+    return widths[k];
+  }
+
+  /**
+   * @param k which cell vector
+   * @return whether the cell is periodic along this vector
+   */
+  public boolean isPeriodic(final int k) {
+    return periodic[k];
+  }
+
+  /**
+   * @return the cell vectors as rows, in bohr. Not a copy, do not modify.
+   */
+  public double[][] getCellVectors() {
+    return cellVectors;
+  }
+}
@@ -0,0 +1,346 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import java.util.Arrays;
+
+/**
+ * A pairwise force field under periodic boundary conditions, for molecular crystals and surface
+ * slabs. All pairs within the cutoff are found through a linked-cell list under the minimum-image
+ * convention. Supported terms are a Lennard-Jones potential (parameters and Lorentz-Berthelot
+ * mixing as in the MixedLJForceField, truncated and shifted at the cutoff) and a real-space damped
+ * shifted force (Wolf) Coulomb sum using the atomic charges. Intramolecular pairs are excluded,
+ * i.e., for atomic clusters all pairs contribute.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class PeriodicPairForceField implements CartesianFullBackend {
+
+  private static final long serialVersionUID = (long) 20261018;
+
+  private static final double[] ERFCCOEFFS = {
+    -1.26551223,
+    1.00002368,
+    0.37409196,
+    0.09678418,
+    -0.18628806,
+    0.27886807,
+    -1.13520398,
+    1.48851587,
+    -0.82215223,
+    0.17087277
+  };
+
+  private final PeriodicCell cell;
+  private final double cutoff;
+  private final boolean useLJ;
+  private final boolean useWolf;
+  private final double alpha;
+
+  private transient CellList cells;
+
+  /**
+   * Constructs a new periodic pair force field.
+   *
+   * @param cell the periodic cell
+   * @param cutoff the cutoff radius in bohr. Must not exceed half the width of the cell along any
+   *     periodic direction.
+   * @param useLJ whether to include the Lennard-Jones term
+   * @param useWolf whether to include the Wolf-summed Coulomb term
+   * @param alpha the Wolf damping parameter in 1/bohr
+   */
+  public PeriodicPairForceField(
+      final PeriodicCell cell,
+      final double cutoff,
+      final boolean useLJ,
+      final boolean useWolf,
+      final double alpha) {
+    assert (cutoff > 0.0);
+    assert (alpha >= 0.0);
+    this.cell = cell;
+    this.cutoff = cutoff;
+    this.useLJ = useLJ;
+    this.useWolf = useWolf;
+    this.alpha = alpha;
+    // validates the cutoff against the cell
+    this.cells = new CellList(cell, cutoff);
+  }
+
+  private PeriodicPairForceField(final PeriodicPairForceField orig) {
+    this.cell = orig.cell;
+    this.cutoff = orig.cutoff;
+    this.useLJ = orig.useLJ;
+    this.useWolf = orig.useWolf;
+    this.alpha = orig.alpha;
+  }
+
+  @Override
+  public PeriodicPairForceField copy() {
+    return new PeriodicPairForceField(this);
+  }
+
+  @Override
+  public String getMethodID() {
+    return "periodic pair force field"
+        + ((useLJ) ? ", LJ" : "")
+        + ((useWolf) ? ", Wolf Coulomb" : "")
+        + ", cutoff "
+        + cutoff;
+  }
+
+  @Override
+  public double energyCalculation(
+      final long lID,
+      final int iIteration,
+      final double[] xyz1D,
+      final String[] saAtomTypes,
+      final short[] atomNos,
+      final int[] atsPerMol,
+      final double[] energyparts,
+      final int iNoOfAtoms,
+      final float[] faCharges,
+      final short[] iaSpins,
+      final BondInfo bonds,
+      final boolean hasRigidEnv) {
+    return compute(
+        xyz1D, saAtomTypes, atomNos, atsPerMol, energyparts, iNoOfAtoms, faCharges, null);
+  }
+
+  @Override
+  public void gradientCalculation(
+      final long lID,
+      final int iIteration,
+      final double[] xyz1D,
+      final String[] saAtomTypes,
+      final short[] atomNos,
+      final int[] atsPerMol,
+      final double[] energyparts,
+      final int iNoOfAtoms,
+      final float[] faCharges,
+      final short[] iaSpins,
+      final BondInfo bonds,
+      final Gradient gradient,
+      final boolean hasRigidEnv) {
+
+    gradient.zeroGradient();
+    final double e =
+        compute(
+            xyz1D,
+            saAtomTypes,
+            atomNos,
+            atsPerMol,
+            energyparts,
+            iNoOfAtoms,
+            faCharges,
+            gradient.getTotalGradient());
+    gradient.setTotalEnergy(e);
+  }
+
+  private double compute(
+      final double[] xyz1D,
+      final String[] saAtomTypes,
+      final short[] atomNos,
+      final int[] atsPerMol,
+      final double[] energyparts,
+      final int noAtoms,
+      final float[] charges,
+      final double[][] grad) {
+
+    Arrays.fill(energyparts, 0.0);
+
+    if (cells == null) {
+      cells = new CellList(cell, cutoff);
+    }
+
+    // which molecule each atom belongs to, for the exclusions. A rigid environment is the last
+    // molecule, hence it is excluded from interacting with itself as well.
+    final int[] molOf = new int[noAtoms];
+    int off = 0;
+    for (int mol = 0; mol < atsPerMol.length; mol++) {
+      Arrays.fill(molOf, off, off + atsPerMol[mol], mol);
+      off += atsPerMol[mol];
+    }
+
+    // the LJ parameters in O(N)
+    final double[] eps = new double[noAtoms];
+    final double[] sig = new double[noAtoms];
+    if (useLJ) {
+      for (int i = 0; i < noAtoms; i++) {
+        if (atomNos[i] == 0) {
+          continue;
+        } // dummy
+        eps[i] = AtomicProperties.giveLennardJonesEpsilon(saAtomTypes[i]);
+        sig[i] = AtomicProperties.giveLennardJonesSigma(saAtomTypes[i]);
+      }
+    }
+
+    // some cutoff constants, same short range seam as in the MixedLJForceField
+    final double t1 = 1.0 / 0.64;
+    final double t1Sq = t1 * t1;
+    final double t1Hex = t1Sq * t1Sq * t1Sq;
+    final double t112 = t1Hex * t1Hex;
+    final double cutoffSq = cutoff * cutoff;
+
+    // the Wolf shifts: energy and force go to zero at the cutoff
+    final double erfcCut = erfc(alpha * cutoff);
+    final double wolfEShift = erfcCut / cutoff;
+    final double wolfFShift = erfcCut / cutoffSq - alpha * erfcDerivative(alpha * cutoff) / cutoff;
+
+    double energy = 0.0;
+    if (useWolf) {
+      // self term
+      final double self = -(0.5 * wolfEShift + alpha / Math.sqrt(Math.PI));
+      for (int i = 0; i < noAtoms; i++) {
+        final double tmp = self * charges[i] * charges[i];
+        energyparts[molOf[i]] += tmp;
+        energy += tmp;
+      }
+    }
+
+    final int noPairs = cells.build(xyz1D, noAtoms);
+    final int[] pairI = cells.getPairI();
+    final int[] pairJ = cells.getPairJ();
+    final double[] pairDX = cells.getPairDX();
+    final double[] pairDY = cells.getPairDY();
+    final double[] pairDZ = cells.getPairDZ();
+    final double[] pairDistSq = cells.getPairDistSq();
+
+    for (int p = 0; p < noPairs; p++) {
+
+      final int i = pairI[p];
+      final int j = pairJ[p];
+      if (molOf[i] == molOf[j] || atomNos[i] == 0 || atomNos[j] == 0) {
+        continue;
+      } // intramolecular or dummy
+
+      final double distSq = pairDistSq[p];
+      final double dist = Math.sqrt(distSq);
+
+      double e = 0.0;
+      double dEdR = 0.0;
+      if (useLJ) {
+        final double epsilon = Math.sqrt(eps[i] * eps[j]);
+        final double sigma = 0.5 * (sig[i] + sig[j]);
+        final double sigmaSq = sigma * sigma;
+
+        final double cutRPow2 = sigmaSq / cutoffSq;
+        final double cutRPow6 = cutRPow2 * cutRPow2 * cutRPow2;
+        final double shift = 4.0 * epsilon * (cutRPow6 * cutRPow6 - cutRPow6);
+
+        final double seam = 0.64 * sigma;
+        if (distSq > seam * seam) {
+          final double invRPow2 = sigmaSq / distSq;
+          final double invRPow6 = invRPow2 * invRPow2 * invRPow2;
+          final double invRPow12 = invRPow6 * invRPow6;
+          e += 4.0 * epsilon * (invRPow12 - invRPow6) - shift;
+          dEdR += (-48.0 * epsilon * invRPow12 + 24.0 * epsilon * invRPow6) / dist;
+        } else {
+          // too close together, we take the cutoff potential
+          final double const1 = (4.0 * epsilon * (t112 - t1Hex) - 10000.0) / seam;
+          e += const1 * dist + 10000.0 - shift;
+          dEdR += const1;
+        }
+      }
+
+      if (useWolf && charges[i] != 0.0f && charges[j] != 0.0f) {
+        final double qq = charges[i] * charges[j];
+        final double erfcR = erfc(alpha * dist);
+        final double dErfcR = erfcDerivative(alpha * dist);
+        e += qq * (erfcR / dist - wolfEShift + wolfFShift * (dist - cutoff));
+        dEdR += qq * (-erfcR / distSq + alpha * dErfcR / dist + wolfFShift);
+      }
+
+      energyparts[molOf[i]] += e;
+      energyparts[molOf[j]] += e;
+      energy += e;
+
+      if (grad != null) {
+        final double fac = dEdR / dist;
+        final double gx = fac * pairDX[p];
+        final double gy = fac * pairDY[p];
+        final double gz = fac * pairDZ[p];
+        grad[0][i] += gx;
+        grad[1][i] += gy;
+        grad[2][i] += gz;
+        grad[0][j] -= gx;
+        grad[1][j] -= gy;
+        grad[2][j] -= gz;
+      }
+    }
+
+    return energy;
+  }
+
+  /**
+   * The complementary error function, Chebyshev fit with a fractional error below 1.2e-7 (Numerical
+   * Recipes, erfcc).
+   */
+  static double erfc(final double x) {
+
+    final double z = Math.abs(x);
+    final double t = 1.0 / (1.0 + 0.5 * z);
+    double poly = ERFCCOEFFS[ERFCCOEFFS.length - 1];
+    for (int k = ERFCCOEFFS.length - 2; k >= 0; k--) {
+      poly = poly * t + ERFCCOEFFS[k];
+    }
+    final double ans = t * Math.exp(-z * z + poly);
+
+    return (x >= 0.0) ? ans : 2.0 - ans;
+  }
+
+  /**
+   * The derivative of erfc() above, i.e., of the same Chebyshev fit rather than the exact
+   * -2/sqrt(pi)*exp(-x^2). Keeps energy and gradient consistent to machine precision.
+   */
+  static double erfcDerivative(final double x) {
+
+    // erfc'(x) is even, for negative x the 2 - erfc(|x|) flips the sign twice
+    final double z = Math.abs(x);
+    final double t = 1.0 / (1.0 + 0.5 * z);
+    double poly = ERFCCOEFFS[ERFCCOEFFS.length - 1];
+    double dPoly = 0.0;
+    for (int k = ERFCCOEFFS.length - 2; k >= 0; k--) {
+      dPoly = dPoly * t + poly;
+      poly = poly * t + ERFCCOEFFS[k];
+    }
+    final double ans = t * Math.exp(-z * z + poly);
+
+    // dt/dz = -t^2/2
+    return ans * (-0.5 * t - 2.0 * z - 0.5 * t * t * dPoly);
+  }
+}
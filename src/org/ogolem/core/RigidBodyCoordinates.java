@@ -45,7 +45,7 @@ import org.ogolem.generic.GenericBackend;
  * A coordinate set for rigid body optimizations.
  *
  * @author Johannes Dieterich
- * @version 2020-12-30
+ * @version 2026-10-18
  */
 public class RigidBodyCoordinates implements CoordinateRepresentation {
 
@@ -129,7 +129,7 @@ public class RigidBodyCoordinates implements CoordinateRepresentation {
       cartes.recalcAtomNumbers();
       cartes.setAllCharges(m.getAllCharges());
       cartes.setAllSpins(m.getAllSpins());
-      cartes.setAllXYZAsCopy(m.getReferenceCartesians());
+      cartes.setAllXYZAsCopy(m.getReferenceCartesiansReadOnly());
 
       final double[] displ = cartes.calculateTheCOM(); // ideally, all zeros
       cartes.moveCoordsToCOM(); // we move these to the COM to make rotations easier and then
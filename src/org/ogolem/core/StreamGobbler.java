@@ -42,58 +42,82 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.charset.Charset;
-import java.util.LinkedList;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Used if some System calls produce either output on the command line or errors.
+ * Used if some System calls produce either output on the command line or errors. The stream is read
+ * on a virtual thread, so gobbling the output of an external program costs next to nothing on the
+ * JVM side.
  *
  * @author Johannes Dieterich
- * @version 2020-12-30
+ * @version 2026-10-18
  */
-public class StreamGobbler extends Thread {
+public class StreamGobbler implements Runnable {
+
+  /** How long getData() waits for the end of the stream, in milliseconds. */
+  private static final long MAXWAITFOREOF = 10000;
 
   private final InputStream is;
   final String type;
-  private final List<String> llData = new LinkedList<>();
+  private final List<String> llData = new ArrayList<>();
+  private Thread reader;
 
   public StreamGobbler(InputStream is, String type) {
     this.is = is;
     this.type = type;
   }
 
+  /** Starts reading the stream on a fresh virtual thread. */
+  public synchronized void start() {
+    if (reader != null) {
+      throw new IllegalStateException("Gobbler for " + type + " already started.");
+    }
+    reader = Thread.ofVirtual().name("ogolem-gobbler-" + type).start(this);
+  }
+
   @Override
   public void run() {
     try (final BufferedReader br =
-        new BufferedReader(new InputStreamReader(is, Charset.forName("UTF-8")))) {
+        new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
       String line;
-      // if(br.ready()){
       while ((line = br.readLine()) != null) {
         addToList(line);
       }
-      /*} else {
-          // else: nothing in there
-          if(DEBUG){
-              System.out.println("DEBUG: Nothing in stream " + type);
-          }
-      }*/
     } catch (IOException ioe) {
       ioe.printStackTrace(System.err);
     }
   }
 
   private void addToList(final String s) {
-    llData.add(s);
+    synchronized (llData) {
+      llData.add(s);
+    }
   }
 
+  /**
+   * Everything read so far. If the gobbler was started, waits (for a bounded time) for the stream
+   * to end first, as the process having exited does not mean its output has been read completely.
+   *
+   * @return the lines read
+   */
   public String[] getData() {
 
-    final String[] sa = new String[llData.size()];
-    for (int i = 0; i < sa.length; i++) {
-      sa[i] = llData.get(i);
+    final Thread t;
+    synchronized (this) {
+      t = reader;
+    }
+    if (t != null) {
+      try {
+        t.join(MAXWAITFOREOF);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
     }
 
-    return sa;
+    synchronized (llData) {
+      return llData.toArray(new String[0]);
+    }
   }
 }
@@ -39,8 +39,10 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 */
 package org.ogolem.core;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import org.ogolem.helpers.Tuple;
+import org.ogolem.io.MappedOutputParser;
 import org.ogolem.io.OutputPrimitives;
 
 /**
@@ -53,7 +55,7 @@ import org.ogolem.io.OutputPrimitives;
  * calling overhead is significant in comparison to the force field execution time!
  *
  * @author Johannes Dieterich, Bernd Hartke
- * @version 2021-04-19
+ * @version 2026-10-18
  */
 class TinkerCaller extends AbstractLocOpt implements CartesianFullBackend {
   // TODO delete always all files...
@@ -405,15 +407,7 @@ class TinkerCaller extends AbstractLocOpt implements CartesianFullBackend {
       throw new ConvergenceException("Tinker has a problem (local optimization).", e);
     }
 
-    if (useFileOut) {
-      try {
-        saTinkerStream = Input.ReadFile(sTinkerBasis + ".out");
-      } catch (Exception e) {
-        throw new ConvergenceException("Couldn't read out file set through fileout.", e);
-      }
-    }
-
-    if (saTinkerStream.length == 0) {
+    if (!useFileOut && saTinkerStream.length == 0) {
       System.err.println("Tinker stream does not contain any info.");
       throw new ConvergenceException();
     }
@@ -440,7 +434,17 @@ class TinkerCaller extends AbstractLocOpt implements CartesianFullBackend {
      * get the energy
      */
     double dEnergy = FixedValues.NONCONVERGEDENERGY;
-    for (int i = saTinkerStream.length - 1; i >= 0; i--) {
+    if (useFileOut) {
+      // stream the out file, we only need the last energy
+      try {
+        dEnergy = parseLastEnergy(sTinkerBasis + ".out", "Final Function Value :");
+      } catch (IOException e) {
+        throw new ConvergenceException("Couldn't read out file set through fileout.", e);
+      } catch (NumberFormatException e) {
+        throw new ConvergenceException("Failure to cast the energy of tinker.", e);
+      }
+    }
+    for (int i = saTinkerStream.length - 1; i >= 0 && !useFileOut; i--) {
       if (saTinkerStream[i].contains("Final Function Value :")) {
         final String[] sa = saTinkerStream[i].trim().split("\\s+");
         try {
@@ -638,17 +642,7 @@ class TinkerCaller extends AbstractLocOpt implements CartesianFullBackend {
       return FixedValues.NONCONVERGEDENERGY;
     }
 
-    if (useFileOut) {
-      try {
-        saTinkerStream = Input.ReadFile(sTinkerBasis + ".out");
-      } catch (Exception e) {
-        e.printStackTrace(System.err);
-        cleanUp(sTinkerBasis);
-        return FixedValues.NONCONVERGEDENERGY;
-      }
-    }
-
-    if (saTinkerStream.length == 0) {
+    if (!useFileOut && saTinkerStream.length == 0) {
       System.err.println("Tinker stream does not contain any info.");
       cleanUp(sTinkerBasis);
       return FixedValues.NONCONVERGEDENERGY;
@@ -658,7 +652,19 @@ class TinkerCaller extends AbstractLocOpt implements CartesianFullBackend {
      * get the energy
      */
     double dEnergy = FixedValues.NONCONVERGEDENERGY;
-    for (int i = saTinkerStream.length - 1; i >= 0; i--) {
+    if (useFileOut) {
+      // stream the out file, we only need the last energy
+      try {
+        dEnergy = parseLastEnergy(sTinkerBasis + ".out", "Total Potential Energy :");
+      } catch (IOException e) {
+        e.printStackTrace(System.err);
+        cleanUp(sTinkerBasis);
+        return FixedValues.NONCONVERGEDENERGY;
+      } catch (NumberFormatException e) {
+        dEnergy = FixedValues.NONCONVERGEDENERGY;
+      }
+    }
+    for (int i = saTinkerStream.length - 1; i >= 0 && !useFileOut; i--) {
       if (saTinkerStream[i].trim().startsWith("Total Potential Energy :")) {
         final String[] sa = saTinkerStream[i].trim().split("\\s+");
         try {
@@ -694,6 +700,26 @@ class TinkerCaller extends AbstractLocOpt implements CartesianFullBackend {
     return new TinkerCaller(this);
   }
 
+  /**
+   * Scans an output file backwards for the last line starting with the marker and parses the fifth
+   * token of that line as the energy (in kcal/mol).
+   *
+   * @param file the output file
+   * @param marker the marker of the energy line
+   * @return the energy in hartree, NONCONVERGEDENERGY if the marker was not found
+   * @throws IOException if the file can not be mapped
+   */
+  private static double parseLastEnergy(final String file, final String marker) throws IOException {
+
+    try (final MappedOutputParser parser = MappedOutputParser.open(file)) {
+      final int pos = parser.lastIndexOfLineStartingWith(marker);
+      if (pos < 0) {
+        return FixedValues.NONCONVERGEDENERGY;
+      }
+      return parser.parseDoubleToken(pos, 4) * Constants.KCALTOHARTREE;
+    }
+  }
+
   private static void cleanUp(final String tinkerBasis) {
     try {
       Input.RemoveTinkerFiles(tinkerBasis);
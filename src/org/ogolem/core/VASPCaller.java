@@ -47,7 +47,7 @@ import org.ogolem.io.OutputPrimitives;
  * Interface to the VASP program package. Limited to selective optimizations and cubic cells.
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
 class VASPCaller extends AbstractLocOpt {
 
@@ -295,9 +295,8 @@ class VASPCaller extends AbstractLocOpt {
         vaspCmd = "vasp";
       }
 
-      Runtime rt = Runtime.getRuntime();
       File dir = new File(folder);
-      proc = rt.exec(new String[] {vaspCmd}, null, dir);
+      proc = ExternalProcesses.exec(new String[] {vaspCmd}, null, dir);
 
       // any error message?
       StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
@@ -38,16 +38,16 @@ package org.ogolem.dimeranalyzer;
 
 import contrib.edu.princeton.eac.Grid;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import org.ogolem.core.CartesianCoordinates;
 import org.ogolem.core.Constants;
-import org.ogolem.core.CoordTranslation;
 import org.ogolem.core.Geometry;
 import org.ogolem.core.GlobalConfig;
 import org.ogolem.core.Input;
+import org.ogolem.core.KearsleyAligner;
 import org.ogolem.dimerizer.DimerizerConfig;
-import org.ogolem.helpers.Tuple;
 import org.ogolem.io.FileFilter;
 import org.ogolem.io.InputPrimitives;
 import org.ogolem.io.OutputPrimitives;
@@ -57,7 +57,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Very basic analysis of dimerizer output.
  * @author Johannes Dieterich
- * @version 2014-05-12
+ * @version 2026-10-18
  */
 public class MainDimerAnalyzer {
     
@@ -180,14 +180,19 @@ public class MainDimerAnalyzer {
     private static void tryToAppend(final CartesianCoordinates c, final List<CartesianCoordinates> cartes,
             final double rmsdCut) throws Exception {
         
-        // loop over and check for doubles
+        // since we can assume that the cartesian coordinates are in the same atom order, we should be able to use
+        // a standard Kearlsey overlap, batched: one reference versus all known ones
+        final List<double[][]> others = new ArrayList<>(cartes.size());
         for(final CartesianCoordinates c2 : cartes){
-            // since we can assume that the two cartesian coordinates are in the same atom order, we should be able to use
-            // a standard Kearlsey overlap
-            final Tuple<CartesianCoordinates, Double> tup = CoordTranslation.alignTwoCartesians(c, c2);
-            
-            // check the rmsd
-            if(tup.getObject2() < rmsdCut){
+            final CartesianCoordinates centered = new CartesianCoordinates(c2);
+            centered.moveCoordsToCOM();
+            others.add(centered.getAllXYZCoord());
+        }
+        final double[] rmsds = KearsleyAligner.alignAll(c.getAllXYZCoord(), others, c.getNoOfAtoms(), null);
+        
+        // check for doubles
+        for(final double rmsd : rmsds){
+            if(rmsd < rmsdCut){
                 return;
             }
         }
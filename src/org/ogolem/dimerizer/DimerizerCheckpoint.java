@@ -0,0 +1,211 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.dimerizer;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.ogolem.core.Geometry;
+import org.ogolem.helpers.FNV1aHash;
+import org.ogolem.io.InputPrimitives;
+import org.ogolem.io.OutputPrimitives;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only checkpoint of the finished grid points of a dimerization. Every record holds the
+ * index of the grid point and the serialized relaxed geometry, nothing if there was a collision, or
+ * a failure marker if the relaxation threw. Failed points are not restored, so a restart retries
+ * them. A record is only complete once it is fully written, so a killed run loses at most the
+ * points that were being worked on. The header holds the number of grid points and a hash of all
+ * their coordinates, a checkpoint of any other grid is discarded.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+final class DimerizerCheckpoint implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(DimerizerCheckpoint.class);
+  private static final int MAGIC = 0x0D1E5C4C;
+  private static final int HEADERLENGTH = 16;
+  private static final int NOGEOMETRY = -1;
+  private static final int FAILED = -2;
+
+  private final FileChannel channel;
+  private final DataOutputStream out;
+  private final Map<Integer, Geometry> restored = new HashMap<>();
+
+  /**
+   * Opens (and if present, restores) the checkpoint.
+   *
+   * @param file the checkpoint file
+   * @param gridPoints all grid points, in order. A checkpoint of a different grid is discarded.
+   * @throws IOException if the file cannot be opened
+   */
+  DimerizerCheckpoint(final String file, final List<double[]> gridPoints) throws IOException {
+
+    final int noOfPoints = gridPoints.size();
+    final long gridHash = gridHash(gridPoints);
+    final Path path = Paths.get(file);
+    long validEnd = 0;
+    int noFailed = 0;
+    if (Files.exists(path)) {
+      final byte[] data = Files.readAllBytes(path);
+      try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+        if (in.readInt() != MAGIC || in.readInt() != noOfPoints || in.readLong() != gridHash) {
+          log.warn("Checkpoint " + file + " is not for this grid, starting from scratch.");
+        } else {
+          validEnd = HEADERLENGTH;
+          while (true) {
+            final int index = in.readInt();
+            final int length = in.readInt();
+            if (length == FAILED) {
+              // to be recomputed
+              restored.remove(index);
+              noFailed++;
+              validEnd += 8;
+              continue;
+            }
+            Geometry geom = null;
+            if (length >= 0) {
+              final byte[] bytes = new byte[length];
+              in.readFully(bytes);
+              geom = (Geometry) InputPrimitives.readByteInput(bytes);
+            }
+            restored.put(index, geom);
+            validEnd += 8 + Math.max(length, 0);
+          }
+        }
+      } catch (EOFException e) {
+        // the end or a partial last record
+      } catch (ClassNotFoundException e) {
+        throw new IOException("Failure to restore geometry from checkpoint.", e);
+      }
+    }
+
+    this.channel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+    channel.truncate(validEnd);
+    channel.position(validEnd);
+    this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+    if (validEnd == 0) {
+      out.writeInt(MAGIC);
+      out.writeInt(noOfPoints);
+      out.writeLong(gridHash);
+      out.flush();
+    }
+
+    if (!restored.isEmpty()) {
+      log.info("Restored " + restored.size() + " grid points from checkpoint " + file);
+    }
+    if (noFailed > 0) {
+      log.info("Retrying " + noFailed + " failed grid points from checkpoint " + file);
+    }
+  }
+
+  /**
+   * @return the restored grid points, indexed by their position in the grid. The geometry is null
+   *     for a collision. Failed grid points are not included.
+   */
+  Map<Integer, Geometry> getRestored() {
+    return restored;
+  }
+
+  /**
+   * Appends one finished grid point. Not thread-safe, to be called by the merging thread only.
+   *
+   * @param index the index of the grid point
+   * @param geom the relaxed geometry, may be null
+   * @throws IOException if serializing or writing fails
+   */
+  void append(final int index, final Geometry geom) throws IOException {
+
+    final byte[] bytes = (geom == null) ? null : OutputPrimitives.writeObjToByteArray(geom);
+    out.writeInt(index);
+    out.writeInt((bytes == null) ? NOGEOMETRY : bytes.length);
+    if (bytes != null) {
+      out.write(bytes);
+    }
+    out.flush();
+  }
+
+  /**
+   * Marks one grid point as failed, it will be retried on restart. Not thread-safe, to be called by
+   * the merging thread only.
+   *
+   * @param index the index of the grid point
+   * @throws IOException if writing fails
+   */
+  void appendFailure(final int index) throws IOException {
+
+    out.writeInt(index);
+    out.writeInt(FAILED);
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+
+  /** Hashes the bit patterns of all grid point coordinates. */
+  private static long gridHash(final List<double[]> gridPoints) {
+
+    final FNV1aHash hash = new FNV1aHash();
+    for (final double[] point : gridPoints) {
+      hash.update(point.length);
+      for (final double d : point) {
+        hash.update(d);
+      }
+    }
+
+    return hash.getValue();
+  }
+}
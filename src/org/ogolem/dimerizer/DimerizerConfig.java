@@ -50,7 +50,7 @@ import org.slf4j.LoggerFactory;
  * The configuration object with dimerizer specific stuff.
  *
  * @author Johannes Dieterich
- * @version 2013-03-07
+ * @version 2026-10-18
  */
 public class DimerizerConfig {
 
@@ -59,6 +59,7 @@ public class DimerizerConfig {
   Geometry geom;
   Grid<Geometry> grid;
   Newton locopt;
+  int threads = 1;
 
   public DimerizerConfig(final String[] inputData, final GlobalConfig globConf) throws Exception {
     this(inputData, globConf, 6);
@@ -124,6 +125,11 @@ public class DimerizerConfig {
         this.grid = new Grid<>(starts, ends, space);
 
         log.info("Grid setup complete.");
+      } else if (line.startsWith("Threads=")) {
+        this.threads = Integer.parseInt(line.substring(8).trim());
+        if (threads < 1) {
+          throw new Exception("Threads= must be at least 1.");
+        }
       } else {
         throw new Exception("Unknown configuration option: " + line);
       }
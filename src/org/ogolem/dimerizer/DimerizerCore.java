@@ -40,6 +40,11 @@ package org.ogolem.dimerizer;
 import contrib.edu.princeton.eac.Grid;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.ogolem.core.CollisionDetection;
 import org.ogolem.core.CollisionDetectionEngine;
 import org.ogolem.core.Geometry;
@@ -48,19 +53,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The actual working core of the dimerizer.
+ * The actual working core of the dimerizer. Grid points are independent of each other and hence
+ * relaxed by a pool of workers, each with its own local optimization and collision detection.
+ * Results are merged into the grid (and the checkpoint) by the calling thread only. A grid point
+ * whose relaxation failed is left empty and checkpointed as failed, so a restart retries it.
  * @author Johannes Dieterich
- * @version 2020-04-29
+ * @version 2026-10-18
  */
 class DimerizerCore {
     
     private static final Logger log = LoggerFactory.getLogger(DimerizerCore.class);
     
+    /** The outcome of one grid point, the geometry is null on a collision or a failure. */
+    private record PointResult(int index, Geometry geom, boolean failed){}
+    
     static void runAllPoints(final Grid<Geometry> grid, final Geometry geom, final Newton newton,
-            final double blowFac){
+            final double blowFac, final int threads, final String checkpointFile){
     
-        final CollisionDetectionEngine cd = new CollisionDetection(CollisionDetection.CDTYPE.SIMPLEPAIRWISE);
-        
         // setup XYZ constraints on the first atom of each of the molecules.
         final Geometry work = geom.copy();
         final boolean[][] constr1 = work.getMoleculeAtPosition(0).getConstraints();
@@ -76,22 +85,68 @@ class DimerizerCore {
         
         log.info("Total number of grid points to be done " + allGridPoints.size());
         
-        long counter = 0l;
-        for(final double[] point : allGridPoints){
+        try(final DimerizerCheckpoint checkpoint = new DimerizerCheckpoint(checkpointFile, allGridPoints)){
+            
+            final Map<Integer, Geometry> restored = checkpoint.getRestored();
+            for(final Map.Entry<Integer, Geometry> entry : restored.entrySet()){
+                grid.attachToIndex(entry.getKey(), entry.getValue());
+            }
             
-            log.info("Running " + counter + " " + Arrays.toString(point));
+            // everything a worker touches is its own
+            final ThreadLocal<Newton> newtons = ThreadLocal.withInitial(newton::copy);
+            final ThreadLocal<CollisionDetectionEngine> cds = ThreadLocal.withInitial(() -> new CollisionDetection(CollisionDetection.CDTYPE.SIMPLEPAIRWISE));
+            final ThreadLocal<Geometry> works = ThreadLocal.withInitial(() -> {
+                synchronized(work){
+                    return work.copy();
+                }
+            });
             
-            final Geometry thisG = runForOne(point, work, newton, cd, blowFac, counter);
-            // put in
+            final ExecutorService exec = Executors.newFixedThreadPool(threads);
             try{
-                log.info("Trying to add " + counter);
-                grid.attachToPoint(point, thisG);
-            } catch(Exception e){
-                System.err.println("Something failed for grid point " + point[0] + "\t" + point[1]
-                    + "\t" + point[2] + "\t" + point[3] + "\t" + point[4] + "\t" + point[5]);
-                e.printStackTrace(System.err);
+                final CompletionService<PointResult> completion = new ExecutorCompletionService<>(exec);
+                int submitted = 0;
+                for(int i = 0; i < allGridPoints.size(); i++){
+                    if(restored.containsKey(i)) continue;
+                    
+                    final int index = i;
+                    final double[] point = allGridPoints.get(i);
+                    completion.submit(() -> {
+                        log.info("Running " + index + " " + Arrays.toString(point));
+                        try{
+                            final Geometry thisG = runForOne(point, works.get(), newtons.get(), cds.get(), blowFac, index);
+                            return new PointResult(index, thisG, false);
+                        } catch(Exception e){
+                            System.err.println("Something failed for grid point " + Arrays.toString(point));
+                            e.printStackTrace(System.err);
+                            return new PointResult(index, null, true);
+                        }
+                    });
+                    submitted++;
+                }
+                
+                // merge in here, one at a time
+                for(int i = 0; i < submitted; i++){
+                    final PointResult res = completion.take().get();
+                    final int index = res.index();
+                    log.info("Trying to add " + index);
+                    grid.attachToIndex(index, res.geom());
+                    try{
+                        if(res.failed()){
+                            checkpoint.appendFailure(index);
+                        } else {
+                            checkpoint.append(index, res.geom());
+                        }
+                    } catch(Exception e){
+                        System.err.println("WARNING: Failure to checkpoint grid point " + index);
+                        e.printStackTrace(System.err);
+                    }
+                }
+            } finally {
+                exec.shutdown();
             }
-            counter++;
+        } catch(Exception e){
+            System.err.println("ERROR: Failure in running the grid points.");
+            e.printStackTrace(System.err);
         }
     }
     
@@ -51,7 +51,7 @@ import org.slf4j.LoggerFactory;
 /**
  * A very basic grid search for a full 6D hypersurface of dimerization.
  * @author Johannes Dieterich
- * @version 2014-03-07
+ * @version 2026-10-18
  */
 public class MainDimerizer {
     
@@ -64,6 +64,8 @@ public class MainDimerizer {
             System.out.println(" * an ogo file for the basic stuff including a geometry containing TWO molecules, locopt etc pp");
             System.out.println(" * an dimerizing config for the actual stuff (grid/locopt/molecules)");
             System.out.println(" * the output directory");
+            System.out.println("Threads=N in the dimerizing config relaxes N grid points in parallel.");
+            System.out.println("Finished grid points are checkpointed in the output directory, rerunning continues from there.");
             System.exit(0);
         }
         
@@ -97,8 +99,15 @@ public class MainDimerizer {
         assert(dimConf.grid != null);
         assert(dimConf.geom != null);
         assert(dimConf.locopt != null);
+        try{
+            OutputPrimitives.createAFolder(outputDir);
+        } catch(Exception e){
+            System.err.println("ERROR: Couldn't create output directory.");
+            e.printStackTrace(System.err);
+            System.exit(2);
+        }
         DimerizerCore.runAllPoints(dimConf.grid, dimConf.geom, dimConf.locopt,
-                conf.getBlowFacBondDetect());
+                conf.getBlowFacBondDetect(), dimConf.threads, outputDir + File.separator + "dimerizer.chk");
         
         log.info("Completed the dimerizer core!");
         
@@ -107,7 +116,6 @@ public class MainDimerizer {
         final List<Geometry> allOptGeoms = dimConf.grid.getListOfAllAttachments();
         
         try{
-            OutputPrimitives.createAFolder(outputDir);
             final String sep = File.separator;
         
             log.info("Number of points to be plotted " + allGridPoints.size());
@@ -0,0 +1,286 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.familytree;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The genetic history of a run in primitive arrays indexed by individual ID. Built in a single
+ * streaming pass over the output file, so neither the file nor one object per record needs to fit
+ * into memory.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+final class FamilyHistory {
+
+  static final String HISTORYSTART = "The following genetic history was created during the run.";
+
+  private static final byte PRESENT = 1;
+  private static final byte ACCEPTED = 2;
+  private static final byte WASNULL = 4;
+  private static final byte FINALPOOL = 8;
+  private static final byte KEEP = 16;
+
+  private int[] mothers = new int[1024];
+  private int[] fathers = new int[1024];
+  private int[] noChildren = new int[1024];
+  private byte[] flags = new byte[1024];
+  private int size = 0;
+
+  private FamilyHistory() {}
+
+  /**
+   * Parses the genetic history section of an ogolem output file line by line.
+   *
+   * @param reader the output file
+   * @return the history, including the (parentless) individuals of the initial pool
+   * @throws IOException if reading or parsing fails
+   */
+  static FamilyHistory parse(final BufferedReader reader) throws IOException {
+
+    final FamilyHistory hist = new FamilyHistory();
+
+    boolean startFound = false;
+    boolean firstAfterFound = true;
+    int minIDInHistory = Integer.MAX_VALUE;
+    String outLine;
+    while ((outLine = reader.readLine()) != null) {
+      final String line = outLine.trim();
+      if (!startFound) {
+        startFound = line.startsWith(HISTORYSTART);
+        continue;
+      }
+      if (firstAfterFound) {
+        firstAfterFound = false;
+        continue;
+      }
+      if (line.startsWith("---------------------")) {
+        // end reached
+        break;
+      }
+      final String[] info = line.split("\\s+");
+      try {
+        final int id = Integer.parseInt(info[0]);
+        final int mother = Integer.parseInt(info[1]);
+        final int father = Integer.parseInt(info[2]);
+        final boolean wasAccepted = Boolean.parseBoolean(info[3]);
+        final boolean wasNull = Boolean.parseBoolean(info[4]);
+        hist.add(id, mother, father, wasAccepted, wasNull);
+        minIDInHistory = Math.min(minIDInHistory, id);
+      } catch (RuntimeException e) {
+        throw new IOException("Failure to parse line information: " + line, e);
+      }
+    }
+
+    // add also the 0 - (minIDInHistory-1) records!
+    final int initial = (hist.size == 0) ? 0 : minIDInHistory;
+    for (int oid = 0; oid < initial; oid++) {
+      hist.add(oid, -1, -1, true, false);
+    }
+
+    // now mark the parenthood
+    for (int id = 0; id < hist.size; id++) {
+      if (!hist.isPresent(id)) {
+        continue;
+      }
+      if (hist.fathers[id] >= 0) {
+        hist.noChildren[hist.fathers[id]]++;
+      }
+      if (hist.mothers[id] >= 0) {
+        hist.noChildren[hist.mothers[id]]++;
+      }
+    }
+
+    return hist;
+  }
+
+  private void add(
+      final int id,
+      final int mother,
+      final int father,
+      final boolean wasAccepted,
+      final boolean wasNull) {
+
+    ensureCapacity(Math.max(id, Math.max(mother, father)) + 1);
+    mothers[id] = mother;
+    fathers[id] = father;
+    byte flag = PRESENT;
+    if (wasAccepted) {
+      flag |= ACCEPTED;
+    }
+    if (wasNull) {
+      flag |= WASNULL;
+    }
+    flags[id] = (byte) (flag | (flags[id] & FINALPOOL));
+    size = Math.max(size, id + 1);
+  }
+
+  private void ensureCapacity(final int cap) {
+    if (cap <= flags.length) {
+      return;
+    }
+    final int newCap = Math.max(cap, flags.length + (flags.length >> 1));
+    mothers = Arrays.copyOf(mothers, newCap);
+    fathers = Arrays.copyOf(fathers, newCap);
+    noChildren = Arrays.copyOf(noChildren, newCap);
+    flags = Arrays.copyOf(flags, newCap);
+  }
+
+  /**
+   * @return one past the highest ID in the history
+   */
+  int size() {
+    return size;
+  }
+
+  boolean isPresent(final int id) {
+    return id >= 0 && id < size && (flags[id] & PRESENT) != 0;
+  }
+
+  int mother(final int id) {
+    return mothers[id];
+  }
+
+  int father(final int id) {
+    return fathers[id];
+  }
+
+  int noChildren(final int id) {
+    return noChildren[id];
+  }
+
+  int maxNoChildren() {
+    int max = 0;
+    for (int id = 0; id < size; id++) {
+      max = Math.max(max, noChildren[id]);
+    }
+    return max;
+  }
+
+  boolean isInFinalPool(final int id) {
+    return (flags[id] & FINALPOOL) != 0;
+  }
+
+  void setInFinalPool(final int id) {
+    if (!isPresent(id)) {
+      throw new IllegalArgumentException("Individual " + id + " not in genetic history.");
+    }
+    flags[id] |= FINALPOOL;
+  }
+
+  boolean isKept(final int id) {
+    return (flags[id] & KEEP) != 0;
+  }
+
+  /**
+   * Keeps all individuals which have children (and, if wished, all final pool individuals).
+   *
+   * @param keepFinalPool whether final pool individuals are always kept
+   */
+  void keepAllWithChildren(final boolean keepFinalPool) {
+    for (int id = 0; id < size; id++) {
+      if (isPresent(id) && (noChildren[id] > 0 || (keepFinalPool && isInFinalPool(id)))) {
+        flags[id] |= KEEP;
+      }
+    }
+  }
+
+  /**
+   * Keeps all individuals which were accepted and not null (and, if wished, all final pool
+   * individuals).
+   *
+   * @param keepFinalPool whether final pool individuals are always kept
+   */
+  void keepAllAccepted(final boolean keepFinalPool) {
+    for (int id = 0; id < size; id++) {
+      final byte flag = flags[id];
+      if ((flag & PRESENT) == 0) {
+        continue;
+      }
+      final boolean good = (flag & ACCEPTED) != 0 && (flag & WASNULL) == 0;
+      if (good || (keepFinalPool && (flag & FINALPOOL) != 0)) {
+        flags[id] |= KEEP;
+      }
+    }
+  }
+
+  /**
+   * Keeps the final pool individuals and everything they descend from. Every individual is visited
+   * at most once, so this is linear in the size of the history.
+   */
+  void keepFinalPoolAncestry() {
+    final int[] stack = new int[size];
+    int top = 0;
+    for (int id = 0; id < size; id++) {
+      if (isPresent(id) && isInFinalPool(id) && !isKept(id)) {
+        flags[id] |= KEEP;
+        stack[top++] = id;
+      }
+      while (top > 0) {
+        final int curr = stack[--top];
+        top = push(mothers[curr], stack, top);
+        top = push(fathers[curr], stack, top);
+      }
+    }
+  }
+
+  private int push(final int parent, final int[] stack, final int top) {
+    if (!isPresent(parent) || isKept(parent)) {
+      return top;
+    }
+    flags[parent] |= KEEP;
+    stack[top] = parent;
+    return top + 1;
+  }
+
+  /**
+   * Numbers all kept individuals consecutively, in order of their ID.
+   *
+   * @return the vertex number of every ID or -1 if the individual is not kept
+   */
+  int[] vertexMap() {
+    final int[] map = new int[size];
+    int vertex = 0;
+    for (int id = 0; id < size; id++) {
+      map[id] = isKept(id) ? vertex++ : -1;
+    }
+    return map;
+  }
+}
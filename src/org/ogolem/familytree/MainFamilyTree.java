@@ -37,22 +37,24 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 package org.ogolem.familytree;
 
 import java.awt.Color;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import org.ogolem.generic.genericpool.GenericPool;
 import org.ogolem.generic.genericpool.GenericPoolEntry;
 import org.ogolem.io.InputPrimitives;
-import org.ogolem.io.OutputPrimitives;
 
 /**
  * Builds a gv/dot format file containing the directed acyclic graph of the family tree.
  *
  * @author Johannes Dieterich
- * @version 2021-10-15
+ * @version 2026-10-18
  */
 public class MainFamilyTree {
 
@@ -84,85 +86,19 @@ public class MainFamilyTree {
 
     assert (config != null);
 
-    // parse the output file
-    String[] outData = null;
-    try {
-      outData = InputPrimitives.readFileIn(outFile);
+    // stream the genetic history in
+    FamilyHistory hist = null;
+    try (final BufferedReader reader =
+        new BufferedReader(
+            new InputStreamReader(new FileInputStream(outFile), StandardCharsets.UTF_8))) {
+      hist = FamilyHistory.parse(reader);
     } catch (Exception e) {
-      System.err.println("Failure to read the output file in.");
+      System.err.println("Failure to read the genetic history in.");
       e.printStackTrace(System.err);
       System.exit(2);
     }
 
-    assert (outData != null);
-
-    final List<GeneticRecord> allRecords = new ArrayList<>();
-    boolean startFound = false;
-    boolean firstAfterFound = true;
-    long maxNoChildren = 0;
-    long minIDInHistory = Long.MAX_VALUE;
-    for (final String outLine : outData) {
-      if (outLine.trim().startsWith("The following genetic history was created during the run.")) {
-        startFound = true;
-      } else if (startFound) {
-        if (firstAfterFound) {
-          firstAfterFound = false;
-          continue;
-        }
-        if (outLine.trim().startsWith("---------------------")) {
-          // end reached
-          break;
-        }
-        // parse line to find minimum id
-        final String[] info = outLine.trim().split("\\s+");
-        try {
-          final int id = Integer.parseInt(info[0]);
-          minIDInHistory = Math.min(minIDInHistory, id);
-
-          // add this genetic record
-          final int mother = Integer.parseInt(info[1]);
-          final int father = Integer.parseInt(info[2]);
-          final boolean wasAccepted = Boolean.parseBoolean(info[3]);
-          final boolean wasNull = Boolean.parseBoolean(info[4]);
-
-          final GeneticRecord record = new GeneticRecord(id, mother, father, wasAccepted, wasNull);
-          allRecords.add(record);
-
-        } catch (Exception e) {
-          System.err.println("Failure to parse line information (I).");
-          e.printStackTrace(System.err);
-          System.exit(3);
-        }
-      }
-    }
-
-    // add also the 0 - (minIDInHistory-1) records!
-    for (int oid = 0; oid < minIDInHistory; oid++) {
-      final GeneticRecord oRec = new GeneticRecord(oid, -1, -1, true, false);
-      allRecords.add(oRec);
-    }
-
-    // sort by ID
-    Collections.sort(allRecords, new GeneticRecordComparator());
-
-    // now mark the parenthood
-    for (final GeneticRecord rec : allRecords) {
-
-      final int father = rec.father();
-      final int mother = rec.mother();
-
-      if (father >= 0) {
-        final GeneticRecord faRec = allRecords.get(father);
-        faRec.incrementChildren();
-        maxNoChildren = Math.max(faRec.noChildren(), maxNoChildren);
-      }
-
-      if (mother >= 0) {
-        final GeneticRecord moRec = allRecords.get(mother);
-        moRec.incrementChildren();
-        maxNoChildren = Math.max(moRec.noChildren(), maxNoChildren);
-      }
-    }
+    assert (hist != null);
 
     if (config.addAllFinalPoolIndividuals) {
       // read the pool in and mark the individuals
@@ -171,8 +107,7 @@ public class MainFamilyTree {
             (GenericPool<?, ?>) InputPrimitives.readBinInput(config.poolFile);
         for (int pos = 0; pos < pool.getCurrentPoolSize(); pos++) {
           final GenericPoolEntry<?, ?> entry = pool.getEntryAtPosition(pos);
-          final int id = (int) entry.individual().getID();
-          allRecords.get(id).setInFinalPool(true);
+          hist.setInFinalPool((int) entry.individualID());
         }
       } catch (Exception e) {
         System.err.println("Failed to read the pool file " + config.poolFile);
@@ -181,90 +116,75 @@ public class MainFamilyTree {
       }
     }
 
-    final Map<Integer, Integer> map = new HashMap<>();
-    if (config.removeAllNonChildren) {
-      // weed out all the entries which have not reproduced and save the position of those that have
-      int countMultiChildren = 0;
-      final List<GeneticRecord> toDelete = new ArrayList<>();
-      for (int i = 0; i < allRecords.size(); i++) {
-        final GeneticRecord rec = allRecords.get(i);
-        boolean secondaryCond = true;
-        if (config.addAllFinalPoolIndividuals) {
-          secondaryCond = !rec.isInFinalPool();
-        }
-        if (rec.noChildren() == 0 && secondaryCond) {
-          // remove
-          toDelete.add(rec);
-        } else {
-          // keep
-          map.put(rec.id(), countMultiChildren);
-          countMultiChildren++;
-        }
-      }
+    if (config.vertexSizeChildrenBased) {
+      // TODO: change size depending on #children
+      System.err.println(
+          "No support yet to adjust the vertex size based on the number of children, sorry...");
+      System.exit(42);
+    }
 
-      // remove all
-      toDelete.forEach(
-          (rec) -> {
-            allRecords.remove(rec);
-          });
+    // write the dot file
+    try (final BufferedWriter writer =
+        new BufferedWriter(
+            new OutputStreamWriter(
+                new FileOutputStream(config.dotOut, true), StandardCharsets.UTF_8))) {
+      writeFamilyTree(hist, config, writer);
+    } catch (IllegalStateException e) {
+      System.err.println(e.getMessage() + " Exiting.");
+      System.exit(10);
+    } catch (Exception e) {
+      System.err.println("ERROR: Couldn't write final dot file out.");
+      e.printStackTrace(System.err);
+    }
+  }
+
+  /**
+   * Prunes the history according to the output mode of the configuration and writes the remaining
+   * family tree in dot format.
+   *
+   * @param hist the genetic history, final pool individuals already marked
+   * @param config the configuration
+   * @param writer where the dot file goes
+   * @throws IOException if writing fails
+   * @throws IllegalStateException if a kept individual has a parent which is not kept
+   */
+  static void writeFamilyTree(
+      final FamilyHistory hist, final VisualizationConfig config, final Writer writer)
+      throws IOException {
+
+    if (config.onlyFinalPoolAncestry) {
+      hist.keepFinalPoolAncestry();
+    } else if (config.removeAllNonChildren) {
+      // weed out all the entries which have not reproduced
+      hist.keepAllWithChildren(config.addAllFinalPoolIndividuals);
     } else {
       // weed out all the entries which were null and/or were not accepted
-      int countAccepted = 0;
-      final List<GeneticRecord> toDelete = new ArrayList<>();
-      for (int i = 0; i < allRecords.size(); i++) {
-        final GeneticRecord rec = allRecords.get(i);
-        boolean secondaryCond = true;
-        if (config.addAllFinalPoolIndividuals) {
-          secondaryCond = !rec.isInFinalPool();
-        }
-        if ((rec.wasNull() && secondaryCond) || (!rec.wasAccepted() && secondaryCond)) {
-          // remove
-          toDelete.add(rec);
-        } else {
-          // keep
-          map.put(rec.id(), countAccepted);
-          countAccepted++;
-        }
-      }
-
-      // remove all
-      toDelete.forEach(
-          (rec) -> {
-            allRecords.remove(rec);
-          });
+      hist.keepAllAccepted(config.addAllFinalPoolIndividuals);
     }
+    final int[] map = hist.vertexMap();
 
-    // setup the dot file
-    final List<String> datOut = new LinkedList<>();
-    datOut.add("digraph FamilyTree {");
-    datOut.add("   bgcolor = \"" + config.backGround + "\";");
+    final String sep = System.lineSeparator();
+    writer.write("digraph FamilyTree {" + sep);
+    writer.write("   bgcolor = \"" + config.backGround + "\";" + sep);
 
     // first all the vertices
-    for (int vertID = 0; vertID < allRecords.size(); vertID++) {
+    final String hexPool = colorToHex(config.vertexColorFinalPool, config.transparency);
+    final String hexVertex = colorToHex(config.vertexColor, config.transparency);
+    for (int id = 0; id < map.length; id++) {
 
-      final GeneticRecord rec = allRecords.get(vertID);
-
-      String hex = null;
-      if (rec.isInFinalPool()) {
-        hex = colorToHex(config.vertexColorFinalPool, config.transparency);
-      } else {
-        hex = colorToHex(config.vertexColor, config.transparency);
+      if (map[id] < 0) {
+        continue;
       }
 
-      if (config.vertexSizeChildrenBased) {
-        // TODO: change size depending on #children
-        System.err.println(
-            "No support yet to adjust the vertex size based on the number of children, sorry...");
-        System.exit(42);
-      }
-      String label = "id=" + rec.id();
+      final String hex = (hist.isInFinalPool(id)) ? hexPool : hexVertex;
+      String label = "id=" + id;
       if (config.verboseLabel) {
         // add the number of children to the label
-        label += " / children=" + rec.noChildren();
+        label += " / children=" + hist.noChildren(id);
       }
-      datOut.add(
+      writer.write(
           "   "
-              + (vertID + 1)
+              + (map[id] + 1)
               + " [label=\""
               + label
               + "\", shape = \""
@@ -275,73 +195,59 @@ public class MainFamilyTree {
               + config.circleRing
               + "\", fillcolor = \""
               + hex
-              + "\"];");
+              + "\"];"
+              + sep);
     }
 
     // now all the edges
-    for (int vertID = 0; vertID < allRecords.size(); vertID++) {
+    final String hexMum = colorToHex(config.edgeColorAsMum, config.transparency);
+    final String hexDad = colorToHex(config.edgeColorAsDad, config.transparency);
+    for (int id = 0; id < map.length; id++) {
 
-      final GeneticRecord rec = allRecords.get(vertID);
+      if (map[id] < 0) {
+        continue;
+      }
 
       // the edge to the mother
-      final String hexMum = colorToHex(config.edgeColorAsMum, config.transparency);
-      final int mumID = rec.mother();
+      final int mumID = hist.mother(id);
       if (mumID >= 0) {
-        final Integer mumVert = map.get(mumID);
-        if (mumVert == null) {
-          System.err.println(
-              "Vertex (mum) " + mumID + " not left in map. Child id " + rec.id() + ". Exiting.");
-          System.exit(10);
+        if (mumID >= map.length || map[mumID] < 0) {
+          throw new IllegalStateException(
+              "Vertex (mum) " + mumID + " not left in map. Child id " + id + ".");
         }
-        final int mumVertex = mumVert;
-        datOut.add(
-            "   "
-                + (mumVertex + 1)
-                + " -> "
-                + (vertID + 1)
-                + " [style = \""
-                + config.edgeStyle
-                + "\", color = \""
-                + hexMum
-                + "\", penwidth = \""
-                + config.penWidth
-                + "\"];");
+        writer.write(edge(map[mumID], map[id], hexMum, config) + sep);
       }
 
       // the edge to the father
-      final String hexDad = colorToHex(config.edgeColorAsDad, config.transparency);
-      final int dadID = rec.father();
+      final int dadID = hist.father(id);
       if (dadID >= 0) {
-        final Integer dadVert = map.get(dadID);
-        if (dadVert == null) {
-          System.err.println(
-              "Vertex (dad) " + mumID + " not left in map. Child id " + rec.id() + ". Exiting.");
-          System.exit(10);
+        if (dadID >= map.length || map[dadID] < 0) {
+          throw new IllegalStateException(
+              "Vertex (dad) " + dadID + " not left in map. Child id " + id + ".");
         }
-        final int dadVertex = dadVert;
-        datOut.add(
-            "   "
-                + (dadVertex + 1)
-                + " -> "
-                + (vertID + 1)
-                + " [style = \""
-                + config.edgeStyle
-                + "\", color = \""
-                + hexDad
-                + "\", penwidth = \""
-                + config.penWidth
-                + "\"];");
+        writer.write(edge(map[dadID], map[id], hexDad, config) + sep);
       }
     }
 
-    // print to file
-    datOut.add("}");
-    try {
-      OutputPrimitives.writeOut(config.dotOut, datOut, true);
-    } catch (Exception e) {
-      System.err.println("ERROR: Couldn't write final dot file out.");
-      e.printStackTrace(System.err);
-    }
+    writer.write("}" + sep);
+  }
+
+  private static String edge(
+      final int fromVertex,
+      final int toVertex,
+      final String hex,
+      final VisualizationConfig config) {
+    return "   "
+        + (fromVertex + 1)
+        + " -> "
+        + (toVertex + 1)
+        + " [style = \""
+        + config.edgeStyle
+        + "\", color = \""
+        + hex
+        + "\", penwidth = \""
+        + config.penWidth
+        + "\"];";
   }
 
   private static String colorToHex(final float[] colDef, final float trans) {
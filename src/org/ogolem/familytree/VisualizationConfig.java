@@ -41,7 +41,7 @@ import java.io.Serializable;
 /**
  * The configuration. Mainly things such as colors etc.
  * @author Johannes Dieterich
- * @version 2015-07-11
+ * @version 2026-10-18
  */
 class VisualizationConfig implements Serializable {
     
@@ -65,6 +65,8 @@ class VisualizationConfig implements Serializable {
     boolean removeAllNonChildren = false;
     
     boolean addAllFinalPoolIndividuals = false; // only if above true makes sense!
+    
+    boolean onlyFinalPoolAncestry = false;
 
     String poolFile = "pool.bin";
     
@@ -137,18 +139,27 @@ class VisualizationConfig implements Serializable {
                     case "onlywithchildren":
                         removeAllNonChildren = true;
                         addAllFinalPoolIndividuals = false;
+                        onlyFinalPoolAncestry = false;
                         break;
                     case "onlywithchildrenandfinalpool":
                         removeAllNonChildren = true;
                         addAllFinalPoolIndividuals = true;
+                        onlyFinalPoolAncestry = false;
                         break;
                     case "onlyaccepted":
                         removeAllNonChildren = false;
                         addAllFinalPoolIndividuals = false;
+                        onlyFinalPoolAncestry = false;
                         break;
                     case "onlyacceptedandfinalpool":
                         removeAllNonChildren = false;
                         addAllFinalPoolIndividuals = true;
+                        onlyFinalPoolAncestry = false;
+                        break;
+                    case "finalpoolancestry":
+                        removeAllNonChildren = false;
+                        addAllFinalPoolIndividuals = true;
+                        onlyFinalPoolAncestry = true;
                         break;
                     default:
                         throw new Exception("Illegal output mode " + mode);
@@ -45,7 +45,7 @@ import org.ogolem.core.Newton;
 /**
  * Calculate frequencies for cartesian coordinates.
  * @author Johannes Dieterich
- * @version 2014-11-21
+ * @version 2026-10-18
  */
 public class MainFreqs {
     
@@ -65,6 +65,8 @@ public class MainFreqs {
             System.out.println("Optional input arguments:");
             System.out.println(" * a boolean whether or not full visualization (i.e., the actual vibrations) is wished. Default: false.");
             System.out.println(" * prefix for the vibrational files. Default: freqs.");
+            System.out.println(" * number of threads for a numerical Hessian (if the method has no own). Default: 1.");
+            System.out.println(" * checkpoint file for a numerical Hessian, reused when restarting. Default: none.");
             System.exit(0);
         }
         
@@ -88,6 +90,21 @@ public class MainFreqs {
             System.exit(1);
         }
         
+        // numerical Hessian options
+        int noThreads = 1;
+        String checkpoint = null;
+        if(args.length > 4){
+            try{
+                noThreads = Integer.parseInt(args[4].trim());
+            } catch(Exception e){
+                System.err.println("ERROR: Couldn't parse number of threads from " + args[4] + ". Aborting.");
+                System.exit(2);
+            }
+        }
+        if(args.length > 5){
+            checkpoint = args[5].trim();
+        }
+        
         // setup method: we know that any FrequencyMethod must be backend, so we can try there
         FrequencyMethod method = null;
         try{
@@ -98,6 +115,9 @@ public class MainFreqs {
                 final CartesianFullBackend back = newton.getBackend();
                 if(back instanceof FrequencyMethod){
                     method = (FrequencyMethod) back;
+                } else if(back != null){
+                    System.out.println("INFO: Using a numerical Hessian from gradients with " + noThreads + " threads.");
+                    method = new ParallelHessianCalculator(back, noThreads, true, checkpoint);
                 } else {
                     throw new Exception("Neither local optimization nor backend are instances of FrequencyMethod.");
                 }
@@ -0,0 +1,461 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.freqs;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.ogolem.core.BondInfo;
+import org.ogolem.core.CartesianCoordinates;
+import org.ogolem.core.CartesianFullBackend;
+import org.ogolem.core.Gradient;
+import org.ogolem.helpers.FNV1aHash;
+import org.ogolem.io.InputPrimitives;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A parallel, numerical Hessian for any CartesianFullBackend. Every row of the Hessian is an
+ * independent task (two displaced gradients, or the energy stencils of the upper triangle) farmed
+ * out over a fixed thread pool. Every task works on its own coordinate buffer and borrows one of
+ * noThreads backend copies, so backends do not need to be thread-safe. Finished rows can be
+ * appended to a checkpoint file, a restarted calculation with the same checkpoint skips all rows
+ * found in there. The checkpoint starts with a header of atom count, differentiation scheme, step
+ * and a hash of the geometry; a checkpoint with a different header is discarded.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public final class ParallelHessianCalculator implements FrequencyMethod {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ParallelHessianCalculator.class);
+  private static final double NUMERICALINCREMENT = 1e-4;
+
+  private final CartesianFullBackend backend;
+  private final int noThreads;
+  private final boolean fromGradients;
+  private final String checkpointFile;
+
+  /**
+   * @param backend the backend, will be copied once per thread
+   * @param noThreads the number of threads to use
+   * @param fromGradients if true, central differences of analytical gradients are used (2x3N
+   *     gradient calls), otherwise second differences of energies (O(18N^2) energy calls)
+   * @param checkpointFile the file finished rows are appended to and read from on restart. May be
+   *     null, then no checkpointing is done.
+   */
+  public ParallelHessianCalculator(
+      final CartesianFullBackend backend,
+      final int noThreads,
+      final boolean fromGradients,
+      final String checkpointFile) {
+    assert (backend != null);
+    assert (noThreads > 0);
+    this.backend = backend;
+    this.noThreads = noThreads;
+    this.fromGradients = fromGradients;
+    this.checkpointFile = checkpointFile;
+  }
+
+  @Override
+  public double[][] calculateHessian(
+      final long id, final CartesianCoordinates cartes, final BondInfo bonds) {
+
+    final int dim = 3 * cartes.getNoOfAtoms();
+    final double[][] hessian = new double[dim][dim];
+    final boolean[] done = new boolean[dim];
+    final String header = checkpointHeader(cartes);
+    final boolean resumed = readCheckpoint(header, hessian, done);
+
+    final double[] xyz = cartes.getAll1DCartes();
+    final double e0 =
+        backend.energyCalculation(
+            id,
+            0,
+            xyz,
+            cartes.getAllAtomTypes(),
+            cartes.getAllAtomNumbers(),
+            cartes.getAllAtomsPerMol(),
+            new double[cartes.getNoOfMolecules()],
+            cartes.getNoOfAtoms(),
+            cartes.getAllCharges(),
+            cartes.getAllSpins(),
+            bonds,
+            cartes.containedEnvType() == CartesianCoordinates.ENVTYPE.RIGID);
+
+    final BlockingQueue<CartesianFullBackend> backends = new ArrayBlockingQueue<>(noThreads);
+    for (int i = 0; i < noThreads; i++) {
+      backends.add(backend.copy());
+    }
+
+    final ExecutorService exec = Executors.newFixedThreadPool(noThreads);
+    try (final CheckpointWriter writer = new CheckpointWriter(checkpointFile, header, resumed)) {
+      final List<Future<?>> futures = new ArrayList<>(dim);
+      // submit the expensive rows first: for energy-based Hessians row i has 3N-i entries
+      for (int i = 0; i < dim; i++) {
+        if (done[i]) {
+          continue;
+        }
+        final int row = i;
+        futures.add(
+            exec.submit(
+                () -> {
+                  final CartesianFullBackend back = backends.take();
+                  try {
+                    final double[] rowData =
+                        (fromGradients)
+                            ? gradientRow(id, row, cartes, bonds, back, e0)
+                            : energyRow(id, row, cartes, bonds, back, e0);
+                    System.arraycopy(rowData, 0, hessian[row], 0, dim);
+                    writer.writeRow(row, rowData);
+                  } finally {
+                    backends.put(back);
+                  }
+                  return null;
+                }));
+      }
+      for (final Future<?> f : futures) {
+        f.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted while calculating the numerical Hessian.", e);
+    } catch (ExecutionException | IOException e) {
+      throw new RuntimeException("Failure in calculating the numerical Hessian.", e);
+    } finally {
+      exec.shutdownNow();
+    }
+
+    // exploit (and enforce) the symmetry of the Hessian
+    for (int i = 0; i < dim; i++) {
+      for (int j = i + 1; j < dim; j++) {
+        final double avg = (fromGradients) ? 0.5 * (hessian[i][j] + hessian[j][i]) : hessian[i][j];
+        hessian[i][j] = avg;
+        hessian[j][i] = avg;
+      }
+    }
+
+    return hessian;
+  }
+
+  /**
+   * Row i from central differences of gradients. The diagonal element is taken from the energies as
+   * in NumericalHessianCalculator.
+   */
+  static double[] gradientRow(
+      final long id,
+      final int i,
+      final CartesianCoordinates cartes,
+      final BondInfo bonds,
+      final CartesianFullBackend back,
+      final double e0) {
+
+    final int noOfAtoms = cartes.getNoOfAtoms();
+    final double[] xyz = cartes.getAll1DCartes();
+    final String[] atoms = cartes.getAllAtomTypes();
+    final short[] atomNos = cartes.getAllAtomNumbers();
+    final int[] atsPerMol = cartes.getAllAtomsPerMol();
+    final float[] charges = cartes.getAllCharges();
+    final short[] spins = cartes.getAllSpins();
+    final double[] energyparts = new double[cartes.getNoOfMolecules()];
+    final boolean hasRigidEnv = cartes.containedEnvType() == CartesianCoordinates.ENVTYPE.RIGID;
+
+    final double incr = (xyz[i] == 0.0) ? NUMERICALINCREMENT : xyz[i] * NUMERICALINCREMENT;
+    final double invIncr = 1.0 / (2 * incr);
+    final double coord = xyz[i];
+
+    final Gradient gPlus = new Gradient(3, noOfAtoms);
+    xyz[i] = coord + incr;
+    back.gradientCalculation(
+        id,
+        1 + 2 * i,
+        xyz,
+        atoms,
+        atomNos,
+        atsPerMol,
+        energyparts,
+        noOfAtoms,
+        charges,
+        spins,
+        bonds,
+        gPlus,
+        hasRigidEnv);
+
+    final Gradient gMinus = new Gradient(3, noOfAtoms);
+    xyz[i] = coord - incr;
+    back.gradientCalculation(
+        id,
+        2 + 2 * i,
+        xyz,
+        atoms,
+        atomNos,
+        atsPerMol,
+        energyparts,
+        noOfAtoms,
+        charges,
+        spins,
+        bonds,
+        gMinus,
+        hasRigidEnv);
+
+    final double[] gradPlus = gPlus.getGradient();
+    final double[] gradMinus = gMinus.getGradient();
+    final double[] row = new double[3 * noOfAtoms];
+    for (int j = 0; j < row.length; j++) {
+      row[j] = (gradPlus[j] - gradMinus[j]) * invIncr;
+    }
+    row[i] = (gPlus.getTotalEnergy() + gMinus.getTotalEnergy() - 2 * e0) / (incr * incr);
+
+    return row;
+  }
+
+  /** The upper triangle part (j >= i) of row i from second differences of energies. */
+  static double[] energyRow(
+      final long id,
+      final int i,
+      final CartesianCoordinates cartes,
+      final BondInfo bonds,
+      final CartesianFullBackend back,
+      final double e0) {
+
+    final int noOfAtoms = cartes.getNoOfAtoms();
+    final int dim = 3 * noOfAtoms;
+    final double[] xyz = cartes.getAll1DCartes();
+    final String[] atoms = cartes.getAllAtomTypes();
+    final short[] atomNos = cartes.getAllAtomNumbers();
+    final int[] atsPerMol = cartes.getAllAtomsPerMol();
+    final float[] charges = cartes.getAllCharges();
+    final short[] spins = cartes.getAllSpins();
+    final double[] energyparts = new double[cartes.getNoOfMolecules()];
+    final boolean hasRigidEnv = cartes.containedEnvType() == CartesianCoordinates.ENVTYPE.RIGID;
+
+    // unique iteration numbers across all rows: row i starts after all stencils of rows < i
+    long iter = 1 + 2L * i + 4L * ((long) i * dim - (long) i * (i + 1) / 2);
+
+    final double incI = (xyz[i] == 0.0) ? NUMERICALINCREMENT : xyz[i] * NUMERICALINCREMENT;
+    final double coordI = xyz[i];
+    final double[] row = new double[dim];
+
+    xyz[i] = coordI + incI;
+    final double eP =
+        back.energyCalculation(
+            id,
+            (int) iter++,
+            xyz,
+            atoms,
+            atomNos,
+            atsPerMol,
+            energyparts,
+            noOfAtoms,
+            charges,
+            spins,
+            bonds,
+            hasRigidEnv);
+    xyz[i] = coordI - incI;
+    final double eM =
+        back.energyCalculation(
+            id,
+            (int) iter++,
+            xyz,
+            atoms,
+            atomNos,
+            atsPerMol,
+            energyparts,
+            noOfAtoms,
+            charges,
+            spins,
+            bonds,
+            hasRigidEnv);
+    row[i] = (eP + eM - 2 * e0) / (incI * incI);
+
+    for (int j = i + 1; j < dim; j++) {
+      final double incJ = (xyz[j] == 0.0) ? NUMERICALINCREMENT : xyz[j] * NUMERICALINCREMENT;
+      final double coordJ = xyz[j];
+
+      final double[] stencil = new double[4];
+      final double[] dI = {incI, -incI, -incI, incI};
+      final double[] dJ = {incJ, incJ, -incJ, -incJ};
+      for (int s = 0; s < 4; s++) {
+        xyz[i] = coordI + dI[s];
+        xyz[j] = coordJ + dJ[s];
+        stencil[s] =
+            back.energyCalculation(
+                id,
+                (int) iter++,
+                xyz,
+                atoms,
+                atomNos,
+                atsPerMol,
+                energyparts,
+                noOfAtoms,
+                charges,
+                spins,
+                bonds,
+                hasRigidEnv);
+      }
+      // stencil: PP, MP, MM, PM
+      row[j] = (stencil[0] + stencil[2] - stencil[3] - stencil[1]) / (4 * incI * incJ);
+
+      xyz[i] = coordI;
+      xyz[j] = coordJ;
+    }
+
+    return row;
+  }
+
+  private String checkpointHeader(final CartesianCoordinates cartes) {
+
+    // over the atom types and the bit patterns of the coordinates
+    final FNV1aHash hash = new FNV1aHash();
+    for (final String atom : cartes.getAllAtomTypes()) {
+      hash.update(atom);
+    }
+    for (final double d : cartes.getAll1DCartes()) {
+      hash.update(d);
+    }
+
+    return "#hessian atoms "
+        + cartes.getNoOfAtoms()
+        + " scheme "
+        + ((fromGradients) ? "gradients" : "energies")
+        + " step "
+        + NUMERICALINCREMENT
+        + " geometry "
+        + Long.toHexString(hash.getValue());
+  }
+
+  /**
+   * @return true if the checkpoint belongs to this calculation and was read, false if there was
+   *     none or it was discarded
+   */
+  private boolean readCheckpoint(
+      final String header, final double[][] hessian, final boolean[] done) {
+
+    if (checkpointFile == null || !new File(checkpointFile).exists()) {
+      return false;
+    }
+
+    int noRead = 0;
+    try {
+      final String[] lines = InputPrimitives.readFileIn(checkpointFile);
+      if (lines.length == 0 || !lines[0].trim().equals(header)) {
+        LOG.warn(
+            "Hessian checkpoint "
+                + checkpointFile
+                + " belongs to a different calculation, recomputing from scratch.");
+        return false;
+      }
+      for (int i = 1; i < lines.length; i++) {
+        final String[] sa = lines[i].trim().split("\\s+");
+        if (sa.length != hessian.length + 1) {
+          // incomplete (killed while writing) or foreign line
+          continue;
+        }
+        final int row = Integer.parseInt(sa[0]);
+        final double[] data = new double[hessian.length];
+        for (int j = 0; j < data.length; j++) {
+          data[j] = Double.parseDouble(sa[j + 1]);
+        }
+        System.arraycopy(data, 0, hessian[row], 0, data.length);
+        if (!done[row]) {
+          done[row] = true;
+          noRead++;
+        }
+      }
+    } catch (IOException | NumberFormatException | ArrayIndexOutOfBoundsException e) {
+      LOG.warn("Couldn't (fully) read Hessian checkpoint " + checkpointFile + ", recomputing.", e);
+    }
+
+    LOG.info("Restarting Hessian from checkpoint with " + noRead + " of " + done.length + " rows.");
+
+    return true;
+  }
+
+  /** Appends finished rows, one per line, flushed immediately. */
+  private static final class CheckpointWriter implements AutoCloseable {
+
+    private final BufferedWriter writer;
+
+    CheckpointWriter(final String file, final String header, final boolean append)
+        throws IOException {
+      if (file == null) {
+        this.writer = null;
+        return;
+      }
+      this.writer =
+          new BufferedWriter(
+              new OutputStreamWriter(new FileOutputStream(file, append), StandardCharsets.UTF_8));
+      if (!append) {
+        writer.write(header);
+        writer.write(System.lineSeparator());
+        writer.flush();
+      }
+    }
+
+    synchronized void writeRow(final int row, final double[] data) throws IOException {
+      if (writer == null) {
+        return;
+      }
+      final StringBuilder sb = new StringBuilder(data.length * 24);
+      sb.append(row);
+      for (final double d : data) {
+        sb.append(' ').append(d);
+      }
+      sb.append(System.lineSeparator());
+      writer.write(sb.toString());
+      writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (writer != null) {
+        writer.close();
+      }
+    }
+  }
+}
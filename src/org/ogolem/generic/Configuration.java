@@ -42,12 +42,13 @@ import java.util.List;
 import org.ogolem.generic.generichistory.GenericHistoryConfig;
 import org.ogolem.generic.genericpool.GenericPoolConfig;
 import org.ogolem.generic.genericpool.NicheComputer;
+import org.ogolem.generic.threading.IslandConfig;
 import org.ogolem.generic.threading.TaskFactory;
 
 /**
  * Generic interface to configuration.
  * @author Johannes Dieterich
- * @version 2015-11-16
+ * @version 2026-10-18
  */
 public interface Configuration<E,T extends Optimizable<E>> extends Serializable {
     
@@ -81,10 +82,48 @@ public interface Configuration<E,T extends Optimizable<E>> extends Serializable
     
     public boolean wantsDetailedStats() throws Exception;
     
+    /**
+     * How often a snapshot of the detailed statistics should be exported while running.
+     * Only used if detailed statistics are wanted.
+     * @return seconds between two snapshots, zero (the default) for no export
+     * @throws Exception if some internal error occurs
+     */
+    public default long getDetailedStatsInterval() throws Exception {
+        return 0l;
+    }
+    
     /**
      * Get, if used, the niche computer to be used.
      * @return a valid niche computer if niching should be done, null otherwise
      * @throws Exception if some internal error occurs
      */
     public NicheComputer<E,T> getNicheComputer() throws Exception;
+    
+    /**
+     * The island model to be used for shared-memory runs.
+     * @return the island configuration, null (the default) for a single pool.
+     * @throws Exception if some internal error occurs
+     */
+    public default IslandConfig getIslandConfig() throws Exception {
+        return null;
+    }
+    
+    /**
+     * Whether every task should run on its own virtual thread. Pays off if the fitness
+     * function mostly waits on external programs.
+     * @return true for virtual threads, false (the default) for a pool of platform threads
+     * @throws Exception if some internal error occurs
+     */
+    public default boolean useVirtualThreads() throws Exception {
+        return false;
+    }
+    
+    /**
+     * How many external programs may run at once.
+     * @return the maximum, zero (the default) for no limit
+     * @throws Exception if some internal error occurs
+     */
+    public default int getMaxExternalProcesses() throws Exception {
+        return 0;
+    }
 }
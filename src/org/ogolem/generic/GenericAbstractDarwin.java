@@ -38,9 +38,12 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 package org.ogolem.generic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.ogolem.core.GlobalConfig;
+import org.ogolem.generic.stats.DetailedStatistics.Latency;
 import org.ogolem.generic.stats.GenericDetailStatistics;
+import org.ogolem.generic.tracing.GAStageEvent;
 import org.ogolem.helpers.Tuple;
 import org.ogolem.random.Lottery;
 
@@ -48,7 +51,7 @@ import org.ogolem.random.Lottery;
  * A generic, abstract implementation of a classical GA global optimization.
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
 public abstract class GenericAbstractDarwin<E, T extends Optimizable<E>>
     implements GenericDarwin<E, T> {
@@ -137,7 +140,12 @@ public abstract class GenericAbstractDarwin<E, T extends Optimizable<E>>
       // should we even cross?
       final double dc = r.nextDouble();
       if (dc <= crossPoss) {
+        final GAStageEvent xev = GAStageEvent.start(futureID, GAStageEvent.CROSSOVER);
         final Tuple<T, T> childGeoms = cross(mother, father, futureID);
+        if (xev.finish()) {
+          xev.operator = xover.getMyID();
+          xev.commit();
+        }
         if (childGeoms.getObject1() == null) continue; // crossing signals problem
         child1 = childGeoms.getObject1();
         child2 = childGeoms.getObject2();
@@ -154,56 +162,36 @@ public abstract class GenericAbstractDarwin<E, T extends Optimizable<E>>
       final double dm = r.nextDouble();
       if (dc > crossPoss || dm <= mutPoss) {
         // either because mutation should be done or because we did no crossover
+        final GAStageEvent mev = GAStageEvent.start(futureID, GAStageEvent.MUTATION);
         if (child1 != null) child1 = mutate(child1);
         if (child2 != null) child2 = mutate(child2);
-      }
-
-      // sanity check (and if applicable) fitness function evaluation
-      if (child1 != null) {
-        if (DEBUG) {
-          System.out.println("DEBUG: Child 1 for " + futureID + " was not null.");
-        }
-
-        final boolean sane = sanitizer.isSane(child1);
-        if (sane) {
-          if (DEBUG) {
-            System.out.println("DEBUG: CHILD1 for " + futureID + " was sane.");
-          }
-          if (printBeforeFitness) {
-            System.out.println("INFO: CHILD1 " + child1.getID() + " BEFORE FITNESS COMING.");
-            writer.writeIndividual(child1);
-          }
-          child1 = fitness.fitness(child1, false);
-        } else {
-          GenericDetailStatistics.incrementSanityDiscards();
-          if (DEBUG) {
-            System.out.println("DEBUG: Child 1 insanity found for " + futureID);
-          }
-          child1 = null;
+        if (mev.finish()) {
+          mev.operator = mutation.getMyID();
+          mev.commit();
         }
       }
 
-      if (child2 != null) {
-        if (DEBUG) {
-          System.out.println("DEBUG: Child 2 for " + futureID + " was not null.");
+      // sanity check both children first, so that they can be locally optimized together
+      if (child1 != null) child1 = sanityCheck(child1, 1, futureID);
+      if (child2 != null) child2 = sanityCheck(child2, 2, futureID);
+
+      // (if applicable) fitness function evaluation
+      if (child1 != null && child2 != null) {
+        final GAStageEvent lev = GAStageEvent.start(futureID, GAStageEvent.LOCALOPT);
+        final List<T> opts = fitness.fitness(Arrays.asList(child1, child2));
+        if (lev.finish()) {
+          lev.operator = fitness.getMyID();
+          lev.commit();
         }
-
-        final boolean sane = sanitizer.isSane(child2);
-        if (sane) {
-          if (DEBUG) {
-            System.out.println("DEBUG: CHILD2 for " + futureID + " was sane.");
-          }
-          if (printBeforeFitness) {
-            System.out.println("INFO: CHILD2 " + child2.getID() + " BEFORE FITNESS COMING.");
-            writer.writeIndividual(child2);
-          }
-          child2 = fitness.fitness(child2, false);
-        } else {
-          GenericDetailStatistics.incrementSanityDiscards();
-          if (DEBUG) {
-            System.out.println("DEBUG: Child 2 insanity found for" + futureID);
-          }
-          child2 = null;
+        child1 = opts.get(0);
+        child2 = opts.get(1);
+      } else if (child1 != null || child2 != null) {
+        final GAStageEvent lev = GAStageEvent.start(futureID, GAStageEvent.LOCALOPT);
+        if (child1 != null) child1 = fitness.fitness(child1, false);
+        if (child2 != null) child2 = fitness.fitness(child2, false);
+        if (lev.finish()) {
+          lev.operator = fitness.getMyID();
+          lev.commit();
         }
       }
 
@@ -265,6 +253,39 @@ public abstract class GenericAbstractDarwin<E, T extends Optimizable<E>>
     }
   }
 
+  private T sanityCheck(final T child, final int which, final long futureID) {
+
+    if (DEBUG) {
+      System.out.println("DEBUG: Child " + which + " for " + futureID + " was not null.");
+    }
+
+    final GAStageEvent sev = GAStageEvent.start(futureID, GAStageEvent.SANITYCHECK);
+    final long sanityStart = GenericDetailStatistics.startTimer();
+    final boolean sane = sanitizer.isSane(child);
+    GenericDetailStatistics.recordLatency(Latency.SANITYCHECK, sanityStart);
+    if (sev.finish()) {
+      sev.operator = sanitizer.getClass().getSimpleName();
+      sev.commit();
+    }
+    if (!sane) {
+      GenericDetailStatistics.incrementSanityDiscards();
+      if (DEBUG) {
+        System.out.println("DEBUG: Child " + which + " insanity found for " + futureID);
+      }
+      return null;
+    }
+
+    if (DEBUG) {
+      System.out.println("DEBUG: CHILD" + which + " for " + futureID + " was sane.");
+    }
+    if (printBeforeFitness) {
+      System.out.println("INFO: CHILD" + which + " " + child.getID() + " BEFORE FITNESS COMING.");
+      writer.writeIndividual(child);
+    }
+
+    return child;
+  }
+
   @Override
   public T mutate(final T start) {
     return mutation.mutate(start);
@@ -37,13 +37,14 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 */
 package org.ogolem.generic;
 
+import org.ogolem.generic.stats.DetailedStatistics.Latency;
 import org.ogolem.generic.stats.GenericDetailStatistics;
 
 /**
  * An abstract implementation for a local optimization for continuous problems
  * for gradient-free local optimizations.
  * @author Johannes Dieterich
- * @version 2020-04-29
+ * @version 2026-10-18
  */
 public abstract class GenericAbstractGradFreeLocOpt<E,T extends ContinuousProblem<E>> implements GenericLocOpt<E,T>{
     
@@ -63,12 +64,17 @@ public abstract class GenericAbstractGradFreeLocOpt<E,T extends ContinuousProble
     
     @Override
     public T fitness(final T individual, final boolean forceOneEval){     
+        final long start = GenericDetailStatistics.startTimer();
         if(forceOneEval){
             GenericDetailStatistics.incrementFitnessEvals();
-            return back.fitness(individual, forceOneEval);
+            final T res = back.fitness(individual, forceOneEval);
+            GenericDetailStatistics.recordLatency(Latency.FITNESS, start);
+            return res;
         } else{
             GenericDetailStatistics.incrementLocalOpts();
-            return optimize(individual);
+            final T res = optimize(individual);
+            GenericDetailStatistics.recordLatency(Latency.LOCALOPT, start);
+            return res;
         }
     }
     
@@ -37,12 +37,13 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 */
 package org.ogolem.generic;
 
+import org.ogolem.generic.stats.DetailedStatistics.Latency;
 import org.ogolem.generic.stats.GenericDetailStatistics;
 
 /**
  * An abstract implementation for a local optimization for continuous problems.
  * @author Johannes Dieterich
- * @version 2020-04-29
+ * @version 2026-10-18
  */
 public abstract class GenericAbstractLocOpt<E,T extends ContinuousProblem<E>> implements GenericLocOpt<E,T>{
     
@@ -62,12 +63,17 @@ public abstract class GenericAbstractLocOpt<E,T extends ContinuousProblem<E>> im
     
     @Override
     public T fitness(final T individual, final boolean forceOneEval){     
+        final long start = GenericDetailStatistics.startTimer();
         if(forceOneEval){
             GenericDetailStatistics.incrementFitnessEvals();
-            return back.fitness(individual, forceOneEval);
+            final T res = back.fitness(individual, forceOneEval);
+            GenericDetailStatistics.recordLatency(Latency.FITNESS, start);
+            return res;
         } else{
             GenericDetailStatistics.incrementLocalOpts();
-            return optimize(individual);
+            final T res = optimize(individual);
+            GenericDetailStatistics.recordLatency(Latency.LOCALOPT, start);
+            return res;
         }
     }
     
@@ -38,11 +38,13 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 package org.ogolem.generic;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * An interface for generic fitness functions.
  * @author Johannes Dieterich
- * @version 2020-04-29
+ * @version 2026-10-18
  */
 public interface GenericFitnessFunction<E,T extends Optimizable<E>> extends Serializable, Copyable {
     
@@ -59,4 +61,20 @@ public interface GenericFitnessFunction<E,T extends Optimizable<E>> extends Seri
      * @return the object the fitness is based on with the fitness set to the correct value.
      */
     T fitness(final T individual, final boolean forceOneEval);
+    
+    /**
+     * Evaluates the fitness (including local optimization, if applicable) of a batch of
+     * independent individuals. By default one after the other, implementations able to work on
+     * several individuals at once override this.
+     * @param individuals the objects we want to start with, not touched.
+     * @return the objects the fitnesses are based on, same order.
+     */
+    default List<T> fitness(final List<T> individuals){
+        final List<T> res = new ArrayList<>(individuals.size());
+        for(final T individual : individuals){
+            res.add(fitness(individual, false));
+        }
+        
+        return res;
+    }
 }
@@ -61,7 +61,7 @@ import org.ogolem.io.OutputPrimitives;
  * It also tries to gain information from previous global optimization steps.
  *
  * @author Johannes Dieterich
- * @version 2020-12-30
+ * @version 2026-10-18
  */
 public final class GenericHistory<E, T extends Optimizable<E>> implements Serializable {
 
@@ -130,6 +130,14 @@ public final class GenericHistory<E, T extends Optimizable<E>> implements Serial
     return history;
   }
 
+  /**
+   * Drops the singleton so that the next call to getReference(...) creates a fresh history. Only
+   * meant for running several independent global optimizations within one JVM (benchmarking).
+   */
+  public static synchronized void resetReference() {
+    history = null;
+  }
+
   /*
    * Methods
    */
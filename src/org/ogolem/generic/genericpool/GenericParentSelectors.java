@@ -48,7 +48,7 @@ import org.ogolem.random.RandomUtils;
  * A collection of some simple parent selection algorithms.
  * @author Johannes Dieterich
  * @author Bernd Hartke
- * @version 2020-04-29
+ * @version 2026-10-18
  */
 public class GenericParentSelectors {
     
@@ -142,7 +142,6 @@ public class GenericParentSelectors {
             this.stepAt2 = stepAt2;
         }
         
-        @SuppressWarnings("unchecked")
         @Override
         public List<T> getParents(final GenericPool<E,T> pool){
             
@@ -156,8 +155,8 @@ public class GenericParentSelectors {
             final int index2 = r.nextInt((int) Math.round(stepAt2 * poolSize));
             
             final List<T> parents = new LinkedList<>();
-            parents.add((T) pool.getIndividualAtPosition(index1).copy());
-            parents.add((T) pool.getIndividualAtPosition(index2).copy());
+            parents.add(pool.getIndividualCopyAtPosition(index1));
+            parents.add(pool.getIndividualCopyAtPosition(index2));
             
             return parents;
         }
@@ -181,7 +180,6 @@ public class GenericParentSelectors {
             this.sameNiche = sameNiche;
         }
         
-        @SuppressWarnings("unchecked")
         @Override
         public List<T> getParents(final GenericPool<E,T> pool){
             
@@ -205,8 +203,8 @@ public class GenericParentSelectors {
                     if(niche == null){
                         System.err.println("ERROR: No niche info for individual at pool position " + i + ". Returning position 0 twice as parent.");
                         final List<T> parents = new LinkedList<>();
-                        parents.add((T) pool.getIndividualAtPosition(0).copy());
-                        parents.add((T) pool.getIndividualAtPosition(0).copy());
+                        parents.add(pool.getIndividualCopyAtPosition(0));
+                        parents.add(pool.getIndividualCopyAtPosition(0));
                         
                         return parents;
                     }
@@ -260,11 +258,11 @@ public class GenericParentSelectors {
             
             final List<T> parents = new LinkedList<>();
             if(perNiche){
-                parents.add((T) pool.getIndividualAtPosition(listNicheMemberPositions.get(niche1).get(index1)).copy());
-                parents.add((T) pool.getIndividualAtPosition(listNicheMemberPositions.get(niche2).get(index2)).copy());
+                parents.add(pool.getIndividualCopyAtPosition(listNicheMemberPositions.get(niche1).get(index1)));
+                parents.add(pool.getIndividualCopyAtPosition(listNicheMemberPositions.get(niche2).get(index2)));
             }else{
-                parents.add((T) pool.getIndividualAtPosition(index1).copy());
-                parents.add((T) pool.getIndividualAtPosition(index2).copy());
+                parents.add(pool.getIndividualCopyAtPosition(index1));
+                parents.add(pool.getIndividualCopyAtPosition(index2));
             }
             
             return parents;
@@ -286,7 +284,6 @@ public class GenericParentSelectors {
             this.endProb = endProb;
         }
         
-        @SuppressWarnings("unchecked")
         @Override
         public List<T> getParents(final GenericPool<E,T> pool){
             
@@ -344,8 +341,8 @@ public class GenericParentSelectors {
             assert(index2 < poolSize && index2 >= 0);
             
             final List<T> parents = new LinkedList<>();
-            parents.add((T) pool.getIndividualAtPosition(index1).copy());
-            parents.add((T) pool.getIndividualAtPosition(index2).copy());
+            parents.add(pool.getIndividualCopyAtPosition(index1));
+            parents.add(pool.getIndividualCopyAtPosition(index2));
             
             return parents;
         }
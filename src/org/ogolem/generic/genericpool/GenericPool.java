@@ -43,23 +43,26 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.ogolem.core.FixedValues;
 import org.ogolem.generic.IndividualWriter;
 import org.ogolem.generic.Optimizable;
+import org.ogolem.generic.tracing.PoolLockEvent;
+import org.ogolem.generic.tracing.TaskTrace;
 import org.ogolem.io.OutputPrimitives;
 
 /**
  * A generic genetic pool.
  *
  * @author Johannes Dieterich
- * @version 2021-10-15
+ * @version 2026-10-18
  */
 public class GenericPool<E, T extends Optimizable<E>>
     implements Serializable, Iterable<GenericPoolEntry<E, T>> {
 
-  private static final long serialVersionUID = (long) 20211015;
+  private static final long serialVersionUID = (long) 20261018;
   private static final boolean DEBUG = false;
 
   // the pool
@@ -70,6 +73,10 @@ public class GenericPool<E, T extends Optimizable<E>>
   private final Lock roLock;
   private final Lock rwLock;
 
+  // optional accounting of the time spent waiting for the pool lock, for benchmarking purposes
+  private volatile boolean trackLockWaits = false;
+  private final LongAdder lockWaitNanos = new LongAdder();
+
   // pool configuration
   private final boolean serializeAfterNewBest;
   private final boolean writeEveryAdd;
@@ -95,6 +102,9 @@ public class GenericPool<E, T extends Optimizable<E>>
 
   private final transient ParentSelector<E, T> selector;
 
+  // null unless the individuals are kept in compact form
+  private final IndividualCompactor<E, T> compactor;
+
   public GenericPool(final GenericPoolConfig<E, T> conf, final T reference) {
 
     assert (conf != null);
@@ -122,6 +132,7 @@ public class GenericPool<E, T extends Optimizable<E>>
     }
     writer = conf.getWriter();
     selector = conf.getSelector();
+    compactor = conf.getCompactor();
     ref = (T) reference.copy();
 
     // the genetic pool
@@ -133,13 +144,68 @@ public class GenericPool<E, T extends Optimizable<E>>
     rwLock = lock.writeLock();
   }
 
+  /**
+   * Enables or disables accounting of the time all threads spent waiting to acquire the pool lock.
+   * Off by default since it costs two clock reads per lock acquisition.
+   *
+   * @param track whether to account for lock wait times
+   */
+  public void trackLockWaits(final boolean track) {
+    this.trackLockWaits = track;
+  }
+
+  /**
+   * The accumulated time spent waiting for the pool lock (read and write), summed over all threads.
+   * Only nonzero if tracking was enabled.
+   *
+   * @return the accumulated lock wait time in nanoseconds
+   */
+  public long getLockWaitNanos() {
+    return lockWaitNanos.sum();
+  }
+
+  private void lockRO() {
+    final PoolLockEvent ev = new PoolLockEvent();
+    ev.begin();
+    if (!trackLockWaits) {
+      roLock.lock();
+    } else {
+      final long start = System.nanoTime();
+      roLock.lock();
+      lockWaitNanos.add(System.nanoTime() - start);
+    }
+    commitLockEvent(ev, false);
+  }
+
+  private void lockRW() {
+    final PoolLockEvent ev = new PoolLockEvent();
+    ev.begin();
+    if (!trackLockWaits) {
+      rwLock.lock();
+    } else {
+      final long start = System.nanoTime();
+      rwLock.lock();
+      lockWaitNanos.add(System.nanoTime() - start);
+    }
+    commitLockEvent(ev, true);
+  }
+
+  private static void commitLockEvent(final PoolLockEvent ev, final boolean write) {
+    ev.end();
+    if (ev.shouldCommit()) {
+      ev.write = write;
+      ev.taskID = TaskTrace.currentTask();
+      ev.commit();
+    }
+  }
+
   public int getPoolSize() {
     return poolSize;
   }
 
   public int getCurrentPoolSize() {
 
-    roLock.lock();
+    lockRO();
     try {
       final int poolS = Math.min(poolSize, geneticPool.size());
       return poolS;
@@ -176,7 +242,7 @@ public class GenericPool<E, T extends Optimizable<E>>
       return null;
     }
 
-    roLock.lock();
+    lockRO();
     try {
       final GenericPoolEntry<E, T> entry = geneticPool.get(position);
       return entry;
@@ -196,7 +262,7 @@ public class GenericPool<E, T extends Optimizable<E>>
               + " which does not work.");
     }
 
-    roLock.lock();
+    lockRO();
     try {
       final T inv = geneticPool.get(position).individual();
       return inv;
@@ -205,6 +271,35 @@ public class GenericPool<E, T extends Optimizable<E>>
     }
   }
 
+  /**
+   * Returns an independent copy of the individual at the given position. In contrast to
+   * getIndividualAtPosition(position).copy(), this restores a compactly stored individual only
+   * once.
+   *
+   * @param position the position in the pool
+   * @return a copy of the individual that can be modified freely
+   */
+  @SuppressWarnings("unchecked")
+  public T getIndividualCopyAtPosition(final int position) {
+
+    if (position >= geneticPool.size()) {
+      throw new RuntimeException(
+          "Pool has "
+              + geneticPool.size()
+              + " entries, requested entry "
+              + position
+              + " which does not work.");
+    }
+
+    lockRO();
+    try {
+      final GenericPoolEntry<E, T> entry = geneticPool.get(position);
+      return entry.isCompact() ? entry.individual() : (T) entry.individual().copy();
+    } finally {
+      roLock.unlock();
+    }
+  }
+
   public double getFitnessOfIndividualAtPos(final int position) {
 
     if (position >= geneticPool.size()) {
@@ -217,7 +312,7 @@ public class GenericPool<E, T extends Optimizable<E>>
       return FixedValues.NONCONVERGEDENERGY;
     }
 
-    roLock.lock();
+    lockRO();
     double fitness = FixedValues.NONCONVERGEDENERGY;
     try {
       fitness = geneticPool.get(position).fitness();
@@ -239,7 +334,7 @@ public class GenericPool<E, T extends Optimizable<E>>
               + " which does not work.");
     }
 
-    roLock.lock();
+    lockRO();
     Niche n = null;
     try {
       n = geneticPool.get(position).niche();
@@ -252,14 +347,13 @@ public class GenericPool<E, T extends Optimizable<E>>
 
   public List<String> getFormattedPool() {
 
-    roLock.lock();
+    lockRO();
     try {
       final List<String> output = new ArrayList<>();
       int pos = 0;
       for (final GenericPoolEntry<E, T> entry : geneticPool) {
-        final T ind = entry.individual();
-        final long id = ind.getID();
-        final double fit = ind.getFitness();
+        final long id = entry.individualID();
+        final double fit = entry.fitness();
         final String s = String.format(Locale.US, "%6d   %10d  %18.10f", pos, id, fit);
         output.add(s);
         pos++;
@@ -273,7 +367,7 @@ public class GenericPool<E, T extends Optimizable<E>>
 
   public void removeIndividualAtPos(final int position) {
 
-    rwLock.lock();
+    lockRW();
     try {
       if (doNiching) {
         final Niche n = geneticPool.get(position).niche();
@@ -287,7 +381,7 @@ public class GenericPool<E, T extends Optimizable<E>>
 
   public void emptyPool() {
 
-    rwLock.lock();
+    lockRW();
 
     try {
       if (doNiching) {
@@ -304,7 +398,7 @@ public class GenericPool<E, T extends Optimizable<E>>
 
   public boolean addIndividualForced(final T individual, final double fitness) {
 
-    rwLock.lock();
+    lockRW();
     boolean success = false;
     try {
       success = addIndividualForcedUnsync(individual, null, fitness);
@@ -317,7 +411,7 @@ public class GenericPool<E, T extends Optimizable<E>>
 
   public boolean addIndividualForced(final T individual, final Niche niche, final double fitness) {
 
-    rwLock.lock();
+    lockRW();
     boolean success = false;
     try {
       addIndividualForcedUnsync(individual, niche, fitness);
@@ -358,7 +452,8 @@ public class GenericPool<E, T extends Optimizable<E>>
       final GenericPoolEntry<E, T> entry = geneticPool.get(pos);
       final double posFit = entry.fitness();
       if (fitness < posFit) {
-        final GenericPoolEntry<E, T> newEntry = new GenericPoolEntry<>(individual, fitness, niche);
+        final GenericPoolEntry<E, T> newEntry =
+            new GenericPoolEntry<>(individual, fitness, niche, compactor);
         geneticPool.add(pos, newEntry);
         if (doNiching && niche != null) {
           nicher.report(niche);
@@ -372,7 +467,8 @@ public class GenericPool<E, T extends Optimizable<E>>
     }
 
     if (currentSize < poolSize) {
-      final GenericPoolEntry<E, T> newEntry = new GenericPoolEntry<>(individual, fitness, niche);
+      final GenericPoolEntry<E, T> newEntry =
+          new GenericPoolEntry<>(individual, fitness, niche, compactor);
       geneticPool.add(newEntry);
       if (doNiching && niche != null) {
         nicher.report(niche);
@@ -425,7 +521,7 @@ public class GenericPool<E, T extends Optimizable<E>>
         int c = 0;
         int checkPos = pos;
         while (c < checkBackForth && checkPos >= 0) {
-          final long thisID = geneticPool.get(checkPos).individual().getID();
+          final long thisID = geneticPool.get(checkPos).individualID();
           if (thisID == myID) {
             // known
             return false;
@@ -437,7 +533,7 @@ public class GenericPool<E, T extends Optimizable<E>>
         c = 1;
         checkPos = pos + 1;
         while (c < checkBackForth && checkPos < currentSize) {
-          final long thisID = geneticPool.get(checkPos).individual().getID();
+          final long thisID = geneticPool.get(checkPos).individualID();
           if (thisID == myID) {
             // known
             return false;
@@ -446,7 +542,8 @@ public class GenericPool<E, T extends Optimizable<E>>
           checkPos++;
         }
 
-        final GenericPoolEntry<E, T> newEntry = new GenericPoolEntry<>(individual, fitness, niche);
+        final GenericPoolEntry<E, T> newEntry =
+            new GenericPoolEntry<>(individual, fitness, niche, compactor);
         geneticPool.add(pos, newEntry);
         if (doNiching && niche != null) {
           nicher.report(niche);
@@ -460,7 +557,8 @@ public class GenericPool<E, T extends Optimizable<E>>
     }
 
     if (currentSize < poolSize) {
-      final GenericPoolEntry<E, T> newEntry = new GenericPoolEntry<>(individual, fitness, niche);
+      final GenericPoolEntry<E, T> newEntry =
+          new GenericPoolEntry<>(individual, fitness, niche, compactor);
       geneticPool.add(newEntry);
       if (doNiching && niche != null) {
         nicher.report(niche);
@@ -473,7 +571,7 @@ public class GenericPool<E, T extends Optimizable<E>>
   }
 
   public void replacePoolContent(final List<T> newIndividuals) {
-    rwLock.lock();
+    lockRW();
     try {
       unSyncReplacePoolContent(newIndividuals, null);
     } finally {
@@ -482,7 +580,7 @@ public class GenericPool<E, T extends Optimizable<E>>
   }
 
   public void replacePoolContent(final List<T> newIndividuals, final List<Niche> niches) {
-    rwLock.lock();
+    lockRW();
     try {
       unSyncReplacePoolContent(newIndividuals, niches);
     } finally {
@@ -522,8 +620,8 @@ public class GenericPool<E, T extends Optimizable<E>>
 
       final GenericPoolEntry<E, T> newEntry =
           (niches == null)
-              ? new GenericPoolEntry<>(individual, fitness, null)
-              : new GenericPoolEntry<>(individual, fitness, niches.get(i));
+              ? new GenericPoolEntry<>(individual, fitness, null, compactor)
+              : new GenericPoolEntry<>(individual, fitness, niches.get(i), compactor);
       geneticPool.add(newEntry);
       if (doNiching && niches != null) {
         nicher.report(niches.get(i));
@@ -535,7 +633,7 @@ public class GenericPool<E, T extends Optimizable<E>>
   }
 
   public boolean addIndividual(final T individual, final double fitness) {
-    rwLock.lock();
+    lockRW();
     try {
       final boolean added = addIndividualUnsync(individual, null, fitness);
       return added;
@@ -545,7 +643,7 @@ public class GenericPool<E, T extends Optimizable<E>>
   }
 
   public boolean addIndividual(final T individual, final Niche niche, final double fitness) {
-    rwLock.lock();
+    lockRW();
     try {
       final boolean added = addIndividualUnsync(individual, niche, fitness);
       return added;
@@ -568,7 +666,7 @@ public class GenericPool<E, T extends Optimizable<E>>
   }
 
   public int addIndividualToPool(final T individual, final double fitness) {
-    rwLock.lock();
+    lockRW();
     try {
       final int pos = addIndividualToPoolUnsync(individual, null, fitness);
       return pos;
@@ -578,7 +676,7 @@ public class GenericPool<E, T extends Optimizable<E>>
   }
 
   public int addIndividualToPool(final T individual, final Niche niche, final double fitness) {
-    rwLock.lock();
+    lockRW();
     try {
       final int pos = addIndividualToPoolUnsync(individual, niche, fitness);
       return pos;
@@ -664,7 +762,7 @@ public class GenericPool<E, T extends Optimizable<E>>
         final double posFit = entry.fitness();
         if (fitness < posFit) {
 
-          final GenericPoolEntry<E, T> addEntry = newEntry.copy();
+          final GenericPoolEntry<E, T> addEntry = toStored(newEntry);
           geneticPool.add(pos, addEntry);
 
           nicher.report(niche);
@@ -707,8 +805,9 @@ public class GenericPool<E, T extends Optimizable<E>>
 
       // if the pool is not entirely filled, add in the end
       if (currentSize < poolSize) {
-        geneticPool.add(newEntry);
-        microManage(newEntry, currentSize, true);
+        final GenericPoolEntry<E, T> addEntry = (compactor == null) ? newEntry : toStored(newEntry);
+        geneticPool.add(addEntry);
+        microManage(addEntry, currentSize, true);
         nicher.report(niche);
         return currentSize;
       }
@@ -732,7 +831,7 @@ public class GenericPool<E, T extends Optimizable<E>>
           if (!divBack) {
             // not enough diversity compared to the previous pos individual -> "replace" the other
             // individual, thereby keeping the pool size constant
-            final GenericPoolEntry<E, T> addEntry = newEntry.copy();
+            final GenericPoolEntry<E, T> addEntry = toStored(newEntry);
             geneticPool.set(pos, addEntry);
             // ensure pool size
             ensureSize(poolSize);
@@ -742,7 +841,7 @@ public class GenericPool<E, T extends Optimizable<E>>
           }
 
           // both diversity to the front AND to the back. just add in between.
-          final GenericPoolEntry<E, T> addEntry = newEntry.copy();
+          final GenericPoolEntry<E, T> addEntry = toStored(newEntry);
           geneticPool.add(pos, addEntry);
 
           // ensure pool size
@@ -755,7 +854,8 @@ public class GenericPool<E, T extends Optimizable<E>>
 
       // if the pool is not entirely filled, add in the end
       if (currentSize < poolSize) {
-        final GenericPoolEntry<E, T> newEntry = new GenericPoolEntry<>(individual, fitness, niche);
+        final GenericPoolEntry<E, T> newEntry =
+            new GenericPoolEntry<>(individual, fitness, niche, compactor);
         geneticPool.add(newEntry);
         microManage(newEntry, currentSize, true);
         return currentSize;
@@ -787,7 +887,7 @@ public class GenericPool<E, T extends Optimizable<E>>
     assert (!Double.isNaN(fitness));
 
     boolean hasChance = true;
-    roLock.lock();
+    lockRO();
     try {
       // only check this if the pool is fully filled
       final int currentSize = geneticPool.size();
@@ -811,7 +911,7 @@ public class GenericPool<E, T extends Optimizable<E>>
 
   public List<T> getParents() {
 
-    roLock.lock();
+    lockRO();
     try {
       final List<T> parents = selector.getParents(this);
       return parents;
@@ -822,7 +922,7 @@ public class GenericPool<E, T extends Optimizable<E>>
 
   public double[] getAllFitnesses() {
 
-    roLock.lock();
+    lockRO();
     try {
       final double[] fs = new double[geneticPool.size()];
       for (int i = 0; i < geneticPool.size(); i++) {
@@ -837,7 +937,7 @@ public class GenericPool<E, T extends Optimizable<E>>
 
   public boolean acceptableFitnessReached() {
 
-    roLock.lock();
+    lockRO();
     try {
       final boolean done =
           (geneticPool.isEmpty()) ? false : (geneticPool.get(0).fitness() <= acceptableFitness);
@@ -862,6 +962,7 @@ public class GenericPool<E, T extends Optimizable<E>>
     conf.add(" intermediate pool file " + interBinFile);
     conf.add(" target fitness for pool " + acceptableFitness);
     conf.add(" are we niching? " + doNiching);
+    conf.add(" compact storage of individuals " + (compactor != null));
 
     return conf;
   }
@@ -872,13 +973,12 @@ public class GenericPool<E, T extends Optimizable<E>>
 
     assert (newEntry != null);
     assert (posAdded >= 0);
-    assert (newEntry.individual() != null);
 
     countAddsSerial++;
     if (!forced) {
       countAddsStats++;
     }
-    stats.individualAddedToPool(newEntry.individual().getID(), posAdded, newEntry.fitness());
+    stats.individualAddedToPool(newEntry.individualID(), posAdded, newEntry.fitness());
     if ((posAdded == 0 && serializeAfterNewBest) || countAddsSerial >= addsToSerial) {
       serializeMe();
       countAddsSerial = 0;
@@ -895,6 +995,18 @@ public class GenericPool<E, T extends Optimizable<E>>
     }
   }
 
+  /**
+   * The entry as it is kept in the pool: a deep copy of the candidate entry or, with compact
+   * storage, its packed form (which does not reference the candidate's individual anymore).
+   */
+  private GenericPoolEntry<E, T> toStored(final GenericPoolEntry<E, T> entry) {
+    if (compactor == null) {
+      return entry.copy();
+    }
+    final Niche n = (entry.niche() == null) ? null : entry.niche().copy();
+    return new GenericPoolEntry<>(entry.individual(), entry.fitness(), n, compactor);
+  }
+
   /** NOT threadsafe - will require external read locking if called from a threading context. */
   void serializeMe() {
 
@@ -931,7 +1043,7 @@ public class GenericPool<E, T extends Optimizable<E>>
 
   /** Acquire the read lock of the pool. */
   public void acquireReadLock() {
-    roLock.lock();
+    lockRO();
   }
 
   /** Release the read lock of the pool. */
@@ -941,7 +1053,7 @@ public class GenericPool<E, T extends Optimizable<E>>
 
   /** Acquire the write lock of the pool. */
   public void acquireWriteLock() {
-    rwLock.lock();
+    lockRW();
   }
 
   /** Release the write lock of the pool. */
@@ -47,11 +47,11 @@ import org.ogolem.generic.Optimizable;
 /**
  * Configuration for the generic pool.
  * @author Johannes Dieterich
- * @version 2016-04-19
+ * @version 2026-10-18
  */
 public class GenericPoolConfig<E,T extends Optimizable<E>> implements Serializable {
     
-    private static final long serialVersionUID = (long) 20150803;
+    private static final long serialVersionUID = (long) 20261018;
     
     private boolean serializeAfterNewBest = false;
     private boolean writeEveryAdd = false;
@@ -69,6 +69,7 @@ public class GenericPoolConfig<E,T extends Optimizable<E>> implements Serializab
     private GenericStatistics stats = null;
     private IndividualWriter<T> writer = null;
     private ParentSelector<E,T> selector = null;
+    private IndividualCompactor<E,T> compactor = null;
     
     public GenericPoolConfig(){
     }
@@ -230,6 +231,18 @@ public class GenericPoolConfig<E,T extends Optimizable<E>> implements Serializab
         this.selector = selector;
     }
     
+    public IndividualCompactor<E,T> getCompactor() {
+        return compactor;
+    }
+
+    /**
+     * Enables compact storage of the pool individuals.
+     * @param compactor the compactor, null (default) stores full individuals
+     */
+    public void setCompactor(IndividualCompactor<E,T> compactor) {
+        this.compactor = compactor;
+    }
+    
     public final void beSilent(){
         this.beSilent = true;
     }
@@ -247,6 +260,7 @@ public class GenericPoolConfig<E,T extends Optimizable<E>> implements Serializab
         out.add("\tpool size " + poolSize);
         out.add("\tniching enabled? " + doNiching);
         out.add("\tsilent enabled?" + beSilent);
+        out.add("\tcompact storage? " + (compactor != null));
         out.add("");
         out.add("##################################");
         // XXX extend
@@ -42,22 +42,92 @@ import org.ogolem.generic.Copyable;
 import org.ogolem.generic.Optimizable;
 
 /**
- * An individual for the generic pool
+ * An individual for the generic pool. If the pool runs with an {@link IndividualCompactor}, the
+ * entry only holds the compact form of the individual and restores it upon each call to
+ * individual(). ID and fitness are always kept explicitly so that the bookkeeping of the pool never
+ * needs to restore an individual.
  *
  * @author Johannes Dieterich
- * @version 2021-10-15
+ * @version 2026-10-18
  */
-public record GenericPoolEntry<E, T extends Optimizable<E>>(
-    T individual, double fitness, Niche niche) implements Serializable, Copyable {
+public final class GenericPoolEntry<E, T extends Optimizable<E>> implements Serializable, Copyable {
 
-  private static final long serialVersionUID = (long) 201211015;
+  private static final long serialVersionUID = (long) 20261018;
+
+  private final T individual;
+  private final Serializable compact;
+  private final IndividualCompactor<E, T> compactor;
+  private final long id;
+  private final double fitness;
+  private final Niche niche;
+
+  public GenericPoolEntry(final T individual, final double fitness, final Niche niche) {
+    this(individual, fitness, niche, null);
+  }
+
+  /**
+   * Creates an entry, packing the individual if a compactor is given and the individual can be
+   * packed.
+   *
+   * @param individual the individual
+   * @param fitness its fitness
+   * @param niche its niche, may be null
+   * @param compactor the compactor, may be null for a plain entry
+   */
+  public GenericPoolEntry(
+      final T individual,
+      final double fitness,
+      final Niche niche,
+      final IndividualCompactor<E, T> compactor) {
+    final Serializable packed =
+        (compactor == null || individual == null) ? null : compactor.compact(individual);
+    this.individual = (packed == null) ? individual : null;
+    this.compact = packed;
+    this.compactor = (packed == null) ? null : compactor;
+    this.id = (individual == null) ? -1 : individual.getID();
+    this.fitness = fitness;
+    this.niche = niche;
+  }
+
+  private GenericPoolEntry(final GenericPoolEntry<E, T> orig, final T individual) {
+    this.individual = individual;
+    this.compact = orig.compact; // immutable, can be shared
+    this.compactor = orig.compactor;
+    this.id = orig.id;
+    this.fitness = orig.fitness;
+    this.niche = (orig.niche == null) ? null : orig.niche.copy();
+  }
+
+  /**
+   * The individual. For a compact entry, this is a freshly restored individual on every call and
+   * changes to it do not propagate back into the pool.
+   *
+   * @return the individual
+   */
+  public T individual() {
+    return (compact == null) ? individual : compactor.expand(compact);
+  }
+
+  public long individualID() {
+    return id;
+  }
+
+  public double fitness() {
+    return fitness;
+  }
+
+  public Niche niche() {
+    return niche;
+  }
+
+  public boolean isCompact() {
+    return compact != null;
+  }
 
   @SuppressWarnings("unchecked")
   @Override
   public GenericPoolEntry<E, T> copy() {
-    final double fit = fitness;
     final T ind = (individual == null) ? null : (T) individual.copy();
-    final Niche n = (niche == null) ? null : niche.copy();
-    return new GenericPoolEntry<>(ind, fit, n);
+    return new GenericPoolEntry<>(this, ind);
   }
 }
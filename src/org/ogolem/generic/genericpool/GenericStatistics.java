@@ -48,7 +48,7 @@ import java.util.Calendar;
  * This is a really simple stub for a statistics object.
  *
  * @author Johannes Dieterich
- * @version 2020-12-30
+ * @version 2026-10-18
  */
 public final class GenericStatistics implements Serializable {
 
@@ -235,4 +235,21 @@ public final class GenericStatistics implements Serializable {
   void silence() {
     this.beSilent = true;
   }
+
+  /**
+   * A fresh statistics object with the same settings logging to another file, e.g., for the pools
+   * of an island model.
+   *
+   * @param log The path to the log file.
+   * @return the new statistics object
+   */
+  public GenericStatistics withLogFile(final String log) {
+    final GenericStatistics other = new GenericStatistics(log, noBestCountsToFlush, !beSilent);
+    other.beSilent = beSilent;
+    return other;
+  }
+
+  public String getLogFile() {
+    return logFile;
+  }
 }
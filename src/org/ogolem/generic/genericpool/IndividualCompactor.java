@@ -1,5 +1,5 @@
-/**
-Copyright (c) 2015, J. M. Dieterich and B. Hartke
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
 All rights reserved.
 
 Redistribution and use in source and binary forms, with or without
@@ -34,68 +34,35 @@ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
 (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
 SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 */
-package org.ogolem.familytree;
+package org.ogolem.generic.genericpool;
 
 import java.io.Serializable;
+import org.ogolem.generic.Optimizable;
 
 /**
- * A single genetic record. Only for package internal use!
+ * Packs individuals into a compact form for storage in the pool and restores them on demand. The
+ * compact form should only hold what differs between individuals, everything static is meant to
+ * live once in the compactor.
+ *
  * @author Johannes Dieterich
- * @version 2015-07-10
+ * @version 2026-10-18
  */
-class GeneticRecord implements Serializable {
-    
-    private static final long serialVersionUID = (long) 20150710;
-    
-    private final int id;
-    private final int father;
-    private final int mother;
-    private final boolean wasNull;
-    private final boolean wasAccepted;
-    private boolean inFinalPool = false;
-    private int noChildren = 0;
-    
-    GeneticRecord(final int id, final int mother, final int father, final boolean wasAccepted, final boolean wasNull){
-        this.id = id;
-        this.mother = mother;
-        this.father = father;
-        this.wasAccepted = wasAccepted;
-        this.wasNull = wasNull;
-    }
-    
-    void incrementChildren(){
-        noChildren++;
-    }
-    
-    int id() {
-        return id;
-    }
-
-    int father() {
-        return father;
-    }
-
-    int mother() {
-        return mother;
-    }
-
-    boolean wasNull() {
-        return wasNull;
-    }
-
-    boolean wasAccepted() {
-        return wasAccepted;
-    }
+public interface IndividualCompactor<E, T extends Optimizable<E>> extends Serializable {
 
-    int noChildren() {
-        return noChildren;
-    }
-    
-    boolean isInFinalPool() {
-        return inFinalPool;
-    }
+  /**
+   * Packs an individual. The individual itself is not modified.
+   *
+   * @param individual the individual to pack, never null
+   * @return the compact form, or null if this individual cannot be packed (the pool will then keep
+   *     the full individual)
+   */
+  Serializable compact(final T individual);
 
-    void setInFinalPool(final boolean inFinalPool) {
-        this.inFinalPool = inFinalPool;
-    }
-}
\ No newline at end of file
+  /**
+   * Restores a full individual from its compact form.
+   *
+   * @param compact a compact form as obtained from compact()
+   * @return a new, independent individual
+   */
+  T expand(final Serializable compact);
+}
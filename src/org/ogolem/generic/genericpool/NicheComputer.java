@@ -39,13 +39,15 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 package org.ogolem.generic.genericpool;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import org.ogolem.generic.Copyable;
 import org.ogolem.generic.Optimizable;
 
 /**
  * Computes a niche.
  * @author Johannes Dieterich
- * @version 2020-04-29
+ * @version 2026-10-18
  */
 public interface NicheComputer<E,T extends Optimizable<E>> extends Serializable, Copyable {
     
@@ -53,4 +55,19 @@ public interface NicheComputer<E,T extends Optimizable<E>> extends Serializable,
     NicheComputer<E,T> copy();
     
     Niche computeNiche(final T individual);
+    
+    /**
+     * Computes the niches of many individuals at once, e.g., when (re-)niching a whole pool.
+     * The default computes them one by one. Implementations may share work between the individuals.
+     * @param individuals the individuals
+     * @return their niches, same order
+     */
+    default List<Niche> computeNiches(final List<T> individuals){
+        final List<Niche> niches = new ArrayList<>(individuals.size());
+        for(final T individual : individuals){
+            niches.add(computeNiche(individual));
+        }
+        
+        return niches;
+    }
 }
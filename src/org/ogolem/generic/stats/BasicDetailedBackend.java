@@ -35,80 +35,103 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 */
 package org.ogolem.generic.stats;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * A basic backend.
+ * A basic backend. All counters are LongAdders, so incrementing them from many
+ * threads at once does not serialize on a monitor.
  * @author Johannes Dieterich
- * @version 2014-07-08
+ * @version 2026-10-18
  */
 public class BasicDetailedBackend implements DetailedStatistics {
     
-    private long countTotTrials = 0l;
-    private long countLocOpts = 0l;
-    private long countFitEval = 0l;
-    private long countGradEval = 0l;
-    private long countSanDisc = 0l;
-    private final Map<String,Long> countUnknown = new HashMap<>();
+    private final LongAdder countTotTrials = new LongAdder();
+    private final LongAdder countLocOpts = new LongAdder();
+    private final LongAdder countFitEval = new LongAdder();
+    private final LongAdder countGradEval = new LongAdder();
+    private final LongAdder countSanDisc = new LongAdder();
+    private final ConcurrentHashMap<String,LongAdder> countUnknown = new ConcurrentHashMap<>();
+    private final Map<Latency,LatencyHistogram> latencies = new EnumMap<>(Latency.class);
+    
+    public BasicDetailedBackend(){
+        for(final Latency kind : Latency.values()){
+            latencies.put(kind, new LatencyHistogram());
+        }
+    }
     
     @Override
-    public synchronized void incrementTrials(){
-        countTotTrials++;
+    public void incrementTrials(){
+        countTotTrials.increment();
     }
     
     @Override
     public long getTotalTrials(){
-        return countTotTrials;
+        return countTotTrials.sum();
     }
 
     @Override
-    public synchronized void incrementLocalOpts() {
-        countLocOpts++;
+    public void incrementLocalOpts() {
+        countLocOpts.increment();
     }
 
     @Override
     public long getTotalLocOpts() {
-        return countLocOpts;
+        return countLocOpts.sum();
     }
 
     @Override
-    public synchronized void incrementFitnessEvals() {
-        countFitEval++;
+    public void incrementFitnessEvals() {
+        countFitEval.increment();
     }
 
     @Override
     public long getTotalFitnessEvals() {
-        return countFitEval;
+        return countFitEval.sum();
     }
     
     @Override
-    public synchronized void incrementGradientEvals(){
-        countGradEval++;
+    public void incrementGradientEvals(){
+        countGradEval.increment();
     }
     
     @Override
     public long getTotalGradientEvals(){
-        return countGradEval;
+        return countGradEval.sum();
     }
 
     @Override
-    public synchronized void incrementSanityDiscards() {
-        countSanDisc++;
+    public void incrementSanityDiscards() {
+        countSanDisc.increment();
     }
 
     @Override
     public long getTotalSanityDiscards() {
-        return countSanDisc;
+        return countSanDisc.sum();
     }
 
     @Override
-    public synchronized void incrementUnknown(final String id) {
-        countUnknown.put(id, 0l);
+    public void incrementUnknown(final String id) {
+        countUnknown.computeIfAbsent(id, (k) -> new LongAdder()).increment();
     }
 
     @Override
     public Map<String, Long> getAllUnknownCounters() {
-        return countUnknown;
+        final Map<String,Long> snapshot = new TreeMap<>();
+        countUnknown.forEach((id, count) -> snapshot.put(id, count.sum()));
+        return snapshot;
+    }
+    
+    @Override
+    public void recordLatency(final Latency kind, final long nanos) {
+        latencies.get(kind).record(nanos);
+    }
+    
+    @Override
+    public LatencyHistogram getLatencies(final Latency kind) {
+        return latencies.get(kind);
     }
 }
@@ -41,10 +41,13 @@ import java.util.Map;
 /**
  * What hooks we offer for detailed statistics.
  * @author Johannes Dieterich
- * @version 2014-07-08
+ * @version 2026-10-18
  */
 public interface DetailedStatistics {
     
+    /** What we record latencies for. */
+    enum Latency {LOCALOPT, FITNESS, SANITYCHECK}
+    
     // a set of FAST hooks
     void incrementTrials();
     
@@ -70,4 +73,14 @@ public interface DetailedStatistics {
     void incrementUnknown(final String id);
     
     Map<String,Long> getAllUnknownCounters();
+    
+    // latencies, in nanoseconds
+    void recordLatency(final Latency kind, final long nanos);
+    
+    /**
+     * Get the histogram for one kind of latency.
+     * @param kind the kind of latency
+     * @return the histogram, null if latencies are not recorded
+     */
+    LatencyHistogram getLatencies(final Latency kind);
 }
@@ -0,0 +1,114 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.generic.stats;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically appends a snapshot of the detailed statistics as one JSON line to a file, so that
+ * long runs can be followed (and scraped) while they are going on. A last snapshot is written when
+ * closed.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public final class DetailedStatisticsExporter implements AutoCloseable {
+
+  private static final Logger l = LoggerFactory.getLogger(DetailedStatisticsExporter.class);
+
+  private final Path file;
+  private final ScheduledExecutorService timer;
+
+  /**
+   * Starts exporting.
+   *
+   * @param file the JSON lines file to append to
+   * @param intervalSecs seconds between two snapshots, must be positive
+   */
+  public DetailedStatisticsExporter(final String file, final long intervalSecs) {
+
+    if (intervalSecs <= 0) {
+      throw new IllegalArgumentException(
+          "Interval for statistics export must be positive, is " + intervalSecs);
+    }
+
+    this.file = Paths.get(file);
+    this.timer =
+        Executors.newSingleThreadScheduledExecutor(
+            (r) -> {
+              final Thread t = new Thread(r, "ogolem-statsexport");
+              t.setDaemon(true);
+              return t;
+            });
+    timer.scheduleAtFixedRate(this::export, intervalSecs, intervalSecs, TimeUnit.SECONDS);
+  }
+
+  @Override
+  public void close() {
+    timer.shutdown();
+    try {
+      timer.awaitTermination(1, TimeUnit.MINUTES);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    export();
+  }
+
+  private synchronized void export() {
+    final String line = GenericDetailStatistics.getJSONSnapshot() + System.lineSeparator();
+    try {
+      Files.write(
+          file,
+          line.getBytes(StandardCharsets.UTF_8),
+          StandardOpenOption.CREATE,
+          StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      // not worth dying for, maybe the next one works
+      l.warn("Failed to export detailed statistics to " + file + ".", e);
+    }
+  }
+}
@@ -42,7 +42,7 @@ import java.util.Map;
 /**
  * A bunch of no-ops. :-)
  * @author Johannes Dieterich
- * @version 2014-07-08
+ * @version 2026-10-18
  */
 public class DummyDetailedStats implements DetailedStatistics{
     
@@ -99,4 +99,13 @@ public class DummyDetailedStats implements DetailedStatistics{
     public Map<String, Long> getAllUnknownCounters() {
         return new HashMap<>();
     }
+    
+    @Override
+    public void recordLatency(final Latency kind, final long nanos) {
+    }
+    
+    @Override
+    public LatencyHistogram getLatencies(final Latency kind) {
+        return null;
+    }
 }
@@ -38,20 +38,22 @@ package org.ogolem.generic.stats;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import org.ogolem.generic.stats.DetailedStatistics.Latency;
 
 /**
  * A statistic object for detailed statistics. Please note: this MUST ensure
  * that calls are NO-OP if statistics are not enabled AND also note that this
  * obviously does not work when running in an MPP fashion (via either RMI or MPI).
  * @author Johannes Dieterich
- * @version 2014-07-09
+ * @version 2026-10-18
  */
 public class GenericDetailStatistics {
     
-    private static boolean isEnabled = false;
+    private static volatile boolean isEnabled = false;
     private static DetailedStatistics backend = new DummyDetailedStats();
     
     private GenericDetailStatistics(){}; // disallow instantiation
@@ -65,7 +67,11 @@ public class GenericDetailStatistics {
         backend.incrementTrials();
     }
     
-    public long getTotalTrials(){
+    public static boolean isEnabled(){
+        return isEnabled;
+    }
+    
+    public static long getTotalTrials(){
         return backend.getTotalTrials();
     }
     
@@ -109,6 +115,104 @@ public class GenericDetailStatistics {
         return backend.getAllUnknownCounters();
     }
     
+    /**
+     * Start timing something. Cheap (no clock read) if statistics are not enabled.
+     * @return the start time to be handed to recordLatency()
+     */
+    public static long startTimer(){
+        return (isEnabled) ? System.nanoTime() : 0l;
+    }
+    
+    /**
+     * Record the latency of something timed with startTimer().
+     * @param kind what was timed
+     * @param start the value startTimer() returned
+     */
+    public static void recordLatency(final Latency kind, final long start){
+        if(isEnabled){
+            backend.recordLatency(kind, System.nanoTime() - start);
+        }
+    }
+    
+    /**
+     * @param kind the kind of latency
+     * @return the histogram, null if statistics are not enabled
+     */
+    public static LatencyHistogram getLatencies(final Latency kind){
+        return backend.getLatencies(kind);
+    }
+    
+    /**
+     * A snapshot of all counters and latency percentiles (in nanoseconds) as one line
+     * of JSON.
+     * @return the snapshot, empty object if statistics are not enabled
+     */
+    public static String getJSONSnapshot(){
+        
+        if(!isEnabled){
+            return "{}";
+        }
+        
+        return toJSON(backend, System.currentTimeMillis());
+    }
+    
+    /**
+     * The JSON snapshot of one statistics backend.
+     * @param stats the statistics
+     * @param time the time stamp of the snapshot, in milliseconds since the epoch
+     * @return the snapshot as one line of JSON
+     */
+    static String toJSON(final DetailedStatistics stats, final long time){
+        
+        final StringBuilder sb = new StringBuilder(512);
+        sb.append("{\"time\":").append(time);
+        sb.append(",\"trials\":").append(stats.getTotalTrials());
+        sb.append(",\"sanitydiscards\":").append(stats.getTotalSanityDiscards());
+        sb.append(",\"localopts\":").append(stats.getTotalLocOpts());
+        sb.append(",\"fitnessevals\":").append(stats.getTotalFitnessEvals());
+        sb.append(",\"gradientevals\":").append(stats.getTotalGradientEvals());
+        sb.append(",\"custom\":{");
+        boolean first = true;
+        for(final Entry<String,Long> entry : stats.getAllUnknownCounters().entrySet()){
+            if(!first) sb.append(',');
+            first = false;
+            sb.append('"').append(escape(entry.getKey())).append("\":").append(entry.getValue());
+        }
+        sb.append("},\"latencies\":{");
+        first = true;
+        for(final Latency kind : Latency.values()){
+            final LatencyHistogram hist = stats.getLatencies(kind);
+            if(hist == null) continue;
+            if(!first) sb.append(',');
+            first = false;
+            sb.append('"').append(kind.name().toLowerCase()).append("\":{");
+            sb.append("\"count\":").append(hist.getCount());
+            sb.append(",\"mean\":").append(hist.getMean());
+            sb.append(",\"p50\":").append(hist.getValueAtPercentile(50.0));
+            sb.append(",\"p90\":").append(hist.getValueAtPercentile(90.0));
+            sb.append(",\"p99\":").append(hist.getValueAtPercentile(99.0));
+            sb.append(",\"max\":").append(hist.getMax());
+            sb.append('}');
+        }
+        sb.append("}}");
+        
+        return sb.toString();
+    }
+    
+    private static String escape(final String s){
+        final StringBuilder sb = new StringBuilder(s.length());
+        for(final char c : s.toCharArray()){
+            if(c == '"' || c == '\\'){
+                sb.append('\\').append(c);
+            } else if(c < 0x20){
+                sb.append(String.format("\\u%04x", (int) c));
+            } else{
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+    
     public static List<String> getOutput(){
         
         if(!isEnabled){
@@ -150,6 +254,17 @@ public class GenericDetailStatistics {
             out.add("Number of " + entry.getKey() + ": " + entry.getValue());
         });
         
+        out.add("");
+        out.add("Latencies in ms:            count      mean       p50       p90       p99       max");
+        for(final Latency kind : Latency.values()){
+            final LatencyHistogram hist = backend.getLatencies(kind);
+            if(hist == null || hist.getCount() == 0) continue;
+            out.add(String.format(Locale.US, "%-20s %14d %9.3f %9.3f %9.3f %9.3f %9.3f", kind.name().toLowerCase(),
+                    hist.getCount(), hist.getMean()*1e-6, hist.getValueAtPercentile(50.0)*1e-6,
+                    hist.getValueAtPercentile(90.0)*1e-6, hist.getValueAtPercentile(99.0)*1e-6,
+                    hist.getMax()*1e-6));
+        }
+        
         out.add("");
         out.add("#######################################");
         out.add("");
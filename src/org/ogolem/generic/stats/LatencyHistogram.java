@@ -0,0 +1,146 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.generic.stats;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram in the spirit of HdrHistogram: log-linear buckets (every power of
+ * two is split into 32 linear sub-buckets), so percentiles are accurate to about 3% over the full
+ * range of long values at a fixed footprint. Recording is wait-free apart from one CAS on the
+ * bucket.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public final class LatencyHistogram {
+
+  private static final int SUBBITS = 5;
+  private static final int SUBBUCKETS = 1 << SUBBITS;
+  private static final int NOBUCKETS = (64 - SUBBITS) * SUBBUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(NOBUCKETS);
+  private final LongAdder total = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Long::max, 0L);
+
+  /**
+   * Records one value.
+   *
+   * @param value the value (e.g., a duration in nanoseconds), negative values are recorded as zero
+   */
+  public void record(final long value) {
+    final long v = Math.max(0L, value);
+    counts.incrementAndGet(bucketOf(v));
+    total.increment();
+    sum.add(v);
+    max.accumulate(v);
+  }
+
+  public long getCount() {
+    return total.sum();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  public long getMean() {
+    final long n = total.sum();
+    return (n == 0) ? 0L : sum.sum() / n;
+  }
+
+  /**
+   * The value below which the given percentage of the recorded values fall, to within the bucket
+   * precision. Concurrent recording may skew the result slightly.
+   *
+   * @param percentile between 0 and 100
+   * @return the value at this percentile, zero if nothing has been recorded
+   */
+  public long getValueAtPercentile(final double percentile) {
+
+    final long[] snapshot = new long[NOBUCKETS];
+    long n = 0;
+    for (int i = 0; i < NOBUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      n += snapshot[i];
+    }
+    if (n == 0) {
+      return 0L;
+    }
+
+    final double p = Math.min(100.0, Math.max(0.0, percentile));
+    final long target = Math.max(1L, (long) Math.ceil(p / 100.0 * n));
+    long cumulative = 0;
+    for (int i = 0; i < NOBUCKETS; i++) {
+      cumulative += snapshot[i];
+      if (cumulative >= target) {
+        return Math.min(highestEquivalentValue(i), getMax());
+      }
+    }
+
+    return getMax();
+  }
+
+  static int bucketOf(final long v) {
+    if (v < SUBBUCKETS) {
+      return (int) v;
+    }
+    final int shift = 63 - Long.numberOfLeadingZeros(v) - SUBBITS;
+    final int sub = (int) (v >>> shift) - SUBBUCKETS;
+    return (shift + 1) * SUBBUCKETS + sub;
+  }
+
+  static long lowestEquivalentValue(final int bucket) {
+    if (bucket < SUBBUCKETS) {
+      return bucket;
+    }
+    final int shift = bucket / SUBBUCKETS - 1;
+    final long sub = bucket % SUBBUCKETS;
+    return (SUBBUCKETS + sub) << shift;
+  }
+
+  static long highestEquivalentValue(final int bucket) {
+    if (bucket < SUBBUCKETS) {
+      return bucket;
+    }
+    final int shift = bucket / SUBBUCKETS - 1;
+    return lowestEquivalentValue(bucket) + (1L << shift) - 1;
+  }
+}
@@ -45,6 +45,8 @@ import org.ogolem.generic.generichistory.GenericHistory;
 import org.ogolem.generic.genericpool.GenericPool;
 import org.ogolem.generic.genericpool.Niche;
 import org.ogolem.generic.genericpool.NicheComputer;
+import org.ogolem.generic.tracing.GAStageEvent;
+import org.ogolem.generic.tracing.TaskTrace;
 import org.ogolem.helpers.Tuple;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,7 +54,7 @@ import org.slf4j.LoggerFactory;
 /**
  * A generic implementation of a global optimization task.
  * @author Johannes Dieterich
- * @version 2020-04-29
+ * @version 2026-10-18
  */
 public class GenericGlobOptTask <E,T extends Optimizable<E>,V extends GenericGlobalOptimization<E,T>> implements TaskFactory<E,T,V>{
     
@@ -102,8 +104,27 @@ public class GenericGlobOptTask <E,T extends Optimizable<E>,V extends GenericGlo
             
             private void runme(final V helper, final GenericPool<E,T> pool, final GenericHistory<E,T> history, final long taskID){
                 
+                TaskTrace.setCurrentTask(taskID);
+                final GAStageEvent ev = GAStageEvent.start(taskID, GAStageEvent.STEP);
+                try{
+                    runStep(helper, pool, history, taskID);
+                } finally{
+                    if(ev.finish()){
+                        ev.operator = helper.getMyID();
+                        ev.commit();
+                    }
+                    TaskTrace.setCurrentTask(TaskTrace.NOTASK);
+                }
+            }
+            
+            private void runStep(final V helper, final GenericPool<E,T> pool, final GenericHistory<E,T> history, final long taskID){
+                
                 l.debug("Starting global opt for " + taskID);
+                final GAStageEvent pev = GAStageEvent.start(taskID, GAStageEvent.PARENTS);
                 final List<T> parents = pool.getParents();
+                if(pev.finish()){
+                    pev.commit();
+                }
                 if(l.isDebugEnabled()){
                     l.debug("Took geometries " + parents.get(0).getID()
                             + " and " + parents.get(1).getID() + " out.");
@@ -134,12 +155,25 @@ public class GenericGlobOptTask <E,T extends Optimizable<E>,V extends GenericGlo
                     
                     boolean accepted = false;
                     if(doNiching){
+                        final GAStageEvent nev = GAStageEvent.start(taskID, GAStageEvent.NICHE);
                         final Tuple<Boolean,NicheComputer<E,T>> comp = nicheCompCache.getUnusedEntry();
                         final Niche niche = comp.getObject2().computeNiche(child);
                         comp.setObject1(false);
+                        if(nev.finish()){
+                            nev.operator = comp.getObject2().getClass().getSimpleName();
+                            nev.commit();
+                        }
+                        final GAStageEvent iev = GAStageEvent.start(taskID, GAStageEvent.POOLINSERTION);
                         accepted = pool.addIndividual(child, niche, child.getFitness());
+                        if(iev.finish()){
+                            iev.commit();
+                        }
                     }  else {
+                        final GAStageEvent iev = GAStageEvent.start(taskID, GAStageEvent.POOLINSERTION);
                         accepted = pool.addIndividual(child, child.getFitness());
+                        if(iev.finish()){
+                            iev.commit();
+                        }
                     }
                     l.debug("Was globopt individual " + taskID + " accepted? " + accepted);
                     history.addFamily(parents.get(0).getID(),
@@ -41,6 +41,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import org.ogolem.core.ExternalProcesses;
 import org.ogolem.core.Output;
 import org.ogolem.generic.Configuration;
 import org.ogolem.generic.GenericFitnessFunction;
@@ -54,6 +55,7 @@ import org.ogolem.generic.genericpool.GenericPool;
 import org.ogolem.generic.genericpool.GenericPoolConfig;
 import org.ogolem.generic.genericpool.GenericPoolEntry;
 import org.ogolem.generic.genericpool.NicheComputer;
+import org.ogolem.generic.stats.DetailedStatisticsExporter;
 import org.ogolem.generic.stats.GenericDetailStatistics;
 import org.ogolem.helpers.CopyableTuple;
 import org.ogolem.helpers.Fortune;
@@ -65,7 +67,7 @@ import org.slf4j.LoggerFactory;
  * A fully generic, shared-memory global optimization manager.
  *
  * @author Johannes Dieterich
- * @version 2021-10-15
+ * @version 2026-10-18
  */
 public class GenericOGOLEMOptimization<E, T extends Optimizable<E>> {
 
@@ -147,6 +149,9 @@ public class GenericOGOLEMOptimization<E, T extends Optimizable<E>> {
     TaskFactory<E, T, GenericGlobalOptimization<E, T>> globTasks = null;
     int noGlobSteps = -1;
     boolean enableDetailedStats = false;
+    long detailedStatsInterval = 0;
+    IslandConfig islandConf = null;
+    boolean virtualThreads = false;
     try {
       poolConfig = config.getGenericPoolConfig();
       initializer = config.getInitializer();
@@ -161,6 +166,10 @@ public class GenericOGOLEMOptimization<E, T extends Optimizable<E>> {
           new CopyableTuple<>(reader, fitness);
       fitFuncCache = new ObjectCache<>(noThreads, tup);
       enableDetailedStats = config.wantsDetailedStats();
+      detailedStatsInterval = config.getDetailedStatsInterval();
+      islandConf = config.getIslandConfig();
+      virtualThreads = config.useVirtualThreads();
+      ExternalProcesses.setMaxConcurrent(config.getMaxExternalProcesses());
     } catch (final Exception e) {
       System.err.println(
           "Exception while trying to get stuff from config or initializing caches. Failing.");
@@ -176,132 +185,127 @@ public class GenericOGOLEMOptimization<E, T extends Optimizable<E>> {
     assert (globTasks != null);
     assert (noGlobSteps >= 0);
 
+    DetailedStatisticsExporter statsExporter = null;
     if (enableDetailedStats) {
       GenericDetailStatistics.enableAllDetails();
+      if (detailedStatsInterval > 0) {
+        statsExporter =
+            new DetailedStatisticsExporter(
+                outFolder + File.separator + "detailedstats.jsonl", detailedStatsInterval);
+      }
     }
 
     final long initTime = System.currentTimeMillis();
 
-    // first try to use seeds
-    final String seedFolder = config.seedFolder();
-    int noSeeded = 0;
-    if (seedFolder != null && !seedFolder.isEmpty()) {
-      // apparently we do want to use them
-      TaskFactory<E, T, CopyableTuple<IndividualReader<T>, GenericFitnessFunction<E, T>>>
-          seedTasks = null;
+    IslandModel<E, T> islands = null;
+    if (islandConf != null && islandConf.getNumberOfIslands() > 1) {
       try {
-        seedTasks = new GenericSeedTask<>(seedFolder);
+        islands =
+            new IslandModel<>(
+                config, islandConf, history, reader, nicheComp, subsToWait, noThreads);
+        islands.initialize();
       } catch (Exception e) {
-        System.err.println(
-            "Failure to setup seeding initialization. Exception was: " + e.getMessage());
+        System.err.println("Failure to setup and initialize the island model. Failing.");
         e.printStackTrace(System.err);
-        System.exit(-20);
+        System.exit(42);
       }
-      assert (seedTasks != null);
-      final GenericThreadDispatcher<
-              E, T, CopyableTuple<IndividualReader<T>, GenericFitnessFunction<E, T>>>
-          initSMPPool =
-              new GenericThreadDispatcher<>(
-                  noThreads,
-                  pool,
-                  history,
-                  fitFuncCache,
-                  0,
-                  Math.min(GenericSeedTask.getNoOfSeeds(), poolConfig.getPoolSize()),
-                  seedTasks,
-                  subsToWait,
-                  doNiching,
-                  nicheComp);
-      initSMPPool.doAllTasks();
-      noSeeded = Math.min(GenericSeedTask.getNoOfSeeds(), poolConfig.getPoolSize());
-    }
-
-    final GenericThreadDispatcher<E, T, GenericInitializer<E, T>> initSMPPool =
-        new GenericThreadDispatcher<>(
-            noThreads,
-            pool,
-            history,
-            initCache,
-            noSeeded,
-            poolConfig.getPoolSize() - noSeeded,
-            initTasks,
-            subsToWait,
-            doNiching,
-            nicheComp);
-    initSMPPool.doAllTasks();
-    final List<String> initFitnesses = new ArrayList<>();
-    initFitnesses.add("#-----------------------------------------------------------");
-    initFitnesses.add("#");
-    initFitnesses.add("# Individuals in initial pool coming, fitness units unknown.");
-    initFitnesses.add("#");
-    initFitnesses.add("# pool position        individual id                 fitness");
-
-    final List<String> poolCont = pool.getFormattedPool();
-    poolCont.forEach(
-        (s) -> {
-          initFitnesses.add(s);
-        });
-
-    initFitnesses.add("#");
-    initFitnesses.add("#-----------------------------------------------------------");
-    try {
-      OutputPrimitives.writeObjToBinFile(
-          outFolder + File.separator + "postInitializationPool.bin", pool);
-      OutputPrimitives.writeOut(outFile, initFitnesses, true);
-
-      // print the individuals out as well
-      int c = 0;
-      for (final GenericPoolEntry<E, T> entry : pool) {
-        final T ind = entry.individual();
-        final String file =
-            outFolder + File.separator + "initrank" + c + "individual" + ind.getID();
-        writer.writeIndividual(ind, file);
-        c++;
+      for (int k = 0; k < islands.getNumberOfIslands(); k++) {
+        writeInitialPool(islands.getIsland(k), "island" + k + "-");
       }
-    } catch (Exception e) {
-      System.err.println("Failure in writing initial pool fitnesses out. Ignoring.");
-      e.printStackTrace(System.err);
+    } else {
+      // first try to use seeds
+      final String seedFolder = config.seedFolder();
+      int noSeeded = 0;
+      if (seedFolder != null && !seedFolder.isEmpty()) {
+        // apparently we do want to use them
+        TaskFactory<E, T, CopyableTuple<IndividualReader<T>, GenericFitnessFunction<E, T>>>
+            seedTasks = null;
+        try {
+          seedTasks = new GenericSeedTask<>(seedFolder);
+        } catch (Exception e) {
+          System.err.println(
+              "Failure to setup seeding initialization. Exception was: " + e.getMessage());
+          e.printStackTrace(System.err);
+          System.exit(-20);
+        }
+        assert (seedTasks != null);
+        final GenericThreadDispatcher<
+                E, T, CopyableTuple<IndividualReader<T>, GenericFitnessFunction<E, T>>>
+            initSMPPool =
+                new GenericThreadDispatcher<>(
+                    noThreads,
+                    pool,
+                    history,
+                    fitFuncCache,
+                    0,
+                    Math.min(GenericSeedTask.getNoOfSeeds(), poolConfig.getPoolSize()),
+                    seedTasks,
+                    subsToWait,
+                    doNiching,
+                    nicheComp,
+                    virtualThreads);
+        initSMPPool.doAllTasks();
+        noSeeded = Math.min(GenericSeedTask.getNoOfSeeds(), poolConfig.getPoolSize());
+      }
+
+      final GenericThreadDispatcher<E, T, GenericInitializer<E, T>> initSMPPool =
+          new GenericThreadDispatcher<>(
+              noThreads,
+              pool,
+              history,
+              initCache,
+              noSeeded,
+              poolConfig.getPoolSize() - noSeeded,
+              initTasks,
+              subsToWait,
+              doNiching,
+              nicheComp,
+              virtualThreads);
+      initSMPPool.doAllTasks();
+      writeInitialPool(pool, "");
     }
 
     final long poolFillTime = System.currentTimeMillis();
 
-    // make sure that the pool is indeed as full as expected and otherwise throw a runtime exception
-    final int currGenPoolSize = pool.getCurrentPoolSize();
-    if (currGenPoolSize != pool.getPoolSize() && currGenPoolSize >= 2) {
-      System.out.println(
-          "INFO: Genetic pool should be "
-              + pool.getPoolSize()
-              + " but is "
-              + currGenPoolSize
-              + ". This seems to be a problem where a lot of initial guesses collapse to the same solution.");
-    } else if (currGenPoolSize != pool.getPoolSize() && currGenPoolSize < 2) {
-      throw new RuntimeException(
-          "INFO: Genetic pool should be "
-              + pool.getPoolSize()
-              + " but is "
-              + currGenPoolSize
-              + ". After init, there must be at least two individuals in the pool. "
-              + "Most likely reason for this is a failure in the init. Rerun with higher debug level to "
-              + "see any exceptions/error that occur.");
+    if (islands != null) {
+      try {
+        islands.globalOptimization(noGlobSteps);
+      } catch (Exception e) {
+        System.err.println("Failure in the global optimization of the island model. Failing.");
+        e.printStackTrace(System.err);
+        System.exit(42);
+      }
+      islands.mergeInto(pool);
+      try {
+        OutputPrimitives.writeOut(outFile, islands.getSummary(), true);
+      } catch (IOException e) {
+        System.err.println("Failed to write island summary to output file. Ignoring...");
+        e.printStackTrace(System.err);
+      }
+    } else {
+      final GenericThreadDispatcher<E, T, GenericGlobalOptimization<E, T>> globSMPPool =
+          new GenericThreadDispatcher<>(
+              noThreads,
+              pool,
+              history,
+              globCache,
+              poolConfig.getPoolSize(),
+              noGlobSteps,
+              globTasks,
+              subsToWait,
+              doNiching,
+              nicheComp,
+              virtualThreads);
+      globSMPPool.doAllTasks();
     }
 
-    final GenericThreadDispatcher<E, T, GenericGlobalOptimization<E, T>> globSMPPool =
-        new GenericThreadDispatcher<>(
-            noThreads,
-            pool,
-            history,
-            globCache,
-            poolConfig.getPoolSize(),
-            noGlobSteps,
-            globTasks,
-            subsToWait,
-            doNiching,
-            nicheComp);
-    globSMPPool.doAllTasks();
-
     history.flushRecords();
     history.writeTotalStats();
 
+    if (statsExporter != null) {
+      statsExporter.close();
+    }
+
     final List<String> finalFitnesses = new ArrayList<>();
     finalFitnesses.add("#-----------------------------------------------------------");
     finalFitnesses.add("#");
@@ -374,4 +378,67 @@ public class GenericOGOLEMOptimization<E, T extends Optimizable<E>> {
     // return the best individual
     return pool.getIndividualAtPosition(0);
   }
+
+  /**
+   * Writes the initial pool out and makes sure that it is indeed as full as expected.
+   *
+   * @param pool the initial pool
+   * @param prefix a prefix for all files (and the header), may be empty
+   */
+  private void writeInitialPool(final GenericPool<E, T> pool, final String prefix) {
+
+    final List<String> initFitnesses = new ArrayList<>();
+    initFitnesses.add("#-----------------------------------------------------------");
+    initFitnesses.add("#");
+    initFitnesses.add("# Individuals in initial " + prefix + "pool coming, fitness units unknown.");
+    initFitnesses.add("#");
+    initFitnesses.add("# pool position        individual id                 fitness");
+
+    final List<String> poolCont = pool.getFormattedPool();
+    poolCont.forEach(
+        (s) -> {
+          initFitnesses.add(s);
+        });
+
+    initFitnesses.add("#");
+    initFitnesses.add("#-----------------------------------------------------------");
+    try {
+      OutputPrimitives.writeObjToBinFile(
+          outFolder + File.separator + prefix + "postInitializationPool.bin", pool);
+      OutputPrimitives.writeOut(outFile, initFitnesses, true);
+
+      // print the individuals out as well
+      int c = 0;
+      for (final GenericPoolEntry<E, T> entry : pool) {
+        final T ind = entry.individual();
+        final String file =
+            outFolder + File.separator + prefix + "initrank" + c + "individual" + ind.getID();
+        writer.writeIndividual(ind, file);
+        c++;
+      }
+    } catch (Exception e) {
+      System.err.println("Failure in writing initial pool fitnesses out. Ignoring.");
+      e.printStackTrace(System.err);
+    }
+
+    // make sure that the pool is indeed as full as expected and otherwise throw a runtime exception
+    final int currGenPoolSize = pool.getCurrentPoolSize();
+    if (currGenPoolSize != pool.getPoolSize() && currGenPoolSize >= 2) {
+      System.out.println(
+          "INFO: Genetic pool should be "
+              + pool.getPoolSize()
+              + " but is "
+              + currGenPoolSize
+              + ". This seems to be a problem where a lot of initial guesses collapse to the same solution.");
+    } else if (currGenPoolSize != pool.getPoolSize() && currGenPoolSize < 2) {
+      throw new RuntimeException(
+          "INFO: Genetic pool should be "
+              + pool.getPoolSize()
+              + " but is "
+              + currGenPoolSize
+              + ". After init, there must be at least two individuals in the pool. "
+              + "Most likely reason for this is a failure in the init. Rerun with higher debug level to "
+              + "see any exceptions/error that occur.");
+    }
+  }
 }
@@ -38,12 +38,11 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 */
 package org.ogolem.generic.threading;
 
-import java.io.File;
-import java.util.concurrent.CancellationException;
-import java.util.concurrent.ExecutionException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import org.ogolem.generic.Copyable;
 import org.ogolem.generic.Optimizable;
@@ -54,10 +53,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A generic thread dispatcher.
+ * A generic thread dispatcher. Tasks run on a work-stealing pool (or on virtual threads, one per
+ * task) and a new task is submitted as soon as any running one is done, with at most a small window
+ * of tasks in flight to keep the heap footprint down. Creating a file named STOP in the running
+ * directory stops the submission of further tasks.
  *
  * @author Johannes Dieterich
- * @version 2020-12-26
+ * @version 2026-10-18
  */
 public class GenericThreadDispatcher<E, T extends Optimizable<E>, V extends Copyable> {
 
@@ -74,6 +76,7 @@ public class GenericThreadDispatcher<E, T extends Optimizable<E>, V extends Copy
   private final NicheComputer<E, T> nicheComp;
   private final ObjectCache<NicheComputer<E, T>> nicheCompCache;
   private final TaskFactory<E, T, V> tasker;
+  private final boolean useVirtualThreads;
 
   public GenericThreadDispatcher(
       final int noOfThreads,
@@ -86,6 +89,46 @@ public class GenericThreadDispatcher<E, T extends Optimizable<E>, V extends Copy
       final int subsToWait,
       final boolean doNiching,
       final NicheComputer<E, T> nicheComp) {
+    this(
+        noOfThreads,
+        pool,
+        hist,
+        cache,
+        offset,
+        steps,
+        tasker,
+        subsToWait,
+        doNiching,
+        nicheComp,
+        false);
+  }
+
+  /**
+   * @param noOfThreads how many tasks may run concurrently
+   * @param pool the pool
+   * @param hist the genetic history
+   * @param cache the object cache for the task payload
+   * @param offset the first task ID
+   * @param steps how many tasks to run
+   * @param tasker the task factory
+   * @param subsToWait upper bound for tasks in flight, lowered to twice the threads if larger
+   * @param doNiching whether to do niching
+   * @param nicheComp the niche computer, only used if niching
+   * @param useVirtualThreads run every task on its own virtual thread instead of a work-stealing
+   *     pool. Meant for tasks mostly waiting on external programs.
+   */
+  public GenericThreadDispatcher(
+      final int noOfThreads,
+      final GenericPool<E, T> pool,
+      final GenericHistory<E, T> hist,
+      final ObjectCache<V> cache,
+      final int offset,
+      final int steps,
+      final TaskFactory<E, T, V> tasker,
+      final int subsToWait,
+      final boolean doNiching,
+      final NicheComputer<E, T> nicheComp,
+      final boolean useVirtualThreads) {
 
     assert (tasker != null);
     assert (hist != null);
@@ -97,6 +140,7 @@ public class GenericThreadDispatcher<E, T extends Optimizable<E>, V extends Copy
     this.pool = pool;
     this.history = hist;
     this.tasker = tasker;
+    this.useVirtualThreads = useVirtualThreads;
 
     // setup the object cache to avoid re-instantiating things for EVERY task
     if (cache != null) {
@@ -123,73 +167,75 @@ public class GenericThreadDispatcher<E, T extends Optimizable<E>, V extends Copy
   }
 
   public void doAllTasks() {
+    doAllTasks(Paths.get("STOP"));
+  }
 
-    final ExecutorService threadpool = Executors.newFixedThreadPool(threads);
-
-    // do it for all
-    int countToWait = 0;
-    for (int i = offset; i < (iterations + offset); i++) {
-
-      l.debug("DEBUG: Starting task " + i);
-
-      assert (tasker != null);
-      assert (history != null);
-      assert (cache != null);
-      final Future<?> future =
-          threadpool.submit(
-              tasker.createTask(
-                  pool,
-                  history,
-                  cache.getOriginalEntry(),
-                  useObjCache,
-                  cache,
-                  doNiching,
-                  nicheComp,
-                  nicheCompCache,
-                  (long) i));
-      countToWait++;
-
-      if (countToWait >= subsToWait) {
-        /*
-         * wait for the last submitted task to be done before submiting fresh ones
-         * this is sufficient for the targeted use (reduce footprint in heap)
-         */
+  /**
+   * @param stopFile creating this file stops the submission of further tasks
+   */
+  void doAllTasks(final Path stopFile) {
+
+    final ExecutorService threadpool =
+        (useVirtualThreads)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newWorkStealingPool(threads);
+    final Semaphore inFlight =
+        new Semaphore(inFlightWindow(threads, subsToWait, useVirtualThreads));
+
+    try (final StopFileWatcher stop = new StopFileWatcher(stopFile)) {
+      for (int i = offset; i < (iterations + offset); i++) {
+
+        // block until any task is done and frees up a slot
         try {
-          // this will block until there is an actual result.
-          future.get();
-        } catch (InterruptedException e1) {
-          System.err.println(
-              "ERROR: Can't wait for the last task of a set to finish. "
-                  + e1.toString()
-                  + ". Continuing on own risk now.");
-        } catch (CancellationException e2) {
-          System.err.println(
-              "ERROR: Can't wait for the last task of a set to finish. "
-                  + "It got cancelled."
-                  + e2.toString()
-                  + ". Continuing now.");
-        } catch (ExecutionException e3) {
-          System.err.println(
-              "ERROR: The globopt task threw an exception. Providing stack trace now.");
-          e3.printStackTrace(System.err);
-          System.err.println("ERROR: Continuing on own risk now.");
+          inFlight.acquire();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          l.error("Interrupted while waiting for a free task slot, stopping submission.", e);
+          break;
         }
-        countToWait = 0;
-        /*
-         * make sure that we actually wanting to continue, by checking if a file named
-         * STOP exists in our running directory. If so break out, be done.
-         */
-        final File f = new File("STOP");
-        if (f.exists()) {
+
+        if (stop.isStopRequested()) {
           // give some more output
           l.info(
               "Manual stopping intervention received, breaking loop and shutting down thread pool.");
+          inFlight.release();
           break;
         }
-      }
 
-      if (pool.acceptableFitnessReached()) {
-        break;
+        if (pool.acceptableFitnessReached()) {
+          inFlight.release();
+          break;
+        }
+
+        l.debug("DEBUG: Starting task " + i);
+
+        assert (tasker != null);
+        assert (history != null);
+        assert (cache != null);
+        final Runnable task =
+            tasker.createTask(
+                pool,
+                history,
+                cache.getOriginalEntry(),
+                useObjCache,
+                cache,
+                doNiching,
+                nicheComp,
+                nicheCompCache,
+                (long) i);
+        threadpool.execute(
+            () -> {
+              try {
+                task.run();
+              } catch (Throwable t) {
+                System.err.println(
+                    "ERROR: The globopt task threw an exception. Providing stack trace now.");
+                t.printStackTrace(System.err);
+                System.err.println("ERROR: Continuing on own risk now.");
+              } finally {
+                inFlight.release();
+              }
+            });
       }
     }
 
@@ -203,4 +249,18 @@ public class GenericThreadDispatcher<E, T extends Optimizable<E>, V extends Copy
       l.error("Threadpool reached wallclock limit. This should really NEVER happen! ", e);
     }
   }
+
+  /**
+   * How many tasks may be in flight at once. On platform threads, two per thread keep every worker
+   * busy while the next task is handed out, unless a smaller number of submissions was asked for
+   * (but never less than one per thread). Virtual threads start running upon submission, hence the
+   * window is the concurrency.
+   */
+  static int inFlightWindow(
+      final int threads, final int subsToWait, final boolean useVirtualThreads) {
+    if (useVirtualThreads) {
+      return threads;
+    }
+    return Math.max(threads, Math.min(2 * threads, subsToWait));
+  }
 }
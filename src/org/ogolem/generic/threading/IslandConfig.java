@@ -0,0 +1,149 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.generic.threading;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+/**
+ * Configuration of the shared-memory island model: the number of islands (each with its own pool
+ * and threads), after how many global optimization steps on an island its best individuals
+ * emigrate, how many of them and to which island. Parsed from e.g. {@code
+ * islands=8,interval=200,migrants=2,topology=ring}.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public final class IslandConfig implements Serializable {
+
+  private static final long serialVersionUID = (long) 20261018;
+
+  public enum Topology {
+    /** island k sends to island k+1 (and the last one to the first one) */
+    RING,
+    /** island k sends to a randomly chosen other island */
+    RANDOM
+  }
+
+  private final int noIslands;
+  private final int migrationInterval;
+  private final int noMigrants;
+  private final Topology topology;
+
+  public IslandConfig(
+      final int noIslands, final int migrationInterval, final int noMigrants, final Topology topo) {
+    if (noIslands < 1) {
+      throw new IllegalArgumentException("Number of islands must be positive, is " + noIslands);
+    }
+    if (migrationInterval < 1) {
+      throw new IllegalArgumentException(
+          "Migration interval must be positive, is " + migrationInterval);
+    }
+    if (noMigrants < 0) {
+      throw new IllegalArgumentException("Number of migrants must not be negative: " + noMigrants);
+    }
+    this.noIslands = noIslands;
+    this.migrationInterval = migrationInterval;
+    this.noMigrants = noMigrants;
+    this.topology = topo;
+  }
+
+  /**
+   * Parses an island configuration.
+   *
+   * @param options comma-separated options: islands=N (required), interval=N (global steps per
+   *     island between two emigrations, defaults to 100), migrants=N (defaults to 1) and
+   *     topology=ring|random (defaults to ring)
+   * @return the island configuration
+   * @throws Exception if the options cannot be parsed
+   */
+  public static IslandConfig parse(final String options) throws Exception {
+
+    int islands = -1;
+    int interval = 100;
+    int migrants = 1;
+    Topology topo = Topology.RING;
+    for (final String token : options.trim().split(",")) {
+      final String opt = token.trim();
+      if (opt.startsWith("islands=")) {
+        islands = Integer.parseInt(opt.substring(8).trim());
+      } else if (opt.startsWith("interval=")) {
+        interval = Integer.parseInt(opt.substring(9).trim());
+      } else if (opt.startsWith("migrants=")) {
+        migrants = Integer.parseInt(opt.substring(9).trim());
+      } else if (opt.startsWith("topology=")) {
+        topo = Topology.valueOf(opt.substring(9).trim().toUpperCase(Locale.ROOT));
+      } else {
+        throw new IllegalArgumentException("Unknown option " + opt + " for the island model.");
+      }
+    }
+
+    if (islands < 0) {
+      throw new IllegalArgumentException("Island model requires islands=N.");
+    }
+
+    return new IslandConfig(islands, interval, migrants, topo);
+  }
+
+  public int getNumberOfIslands() {
+    return noIslands;
+  }
+
+  public int getMigrationInterval() {
+    return migrationInterval;
+  }
+
+  public int getNumberOfMigrants() {
+    return noMigrants;
+  }
+
+  public Topology getTopology() {
+    return topology;
+  }
+
+  @Override
+  public String toString() {
+    return "islands="
+        + noIslands
+        + ",interval="
+        + migrationInterval
+        + ",migrants="
+        + noMigrants
+        + ",topology="
+        + topology.name().toLowerCase(Locale.ROOT);
+  }
+}
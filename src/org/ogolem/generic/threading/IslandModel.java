@@ -0,0 +1,450 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.generic.threading;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.ogolem.generic.Configuration;
+import org.ogolem.generic.Copyable;
+import org.ogolem.generic.GenericFitnessFunction;
+import org.ogolem.generic.GenericGlobalOptimization;
+import org.ogolem.generic.GenericInitializer;
+import org.ogolem.generic.IndividualReader;
+import org.ogolem.generic.Optimizable;
+import org.ogolem.generic.generichistory.GenericHistory;
+import org.ogolem.generic.genericpool.GenericPool;
+import org.ogolem.generic.genericpool.GenericPoolConfig;
+import org.ogolem.generic.genericpool.GenericPoolEntry;
+import org.ogolem.generic.genericpool.GenericStatistics;
+import org.ogolem.generic.genericpool.NicheComputer;
+import org.ogolem.helpers.CopyableTuple;
+import org.ogolem.random.Lottery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A shared-memory island model: every island has its own pool, thread pool and dispatcher so that
+ * threads only contend for the lock of their own island. The population (pool size) is split over
+ * the islands. After every migration interval of global optimization steps on an island, copies of
+ * its best individuals are offered to a neighbouring island, asynchronously and without any barrier
+ * between the islands. The genetic history stays shared, all task IDs are unique across the
+ * islands.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+final class IslandModel<E, T extends Optimizable<E>> {
+
+  private static final Logger l = LoggerFactory.getLogger(IslandModel.class);
+
+  private final Configuration<E, T> config;
+  private final IslandConfig islandConf;
+  private final GenericHistory<E, T> history;
+  private final IndividualReader<T> reader;
+  private final boolean doNiching;
+  private final NicheComputer<E, T> nicheComp;
+  private final int subsToWait;
+  private final boolean useVirtualThreads;
+  private final int poolSize;
+  private final int[] poolSizes;
+  private final int[] threads;
+  private final List<GenericPool<E, T>> islands;
+  private final LongAdder migrantsSent = new LongAdder();
+  private final LongAdder migrantsAccepted = new LongAdder();
+
+  IslandModel(
+      final Configuration<E, T> config,
+      final IslandConfig islandConf,
+      final GenericHistory<E, T> history,
+      final IndividualReader<T> reader,
+      final NicheComputer<E, T> nicheComp,
+      final int subsToWait,
+      final int noThreads)
+      throws Exception {
+
+    this.config = config;
+    this.islandConf = islandConf;
+    this.history = history;
+    this.reader = reader;
+    this.nicheComp = nicheComp;
+    this.doNiching = (nicheComp != null);
+    this.subsToWait = subsToWait;
+    this.useVirtualThreads = config.useVirtualThreads();
+
+    final int noIslands = islandConf.getNumberOfIslands();
+    if (noThreads < noIslands) {
+      l.warn(
+          "Only "
+              + noThreads
+              + " threads for "
+              + noIslands
+              + " islands. Every island will use one thread anyways.");
+    }
+    this.threads = new int[noIslands];
+    for (int k = 0; k < noIslands; k++) {
+      threads[k] = Math.max(1, share(noThreads, noIslands, k));
+    }
+
+    final GenericPoolConfig<E, T> poolConf = config.getGenericPoolConfig();
+    this.poolSize = poolConf.getPoolSize();
+    this.islands = createIslands(poolConf, config.getExample(), noIslands);
+    this.poolSizes = new int[noIslands];
+    for (int k = 0; k < noIslands; k++) {
+      poolSizes[k] = islands.get(k).getPoolSize();
+    }
+  }
+
+  /**
+   * Builds the pools of the islands. The population is split over them, every island gets its share
+   * of the pool size and its own intermediate and statistics files. The pool configuration may be
+   * shared with others, it is left as it was.
+   *
+   * @param poolConf the configuration of the (total) pool
+   * @param example an example individual
+   * @param noIslands the number of islands
+   * @return one pool per island
+   */
+  static <E, T extends Optimizable<E>> List<GenericPool<E, T>> createIslands(
+      final GenericPoolConfig<E, T> poolConf, final T example, final int noIslands) {
+
+    final int totalSize = poolConf.getPoolSize();
+    if (totalSize / noIslands < 2) {
+      throw new IllegalArgumentException(
+          "Pool size "
+              + totalSize
+              + " too small for "
+              + noIslands
+              + " islands, every island needs two or more individuals.");
+    }
+
+    final String interBinFile = poolConf.getInterBinFile();
+    final GenericStatistics stats = poolConf.getStats();
+    final List<GenericPool<E, T>> pools = new ArrayList<>(noIslands);
+    try {
+      for (int k = 0; k < noIslands; k++) {
+        poolConf.setPoolSize(share(totalSize, noIslands, k));
+        poolConf.setInterBinFile(islandFile(interBinFile, k));
+        if (stats != null) {
+          poolConf.setStats(stats.withLogFile(islandFile(stats.getLogFile(), k)));
+        }
+        // the pool takes everything over in its constructor
+        pools.add(new GenericPool<>(poolConf, example));
+      }
+    } finally {
+      poolConf.setPoolSize(totalSize);
+      poolConf.setInterBinFile(interBinFile);
+      poolConf.setStats(stats);
+    }
+
+    return pools;
+  }
+
+  int getNumberOfIslands() {
+    return islands.size();
+  }
+
+  GenericPool<E, T> getIsland(final int island) {
+    return islands.get(island);
+  }
+
+  /**
+   * Fills all islands concurrently. Seeds only go into the first island, migration will spread
+   * them.
+   */
+  void initialize() throws Exception {
+
+    int noSeeded = 0;
+    final String seedFolder = config.seedFolder();
+    if (seedFolder != null && !seedFolder.isEmpty()) {
+      final TaskFactory<E, T, CopyableTuple<IndividualReader<T>, GenericFitnessFunction<E, T>>>
+          seedTasks = new GenericSeedTask<>(seedFolder);
+      noSeeded = Math.min(GenericSeedTask.getNoOfSeeds(), poolSizes[0]);
+      final ObjectCache<CopyableTuple<IndividualReader<T>, GenericFitnessFunction<E, T>>>
+          fitFuncCache =
+              new ObjectCache<>(
+                  threads[0], new CopyableTuple<>(reader, config.getFitnessFunction()));
+      new GenericThreadDispatcher<>(
+              threads[0],
+              islands.get(0),
+              history,
+              fitFuncCache,
+              0,
+              noSeeded,
+              seedTasks,
+              subsToWait,
+              doNiching,
+              nicheComp,
+              useVirtualThreads)
+          .doAllTasks();
+    }
+
+    final List<Runnable> inits = new ArrayList<>();
+    int start = 0;
+    for (int k = 0; k < islands.size(); k++) {
+      // the IDs 0 to poolSize-1 are split as the population is
+      final int offset = (k == 0) ? noSeeded : start;
+      final int todo = (k == 0) ? poolSizes[0] - noSeeded : poolSizes[k];
+      start += poolSizes[k];
+      final TaskFactory<E, T, GenericInitializer<E, T>> initTasks = config.getInitFactory();
+      final GenericThreadDispatcher<E, T, GenericInitializer<E, T>> dispatcher =
+          new GenericThreadDispatcher<>(
+              threads[k],
+              islands.get(k),
+              history,
+              new ObjectCache<>(threads[k], config.getInitializer()),
+              offset,
+              todo,
+              initTasks,
+              subsToWait,
+              doNiching,
+              nicheComp,
+              useVirtualThreads);
+      inits.add(dispatcher::doAllTasks);
+    }
+
+    runIslands(inits, "initialization");
+  }
+
+  /**
+   * Runs the global optimization on all islands concurrently, the steps are distributed over them.
+   *
+   * @param noGlobSteps the total number of global optimization steps
+   */
+  void globalOptimization(final int noGlobSteps) throws Exception {
+
+    final List<Runnable> globs = new ArrayList<>();
+    int offset = poolSize;
+    for (int k = 0; k < islands.size(); k++) {
+      final int steps = share(noGlobSteps, islands.size(), k);
+      final TaskFactory<E, T, GenericGlobalOptimization<E, T>> globTasks =
+          config.getGlobalFactory();
+      final GenericThreadDispatcher<E, T, GenericGlobalOptimization<E, T>> dispatcher =
+          new GenericThreadDispatcher<>(
+              threads[k],
+              islands.get(k),
+              history,
+              new ObjectCache<>(threads[k], config.getGlobalOptimization()),
+              offset,
+              steps,
+              new MigratingTasks<>(globTasks, k),
+              subsToWait,
+              doNiching,
+              nicheComp,
+              useVirtualThreads);
+      globs.add(dispatcher::doAllTasks);
+      offset += steps;
+    }
+
+    runIslands(globs, "global optimization");
+  }
+
+  /**
+   * Merges all islands into the given (final) pool, subject to its diversity and niching rules.
+   *
+   * @param merged the pool to merge into
+   */
+  void mergeInto(final GenericPool<E, T> merged) {
+    for (final GenericPool<E, T> island : islands) {
+      for (final GenericPoolEntry<E, T> entry : island) {
+        merged.addIndividual(entry.individual(), entry.niche(), entry.fitness());
+      }
+    }
+  }
+
+  List<String> getSummary() {
+
+    final List<String> summary = new ArrayList<>();
+    summary.add("#-----------------------------------------------------------");
+    summary.add("#");
+    summary.add("# Island model: " + islandConf.toString());
+    summary.add("#");
+    summary.add("# island        threads      pool size             best fitness");
+    for (int k = 0; k < islands.size(); k++) {
+      final GenericPool<E, T> island = islands.get(k);
+      final int size = island.getCurrentPoolSize();
+      summary.add(
+          String.format(
+              "  %6d     %10d   %12d   %22.10f",
+              k,
+              threads[k],
+              size,
+              (size > 0) ? island.getFitnessOfIndividualAtPos(0) : Double.NaN));
+    }
+    summary.add("#");
+    summary.add(
+        "# migrants sent: "
+            + migrantsSent.sum()
+            + ", accepted by the receiving island: "
+            + migrantsAccepted.sum());
+    summary.add("#-----------------------------------------------------------");
+
+    return summary;
+  }
+
+  private void runIslands(final List<Runnable> work, final String phase) throws Exception {
+
+    final AtomicInteger counter = new AtomicInteger();
+    final ExecutorService drivers =
+        Executors.newFixedThreadPool(
+            work.size(), r -> new Thread(r, "ogolem-island-" + counter.getAndIncrement()));
+    try {
+      final List<Future<?>> futures = new ArrayList<>(work.size());
+      for (final Runnable r : work) {
+        futures.add(drivers.submit(r));
+      }
+      for (final Future<?> f : futures) {
+        f.get();
+      }
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Failure in the " + phase + " of the island model.", e.getCause());
+    } finally {
+      drivers.shutdown();
+    }
+  }
+
+  private void migrate(final int from) {
+
+    final int noMigrants = islandConf.getNumberOfMigrants();
+    if (noMigrants == 0 || islands.size() < 2) {
+      return;
+    }
+
+    final GenericPool<E, T> source = islands.get(from);
+    final List<GenericPoolEntry<E, T>> emigrants = new ArrayList<>(noMigrants);
+    source.acquireReadLock();
+    try {
+      for (final GenericPoolEntry<E, T> entry : source) {
+        if (emigrants.size() >= noMigrants) {
+          break;
+        }
+        emigrants.add(entry.copy());
+      }
+    } finally {
+      source.releaseReadLock();
+    }
+
+    final int to = target(islandConf.getTopology(), from, islands.size());
+    final GenericPool<E, T> dest = islands.get(to);
+    for (final GenericPoolEntry<E, T> emigrant : emigrants) {
+      migrantsSent.increment();
+      if (dest.addIndividual(emigrant.individual(), emigrant.niche(), emigrant.fitness())) {
+        migrantsAccepted.increment();
+      }
+    }
+
+    l.debug("Migrated " + emigrants.size() + " individuals from island " + from + " to " + to);
+  }
+
+  /** The island the emigrants of island from go to, never from itself. */
+  static int target(final IslandConfig.Topology topology, final int from, final int noIslands) {
+    return switch (topology) {
+      case RING -> (from + 1) % noIslands;
+      case RANDOM -> {
+        final int r = Lottery.getInstance().nextInt(noIslands - 1);
+        yield (r >= from) ? r + 1 : r;
+      }
+    };
+  }
+
+  /** The k-th share of total work items over n workers, the remainder going to the first ones. */
+  static int share(final int total, final int n, final int k) {
+    return total / n + ((k < total % n) ? 1 : 0);
+  }
+
+  /** Inserts -islandK before the extension of a file name (or appends it if there is none). */
+  static String islandFile(final String file, final int island) {
+    final int dot = file.lastIndexOf('.');
+    final int sep = file.lastIndexOf(File.separatorChar);
+    if (dot > sep + 1) {
+      return file.substring(0, dot) + "-island" + island + file.substring(dot);
+    }
+    return file + "-island" + island;
+  }
+
+  /** Wraps the task factory of an island and triggers an emigration after every interval. */
+  private final class MigratingTasks<V extends Copyable> implements TaskFactory<E, T, V> {
+
+    private final TaskFactory<E, T, V> tasks;
+    private final int island;
+    private final AtomicLong finished = new AtomicLong();
+
+    MigratingTasks(final TaskFactory<E, T, V> tasks, final int island) {
+      this.tasks = tasks;
+      this.island = island;
+    }
+
+    @Override
+    public Runnable createTask(
+        final GenericPool<E, T> pool,
+        final GenericHistory<E, T> history,
+        final V refStuff,
+        final boolean useCache,
+        final ObjectCache<V> cache,
+        final boolean doNiching,
+        final NicheComputer<E, T> nicheComp,
+        final ObjectCache<NicheComputer<E, T>> nicheCompCache,
+        final long taskID) {
+
+      final Runnable task =
+          tasks.createTask(
+              pool,
+              history,
+              refStuff,
+              useCache,
+              cache,
+              doNiching,
+              nicheComp,
+              nicheCompCache,
+              taskID);
+
+      return () -> {
+        task.run();
+        if (finished.incrementAndGet() % islandConf.getMigrationInterval() == 0) {
+          migrate(island);
+        }
+      };
+    }
+  }
+}
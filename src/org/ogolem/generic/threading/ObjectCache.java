@@ -41,13 +41,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.ogolem.generic.Copyable;
+import org.ogolem.generic.tracing.CacheCheckoutEvent;
+import org.ogolem.generic.tracing.TaskTrace;
 import org.ogolem.helpers.Tuple;
 
 /**
  * A generic object cache. Thread-safe (well, that is the purpose of it).
  *
  * @author Johannes Dieterich
- * @version 2020-04-29
+ * @version 2026-10-18
  * @param <T> must be an implementation of Copyable
  */
 public class ObjectCache<T extends Copyable> {
@@ -75,7 +77,22 @@ public class ObjectCache<T extends Copyable> {
    *
    * @return a tuple containing a flag that must be set to FALSE after being done
    */
-  public synchronized Tuple<Boolean, T> getUnusedEntry() {
+  public Tuple<Boolean, T> getUnusedEntry() {
+
+    final CacheCheckoutEvent ev = new CacheCheckoutEvent();
+    ev.begin();
+    final Tuple<Boolean, T> entry = checkOut();
+    ev.end();
+    if (ev.shouldCommit()) {
+      ev.taskID = TaskTrace.currentTask();
+      ev.type = ref.getClass().getSimpleName();
+      ev.commit();
+    }
+
+    return entry;
+  }
+
+  private synchronized Tuple<Boolean, T> checkOut() {
 
     int c = 0;
     while (c < MAXTRIES) {
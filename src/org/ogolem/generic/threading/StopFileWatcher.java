@@ -0,0 +1,165 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.generic.threading;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches for a stop file (e.g., STOP in the running directory) being created. The directory is
+ * registered with a WatchService and a daemon thread flips a flag once the file shows up, so asking
+ * for a stop request does not touch the file system. If the file system cannot be watched, every
+ * request falls back to checking for the file directly.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+final class StopFileWatcher implements AutoCloseable {
+
+  private static final Logger l = LoggerFactory.getLogger(StopFileWatcher.class);
+
+  private final Path stopFile;
+  private final WatchService watcher;
+  private volatile boolean stopRequested = false;
+
+  StopFileWatcher(final Path stopFile) {
+
+    this.stopFile = stopFile.toAbsolutePath();
+
+    final Path dir = this.stopFile.getParent();
+    WatchService ws = null;
+    try {
+      ws = dir.getFileSystem().newWatchService();
+      dir.register(ws, ENTRY_CREATE);
+    } catch (IOException | UnsupportedOperationException e) {
+      // e.g., the directory is not there (yet) or no more watches are available
+      l.warn(
+          "Can't watch "
+              + dir
+              + " for a stop file ("
+              + e
+              + "), checking for "
+              + this.stopFile
+              + " directly instead.",
+          e);
+      if (ws != null) {
+        try {
+          ws.close();
+        } catch (IOException e2) {
+          // nothing to be done
+        }
+      }
+      ws = null;
+    }
+    this.watcher = ws;
+
+    // registered before checking, so a file created in between is not missed
+    if (Files.exists(this.stopFile)) {
+      stopRequested = true;
+    } else if (watcher != null) {
+      final Thread watchThread = new Thread(this::watch, "ogolem-stopwatch");
+      watchThread.setDaemon(true);
+      watchThread.start();
+    }
+  }
+
+  /**
+   * Whether the stop file exists (or existed at some point since this watcher was created).
+   *
+   * @return true if a stop was requested
+   */
+  boolean isStopRequested() {
+    if (watcher == null) {
+      return Files.exists(stopFile);
+    }
+    return stopRequested;
+  }
+
+  @Override
+  public void close() {
+    if (watcher == null) {
+      return;
+    }
+    try {
+      watcher.close();
+    } catch (IOException e) {
+      l.debug("Failure closing the stop file watcher.", e);
+    }
+  }
+
+  private void watch() {
+
+    final Path name = stopFile.getFileName();
+    try {
+      while (!stopRequested) {
+        final WatchKey key = watcher.take();
+        for (final WatchEvent<?> event : key.pollEvents()) {
+          if (event.kind() == OVERFLOW) {
+            // events got lost, look ourselves
+            if (Files.exists(stopFile)) {
+              stopRequested = true;
+            }
+          } else if (name.equals(event.context())) {
+            stopRequested = true;
+          }
+        }
+        if (!key.reset()) {
+          // directory is gone, keep the last state
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // closed by the owner, we are done
+    }
+
+    if (stopRequested) {
+      l.info("Stop file " + stopFile + " detected.");
+    }
+  }
+}
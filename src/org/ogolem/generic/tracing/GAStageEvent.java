@@ -0,0 +1,111 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.generic.tracing;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one stage of a global optimization step. Costs next to nothing if no recording has
+ * it enabled. Usage:
+ *
+ * <pre>
+ * final GAStageEvent ev = GAStageEvent.start(taskID, GAStageEvent.CROSSOVER);
+ * ... do the work ...
+ * if (ev.finish()) {
+ *   ev.operator = xover.getMyID();
+ *   ev.commit();
+ * }
+ * </pre>
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+@Name("org.ogolem.GAStage")
+@Label("GA Stage")
+@Category({"OGOLEM", "Global Optimization"})
+@Description("One stage of a global optimization step.")
+@StackTrace(false)
+public final class GAStageEvent extends Event {
+
+  public static final String STEP = "step";
+  public static final String PARENTS = "parents";
+  public static final String CROSSOVER = "crossover";
+  public static final String MUTATION = "mutation";
+  public static final String SANITYCHECK = "sanitycheck";
+  public static final String LOCALOPT = "localopt";
+  public static final String NICHE = "niche";
+  public static final String POOLINSERTION = "poolinsertion";
+
+  @Label("Task ID")
+  public long taskID;
+
+  @Label("Stage")
+  public String stage;
+
+  @Label("Operator")
+  public String operator;
+
+  /**
+   * Creates and begins a stage event.
+   *
+   * @param taskID the ID of the task (i.e., of the individual to come)
+   * @param stage one of the stage constants
+   * @return the begun event
+   */
+  public static GAStageEvent start(final long taskID, final String stage) {
+    final GAStageEvent ev = new GAStageEvent();
+    ev.taskID = taskID;
+    ev.stage = stage;
+    ev.begin();
+    return ev;
+  }
+
+  /**
+   * Ends the event.
+   *
+   * @return whether it should be committed. Only then is it worth filling in the operator.
+   */
+  public boolean finish() {
+    end();
+    return shouldCommit();
+  }
+}
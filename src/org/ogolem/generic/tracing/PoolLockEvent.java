@@ -1,5 +1,5 @@
 /*
-Copyright (c) 2015-2020, J. M. Dieterich and B. Hartke
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
 All rights reserved.
 
 Redistribution and use in source and binary forms, with or without
@@ -34,29 +34,34 @@ ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
 (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
 SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 */
-package org.ogolem.familytree;
+package org.ogolem.generic.tracing;
 
-import java.io.Serializable;
-import java.util.Comparator;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
 
 /**
- * A comparator to sort the genetic records by ID
+ * JFR event for waiting on the pool lock. Only waits longer than the threshold are recorded by
+ * default.
  *
  * @author Johannes Dieterich
- * @version 2020-12-30
+ * @version 2026-10-18
  */
-class GeneticRecordComparator implements Comparator<GeneticRecord>, Serializable {
+@Name("org.ogolem.PoolLockWait")
+@Label("Pool Lock Wait")
+@Category({"OGOLEM", "Global Optimization"})
+@Description("Time spent waiting to acquire the genetic pool lock.")
+@Threshold("20 us")
+@StackTrace(false)
+public final class PoolLockEvent extends Event {
 
-  private static final long serialVersionUID = (long) 20201230;
+  @Label("Task ID")
+  public long taskID;
 
-  @Override
-  public int compare(final GeneticRecord o1, final GeneticRecord o2) {
-
-    final int id1 = o1.id();
-    final int id2 = o2.id();
-
-    final int diff = id1 - id2;
-
-    return diff;
-  }
+  @Label("Write Lock")
+  public boolean write;
 }
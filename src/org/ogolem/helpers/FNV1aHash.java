@@ -0,0 +1,97 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.helpers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The 64 bit FNV-1a hash, fed byte by byte. Wider values are split into their bytes in little
+ * endian order. Meant for fingerprinting inputs (e.g. in checkpoint headers), not for anything
+ * cryptographic. Not thread-safe.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public final class FNV1aHash {
+
+  private static final long OFFSETBASIS = 0xcbf29ce484222325L;
+  private static final long PRIME = 0x100000001b3L;
+
+  private long hash = OFFSETBASIS;
+
+  public FNV1aHash update(final byte b) {
+    hash = (hash ^ (b & 0xff)) * PRIME;
+    return this;
+  }
+
+  public FNV1aHash update(final byte[] bytes) {
+    for (final byte b : bytes) {
+      update(b);
+    }
+    return this;
+  }
+
+  public FNV1aHash update(final int i) {
+    for (int k = 0; k < Integer.BYTES; k++) {
+      update((byte) (i >>> (8 * k)));
+    }
+    return this;
+  }
+
+  public FNV1aHash update(final long l) {
+    for (int k = 0; k < Long.BYTES; k++) {
+      update((byte) (l >>> (8 * k)));
+    }
+    return this;
+  }
+
+  /** Hashes the bit pattern of the double, so e.g. 0.0 and -0.0 differ. */
+  public FNV1aHash update(final double d) {
+    return update(Double.doubleToLongBits(d));
+  }
+
+  /** Hashes the length and then the UTF-8 bytes, so concatenations do not collide. */
+  public FNV1aHash update(final String s) {
+    final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    update(bytes.length);
+    return update(bytes);
+  }
+
+  public long getValue() {
+    return hash;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.helpers;
+
+import java.io.File;
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.invoke.MethodHandle;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared loader for native backends called through the Foreign Function &amp; Memory API. Every
+ * library is loaded once per JVM and every downcall handle is created once and then shared, as
+ * handles are immutable and thread-safe. Symbols are only looked up in the library they were asked
+ * for, so two backends exporting the same name cannot shadow each other. Backends only need to
+ * declare the C signatures of their entry points, no JNI glue is required on the native side.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public final class NativeLibraries {
+
+  private static final Map<String, SymbolLookup> LOOKUPS = new HashMap<>();
+  private static final Map<String, MethodHandle> HANDLES = new HashMap<>();
+
+  private NativeLibraries() {}
+
+  /**
+   * Returns the downcall handle for a symbol of a native library, loading the library on first use.
+   *
+   * @param library the library name as for System.loadLibrary(), e.g., "ogoff" for libogoff.so
+   * @param symbol the name of the C function
+   * @param descriptor the C signature of the function
+   * @return the downcall handle
+   * @throws UnsatisfiedLinkError if either the library or the symbol cannot be found
+   */
+  public static synchronized MethodHandle downcall(
+      final String library, final String symbol, final FunctionDescriptor descriptor) {
+
+    final String key = library + "::" + symbol + "::" + descriptor;
+    final MethodHandle cached = HANDLES.get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    SymbolLookup lookup = LOOKUPS.get(library);
+    if (lookup == null) {
+      lookup = libraryLookup(library);
+      LOOKUPS.put(library, lookup);
+    }
+
+    final MemorySegment addr =
+        lookup
+            .find(symbol)
+            .orElseThrow(
+                () ->
+                    new UnsatisfiedLinkError(
+                        "Symbol " + symbol + " not found in native library " + library + "."));
+    final MethodHandle handle = Linker.nativeLinker().downcallHandle(addr, descriptor);
+    HANDLES.put(key, handle);
+
+    return handle;
+  }
+
+  /**
+   * Opens a library for the lifetime of the JVM. The java.library.path is searched first, as
+   * System.loadLibrary() would, before falling back to the search path of the dynamic linker.
+   */
+  private static SymbolLookup libraryLookup(final String library) {
+
+    final String fileName = System.mapLibraryName(library);
+    final String libPath = System.getProperty("java.library.path", "");
+    for (final String dir : libPath.split(File.pathSeparator)) {
+      if (dir.isEmpty()) {
+        continue;
+      }
+      final Path candidate = Path.of(dir, fileName);
+      if (Files.isRegularFile(candidate)) {
+        return SymbolLookup.libraryLookup(candidate, Arena.global());
+      }
+    }
+
+    try {
+      return SymbolLookup.libraryLookup(fileName, Arena.global());
+    } catch (IllegalArgumentException e) {
+      final UnsatisfiedLinkError err =
+          new UnsatisfiedLinkError("Native library " + library + " (" + fileName + ") not found.");
+      err.initCause(e);
+      throw err;
+    }
+  }
+}
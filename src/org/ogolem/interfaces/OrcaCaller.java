@@ -52,6 +52,7 @@ import org.ogolem.core.CartesianFullBackend;
 import org.ogolem.core.CastException;
 import org.ogolem.core.Constants;
 import org.ogolem.core.ConvergenceException;
+import org.ogolem.core.ExternalProcesses;
 import org.ogolem.core.FixedValues;
 import org.ogolem.core.GlobalConfig;
 import org.ogolem.core.Gradient;
@@ -59,13 +60,14 @@ import org.ogolem.core.Input;
 import org.ogolem.core.NumericalGradients;
 import org.ogolem.core.StreamGobbler;
 import org.ogolem.io.InputPrimitives;
+import org.ogolem.io.MappedOutputParser;
 import org.ogolem.io.OutputPrimitives;
 
 /**
  * This calls Orca as a backend for local optimization and dipole calculation.
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
 public final class OrcaCaller extends AbstractLocOpt implements CartesianFullBackend {
 
@@ -252,17 +254,27 @@ public final class OrcaCaller extends AbstractLocOpt implements CartesianFullBac
      */
 
     if (fileOut) {
-      // read in the output file
-      try {
-        output = InputPrimitives.readFileIn(orcaBasis + ".out");
-      } catch (Exception e) {
+      // stream the (potentially large) output file instead of reading it in
+      try (final MappedOutputParser parser = MappedOutputParser.open(orcaBasis + ".out")) {
+        if (this.iWhichMethod != -2) {
+          cartes = createCartesFromOutput(parser, cartes);
+        } else {
+          // just parse the energy
+          double energy = FixedValues.NONCONVERGEDENERGY;
+          try {
+            energy = parseEnergy(parser);
+          } catch (Exception e) {
+            System.err.println(
+                "WARNING: Couldn't parse the energy from orca output. " + e.toString());
+          }
+          cartes.setEnergy(energy);
+        }
+      } catch (IOException e) {
         System.err.println("ERROR: Couldn't read in mandatory output file " + orcaBasis + ".out");
         throw new ConvergenceException(
             "Couldn't read in mandatory output file " + orcaBasis + ".out", e);
       }
-    }
-
-    if (this.iWhichMethod != -2) {
+    } else if (this.iWhichMethod != -2) {
       cartes = createCartesFromOutput(output, cartes);
     } else {
       // just parse the energy
@@ -383,23 +395,25 @@ public final class OrcaCaller extends AbstractLocOpt implements CartesianFullBac
      * read orcas output
      */
 
+    // just parse the energy
+    double energy = FixedValues.NONCONVERGEDENERGY;
     if (fileOut) {
-      // read in the output file
-      try {
-        output = InputPrimitives.readFileIn(orcaBasis + ".out");
-      } catch (Exception e) {
+      // stream the output file, we only need the last energy
+      try (final MappedOutputParser parser = MappedOutputParser.open(orcaBasis + ".out")) {
+        energy = parseEnergy(parser);
+      } catch (IOException e) {
         System.err.println(
             "ERROR: Couldn't read in mandatory output file " + orcaBasis + ".out " + e.toString());
         return FixedValues.NONCONVERGEDENERGY;
+      } catch (Exception e) {
+        System.err.println("WARNING: Couldn't parse the energy from orca output. " + e.toString());
+      }
+    } else {
+      try {
+        energy = parseEnergy(output);
+      } catch (Exception e) {
+        System.err.println("WARNING: Couldn't parse the energy from orca output. " + e.toString());
       }
-    }
-
-    // just parse the energy
-    double energy = FixedValues.NONCONVERGEDENERGY;
-    try {
-      energy = parseEnergy(output);
-    } catch (Exception e) {
-      System.err.println("WARNING: Couldn't parse the energy from orca output. " + e.toString());
     }
 
     /*
@@ -685,7 +699,7 @@ public final class OrcaCaller extends AbstractLocOpt implements CartesianFullBac
 
     // loop an search for last occurence of FINAL SINGLE POINT
     int line = -1;
-    for (int i = out.length - 1; i >= 0; i++) {
+    for (int i = out.length - 1; i >= 0; i--) {
       if (out[i].contains("FINAL SINGLE POINT ENERGY")) {
         line = i;
         break;
@@ -704,6 +718,53 @@ public final class OrcaCaller extends AbstractLocOpt implements CartesianFullBac
     return energy;
   }
 
+  private static double parseEnergy(final MappedOutputParser parser) throws CastException {
+
+    // search backwards for the last occurence of FINAL SINGLE POINT
+    final int marker = parser.lastIndexOf("FINAL SINGLE POINT ENERGY");
+    if (marker < 0) {
+      throw new CastException("No final single point energy in orca output.");
+    }
+
+    try {
+      return parser.parseDouble(parser.column(marker, 26));
+    } catch (NumberFormatException e) {
+      throw new CastException(e);
+    }
+  }
+
+  private static CartesianCoordinates createCartesFromOutput(
+      final MappedOutputParser parser, final CartesianCoordinates ref) throws CastException {
+
+    final CartesianCoordinates cartes = new CartesianCoordinates(ref);
+
+    // last occurence of "CARTESIAN COORDINATES (ANGSTROEM)"
+    final int cartesMarker = parser.lastIndexOf("CARTESIAN COORDINATES (ANGSTROEM)");
+    if (cartesMarker < 0) {
+      throw new CastException("No cartesian coordinates in orca output.");
+    }
+
+    // get all coordinates, we can ignore the atom types, as these should be set already
+    final double[][] xyz = cartes.getAllXYZCoord();
+    int line = parser.advanceLines(cartesMarker, 2);
+    for (int i = 0; i < ref.getNoOfAtoms(); i++) {
+      if (line < 0) {
+        throw new CastException("Orca output ends within the geometry block.");
+      }
+      try {
+        xyz[0][i] = parser.parseDoubleToken(line, 1) * ANGTOBOHR;
+        xyz[1][i] = parser.parseDoubleToken(line, 2) * ANGTOBOHR;
+        xyz[2][i] = parser.parseDoubleToken(line, 3) * ANGTOBOHR;
+      } catch (NumberFormatException e) {
+        throw new CastException(e);
+      }
+      line = parser.nextLine(line);
+    }
+
+    cartes.setEnergy(parseEnergy(parser));
+    return cartes;
+  }
+
   private CartesianCoordinates createCartesFromOutput(
       final String[] output, final CartesianCoordinates ref) throws CastException {
 
@@ -863,9 +924,8 @@ public final class OrcaCaller extends AbstractLocOpt implements CartesianFullBac
 
   private static String[] runOrca(final String orcaCmd, final String orcaInput) throws Exception {
 
-    final Runtime rt = Runtime.getRuntime();
     final String[] cmdArr = new String[] {orcaCmd, orcaInput};
-    final Process proc = rt.exec(cmdArr);
+    final Process proc = ExternalProcesses.exec(cmdArr);
 
     // any error message?
     final StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
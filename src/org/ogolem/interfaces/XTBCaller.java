@@ -50,12 +50,13 @@ import org.ogolem.core.BondInfo;
 import org.ogolem.core.CartesianCoordinates;
 import org.ogolem.core.CartesianFullBackend;
 import org.ogolem.core.Constants;
+import org.ogolem.core.ExternalProcesses;
 import org.ogolem.core.FixedValues;
 import org.ogolem.core.GlobalConfig;
 import org.ogolem.core.Gradient;
 import org.ogolem.core.StreamGobbler;
-import org.ogolem.io.InputPrimitives;
 import org.ogolem.io.ManipulationPrimitives;
+import org.ogolem.io.MappedOutputParser;
 import org.ogolem.io.OutputPrimitives;
 
 /**
@@ -64,7 +65,7 @@ import org.ogolem.io.OutputPrimitives;
  *
  * @author Bernd Hartke
  * @author Johannes Dieterich
- * @version 2020-12-30
+ * @version 2026-10-18
  */
 public class XTBCaller extends AbstractLocOpt implements CartesianFullBackend {
 
@@ -269,7 +270,7 @@ public class XTBCaller extends AbstractLocOpt implements CartesianFullBackend {
       envMap.put("OMP_MAX_ACTIVE_LEVELS", "1");
     }
 
-    final Process proc = pb.start();
+    final Process proc = ExternalProcesses.start(pb);
 
     // any error message?
     final StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
@@ -303,23 +304,30 @@ public class XTBCaller extends AbstractLocOpt implements CartesianFullBackend {
     // read the output back in
     final CartesianCoordinates res = cartes.copy();
     try {
-      final String[] resDat = InputPrimitives.readFileIn(xyzRes);
-      final String[] atoms = res.getAllAtomTypes();
-      final double[][] xyz = res.getAllXYZCoord();
-      final int noAtoms = Integer.parseInt(resDat[0].trim());
-      if (noAtoms != res.getNoOfAtoms()) {
-        throw new Exception("Wrong number of atoms in result xyz.");
-      }
-      for (int i = 2; i < noAtoms + 2; i++) {
-        final String[] line = resDat[i].trim().split("\\s+");
-        // check the atom type
-        if (!line[0].equalsIgnoreCase(atoms[i - 2])) {
-          throw new Exception("Wrong atom in output. " + line[0] + " should be " + atoms[i - 2]);
+      try (final MappedOutputParser parser = MappedOutputParser.open(xyzRes)) {
+        final String[] atoms = res.getAllAtomTypes();
+        final double[][] xyz = res.getAllXYZCoord();
+        final int noAtoms = parser.parseInt(0);
+        if (noAtoms != res.getNoOfAtoms()) {
+          throw new Exception("Wrong number of atoms in result xyz.");
+        }
+        int line = parser.advanceLines(0, 2);
+        for (int i = 0; i < noAtoms; i++) {
+          if (line < 0) {
+            throw new Exception("Result xyz ends prematurely.");
+          }
+          // check the atom type
+          final int atTok = parser.token(line, 0);
+          if (!parser.tokenEqualsIgnoreCase(atTok, atoms[i])) {
+            throw new Exception(
+                "Wrong atom in output. " + parser.tokenAt(atTok) + " should be " + atoms[i]);
+          }
+          // parse the coordinates
+          xyz[0][i] = parser.parseDoubleToken(line, 1) * Constants.ANGTOBOHR;
+          xyz[1][i] = parser.parseDoubleToken(line, 2) * Constants.ANGTOBOHR;
+          xyz[2][i] = parser.parseDoubleToken(line, 3) * Constants.ANGTOBOHR;
+          line = parser.nextLine(line);
         }
-        // parse the coordinates
-        xyz[0][i - 2] = Double.parseDouble(line[1]) * Constants.ANGTOBOHR;
-        xyz[1][i - 2] = Double.parseDouble(line[2]) * Constants.ANGTOBOHR;
-        xyz[2][i - 2] = Double.parseDouble(line[3]) * Constants.ANGTOBOHR;
       }
 
       // find the total energy in the output
@@ -473,7 +481,7 @@ public class XTBCaller extends AbstractLocOpt implements CartesianFullBackend {
 
     String[] xtbOut = null;
     try {
-      final Process proc = pb.start();
+      final Process proc = ExternalProcesses.start(pb);
 
       // any error message?
       final StreamGobbler errorGobbler = new StreamGobbler(proc.getErrorStream(), "ERROR");
@@ -0,0 +1,606 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A streaming, memory-mapped parser for (potentially large) outputs of external programs. Instead
+ * of reading the complete file into a String[], the file is mapped read-only and scanned on the
+ * byte level. All positions handed out are byte offsets into the mapped file. Numbers are parsed
+ * directly from the bytes, no intermediate Strings are created in the common case. The intended
+ * usage is to search backwards for the last occurrence of the interesting block (final geometry,
+ * final energy) and stop as soon as everything needed has been found. Only ASCII (or ASCII
+ * compatible) outputs are supported. Not thread-safe, use one instance per file and thread.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public final class MappedOutputParser implements AutoCloseable {
+
+  private static final double[] POWERSOFTEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  // 2^53, the largest mantissa for which the fast path is exact
+  private static final long MAXEXACTMANTISSA = 9007199254740992L;
+
+  private final FileChannel channel;
+  private final MappedByteBuffer buffer;
+  private final int size;
+
+  private MappedOutputParser(final FileChannel channel, final MappedByteBuffer buffer) {
+    this.channel = channel;
+    this.buffer = buffer;
+    this.size = buffer.limit();
+  }
+
+  /**
+   * Maps a file for parsing.
+   *
+   * @param fileName the file to be mapped
+   * @return the parser, must be closed after usage
+   * @throws IOException if the file does not exist, is too big or can not be mapped
+   */
+  public static MappedOutputParser open(final String fileName) throws IOException {
+
+    final File file = new File(fileName);
+    if (!file.exists()) {
+      throw new IOException("File " + fileName + " does not exist.");
+    } else if (file.length() > FixedValues.MAXFILESIZEREADING
+        || file.length() > Integer.MAX_VALUE) {
+      throw new IOException("File " + fileName + " way bigger than expected. Must be garbage.");
+    }
+
+    final FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ);
+    try {
+      final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      return new MappedOutputParser(channel, buffer);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * @return the size of the mapped file in bytes
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Searches backwards for the last occurrence of a marker.
+   *
+   * @param marker the marker, ASCII only
+   * @return the byte offset of the marker or -1 if not found
+   */
+  public int lastIndexOf(final String marker) {
+    return lastIndexOf(marker, size);
+  }
+
+  /**
+   * Searches backwards for the last occurrence of a marker starting before the given position.
+   *
+   * @param marker the marker, ASCII only
+   * @param before the marker must start before this offset (exclusive), so passing the offset of a
+   *     match finds the one before it
+   * @return the byte offset of the marker or -1 if not found
+   */
+  public int lastIndexOf(final String marker, final int before) {
+
+    final byte[] m = marker.getBytes(StandardCharsets.US_ASCII);
+    final int start = Math.min(before - 1, size - m.length);
+    outer:
+    for (int pos = start; pos >= 0; pos--) {
+      for (int i = 0; i < m.length; i++) {
+        if (buffer.get(pos + i) != m[i]) {
+          continue outer;
+        }
+      }
+      return pos;
+    }
+
+    return -1;
+  }
+
+  /**
+   * Searches backwards for the last line starting with a marker, leading whitespace ignored. The
+   * byte equivalent of checking line.trim().startsWith(marker) on every line.
+   *
+   * @param marker the marker, ASCII only
+   * @return the byte offset of the marker or -1 if no line starts with it
+   */
+  public int lastIndexOfLineStartingWith(final String marker) {
+
+    int pos = lastIndexOf(marker);
+    while (pos >= 0 && skipWhite(lineStart(pos)) != pos) {
+      pos = lastIndexOf(marker, pos);
+    }
+
+    return pos;
+  }
+
+  /**
+   * Searches forward for the first occurrence of a marker.
+   *
+   * @param marker the marker, ASCII only
+   * @param from the offset to start searching from
+   * @return the byte offset of the marker or -1 if not found
+   */
+  public int indexOf(final String marker, final int from) {
+
+    final byte[] m = marker.getBytes(StandardCharsets.US_ASCII);
+    final int end = size - m.length;
+    outer:
+    for (int pos = Math.max(0, from); pos <= end; pos++) {
+      for (int i = 0; i < m.length; i++) {
+        if (buffer.get(pos + i) != m[i]) {
+          continue outer;
+        }
+      }
+      return pos;
+    }
+
+    return -1;
+  }
+
+  /**
+   * @param pos a byte offset
+   * @return the offset of the first byte of the line containing pos
+   */
+  public int lineStart(final int pos) {
+
+    int p = Math.min(pos, size);
+    while (p > 0 && buffer.get(p - 1) != '\n') {
+      p--;
+    }
+
+    return p;
+  }
+
+  /**
+   * @param pos a byte offset
+   * @return the offset of the first byte of the line after the one containing pos or -1 if there is
+   *     no further line
+   */
+  public int nextLine(final int pos) {
+
+    for (int p = Math.max(0, pos); p < size; p++) {
+      if (buffer.get(p) == '\n') {
+        return (p + 1 < size) ? p + 1 : -1;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * @param pos a byte offset
+   * @param lines how many lines to advance
+   * @return the offset of the first byte of the line lines after the one containing pos or -1 if
+   *     the file ends before
+   */
+  public int advanceLines(final int pos, final int lines) {
+
+    int p = lineStart(pos);
+    for (int i = 0; i < lines && p >= 0; i++) {
+      p = nextLine(p);
+    }
+
+    return p;
+  }
+
+  /**
+   * @param pos a byte offset
+   * @return the offset of the first byte of the line before the one containing pos or -1 if pos is
+   *     in the first line
+   */
+  public int previousLine(final int pos) {
+
+    final int start = lineStart(pos);
+    if (start == 0) {
+      return -1;
+    }
+
+    return lineStart(start - 1);
+  }
+
+  /**
+   * @return the offset of the first byte of the last line (a trailing line break does not start a
+   *     new line) or -1 if the file is empty
+   */
+  public int lastLineStart() {
+
+    if (size == 0) {
+      return -1;
+    }
+    final int last = (buffer.get(size - 1) == '\n') ? size - 1 : size;
+    if (last == 0) {
+      return 0;
+    }
+
+    return lineStart(last - 1);
+  }
+
+  /**
+   * Finds the offset of a whitespace-separated token in the line containing pos.
+   *
+   * @param pos a byte offset
+   * @param n the token index, counting from zero
+   * @return the offset of the first byte of the n-th token in that line or -1 if the line has less
+   *     tokens
+   */
+  public int token(final int pos, final int n) {
+
+    int p = lineStart(pos);
+    int count = -1;
+    boolean inToken = false;
+    while (p < size) {
+      final byte b = buffer.get(p);
+      if (b == '\n') {
+        return -1;
+      }
+      final boolean white = isWhite(b);
+      if (!white && !inToken) {
+        count++;
+        if (count == n) {
+          return p;
+        }
+      }
+      inToken = !white;
+      p++;
+    }
+
+    return -1;
+  }
+
+  /**
+   * @param pos a byte offset in a line
+   * @return the number of whitespace separated tokens in the line containing pos
+   */
+  public int noOfTokens(final int pos) {
+
+    int p = lineStart(pos);
+    int count = 0;
+    boolean inToken = false;
+    while (p < size) {
+      final byte b = buffer.get(p);
+      if (b == '\n') {
+        break;
+      }
+      final boolean white = isWhite(b);
+      if (!white && !inToken) {
+        count++;
+      }
+      inToken = !white;
+      p++;
+    }
+
+    return count;
+  }
+
+  /**
+   * Finds a fixed column in the line containing pos.
+   *
+   * @param pos a byte offset
+   * @param column the column, counting from zero
+   * @return the offset of that column
+   * @throws NumberFormatException if the line is not longer than the column, i.e., there can not be
+   *     a value in it
+   */
+  public int column(final int pos, final int column) throws NumberFormatException {
+
+    final int start = lineStart(pos);
+    for (int p = start; p < start + column; p++) {
+      if (p >= size || buffer.get(p) == '\n') {
+        throw new NumberFormatException("No column " + column + " in line: " + lineAt(pos));
+      }
+    }
+
+    return start + column;
+  }
+
+  /**
+   * Skips whitespace starting at pos (but stays within the line).
+   *
+   * @param pos a byte offset
+   * @return the offset of the first non-whitespace byte
+   */
+  public int skipWhite(final int pos) {
+
+    int p = pos;
+    while (p < size && buffer.get(p) != '\n' && isWhite(buffer.get(p))) {
+      p++;
+    }
+
+    return p;
+  }
+
+  /**
+   * Compares the token starting at pos to a string, ignoring case.
+   *
+   * @param pos the first byte of the token
+   * @param s the string to compare against, ASCII only
+   * @return true if the token has the same content
+   */
+  public boolean tokenEqualsIgnoreCase(final int pos, final String s) {
+
+    final int len = s.length();
+    if (pos < 0 || pos + len > size) {
+      return false;
+    }
+    for (int i = 0; i < len; i++) {
+      final char c = (char) buffer.get(pos + i);
+      if (Character.toLowerCase(c) != Character.toLowerCase(s.charAt(i))) {
+        return false;
+      }
+    }
+
+    return (pos + len == size) || isDelimiter(buffer.get(pos + len));
+  }
+
+  /**
+   * Allocates a String for the token starting at pos. Meant for error reporting and the (rare) need
+   * to parse atom labels, not for the hot path.
+   *
+   * @param pos the first byte of the token
+   * @return the token
+   */
+  public String tokenAt(final int pos) {
+
+    if (pos < 0 || pos >= size) {
+      return "";
+    }
+    int end = pos;
+    while (end < size && !isDelimiter(buffer.get(end))) {
+      end++;
+    }
+    final byte[] b = new byte[end - pos];
+    buffer.get(pos, b);
+
+    return new String(b, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * @param pos a byte offset
+   * @return the complete line containing pos, without the line break. For error reporting.
+   */
+  public String lineAt(final int pos) {
+
+    final int start = lineStart(pos);
+    int end = start;
+    while (end < size && buffer.get(end) != '\n' && buffer.get(end) != '\r') {
+      end++;
+    }
+    final byte[] b = new byte[end - start];
+    buffer.get(start, b);
+
+    return new String(b, StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Parses an integer directly from the bytes starting at pos. Leading whitespace is skipped.
+   *
+   * @param pos the offset to start from
+   * @return the integer
+   * @throws NumberFormatException if there is no valid integer at pos
+   */
+  public int parseInt(final int pos) throws NumberFormatException {
+
+    int p = skipWhite(pos);
+    boolean negative = false;
+    if (p < size && (buffer.get(p) == '-' || buffer.get(p) == '+')) {
+      negative = buffer.get(p) == '-';
+      p++;
+    }
+    final int start = p;
+    long val = 0;
+    while (p < size) {
+      final int digit = buffer.get(p) - '0';
+      if (digit < 0 || digit > 9) {
+        break;
+      }
+      val = val * 10 + digit;
+      if (val > Integer.MAX_VALUE + 1L) {
+        throw new NumberFormatException("Integer overflow at offset " + pos + ".");
+      }
+      p++;
+    }
+    if (p == start || (p < size && !isDelimiter(buffer.get(p)))) {
+      throw new NumberFormatException("No valid integer at offset " + pos + ": " + tokenAt(pos));
+    }
+
+    return (int) (negative ? -val : val);
+  }
+
+  /**
+   * Parses a floating point number directly from the bytes starting at pos. Leading whitespace is
+   * skipped. Fortran-style exponents (D/d) are accepted. For up to 15 significant digits and
+   * moderate exponents the result is computed exactly without allocation, otherwise we fall back to
+   * Double.parseDouble() on the token.
+   *
+   * @param pos the offset to start from
+   * @return the number
+   * @throws NumberFormatException if there is no valid number at pos
+   */
+  public double parseDouble(final int pos) throws NumberFormatException {
+
+    final int tokStart = skipWhite(pos);
+    int p = tokStart;
+    boolean negative = false;
+    if (p < size && (buffer.get(p) == '-' || buffer.get(p) == '+')) {
+      negative = buffer.get(p) == '-';
+      p++;
+    }
+
+    long mantissa = 0;
+    int digits = 0;
+    int decExp = 0;
+    boolean seenDigit = false;
+    boolean overflow = false;
+    // integer part
+    while (p < size) {
+      final int digit = buffer.get(p) - '0';
+      if (digit < 0 || digit > 9) {
+        break;
+      }
+      seenDigit = true;
+      if (digits < 18) {
+        mantissa = mantissa * 10 + digit;
+        if (mantissa != 0) {
+          digits++;
+        }
+      } else {
+        overflow = true;
+        decExp++;
+      }
+      p++;
+    }
+    // fractional part
+    if (p < size && buffer.get(p) == '.') {
+      p++;
+      while (p < size) {
+        final int digit = buffer.get(p) - '0';
+        if (digit < 0 || digit > 9) {
+          break;
+        }
+        seenDigit = true;
+        if (digits < 18) {
+          mantissa = mantissa * 10 + digit;
+          if (mantissa != 0) {
+            digits++;
+          }
+          decExp--;
+        } else {
+          overflow = true;
+        }
+        p++;
+      }
+    }
+    if (!seenDigit) {
+      throw new NumberFormatException("No valid number at offset " + pos + ": " + tokenAt(pos));
+    }
+    // exponent
+    if (p < size) {
+      final byte e = buffer.get(p);
+      if (e == 'e' || e == 'E' || e == 'd' || e == 'D') {
+        p++;
+        boolean expNeg = false;
+        if (p < size && (buffer.get(p) == '-' || buffer.get(p) == '+')) {
+          expNeg = buffer.get(p) == '-';
+          p++;
+        }
+        final int expStart = p;
+        int exp = 0;
+        while (p < size) {
+          final int digit = buffer.get(p) - '0';
+          if (digit < 0 || digit > 9) {
+            break;
+          }
+          if (exp < 100000) {
+            exp = exp * 10 + digit;
+          }
+          p++;
+        }
+        if (p == expStart) {
+          throw new NumberFormatException("Broken exponent at offset " + pos + ": " + tokenAt(pos));
+        }
+        decExp += expNeg ? -exp : exp;
+      }
+    }
+    if (p < size && !isDelimiter(buffer.get(p))) {
+      throw new NumberFormatException("No valid number at offset " + pos + ": " + tokenAt(pos));
+    }
+
+    if (!overflow && mantissa <= MAXEXACTMANTISSA && Math.abs(decExp) < POWERSOFTEN.length) {
+      // Clinger's fast path: both operands are exact, hence the result is correctly rounded
+      final double d =
+          (decExp >= 0) ? mantissa * POWERSOFTEN[decExp] : mantissa / POWERSOFTEN[-decExp];
+      return negative ? -d : d;
+    }
+
+    // slow path, this should be rare in program outputs
+    final byte[] b = new byte[p - tokStart];
+    buffer.get(tokStart, b);
+    for (int i = 0; i < b.length; i++) {
+      if (b[i] == 'd' || b[i] == 'D') {
+        b[i] = 'E';
+      }
+    }
+
+    return Double.parseDouble(new String(b, StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Convenience method: parses the n-th token of the line containing pos as a double.
+   *
+   * @param pos a byte offset
+   * @param n the token index, counting from zero
+   * @return the number
+   * @throws NumberFormatException if the token does not exist or is not a valid number
+   */
+  public double parseDoubleToken(final int pos, final int n) throws NumberFormatException {
+
+    final int tok = token(pos, n);
+    if (tok < 0) {
+      throw new NumberFormatException("No token " + n + " in line: " + lineAt(pos));
+    }
+
+    return parseDouble(tok);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private static boolean isWhite(final byte b) {
+    return b == ' ' || b == '\t' || b == '\r';
+  }
+
+  private static boolean isDelimiter(final byte b) {
+    return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+  }
+}
@@ -50,7 +50,7 @@ import org.ogolem.generic.GenericNoLocOpt;
 /**
  * An abstract setup for a local optimization factory.
  * @author Johannes Dieterich
- * @version 2015-04-06
+ * @version 2026-10-18
  */
 public abstract class AbstractLocOptFactory<E,T extends ContinuousProblem<E>> implements Serializable {
     
@@ -170,6 +170,7 @@ public abstract class AbstractLocOptFactory<E,T extends ContinuousProblem<E>> im
             double gtol = 0.9;
             int lineIter = 50;
             int maxResets = 3;
+            boolean batched = false;
             GenericBackend<E,T> backend = null;
             for(final String opt : opts){
                 if(opt.startsWith("maxiter=")){
@@ -186,6 +187,8 @@ public abstract class AbstractLocOptFactory<E,T extends ContinuousProblem<E>> im
                     backend = getBackend(opt.substring(8));
                 } else if(opt.startsWith("tryresets=")){
                     maxResets = integerToken(opt,"tryresets=");
+                } else if(opt.startsWith("batched=")){
+                    batched = booleanToken(opt,"batched=");
                 } else {
                     throw new RuntimeException("Unknown option " + opt + " in L-BFGS!");
                 }
@@ -195,6 +198,10 @@ public abstract class AbstractLocOptFactory<E,T extends ContinuousProblem<E>> im
             checkSanityMaxIter(noIter);
             checkSanityBackend(backend);
             
+            if(batched){
+                return new BatchedLBFGSLocOpt<>(backend, noCorrections, noIter, absConvThresh, gtol, lineIter, maxResets);
+            }
+            
             return new LBFGSLocOpt<>(backend, noCorrections, noIter, absConvThresh, gtol, lineIter, maxResets);
         } else if(input.startsWith("flemin:")){
             
@@ -264,6 +271,7 @@ public abstract class AbstractLocOptFactory<E,T extends ContinuousProblem<E>> im
             final FIRELocOpt.FireConfig config = new FIRELocOpt.FireConfig();
             config.iMaxIterations = maxIter;
             config.dFMax = absConvThreshold;
+            boolean batched = false;
 
             GenericBackend<E, T> backend = null;
             for (final String opt : opts) {
@@ -299,6 +307,8 @@ public abstract class AbstractLocOptFactory<E,T extends ContinuousProblem<E>> im
                     config.doResetToStable = booleanToken(opt, "resettostable=");
                 } else if (opt.startsWith("resettobestpoint=")) {
                     config.doResetToBestPointSoFar = booleanToken(opt, "resettobestpoint=");
+                } else if (opt.startsWith("batched=")) {
+                    batched = booleanToken(opt, "batched=");
                 } else {
                     throw new RuntimeException("Unknown option " + opt + " in L-BFGS!");
                 }
@@ -307,6 +317,10 @@ public abstract class AbstractLocOptFactory<E,T extends ContinuousProblem<E>> im
             config.checkSanity(backend);
             checkSanityBackend(backend);
 
+            if (batched) {
+                return new BatchedFIRELocOpt<>(config, backend);
+            }
+
             return new FIRELocOpt<>(config, backend);
         }
         
@@ -325,6 +339,8 @@ public abstract class AbstractLocOptFactory<E,T extends ContinuousProblem<E>> im
             int noIter = maxIter;
             double initialTrust = 0.1;
             double convTrust = absConvThreshold;
+            int threads = 1;
+            boolean warmStart = false;
             
             GenericBackend<E,T> backend = null;
             for(final String opt : opts){
@@ -334,6 +350,10 @@ public abstract class AbstractLocOptFactory<E,T extends ContinuousProblem<E>> im
                     convTrust = doubleToken(opt,"convtrust=");
                 } else if(opt.startsWith("inittrust=")){
                     initialTrust = doubleToken(opt,"inittrust=");
+                } else if(opt.startsWith("threads=")){
+                    threads = integerToken(opt,"threads=");
+                } else if(opt.startsWith("warmstart=")){
+                    warmStart = booleanToken(opt,"warmstart=");
                 } else if(opt.startsWith("backend=")){
                     backend = getBackend(opt.substring(8));
                 } else {
@@ -343,15 +363,20 @@ public abstract class AbstractLocOptFactory<E,T extends ContinuousProblem<E>> im
             
             checkSanityConvergence(convTrust);
             checkSanityMaxIter(noIter);
+            if(threads < 1){
+                throw new RuntimeException("Number of threads must be positive in BOBYQA, is " + threads);
+            }
             checkSanityBackend(backend);
             
-            return new BOBYQALocOpt<>(backend,maxIter,initialTrust,convTrust);
+            return new BOBYQALocOpt<>(backend,maxIter,initialTrust,convTrust,threads,warmStart);
         } else if(input.startsWith("newuoa:")){
             
             final String[] opts = tokenizeSecondLevel(input.substring(7).trim());
             int noIter = maxIter;
             double initialTrust = 0.1;
             double convTrust = absConvThreshold;
+            int threads = 1;
+            boolean warmStart = false;
             
             GenericBackend<E,T> backend = null;
             for(final String opt : opts){
@@ -361,6 +386,10 @@ public abstract class AbstractLocOptFactory<E,T extends ContinuousProblem<E>> im
                     convTrust = doubleToken(opt,"convtrust=");
                 } else if(opt.startsWith("inittrust=")){
                     initialTrust = doubleToken(opt,"inittrust=");
+                } else if(opt.startsWith("threads=")){
+                    threads = integerToken(opt,"threads=");
+                } else if(opt.startsWith("warmstart=")){
+                    warmStart = booleanToken(opt,"warmstart=");
                 } else if(opt.startsWith("backend=")){
                     backend = getBackend(opt.substring(8));
                 } else {
@@ -370,9 +399,12 @@ public abstract class AbstractLocOptFactory<E,T extends ContinuousProblem<E>> im
             
             checkSanityConvergence(convTrust);
             checkSanityMaxIter(noIter);
+            if(threads < 1){
+                throw new RuntimeException("Number of threads must be positive in NEWUOA, is " + threads);
+            }
             checkSanityBackend(backend);
             
-            return new NEWUOALocOpt<>(backend,initialTrust,convTrust,maxIter);
+            return new NEWUOALocOpt<>(backend,initialTrust,convTrust,maxIter,threads,warmStart);
         } else if(input.startsWith("praxis:")){
             
             final String[] opts = tokenizeSecondLevel(input.substring(7).trim());
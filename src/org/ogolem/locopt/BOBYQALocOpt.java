@@ -50,15 +50,17 @@ import org.ogolem.helpers.Tuple;
 /**
  * A generic BOBYQA interface.
  * @author Johannes Dieterich
- * @version 2020-04-29
+ * @version 2026-10-18
  */
 public class BOBYQALocOpt<E,T extends ContinuousProblem<E>> extends GenericAbstractGradFreeLocOpt<E,T> {
     
-    private static final long serialVersionUID = (long) 20200429;
+    private static final long serialVersionUID = (long) 20261018;
     private static final boolean DEBUG = false;
     private final int maxIter;
     private final double initialTrustRadius;
     private final double convergedTrustRadius;
+    private final int threads;
+    private final TrustRegionWarmStart warmStart;
     
     /**
      * Constructor
@@ -70,11 +72,28 @@ public class BOBYQALocOpt<E,T extends ContinuousProblem<E>> extends GenericAbstr
     public BOBYQALocOpt(final GenericFitnessBackend<E,T> backend,
             final int maxIter, final double initialTrustRadius,
             final double convergedTrustRadius){
+        this(backend, maxIter, initialTrustRadius, convergedTrustRadius, 1, false);
+    }
+    
+    /**
+     * Constructor
+     * @param backend the backend
+     * @param maxIter the maximum number of function evaluations
+     * @param initialTrustRadius the initial trust radius
+     * @param convergedTrustRadius the converged trust radius
+     * @param threads the number of threads evaluating the initial interpolation points
+     * @param warmStart whether to start with the trust radius suggested by the previous run
+     */
+    public BOBYQALocOpt(final GenericFitnessBackend<E,T> backend,
+            final int maxIter, final double initialTrustRadius,
+            final double convergedTrustRadius, final int threads, final boolean warmStart){
         
         super(backend);
         this.maxIter = maxIter;
         this.initialTrustRadius = initialTrustRadius;
         this.convergedTrustRadius = convergedTrustRadius;
+        this.threads = threads;
+        this.warmStart = (warmStart) ? new TrustRegionWarmStart() : null;
     }
     
     private BOBYQALocOpt(final BOBYQALocOpt<E,T> orig){
@@ -82,6 +101,9 @@ public class BOBYQALocOpt<E,T extends ContinuousProblem<E>> extends GenericAbstr
         this.maxIter = orig.maxIter;
         this.initialTrustRadius = orig.initialTrustRadius;
         this.convergedTrustRadius = orig.convergedTrustRadius;
+        this.threads = orig.threads;
+        // every copy (worker thread) keeps its own, unrelated runs must not mix
+        this.warmStart = (orig.warmStart == null) ? null : new TrustRegionWarmStart();
     }
     
     @Override
@@ -117,13 +139,17 @@ public class BOBYQALocOpt<E,T extends ContinuousProblem<E>> extends GenericAbstr
         final double[][] borders = new double[2][optCoords.length];
         back.bestEstimateBoundaries(optCoords, borders[0], borders[1]);
         
-        final BOBYQAOptimizer opt = new BOBYQAOptimizer(borders, 2*borders[0].length+1, initialTrustRadius, convergedTrustRadius, maxIter, true);
-        final Adapter<E,T> adap = new Adapter<>(back, new double[optCoords.length], borders);
+        final double initTrust = (warmStart == null) ? initialTrustRadius : warmStart.initialTrust(initialTrustRadius, convergedTrustRadius);
+        final BOBYQAOptimizer opt = new BOBYQAOptimizer(borders, 2*borders[0].length+1, initTrust, convergedTrustRadius, maxIter, true);
+        final Adapter<E,T> adap = new Adapter<>(back, clone, new double[optCoords.length], borders);
         
         // normalize
         adap.normalizeFromBounds(borders, g, normalized);
         
         final Tuple<Double,double[]> t = opt.doOptimize(normalized, adap);        
+        if(warmStart != null && t.getObject1() < FixedValues.NONCONVERGEDENERGY){
+            warmStart.record(normalized, t.getObject2());
+        }
         
         // denormalize and build new object
         adap.denormalizeToBounds(borders, t.getObject2(), g);
@@ -139,14 +165,16 @@ public class BOBYQALocOpt<E,T extends ContinuousProblem<E>> extends GenericAbstr
     private class Adapter<E,T extends Optimizable<E>> extends AbstractBOBYQAMethod{
         
         private final GenericFitnessBackend<E,T> backend;
+        private final T individual;
         private final double[] point;
         private final double[][] bounds;
         private double lastFitness = FixedValues.NONCONVERGEDENERGY;
         int iter = 0;
         
-        Adapter(final GenericFitnessBackend<E,T> back,
+        Adapter(final GenericFitnessBackend<E,T> back, final T individual,
                 final double[] point, final double[][] bounds){
             this.backend = back;
+            this.individual = individual;
             this.point = point;
             this.bounds = bounds;
         }
@@ -164,6 +192,24 @@ public class BOBYQALocOpt<E,T extends ContinuousProblem<E>> extends GenericAbstr
             
             return lastFitness;
         }
+        
+        @Override
+        public void computeObjectiveValues(final double[][] normalized, final double[] values){
+            
+            if(threads <= 1){
+                super.computeObjectiveValues(normalized, values);
+                return;
+            }
+            
+            final double[][] points = new double[normalized.length][point.length];
+            for(int i = 0; i < normalized.length; i++){
+                denormalizeToBounds(bounds, normalized[i], points[i]);
+            }
+            
+            ConcurrentPointEvaluator.evaluate(backend, individual, threads, points, iter, values);
+            iter += points.length;
+            lastFitness = values[values.length-1];
+        }
                 
         @Override
         public boolean doesNormalize(){
@@ -0,0 +1,142 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.locopt;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.ogolem.generic.ContinuousProblem;
+import org.ogolem.generic.GenericBackend;
+
+/**
+ * FIRE for a batch of individuals: every lane keeps its own velocities and step control, all lanes
+ * are stepped together and their gradients evaluated together. The steps themselves are the ones
+ * of FIRELocOpt. Backends with history support (resets to a stable or the best point) are
+ * optimized one individual at a time by FIRELocOpt, as the resets do not fit into a lockstep.
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class BatchedFIRELocOpt<E,T extends ContinuousProblem<E>> extends BatchedLocOpt<E,T> {
+    
+    private static final long serialVersionUID = (long) 20261018;
+    
+    private final FIRELocOpt.FireConfig config;
+    private final FIRELocOpt<E,T> fire;
+    
+    /**
+     * Constructs a batched FIRE from a pre-initialized configuration.
+     * @param config the FIRE configuration.
+     * @param back the Backend that is going to be used.
+     */
+    public BatchedFIRELocOpt(final FIRELocOpt.FireConfig config, final GenericBackend<E,T> back){
+        super(back);
+        this.config = config;
+        this.fire = new FIRELocOpt<>(config, back);
+    }
+    
+    public BatchedFIRELocOpt(final BatchedFIRELocOpt<E,T> orig){
+        super(orig);
+        this.config = orig.config;
+        this.fire = new FIRELocOpt<>(config, back);
+    }
+    
+    @Override
+    public BatchedFIRELocOpt<E,T> copy(){
+        return new BatchedFIRELocOpt<>(this);
+    }
+    
+    @Override
+    public String getMyID(){
+        return "Batched Fast Internal Relaxation Engine (FIRE)";
+    }
+    
+    @Override
+    protected List<T> optimizeBatch(final List<T> individuals){
+        
+        if(!back.supportsHistory()){
+            return super.optimizeBatch(individuals);
+        }
+        
+        final List<T> results = new ArrayList<>(individuals.size());
+        for(final T individual : individuals){
+            results.add(fire.optimize(individual));
+        }
+        
+        return results;
+    }
+    
+    @Override
+    protected void lockstep(final Batch batch){
+        
+        final int n = batch.size;
+        final FIRELocOpt.Scr[] scrs = new FIRELocOpt.Scr[n];
+        for(int k = 0; k < n; k++){
+            scrs[k] = new FIRELocOpt.Scr(batch.x[k].length, config.dt, config.a);
+        }
+        
+        final boolean[] needGrad = new boolean[n];
+        for(int iter = 0; iter < config.iMaxIterations && batch.anyActive(); iter++){
+            
+            for(int k = 0; k < n; k++){
+                needGrad[k] = false;
+                if(!batch.active[k]) continue;
+                
+                if(fire.calcConvMeasure(batch.g[k]) <= config.dFMax){
+                    batch.active[k] = false;
+                    continue;
+                }
+                
+                try{
+                    fire.doStep(iter, batch.x[k], batch.g[k], scrs[k], false);
+                } catch(Exception e){
+                    System.err.println("FIRE: Fatal Error in FIRE for ID " + batch.ids[k] + ". Problem is: "
+                        + e.toString());
+                    batch.active[k] = false;
+                    continue;
+                }
+                needGrad[k] = true;
+            }
+            
+            gradients(batch, needGrad, iter);
+        }
+        
+        for(int k = 0; k < n; k++){
+            if(batch.active[k]){
+                System.out.println("FIRE: No convergence achieved for individual " + batch.ids[k]);
+            }
+        }
+    }
+}
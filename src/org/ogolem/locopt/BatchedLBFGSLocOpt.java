@@ -0,0 +1,175 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.locopt;
+
+import contrib.lbfgs.LBFGS;
+import org.ogolem.generic.ContinuousProblem;
+import org.ogolem.generic.GenericBackend;
+import org.ogolem.helpers.Machine;
+
+/**
+ * L-BFGS for a batch of individuals: one (reverse communication) L-BFGS state per lane, all lanes
+ * stepped together and their gradient requests evaluated together. Per lane, this follows
+ * LBFGSLocOpt exactly, resets included.
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class BatchedLBFGSLocOpt<E,T extends ContinuousProblem<E>> extends BatchedLocOpt<E,T> {
+    
+    private static final long serialVersionUID = (long) 20261018;
+    
+    private final int maxSteps;
+    private final int noOfCorr;
+    private final double conv;
+    private final double machPrec;
+    private final int maxResets;
+    private final double gtol;
+    private final int lineIter;
+    
+    /**
+     * Constructor.
+     * @param back the backend
+     * @param noCorrs number of corrections. Reasonable default: 7, maximum 15.
+     * @param maxSteps the max number of optimization steps
+     * @param conv the convergence criterion
+     * @param gtol metric how expensive a gradient/energy is w.r.t. self time. Must be more than 1e-4, typical small value 0.1, typical value 0.9
+     * @param lineIter the maximum number of line search steps per search
+     * @param maxResets the number of resets per lane if the L-BFGS signals a problem w/ negative flag
+     */
+    public BatchedLBFGSLocOpt(final GenericBackend<E,T> back, final int noCorrs, final int maxSteps,
+            final double conv, final double gtol, final int lineIter, final int maxResets){
+        super(back);
+        this.machPrec = Machine.calcMachinePrecision();
+        this.noOfCorr = noCorrs;
+        this.maxSteps = maxSteps;
+        this.conv = conv;
+        this.maxResets = maxResets;
+        this.lineIter = lineIter;
+        this.gtol = gtol;
+    }
+    
+    public BatchedLBFGSLocOpt(final BatchedLBFGSLocOpt<E,T> orig){
+        super(orig);
+        this.conv = orig.conv;
+        this.machPrec = orig.machPrec;
+        this.maxSteps = orig.maxSteps;
+        this.noOfCorr = orig.noOfCorr;
+        this.maxResets = orig.maxResets;
+        this.gtol = orig.gtol;
+        this.lineIter = orig.lineIter;
+    }
+    
+    @Override
+    public BatchedLBFGSLocOpt<E,T> copy(){
+        return new BatchedLBFGSLocOpt<>(this);
+    }
+    
+    @Override
+    public String getMyID(){
+        return "BATCHED L-BFGS LOCAL OPTIMIZATION using:\n\t" + back.getMyID();
+    }
+    
+    @Override
+    protected void lockstep(final Batch batch){
+        
+        // be silent!
+        final int[] print = {-1, 0};
+        final boolean beReallySilent = (maxResets > 0);
+        
+        final int n = batch.size;
+        final LBFGS[] lbfgs = new LBFGS[n];
+        final double[][] diag = new double[n][];
+        final int[][] flags = new int[n][];
+        final int[] resets = new int[n];
+        final boolean[] converged = new boolean[n];
+        for(int k = 0; k < n; k++){
+            lbfgs[k] = new LBFGS(gtol, lineIter);
+            diag[k] = new double[batch.x[k].length];
+            flags[k] = new int[]{0, 0};
+        }
+        
+        final boolean[] needGrad = new boolean[n];
+        for(int iter = 0; iter < maxSteps && batch.anyActive(); iter++){
+            
+            for(int k = 0; k < n; k++){
+                needGrad[k] = false;
+                if(!batch.active[k]) continue;
+                
+                final int dims = batch.x[k].length;
+                try{
+                    lbfgs[k].lbfgs(dims, noOfCorr, batch.x[k], batch.e[k], batch.g[k], false, diag[k], print, conv, machPrec, flags[k], beReallySilent);
+                } catch(Exception e){
+                    System.err.println("WARNING: Problem in LBFGS for ID " + batch.ids[k] + ". Problem is: " + e.toString());
+                    batch.active[k] = false;
+                    continue;
+                }
+                
+                if(flags[k][0] < 0){
+                    // there is a problem (likely linesearch)
+                    if(resets[k] < maxResets && flags[k][0] == -1){
+                        System.out.println("INFO: L-BFGS reset taking place for ID " + batch.ids[k]);
+                        flags[k][0] = 0; // this is internally used to signal reset
+                        flags[k][1] = 0;
+                        lane(k).resetToStable(batch.x[k]);
+                        for(int i = 0; i < dims; i++){
+                            diag[k][i] = 0.0;
+                        }
+                        resets[k]++;
+                        needGrad[k] = true;
+                    } else {
+                        batch.active[k] = false;
+                    }
+                } else if(flags[k][0] == 0){
+                    converged[k] = true;
+                    batch.active[k] = false;
+                } else if(flags[k][0] == 1){
+                    needGrad[k] = true;
+                } else {
+                    System.err.println("ERROR: You should not end up here in LBFGS. Contact developer(s).");
+                }
+            }
+            
+            gradients(batch, needGrad, iter);
+        }
+        
+        for(int k = 0; k < n; k++){
+            if(!converged[k]){
+                System.out.println("INFO: L-BFGS for individual " + batch.ids[k] + " did not converge.");
+            }
+        }
+    }
+}
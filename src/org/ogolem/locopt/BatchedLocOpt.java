@@ -0,0 +1,194 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.locopt;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.ogolem.generic.ContinuousProblem;
+import org.ogolem.generic.GenericAbstractLocOpt;
+import org.ogolem.generic.GenericBackend;
+import org.ogolem.generic.stats.DetailedStatistics.Latency;
+import org.ogolem.generic.stats.GenericDetailStatistics;
+
+/**
+ * Base for local optimizations advancing a batch of independent individuals in lockstep. Every
+ * individual gets its own lane: a backend copy (backends keep per-individual state), a row in the
+ * coordinate and gradient buffers and a flag whether it is still being optimized. After every
+ * step, all lanes requesting a new gradient are evaluated in one call.
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public abstract class BatchedLocOpt<E,T extends ContinuousProblem<E>> extends GenericAbstractLocOpt<E,T> {
+    
+    private static final long serialVersionUID = (long) 20261018;
+    
+    // the lanes are working state only, rebuilt from the backend after deserialization
+    private transient List<GenericBackend<E,T>> lanes;
+    
+    protected BatchedLocOpt(final GenericBackend<E,T> back){
+        super(back);
+    }
+    
+    protected BatchedLocOpt(final BatchedLocOpt<E,T> orig){
+        super(orig);
+    }
+    
+    @Override
+    public abstract BatchedLocOpt<E,T> copy();
+    
+    @Override
+    public List<T> fitness(final List<T> individuals){
+        final long start = GenericDetailStatistics.startTimer();
+        for(int i = 0; i < individuals.size(); i++){
+            GenericDetailStatistics.incrementLocalOpts();
+        }
+        final List<T> res = optimizeBatch(individuals);
+        GenericDetailStatistics.recordLatency(Latency.LOCALOPT, start);
+        
+        return res;
+    }
+    
+    @Override
+    protected T optimize(final T individual){
+        return optimizeBatch(Collections.singletonList(individual)).get(0);
+    }
+    
+    /**
+     * Sets up the lanes, evaluates the starting gradients, runs the lockstep optimization and
+     * assembles the results.
+     * @param individuals the individuals to start from, not touched
+     * @return the optimized individuals, same order
+     */
+    protected List<T> optimizeBatch(final List<T> individuals){
+        
+        final Batch batch = new Batch(individuals.size());
+        for(int k = 0; k < batch.size; k++){
+            @SuppressWarnings("unchecked")
+            final T work = (T) individuals.get(k).copy();
+            final GenericBackend<E,T> lane = lane(k);
+            final int dims = lane.numberOfActiveCoordinates(work);
+            batch.x[k] = lane.getActiveCoordinates(work).clone();
+            batch.g[k] = new double[dims];
+            batch.ids[k] = work.getID();
+            batch.active[k] = true;
+        }
+        
+        gradients(batch, batch.active, 0);
+        
+        lockstep(batch);
+        
+        final List<T> results = new ArrayList<>(batch.size);
+        for(int k = 0; k < batch.size; k++){
+            @SuppressWarnings("unchecked")
+            final T res = (T) individuals.get(k).copy();
+            res.setFitness(batch.e[k]);
+            lane(k).updateActiveCoordinates(res, batch.x[k]);
+            results.add(res);
+        }
+        
+        return results;
+    }
+    
+    /**
+     * Optimizes all lanes of the batch. Upon entry, coordinates, gradients and energies are set
+     * and all lanes are active. Upon exit, the coordinates and energies must be the final ones.
+     * @param batch the batch
+     */
+    protected abstract void lockstep(final Batch batch);
+    
+    /**
+     * Evaluates energy and gradient for all lanes in the mask. Override if a backend can
+     * evaluate several structures in one go.
+     * @param batch the batch
+     * @param mask which lanes to evaluate
+     * @param iteration the iteration, passed on to the backends
+     */
+    protected void gradients(final Batch batch, final boolean[] mask, final int iteration){
+        for(int k = 0; k < batch.size; k++){
+            if(mask[k]){
+                batch.e[k] = lane(k).gradient(batch.x[k], batch.g[k], iteration);
+            }
+        }
+    }
+    
+    /**
+     * @param k the lane
+     * @return the backend of this lane
+     */
+    protected GenericBackend<E,T> lane(final int k){
+        if(lanes == null){
+            lanes = new ArrayList<>();
+            lanes.add(back);
+        }
+        while(lanes.size() <= k){
+            lanes.add(back.copy());
+        }
+        
+        return lanes.get(k);
+    }
+    
+    /**
+     * The buffers of a batch, one row/entry per lane.
+     */
+    protected static final class Batch {
+        
+        final int size;
+        final double[][] x;
+        final double[][] g;
+        final double[] e;
+        final long[] ids;
+        final boolean[] active;
+        
+        Batch(final int size){
+            this.size = size;
+            this.x = new double[size][];
+            this.g = new double[size][];
+            this.e = new double[size];
+            this.ids = new long[size];
+            this.active = new boolean[size];
+        }
+        
+        boolean anyActive(){
+            for(final boolean a : active){
+                if(a) return true;
+            }
+            
+            return false;
+        }
+    }
+}
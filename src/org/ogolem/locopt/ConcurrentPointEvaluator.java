@@ -0,0 +1,119 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.locopt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.ogolem.generic.GenericFitnessBackend;
+import org.ogolem.generic.Optimizable;
+
+/**
+ * Evaluates the fitness at a set of independent points concurrently. Used by the
+ * derivative-free local optimizations for their initial interpolation sets. Every worker gets
+ * its own backend, seeded with the individual under optimization.
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+final class ConcurrentPointEvaluator {
+    
+    private ConcurrentPointEvaluator(){}
+    
+    /**
+     * Evaluates the fitness at all points.
+     * @param back the backend, must be seeded with the individual. Used as one of the workers.
+     * @param individual the individual under optimization, used to seed the backend copies
+     * @param threads the number of threads
+     * @param points the points, not changed
+     * @param firstIter the iteration passed to the backend for the first point, incremented by one for every further point
+     * @param values the fitness values, on exit
+     */
+    static <E,T extends Optimizable<E>> void evaluate(final GenericFitnessBackend<E,T> back,
+            final T individual, final int threads, final double[][] points,
+            final int firstIter, final double[] values){
+        
+        final int noWorkers = Math.min(threads, points.length);
+        if(noWorkers <= 1){
+            for(int i = 0; i < points.length; i++){
+                values[i] = back.fitness(points[i], firstIter + i);
+            }
+            return;
+        }
+        
+        final BlockingQueue<GenericFitnessBackend<E,T>> backends = new ArrayBlockingQueue<>(noWorkers);
+        backends.add(back);
+        for(int i = 1; i < noWorkers; i++){
+            final GenericFitnessBackend<E,T> copy = back.copy();
+            @SuppressWarnings("unchecked")
+            final T seed = (T) individual.copy();
+            copy.getActiveCoordinates(seed);
+            backends.add(copy);
+        }
+        
+        final ExecutorService exec = Executors.newFixedThreadPool(noWorkers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>(points.length);
+            for(int i = 0; i < points.length; i++){
+                final int p = i;
+                futures.add(exec.submit(() -> {
+                    final GenericFitnessBackend<E,T> b = backends.take();
+                    try {
+                        values[p] = b.fitness(points[p], firstIter + p);
+                    } finally {
+                        backends.put(b);
+                    }
+                    return null;
+                }));
+            }
+            for(final Future<?> f : futures){
+                f.get();
+            }
+        } catch(InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while evaluating the interpolation points.", e);
+        } catch(ExecutionException e){
+            throw new RuntimeException("Failure in evaluating the interpolation points.", e.getCause());
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+}
@@ -65,7 +65,7 @@ import org.ogolem.generic.GenericBackend;
  *
  * @author Mark Dittner
  * @author Dominik Behrens
- * @version 2020-04-29
+ * @version 2026-10-18
  */
 public class FIRELocOpt<E, T extends ContinuousProblem<E>> extends GenericAbstractLocOpt<E, T> {
 
@@ -317,7 +317,7 @@ public class FIRELocOpt<E, T extends ContinuousProblem<E>> extends GenericAbstra
 
     }
 
-    private double calcConvMeasure(final double[] gradient) {
+    double calcConvMeasure(final double[] gradient) {
         return calcConvergenceMeasureRMSG(gradient);
     }
 
@@ -383,7 +383,7 @@ public class FIRELocOpt<E, T extends ContinuousProblem<E>> extends GenericAbstra
      * @param iter     iteration number
      * @param gradient corresponding scratch object
      */
-    private void doStep(final int iter, final double[] p, final double[] gradient, final Scr scr,
+    void doStep(final int iter, final double[] p, final double[] gradient, final Scr scr,
                         final boolean bResetThisStep) {
         DMatrixRMaj gradMat = DMatrixRMaj.wrap(1, gradient.length, gradient);
         DMatrixRMaj pMat = DMatrixRMaj.wrap(1, p.length, p);
@@ -457,7 +457,7 @@ public class FIRELocOpt<E, T extends ContinuousProblem<E>> extends GenericAbstra
         return conf;
     }
 
-    private static class Scr implements Serializable {
+    static class Scr implements Serializable {
         private static final long serialVersionUID = (long) 20200427;
         private final DMatrixRMaj veloc;
         private final DMatrixRMaj dr;
@@ -470,7 +470,7 @@ public class FIRELocOpt<E, T extends ContinuousProblem<E>> extends GenericAbstra
         private double a;
 
         // The scratch space is made up of vectors of iProblemSize.
-        public Scr(final int iProblemSize, final double startdt, final double starta) {
+        Scr(final int iProblemSize, final double startdt, final double starta) {
             this.veloc = new DMatrixRMaj(1, iProblemSize);
             this.dr = new DMatrixRMaj(1, iProblemSize);
             this.scrMat = new DMatrixRMaj(1, iProblemSize);
@@ -39,6 +39,7 @@ package org.ogolem.locopt;
 
 import contrib.newuoa.NEWUOAMethod;
 import contrib.newuoa.NEWUOAOptimizer;
+import org.ogolem.core.FixedValues;
 import org.ogolem.generic.ContinuousProblem;
 import org.ogolem.generic.GenericAbstractGradFreeLocOpt;
 import org.ogolem.generic.GenericFitnessBackend;
@@ -48,12 +49,16 @@ import org.ogolem.helpers.Tuple;
 /**
  * A generic interface to the NEWUOA local optimization.
  * @author Johannes Dieterich
- * @version 2020-04-29
+ * @version 2026-10-18
  */
 public class NEWUOALocOpt<E,T extends ContinuousProblem<E>> extends GenericAbstractGradFreeLocOpt<E,T> {
 
-    private static final long serialVersionUID = (long) 20200429;
-    private final NEWUOAOptimizer opt;
+    private static final long serialVersionUID = (long) 20261018;
+    private final double rhoStart;
+    private final double rhoEnd;
+    private final int maxIter;
+    private final int threads;
+    private final TrustRegionWarmStart warmStart;
 
     /**
      * Constructor
@@ -64,13 +69,37 @@ public class NEWUOALocOpt<E,T extends ContinuousProblem<E>> extends GenericAbstr
      */
     public NEWUOALocOpt(final GenericFitnessBackend<E,T> back,
             final double rhoStart, final double rhoEnd, final int maxIter){
+        this(back, rhoStart, rhoEnd, maxIter, 1, false);
+    }
+    
+    /**
+     * Constructor
+     * @param back the backend
+     * @param rhoStart the start size of the trust radius
+     * @param rhoEnd the converged size of the trust radius
+     * @param maxIter the maximal number of iterations
+     * @param threads the number of threads evaluating the initial interpolation points
+     * @param warmStart whether to start with the trust radius suggested by the previous run
+     */
+    public NEWUOALocOpt(final GenericFitnessBackend<E,T> back,
+            final double rhoStart, final double rhoEnd, final int maxIter,
+            final int threads, final boolean warmStart){
         super(back);
-        this.opt = new NEWUOAOptimizer(rhoStart, rhoEnd, maxIter);
+        this.rhoStart = rhoStart;
+        this.rhoEnd = rhoEnd;
+        this.maxIter = maxIter;
+        this.threads = threads;
+        this.warmStart = (warmStart) ? new TrustRegionWarmStart() : null;
     }
     
     public NEWUOALocOpt(final NEWUOALocOpt<E,T> orig){
         super(orig);
-        this.opt = new NEWUOAOptimizer(orig.opt);
+        this.rhoStart = orig.rhoStart;
+        this.rhoEnd = orig.rhoEnd;
+        this.maxIter = orig.maxIter;
+        this.threads = orig.threads;
+        // every copy (worker thread) keeps its own, unrelated runs must not mix
+        this.warmStart = (orig.warmStart == null) ? null : new TrustRegionWarmStart();
     }
     
     @Override
@@ -92,10 +121,16 @@ public class NEWUOALocOpt<E,T extends ContinuousProblem<E>> extends GenericAbstr
         @SuppressWarnings("unchecked")
         final T work = (T) individual.copy();
         final double[] guess = back.getActiveCoordinates(work);
-        final NEWUOALocOpt.Adapter<E,T> adap = new NEWUOALocOpt.Adapter<>(back);
+        final double[] start = guess.clone();
+        final NEWUOALocOpt.Adapter<E,T> adap = new NEWUOALocOpt.Adapter<>(back, work, threads);
         
         // optimize
+        final double rhoBeg = (warmStart == null) ? rhoStart : warmStart.initialTrust(rhoStart, rhoEnd);
+        final NEWUOAOptimizer opt = new NEWUOAOptimizer(rhoBeg, rhoEnd, maxIter);
         final Tuple<Double,double[]> t = opt.doOptimize(dims,guess, adap);        
+        if(warmStart != null && t.getObject1() < FixedValues.NONCONVERGEDENERGY){
+            warmStart.record(start, guess);
+        }
 
         @SuppressWarnings("unchecked")
         final T res = (T) individual.copy();
@@ -108,14 +143,20 @@ public class NEWUOALocOpt<E,T extends ContinuousProblem<E>> extends GenericAbstr
     private static class Adapter<E,T extends Optimizable<E>> implements NEWUOAMethod {
         
         private final GenericFitnessBackend<E,T> back;
+        private final T individual;
+        private final int threads;
         private int iter = 0;
         
         /**
          * Constructor
          * @param back backend, must be pre-seeded.
+         * @param individual the individual the backend is seeded with
+         * @param threads the number of threads for evaluating several points
          */
-        Adapter(final GenericFitnessBackend<E,T> back){
+        Adapter(final GenericFitnessBackend<E,T> back, final T individual, final int threads){
             this.back = back;
+            this.individual = individual;
+            this.threads = threads;
         }
         
         @Override
@@ -123,5 +164,11 @@ public class NEWUOALocOpt<E,T extends ContinuousProblem<E>> extends GenericAbstr
             iter++;
             return back.fitness(point, iter);
         }
+        
+        @Override
+        public void computeObjectiveValues(final int n, final double[][] points, final double[] values){
+            ConcurrentPointEvaluator.evaluate(back, individual, threads, points, iter+1, values);
+            iter += points.length;
+        }
     }
 }
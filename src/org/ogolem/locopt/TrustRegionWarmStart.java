@@ -0,0 +1,81 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.locopt;
+
+import java.io.Serializable;
+
+/**
+ * Remembers how far the last derivative-free run moved its best point and proposes that as the
+ * initial trust radius of the next run. Meant for optimizations repeatedly started close to a
+ * previous solution, e.g., parameter refits after small changes to the reference data, which
+ * then skip the coarse trust radius stages. Every copy of a local optimization has its own, so
+ * runs of other threads do not change the starting radius.
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+final class TrustRegionWarmStart implements Serializable {
+    
+    private static final long serialVersionUID = (long) 20261018;
+    
+    private double lastMove = -1.0;
+    
+    /**
+     * @param initialTrust the configured initial trust radius, also the upper bound
+     * @param convergedTrust the converged trust radius
+     * @return the initial trust radius to use. Never below one reduction stage (a factor of ten) above the converged trust radius.
+     */
+    synchronized double initialTrust(final double initialTrust, final double convergedTrust){
+        if(lastMove < 0.0){
+            return initialTrust;
+        }
+        
+        return Math.min(initialTrust, Math.max(lastMove, 10*convergedTrust));
+    }
+    
+    /**
+     * Records the outcome of a run.
+     * @param start the starting point of the run
+     * @param end the final point of the run, same coordinates as the start
+     */
+    synchronized void record(final double[] start, final double[] end){
+        double move = 0.0;
+        for(int i = 0; i < start.length; i++){
+            move = Math.max(move, Math.abs(end[i]-start[i]));
+        }
+        lastMove = move;
+    }
+}
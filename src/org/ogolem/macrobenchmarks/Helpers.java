@@ -38,7 +38,11 @@ package org.ogolem.macrobenchmarks;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Properties;
 import org.slf4j.Logger;
@@ -48,7 +52,7 @@ import org.slf4j.LoggerFactory;
  * Some helpers solely for the macrobenchmarks
  *
  * @author Johannes Dieterich
- * @version 2021-06-29
+ * @version 2026-10-18
  */
 class Helpers {
 
@@ -92,6 +96,14 @@ class Helpers {
     return proc.exitValue();
   }
 
+  static void deleteRecursively(final Path dir) {
+    try (var paths = Files.walk(dir)) {
+      paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    } catch (IOException e) {
+      LOG.warn("Failure to clean up " + dir + ". Ignoring.", e);
+    }
+  }
+
   static class Rank0Filter implements FilenameFilter {
 
     @Override
@@ -0,0 +1,337 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.macrobenchmarks;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.ogolem.core.GlobalConfig;
+import org.ogolem.core.Input;
+import org.ogolem.generic.Configuration;
+import org.ogolem.generic.Copyable;
+import org.ogolem.generic.GenericGlobalOptimization;
+import org.ogolem.generic.GenericInitializer;
+import org.ogolem.generic.Optimizable;
+import org.ogolem.generic.generichistory.GenericHistory;
+import org.ogolem.generic.genericpool.GenericPool;
+import org.ogolem.generic.genericpool.GenericPoolConfig;
+import org.ogolem.generic.genericpool.NicheComputer;
+import org.ogolem.generic.threading.GenericOGOLEMOptimization;
+import org.ogolem.generic.threading.GenericThreadDispatcher;
+import org.ogolem.generic.threading.ObjectCache;
+import org.ogolem.generic.threading.TaskFactory;
+import org.ogolem.random.Lottery;
+import org.ogolem.random.StandardRNG;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs cluster optimization benchmarks within this JVM, repeatedly with different seeds and for a
+ * sweep of thread counts. In contrast to the ClusterBenchmarkRunner, no new JVM is forked and no
+ * output is scraped: the pool and the task dispatchers are driven directly, which allows to measure
+ * the time and number of global steps until the target energy was first reached as well as the time
+ * spent waiting for the pool lock. Note that auxiliary files referenced from the input are resolved
+ * against the directory this JVM was started from.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+class InProcessBenchmarkRunner {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InProcessBenchmarkRunner.class);
+
+  private final int[] threadCounts;
+  private final int repeats;
+  private final long baseSeed;
+
+  /**
+   * The outcome of a single global optimization run. All times are in seconds.
+   *
+   * @param benchmark the name of the benchmark (the input file)
+   * @param threads the number of threads used
+   * @param seed the seed of the random number generator
+   * @param reachedTarget whether the target fitness was reached at all
+   * @param timeToTarget wall time from the start of the initialization until the target fitness was
+   *     first reached, NaN if never reached
+   * @param stepsToTarget number of completed global steps when the target was first reached, -1 if
+   *     never reached
+   * @param globalSteps number of completed global steps
+   * @param initTime wall time of the pool initialization
+   * @param globTime wall time of the global optimization phase
+   * @param lockWait time spent waiting for the pool lock, summed over all threads
+   * @param bestFitness fitness of the best individual at the end
+   */
+  record RunResult(
+      String benchmark,
+      int threads,
+      long seed,
+      boolean reachedTarget,
+      double timeToTarget,
+      long stepsToTarget,
+      long globalSteps,
+      double initTime,
+      double globTime,
+      double lockWait,
+      double bestFitness) {
+
+    double stepsPerSecond() {
+      return (globTime > 0.0) ? globalSteps / globTime : 0.0;
+    }
+  }
+
+  InProcessBenchmarkRunner(final int[] threadCounts, final int repeats, final long baseSeed) {
+    assert (threadCounts.length > 0);
+    assert (repeats > 0);
+    this.threadCounts = threadCounts.clone();
+    this.repeats = repeats;
+    this.baseSeed = baseSeed;
+  }
+
+  /**
+   * Run all repeats for all thread counts of a single benchmark.
+   *
+   * @param csvLine csv formatted line containing the benchmark info, same format as for the
+   *     ClusterBenchmarkRunner
+   * @return the results of all runs, ordered by thread count and seed
+   * @throws Exception if anything goes wrong
+   */
+  List<RunResult> runBenchmark(final String csvLine) throws Exception {
+
+    final String[] csvData = csvLine.trim().split("\\,");
+    // format of the line is as follows:
+    // 1) the working directory the input resides in
+    // 2) the input file, relative to work dir
+    // 3) the expected global minimum energy
+    // 4) the file, relative to work dir, containing the reference global minimum
+    // 5) threshold for energy
+    // 6) threshold for cluster structure
+    final String workDir = csvData[0].trim();
+    final String inputFile = csvData[1].trim();
+    final double energy = Double.parseDouble(csvData[2].trim());
+    final double energyThresh = Double.parseDouble(csvData[4].trim());
+
+    final File newDir = new File(workDir);
+    if (!newDir.exists() || !newDir.isDirectory()) {
+      throw new IllegalArgumentException(
+          "Specified working directory " + workDir + " does not exist or is not a directory.");
+    }
+
+    final String input = workDir + File.separator + inputFile;
+    final double target = energy + energyThresh;
+    final List<RunResult> results = new ArrayList<>();
+    for (final int noThreads : threadCounts) {
+      for (int rep = 0; rep < repeats; rep++) {
+        final long seed = baseSeed + rep;
+
+        // fresh configuration for every run: it carries stateful operators
+        final GlobalConfig conf = Input.ConfigureMe(input);
+        final Path outDir = Files.createTempDirectory("ogolem-macrobench");
+        try {
+          conf.setOutputFolder(outDir.toString());
+          conf.setOutputFile(outDir.resolve("benchmark.out").toString());
+
+          LOG.info(
+              "Executing benchmark " + inputFile + " with " + noThreads + " threads, seed " + seed);
+          final RunResult res = runOnce(inputFile, conf, noThreads, seed, target);
+          LOG.info(
+              "Benchmark "
+                  + inputFile
+                  + ((res.reachedTarget())
+                      ? " reached target after " + res.timeToTarget() + " s."
+                      : " did NOT reach target. Best fitness " + res.bestFitness()));
+          results.add(res);
+        } finally {
+          Helpers.deleteRecursively(outDir);
+        }
+      }
+    }
+
+    return results;
+  }
+
+  /**
+   * A single global optimization run following what GenericOGOLEMOptimization does, minus all
+   * output.
+   */
+  static <E, T extends Optimizable<E>> RunResult runOnce(
+      final String name,
+      final Configuration<E, T> config,
+      final int noThreads,
+      final long seed,
+      final double target)
+      throws Exception {
+
+    Lottery.setGenerator(new StandardRNG(seed));
+
+    GenericHistory.resetReference();
+    final GenericHistory<E, T> history =
+        GenericHistory.getReference(config.getGenericHistoryConfig());
+
+    final GenericPoolConfig<E, T> poolConfig = config.getGenericPoolConfig();
+    poolConfig.setAcceptableFitness(target);
+    final GenericPool<E, T> pool = new GenericPool<>(poolConfig, config.getExample());
+    pool.trackLockWaits(true);
+
+    final NicheComputer<E, T> nicheComp = config.getNicheComputer();
+    final boolean doNiching = (nicheComp != null);
+    final ObjectCache<GenericInitializer<E, T>> initCache =
+        new ObjectCache<>(noThreads, config.getInitializer());
+    final ObjectCache<GenericGlobalOptimization<E, T>> globCache =
+        new ObjectCache<>(noThreads, config.getGlobalOptimization());
+    final TaskFactory<E, T, GenericInitializer<E, T>> initTasks = config.getInitFactory();
+    final TaskFactory<E, T, GenericGlobalOptimization<E, T>> globTasks = config.getGlobalFactory();
+    final int poolSize = poolConfig.getPoolSize();
+    final int subsToWait = GenericOGOLEMOptimization.DEFAULTSUBSTOWAIT;
+
+    final long start = System.nanoTime();
+
+    final GenericThreadDispatcher<E, T, GenericInitializer<E, T>> initDispatcher =
+        new GenericThreadDispatcher<>(
+            noThreads,
+            pool,
+            history,
+            initCache,
+            0,
+            poolSize,
+            initTasks,
+            subsToWait,
+            doNiching,
+            nicheComp);
+    initDispatcher.doAllTasks();
+
+    final long initEnd = System.nanoTime();
+
+    final TargetTracker<E, T, GenericGlobalOptimization<E, T>> tracker =
+        new TargetTracker<>(globTasks, start);
+    if (pool.acceptableFitnessReached()) {
+      tracker.hit(initEnd, 0);
+    } else {
+      final GenericThreadDispatcher<E, T, GenericGlobalOptimization<E, T>> globDispatcher =
+          new GenericThreadDispatcher<>(
+              noThreads,
+              pool,
+              history,
+              globCache,
+              poolSize,
+              config.getNumberOfGlobalSteps(),
+              tracker,
+              subsToWait,
+              doNiching,
+              nicheComp);
+      globDispatcher.doAllTasks();
+    }
+
+    final long end = System.nanoTime();
+
+    final long hitNanos = tracker.hitNanos.get();
+    final boolean reached = (hitNanos >= 0);
+
+    return new RunResult(
+        name,
+        noThreads,
+        seed,
+        reached,
+        (reached) ? hitNanos * 1e-9 : Double.NaN,
+        tracker.hitSteps.get(),
+        tracker.completed.get(),
+        (initEnd - start) * 1e-9,
+        (end - initEnd) * 1e-9,
+        pool.getLockWaitNanos() * 1e-9,
+        pool.getFitnessOfIndividualAtPos(0));
+  }
+
+  /**
+   * Wraps the global task factory to count completed global steps and to note when (and after how
+   * many steps) the target fitness was first reached.
+   */
+  private static final class TargetTracker<E, T extends Optimizable<E>, V extends Copyable>
+      implements TaskFactory<E, T, V> {
+
+    private final TaskFactory<E, T, V> delegate;
+    private final long start;
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong hitNanos = new AtomicLong(-1);
+    private final AtomicLong hitSteps = new AtomicLong(-1);
+
+    TargetTracker(final TaskFactory<E, T, V> delegate, final long start) {
+      this.delegate = delegate;
+      this.start = start;
+    }
+
+    void hit(final long now, final long steps) {
+      if (hitNanos.compareAndSet(-1, now - start)) {
+        hitSteps.set(steps);
+      }
+    }
+
+    @Override
+    public Runnable createTask(
+        final GenericPool<E, T> pool,
+        final GenericHistory<E, T> history,
+        final V refStuff,
+        final boolean useCache,
+        final ObjectCache<V> cache,
+        final boolean doNiching,
+        final NicheComputer<E, T> nicheComp,
+        final ObjectCache<NicheComputer<E, T>> nicheCompCache,
+        final long taskID) {
+
+      final Runnable task =
+          delegate.createTask(
+              pool,
+              history,
+              refStuff,
+              useCache,
+              cache,
+              doNiching,
+              nicheComp,
+              nicheCompCache,
+              taskID);
+
+      return () -> {
+        task.run();
+        final long steps = completed.incrementAndGet();
+        if (hitNanos.get() < 0 && pool.acceptableFitnessReached()) {
+          hit(System.nanoTime(), steps);
+        }
+      };
+    }
+  }
+}
@@ -36,6 +36,9 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 */
 package org.ogolem.macrobenchmarks;
 
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import org.ogolem.io.InputPrimitives;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,11 +46,14 @@ import org.slf4j.LoggerFactory;
 /**
  * Designed to run macrobenchmarks, i.e., full global optimizations.
  * @author Johannes Dieterich
- * @version 2020-03-22
+ * @version 2026-10-18
  */
 public class MainMacroBenchmarks {
     
     private static final Logger LOG = LoggerFactory.getLogger(MainMacroBenchmarks.class);
+    private static final int DEFAULTREPEATS = 5;
+    private static final String DEFAULTPREFIX = "macrobenchmarks";
+    private static final long DEFAULTSEED = 42;
             
     public static void run(final String[] args){
         
@@ -58,13 +64,37 @@ public class MainMacroBenchmarks {
             System.out.println(" * the input file (csv format)");
             System.out.println(" * the number of threads to be used for each global optimization");
 	    System.out.println("Note that the execution must be from a directory that contains the paths in the input csv file.\n I.e., with the default csv files, this must be executed from the ogolem main directory.");
+            System.out.println("With -cluster-inprocess, all cluster benchmarks run within this JVM for 1, 2, 4,... up to the");
+            System.out.println("number of threads given and the following optional arguments are supported:");
+            System.out.println(" * the number of repeats (seeds) per thread count (default: " + DEFAULTREPEATS + ")");
+            System.out.println(" * the prefix for the csv/json reports (default: " + DEFAULTPREFIX + ")");
+            System.out.println(" * the seed of the first repeat (default: " + DEFAULTSEED + ")");
+            System.out.println("With -analyze-jfr FILE, a JFR recording of a global optimization is summarized into");
+            System.out.println("a per-stage breakdown.");
             System.exit(0);
         }
         
+        if(args[0].equalsIgnoreCase("-analyze-jfr")){
+            if(args.length < 2){
+                throw new RuntimeException("Must specify the JFR recording to analyze.");
+            }
+            try {
+                new TraceAnalyzer(Paths.get(args[1])).getSummary().forEach(System.out::println);
+            } catch(Exception e){
+                throw new RuntimeException("Failure to analyze JFR recording " + args[1] + ".", e);
+            }
+            return;
+        }
+        
         if(args.length < 3){
             throw new RuntimeException("Must specify all three mandatory arguments.");
         }
         
+        if(args[0].equalsIgnoreCase("-cluster-inprocess")){
+            runInProcess(args);
+            return;
+        }
+        
         
         BenchmarkRunner runner = null;
         if(args[0].equalsIgnoreCase("-cluster")){
@@ -117,4 +147,61 @@ public class MainMacroBenchmarks {
             throw new RuntimeException("Failure to successfully complete some benchmarks. Number is " + errOut);
         }
     }
+    
+    private static void runInProcess(final String[] args){
+        
+        final String refFile = args[1];
+        final int maxThreads = Integer.parseInt(args[2]);
+        final int repeats = (args.length > 3) ? Integer.parseInt(args[3]) : DEFAULTREPEATS;
+        final String prefix = (args.length > 4) ? args[4] : DEFAULTPREFIX;
+        final long seed = (args.length > 5) ? Long.parseLong(args[5]) : DEFAULTSEED;
+        
+        // 1, 2, 4,... and always the maximum
+        final List<Integer> threads = new ArrayList<>();
+        for(int t = 1; t < maxThreads; t *= 2){
+            threads.add(t);
+        }
+        threads.add(maxThreads);
+        final int[] threadCounts = threads.stream().mapToInt(Integer::intValue).toArray();
+        
+        LOG.info("Benchmarking cluster structure optimization in-process for thread counts " + threads + " with " + repeats + " repeats each.");
+        
+        String[] csvData = null;
+        try {
+            csvData = InputPrimitives.readFileIn(refFile);
+        } catch(Exception e){
+            throw new RuntimeException("Failure to read csv file in.", e);
+        }
+        
+        final InProcessBenchmarkRunner runner = new InProcessBenchmarkRunner(threadCounts, repeats, seed);
+        final ScalingReport report = new ScalingReport();
+        int errOut = 0;
+        for(final String line : csvData){
+            
+            if(line.trim().isEmpty() || line.trim().startsWith("#") || line.trim().startsWith("//")){
+                // comment line, ignore
+                continue;
+            }
+            
+            LOG.debug("Working on line: " + line);
+            
+            try {
+                report.add(runner.runBenchmark(line));
+            } catch (Exception e){
+                errOut++;
+                e.printStackTrace(System.err);
+            }
+        }
+        
+        try {
+            report.writeRunsCSV(prefix + "-runs.csv");
+            report.writeSummaryJSON(prefix + "-scaling.json");
+        } catch(Exception e){
+            throw new RuntimeException("Failure to write benchmark reports.", e);
+        }
+        
+        if(errOut != 0){
+            throw new RuntimeException("Failure to successfully complete some benchmarks. Number is " + errOut);
+        }
+    }
 }
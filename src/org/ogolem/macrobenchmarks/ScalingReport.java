@@ -0,0 +1,222 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.macrobenchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import org.ogolem.io.OutputPrimitives;
+import org.ogolem.macrobenchmarks.InProcessBenchmarkRunner.RunResult;
+
+/**
+ * Aggregates the runs of the in-process macrobenchmarks into time-to-target distributions and
+ * speedup/efficiency curves over the thread count. Writes one CSV line per run and a JSON summary
+ * per benchmark and thread count. Speedups are relative to the smallest thread count benchmarked,
+ * once for the median time-to-target (only counting runs that reached the target) and once for the
+ * throughput in global steps per second.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+class ScalingReport {
+
+  private final Map<String, Map<Integer, List<RunResult>>> runs = new TreeMap<>();
+
+  void add(final List<RunResult> results) {
+    for (final RunResult res : results) {
+      runs.computeIfAbsent(res.benchmark(), k -> new TreeMap<>())
+          .computeIfAbsent(res.threads(), k -> new ArrayList<>())
+          .add(res);
+    }
+  }
+
+  void writeRunsCSV(final String file) throws IOException {
+
+    final List<String> out = new ArrayList<>();
+    out.add(
+        "benchmark,threads,seed,reached,time_to_target_s,steps_to_target,global_steps,init_s,glob_s,steps_per_s,lock_wait_s,best_fitness");
+    for (final Map<Integer, List<RunResult>> perThreads : runs.values()) {
+      for (final List<RunResult> results : perThreads.values()) {
+        for (final RunResult res : results) {
+          out.add(
+              String.format(
+                  Locale.US,
+                  "%s,%d,%d,%b,%.6f,%d,%d,%.6f,%.6f,%.4f,%.6f,%.12f",
+                  res.benchmark(),
+                  res.threads(),
+                  res.seed(),
+                  res.reachedTarget(),
+                  res.timeToTarget(),
+                  res.stepsToTarget(),
+                  res.globalSteps(),
+                  res.initTime(),
+                  res.globTime(),
+                  res.stepsPerSecond(),
+                  res.lockWait(),
+                  res.bestFitness()));
+        }
+      }
+    }
+
+    OutputPrimitives.writeOut(file, out, false);
+  }
+
+  void writeSummaryJSON(final String file) throws IOException {
+
+    final StringBuilder sb = new StringBuilder();
+    sb.append("{\n  \"benchmarks\": [");
+    boolean firstBench = true;
+    for (final Map.Entry<String, Map<Integer, List<RunResult>>> bench : runs.entrySet()) {
+      sb.append((firstBench) ? "\n" : ",\n");
+      firstBench = false;
+      sb.append("    {\n      \"name\": \"").append(escape(bench.getKey())).append("\",\n");
+      sb.append("      \"scaling\": [");
+
+      double baseTTT = Double.NaN;
+      double baseThroughput = Double.NaN;
+      int baseThreads = -1;
+      boolean firstThreads = true;
+      for (final Map.Entry<Integer, List<RunResult>> entry : bench.getValue().entrySet()) {
+        final int threads = entry.getKey();
+        final List<RunResult> results = entry.getValue();
+
+        final double[] ttt =
+            results.stream()
+                .filter(RunResult::reachedTarget)
+                .mapToDouble(RunResult::timeToTarget)
+                .sorted()
+                .toArray();
+        final double[] throughput =
+            results.stream().mapToDouble(RunResult::stepsPerSecond).sorted().toArray();
+        final double[] lockWait = results.stream().mapToDouble(RunResult::lockWait).toArray();
+        final double[] wall =
+            results.stream().mapToDouble(r -> (r.initTime() + r.globTime()) * threads).toArray();
+
+        final double medianTTT = quantile(ttt, 0.5);
+        final double medianThroughput = quantile(throughput, 0.5);
+        if (baseThreads < 0) {
+          baseThreads = threads;
+          baseTTT = medianTTT;
+          baseThroughput = medianThroughput;
+        }
+        final double tttSpeedup = baseTTT / medianTTT;
+        final double throughputSpeedup = medianThroughput / baseThroughput;
+
+        sb.append((firstThreads) ? "\n" : ",\n");
+        firstThreads = false;
+        sb.append("        {\n");
+        field(sb, "threads", threads);
+        field(sb, "runs", results.size());
+        field(sb, "reached_target", ttt.length);
+        sb.append("          \"time_to_target_s\": {");
+        sb.append("\"min\": ").append(num(quantile(ttt, 0.0)));
+        sb.append(", \"median\": ").append(num(medianTTT));
+        sb.append(", \"mean\": ").append(num(mean(ttt)));
+        sb.append(", \"p90\": ").append(num(quantile(ttt, 0.9)));
+        sb.append(", \"max\": ").append(num(quantile(ttt, 1.0)));
+        sb.append(", \"values\": ").append(array(ttt)).append("},\n");
+        field(sb, "steps_per_s_median", medianThroughput);
+        field(sb, "lock_wait_s_mean", mean(lockWait));
+        // share of the available thread time spent waiting for the pool lock
+        field(sb, "lock_wait_fraction", sum(lockWait) / sum(wall));
+        field(sb, "speedup_time_to_target", tttSpeedup);
+        field(sb, "efficiency_time_to_target", tttSpeedup * baseThreads / threads);
+        field(sb, "speedup_throughput", throughputSpeedup);
+        sb.append("          \"efficiency_throughput\": ")
+            .append(num(throughputSpeedup * baseThreads / threads))
+            .append("\n");
+        sb.append("        }");
+      }
+      sb.append("\n      ]\n    }");
+    }
+    sb.append("\n  ]\n}");
+
+    OutputPrimitives.writeOut(file, sb.toString(), false);
+  }
+
+  /** Linear interpolation between closest ranks, NaN for no data. Expects sorted data. */
+  static double quantile(final double[] sorted, final double q) {
+    if (sorted.length == 0) {
+      return Double.NaN;
+    }
+    final double pos = q * (sorted.length - 1);
+    final int lo = (int) Math.floor(pos);
+    final int hi = Math.min(lo + 1, sorted.length - 1);
+    return sorted[lo] + (pos - lo) * (sorted[hi] - sorted[lo]);
+  }
+
+  private static double mean(final double[] data) {
+    return (data.length == 0) ? Double.NaN : sum(data) / data.length;
+  }
+
+  private static double sum(final double[] data) {
+    double s = 0.0;
+    for (final double d : data) {
+      s += d;
+    }
+    return s;
+  }
+
+  private static void field(final StringBuilder sb, final String key, final double value) {
+    sb.append("          \"").append(key).append("\": ").append(num(value)).append(",\n");
+  }
+
+  private static void field(final StringBuilder sb, final String key, final int value) {
+    sb.append("          \"").append(key).append("\": ").append(value).append(",\n");
+  }
+
+  private static String num(final double d) {
+    // JSON has no representation of NaN or infinities
+    return (Double.isFinite(d)) ? Double.toString(d) : "null";
+  }
+
+  private static String array(final double[] data) {
+    final String[] s = new String[data.length];
+    for (int i = 0; i < data.length; i++) {
+      s[i] = num(data[i]);
+    }
+    return Arrays.toString(s);
+  }
+
+  private static String escape(final String s) {
+    return s.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+}
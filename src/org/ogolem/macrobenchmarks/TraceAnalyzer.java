@@ -0,0 +1,209 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.macrobenchmarks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.ogolem.generic.tracing.GAStageEvent;
+
+/**
+ * Summarizes a JFR recording of a global optimization into a per-stage breakdown of where the time
+ * went, using the OGOLEM custom events. Record e.g. with
+ * -XX:StartFlightRecording=filename=ogo.jfr,settings=profile.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public final class TraceAnalyzer {
+
+  private static final String STAGEEVENT = "org.ogolem.GAStage";
+  private static final String LOCKEVENT = "org.ogolem.PoolLockWait";
+  private static final String CACHEEVENT = "org.ogolem.CacheCheckout";
+  private static final String PROCEVENT = "org.ogolem.ExternalProcess";
+
+  private final Map<String, List<Long>> stages = new TreeMap<>();
+  private final Map<String, List<Long>> operators = new TreeMap<>();
+  private final Map<String, List<Long>> others = new TreeMap<>();
+
+  /** An empty analyzer, to be filled through addStage() and addOther(). */
+  TraceAnalyzer() {}
+
+  /**
+   * Reads all relevant events of a recording in.
+   *
+   * @param recording the JFR file
+   * @throws IOException if the recording can't be read
+   */
+  public TraceAnalyzer(final Path recording) throws IOException {
+    try (final RecordingFile file = new RecordingFile(recording)) {
+      while (file.hasMoreEvents()) {
+        add(file.readEvent());
+      }
+    }
+  }
+
+  private void add(final RecordedEvent event) {
+
+    final long nanos = event.getDuration().toNanos();
+    switch (event.getEventType().getName()) {
+      case STAGEEVENT:
+        addStage(event.getString("stage"), event.getString("operator"), nanos);
+        break;
+      case LOCKEVENT:
+        addOther(event.getBoolean("write") ? "pool write lock wait" : "pool read lock wait", nanos);
+        break;
+      case CACHEEVENT:
+        addOther("cache checkout " + event.getString("type"), nanos);
+        break;
+      case PROCEVENT:
+        addOther("external " + event.getString("command"), nanos);
+        break;
+      default:
+        // not ours
+    }
+  }
+
+  /**
+   * Adds one stage of a global optimization step.
+   *
+   * @param stage the stage, one of the GAStageEvent constants
+   * @param operator the operator used in this stage, null or empty if none
+   * @param nanos the duration
+   */
+  void addStage(final String stage, final String operator, final long nanos) {
+    put(stages, stage, nanos);
+    if (operator != null && !operator.isEmpty()) {
+      put(operators, stage + ": " + operator, nanos);
+    }
+  }
+
+  /**
+   * Adds one wait or external call.
+   *
+   * @param what what was waited for
+   * @param nanos the duration
+   */
+  void addOther(final String what, final long nanos) {
+    put(others, what, nanos);
+  }
+
+  private static void put(final Map<String, List<Long>> map, final String key, final long nanos) {
+    map.computeIfAbsent(key, (k) -> new ArrayList<>()).add(nanos);
+  }
+
+  /**
+   * The breakdown, shares are relative to the summed up duration of all global optimization steps.
+   *
+   * @return the formatted summary
+   */
+  public List<String> getSummary() {
+
+    final List<Long> steps = stages.get(GAStageEvent.STEP);
+    final long stepTotal = (steps == null) ? 0 : steps.stream().mapToLong(Long::longValue).sum();
+
+    final List<String> out = new ArrayList<>();
+    out.add("#-----------------------------------------------------------");
+    out.add("# Per-stage breakdown, times in ms, share relative to all steps.");
+    out.add("#-----------------------------------------------------------");
+    table("stage", stages, stepTotal, out);
+    if (!operators.isEmpty()) {
+      out.add("");
+      table("stage: operator", operators, stepTotal, out);
+    }
+    if (!others.isEmpty()) {
+      out.add("");
+      table("waits and external calls", others, stepTotal, out);
+    }
+
+    return out;
+  }
+
+  private static void table(
+      final String header,
+      final Map<String, List<Long>> data,
+      final long stepTotal,
+      final List<String> out) {
+
+    out.add(
+        String.format(
+            Locale.US,
+            "%-40s %10s %12s %10s %10s %10s %10s %7s",
+            header,
+            "count",
+            "total",
+            "mean",
+            "p50",
+            "p99",
+            "max",
+            "share"));
+    data.forEach(
+        (key, list) -> {
+          final long[] ds = list.stream().mapToLong(Long::longValue).toArray();
+          Arrays.sort(ds);
+          final long total = Arrays.stream(ds).sum();
+          final String share =
+              (stepTotal > 0)
+                  ? String.format(Locale.US, "%6.2f%%", 100.0 * total / stepTotal)
+                  : "n/a";
+          out.add(
+              String.format(
+                  Locale.US,
+                  "%-40s %10d %12.3f %10.3f %10.3f %10.3f %10.3f %7s",
+                  key,
+                  ds.length,
+                  total * 1e-6,
+                  total * 1e-6 / ds.length,
+                  percentile(ds, 50.0) * 1e-6,
+                  percentile(ds, 99.0) * 1e-6,
+                  ds[ds.length - 1] * 1e-6,
+                  share));
+        });
+  }
+
+  static long percentile(final long[] sorted, final double p) {
+    final int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(sorted.length - 1, idx))];
+  }
+}
@@ -38,6 +38,7 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 */
 package org.ogolem.math;
 
+import contrib.jama.util.Maths;
 import java.util.Arrays;
 import jdk.incubator.vector.DoubleVector;
 import jdk.incubator.vector.VectorOperators;
@@ -47,7 +48,7 @@ import jdk.incubator.vector.VectorSpecies;
  * Performs some really trivial linear algebra.
  *
  * @author Johannes Dieterich
- * @version 2023-06-28
+ * @version 2026-10-18
  */
 public class TrivialLinearAlgebra {
 
@@ -432,6 +433,178 @@ public class TrivialLinearAlgebra {
     result[2] = vectorOne[0] * vectorTwo[1] - vectorOne[1] * vectorTwo[0];
   }
 
+  /**
+   * Computes the eigenvalues of a real symmetric matrix: Householder reduction to tridiagonal form
+   * followed by the implicit QL algorithm, as in JAMA's symmetric path (tred2/tql2), but without
+   * forming or accumulating any eigenvectors. Works on the upper triangle only, which keeps the
+   * inner loops running along rows. The eigenvalues are the same as JAMA's.
+   *
+   * @param matrix the symmetric matrix. Only the upper triangle (including the diagonal) is
+   *     referenced and it is destroyed on exit.
+   * @param eigenvalues the eigenvalues in ascending order, on exit. Must be of the dimension of the
+   *     matrix.
+   * @param scratch scratch space of at least the dimension of the matrix
+   */
+  public static void symmetricEigenvalues(
+      final double[][] matrix, final double[] eigenvalues, final double[] scratch) {
+
+    final int n = eigenvalues.length;
+    assert (matrix.length >= n);
+    assert (scratch.length >= n);
+    if (n == 0) {
+      return;
+    }
+
+    final double[][] a = matrix;
+    final double[] d = eigenvalues;
+    final double[] e = scratch;
+
+    // Householder reduction to tridiagonal form, a[j][k] with j <= k stands for row k, column j
+    for (int j = 0; j < n; j++) {
+      d[j] = a[j][n - 1];
+    }
+    for (int i = n - 1; i > 0; i--) {
+
+      // scale to avoid under/overflow
+      double scale = 0.0;
+      double h = 0.0;
+      for (int k = 0; k < i; k++) {
+        scale = scale + Math.abs(d[k]);
+      }
+      if (scale == 0.0) {
+        e[i] = d[i - 1];
+        for (int j = 0; j < i; j++) {
+          d[j] = a[j][i - 1];
+        }
+      } else {
+
+        // generate Householder vector
+        for (int k = 0; k < i; k++) {
+          d[k] /= scale;
+          h += d[k] * d[k];
+        }
+        double f = d[i - 1];
+        double g = Math.sqrt(h);
+        if (f > 0) {
+          g = -g;
+        }
+        e[i] = scale * g;
+        h = h - f * g;
+        d[i - 1] = f - g;
+        for (int j = 0; j < i; j++) {
+          e[j] = 0.0;
+        }
+
+        // apply similarity transformation to remaining columns
+        for (int j = 0; j < i; j++) {
+          f = d[j];
+          final double[] aj = a[j];
+          g = e[j] + aj[j] * f;
+          for (int k = j + 1; k <= i - 1; k++) {
+            g += aj[k] * d[k];
+            e[k] += aj[k] * f;
+          }
+          e[j] = g;
+        }
+        f = 0.0;
+        for (int j = 0; j < i; j++) {
+          e[j] /= h;
+          f += e[j] * d[j];
+        }
+        final double hh = f / (h + h);
+        for (int j = 0; j < i; j++) {
+          e[j] -= hh * d[j];
+        }
+        for (int j = 0; j < i; j++) {
+          f = d[j];
+          g = e[j];
+          final double[] aj = a[j];
+          for (int k = j; k <= i - 1; k++) {
+            aj[k] -= (f * e[k] + g * d[k]);
+          }
+          d[j] = a[j][i - 1];
+        }
+      }
+    }
+    for (int j = 0; j < n; j++) {
+      d[j] = a[j][j];
+    }
+
+    // implicit QL on the tridiagonal matrix
+    for (int i = 1; i < n; i++) {
+      e[i - 1] = e[i];
+    }
+    e[n - 1] = 0.0;
+
+    double f = 0.0;
+    double tst1 = 0.0;
+    final double eps = Math.pow(2.0, -52.0);
+    for (int l = 0; l < n; l++) {
+
+      // find small subdiagonal element
+      tst1 = Math.max(tst1, Math.abs(d[l]) + Math.abs(e[l]));
+      int m = l;
+      while (m < n) {
+        if (Math.abs(e[m]) <= eps * tst1) {
+          break;
+        }
+        m++;
+      }
+
+      // if m == l, d[l] is an eigenvalue, otherwise iterate
+      if (m > l) {
+        do {
+          // compute implicit shift
+          double g = d[l];
+          double p = (d[l + 1] - g) / (2.0 * e[l]);
+          double r = Maths.hypot(p, 1.0);
+          if (p < 0) {
+            r = -r;
+          }
+          d[l] = e[l] / (p + r);
+          d[l + 1] = e[l] * (p + r);
+          final double dl1 = d[l + 1];
+          double h = g - d[l];
+          for (int i = l + 2; i < n; i++) {
+            d[i] -= h;
+          }
+          f = f + h;
+
+          // implicit QL transformation
+          p = d[m];
+          double c = 1.0;
+          double c2 = c;
+          double c3 = c;
+          final double el1 = e[l + 1];
+          double s = 0.0;
+          double s2 = 0.0;
+          for (int i = m - 1; i >= l; i--) {
+            c3 = c2;
+            c2 = c;
+            s2 = s;
+            g = c * e[i];
+            h = c * p;
+            r = Maths.hypot(p, e[i]);
+            e[i + 1] = s * r;
+            s = e[i] / r;
+            c = p / r;
+            p = c * d[i] - s * g;
+            d[i + 1] = h + s * (c * g + s * d[i]);
+          }
+          p = -s * s2 * c3 * el1 * e[l] / dl1;
+          e[l] = s * p;
+          d[l] = c * p;
+
+          // check for convergence
+        } while (Math.abs(e[l]) > eps * tst1);
+      }
+      d[l] = d[l] + f;
+      e[l] = 0.0;
+    }
+
+    Arrays.sort(d, 0, n);
+  }
+
   /*
    * Computes the eigenvalues and vectors of a symmetric matrix using netlib.
    * @param matrix the symmetric matrix. only the UPPER part is required.
@@ -0,0 +1,114 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.microbenchmarks;
+
+import java.util.ArrayList;
+import org.ogolem.core.BondInfo;
+import org.ogolem.core.CartesianCoordinates;
+import org.ogolem.core.CoordTranslation;
+import org.ogolem.core.Geometry;
+import org.ogolem.core.SimpleBondInfo;
+
+/**
+ * Benchmark for the geometry copies of one global optimization step on a medium-sized water
+ * cluster: two parents taken from the pool, two children from the crossover and one copy for the
+ * mutation, which then moves a single molecule. Mostly interesting for its allocation rate, e.g.
+ * with the gc profiler of the JMH suite.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+class GeometryCopyBench implements SingleMicroBenchmark {
+
+  private final Geometry w50;
+  private final double[] extCoords = new double[6];
+
+  GeometryCopyBench() {
+
+    final int[] atsPerMol = new int[50];
+    final boolean[] molFlexies = new boolean[50];
+    final boolean[] molConstraints = new boolean[50];
+    final String[] sids = new String[50];
+    final ArrayList<boolean[][]> degreesOfFreedom = new ArrayList<>(50);
+    for (int i = 0; i < 50; i++) {
+      atsPerMol[i] = 3;
+      sids[i] = "water";
+      degreesOfFreedom.add(null);
+    }
+
+    final boolean[][] constraintsXYZ = new boolean[3][150];
+    final BondInfo bonds = new SimpleBondInfo(150);
+    for (int i = 0; i < 50; i++) {
+      final int o = i * 3;
+      bonds.setBond(o, o + 1, BondInfo.SINGLE);
+      bonds.setBond(o, o + 2, BondInfo.SINGLE);
+    }
+
+    final CartesianCoordinates cart = CartesianCoordinatesLibrary.getWater50LocMin();
+    this.w50 =
+        CoordTranslation.cartesianToGeometry(
+            cart,
+            50,
+            atsPerMol,
+            molFlexies,
+            degreesOfFreedom,
+            molConstraints,
+            constraintsXYZ,
+            sids,
+            bonds);
+  }
+
+  @Override
+  public double runSingle() throws Exception {
+
+    final Geometry mother = w50.copy();
+    final Geometry father = w50.copy();
+    final Geometry child1 = mother.copy();
+    final Geometry child2 = father.copy();
+    final Geometry mutant = child1.copy();
+
+    extCoords[0] += 1e-3;
+    mutant.setExtCoordMolecule(extCoords, 0);
+
+    return mutant.getCOM(0)[0] + child2.getNumberOfAtoms();
+  }
+
+  @Override
+  public String name() {
+    return "geometry copies per GA step water 50";
+  }
+}
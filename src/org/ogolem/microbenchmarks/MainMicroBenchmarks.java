@@ -45,10 +45,12 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Designed to run microbenchmarks of some performance-critical functionalities of ogolem.
- * Benchmarked functionalities should be micro - hence fast to benchmark and fundamental.
+ * Benchmarked functionalities should be micro - hence fast to benchmark and fundamental. For
+ * regression tracking across commits, use the JMH suite in jmh/ (gradle jmh) which wraps the same
+ * benchmarks with proper warmup, Blackhole consumption, allocation profiling and JSON output.
  *
  * @author Johannes Dieterich
- * @version 2021-08-03
+ * @version 2026-10-18
  */
 public class MainMicroBenchmarks {
 
@@ -103,6 +105,10 @@ public class MainMicroBenchmarks {
     final AligningBench alignBench = new AligningBench();
     runOne(alignBench, 1000);
 
+    // run geometry copy benchmark
+    final GeometryCopyBench copyBench = new GeometryCopyBench();
+    runOne(copyBench, 100);
+
     // run angle benchmark
     final AngleBench angleBench = new AngleBench();
     runOne(angleBench, 10000);
@@ -138,6 +144,12 @@ public class MainMicroBenchmarks {
     runOne(norwayLJ38Bench, 5);
     final NorwayPackingLJBench norwayLJ55Bench = new NorwayPackingLJBench(55);
     runOne(norwayLJ55Bench, 2);
+    final NorwayPackingLJBench norwayLJ200Bench = new NorwayPackingLJBench(200);
+    runOne(norwayLJ200Bench, 2);
+    final NorwayPackingLJBench norwayLJ500Bench = new NorwayPackingLJBench(500);
+    runOne(norwayLJ500Bench, 1);
+    final NorwayPackingLJBench norwayLJ1000Bench = new NorwayPackingLJBench(1000);
+    runOne(norwayLJ1000Bench, 1);
 
     // run LJ benchmarks
     final LJFFEnergyBench ljEnergyBench = new LJFFEnergyBench();
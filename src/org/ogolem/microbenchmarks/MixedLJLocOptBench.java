@@ -40,8 +40,6 @@ import java.util.HashMap;
 import java.util.List;
 import org.ogolem.core.BondInfo;
 import org.ogolem.core.CartesianCoordinates;
-import org.ogolem.core.CollisionDetection;
-import org.ogolem.core.DissociationDetection;
 import org.ogolem.core.FullyCartesianCoordinates;
 import org.ogolem.core.Geometry;
 import org.ogolem.core.GlobalConfig;
@@ -79,10 +77,8 @@ class MixedLJLocOptBench implements SingleMicroBenchmark {
     final NorwayGeometryMutation norway =
         new NorwayGeometryMutation(
             NorwayGeometryMutation.PACKDIM.THREED,
-            CollisionDetection.CDTYPE.SIMPLEPAIRWISE,
             BLOWCOLL,
             BLOWDISS,
-            DissociationDetection.DEFAULTDD,
             NorwayGeometryMutation.MUTMODE.ASCENDING);
 
     assert (noLJAtoms > 0);
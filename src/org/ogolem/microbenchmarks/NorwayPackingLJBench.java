@@ -39,8 +39,6 @@ package org.ogolem.microbenchmarks;
 import java.util.List;
 import org.ogolem.core.BondInfo;
 import org.ogolem.core.CartesianCoordinates;
-import org.ogolem.core.CollisionDetection;
-import org.ogolem.core.DissociationDetection;
 import org.ogolem.core.Geometry;
 import org.ogolem.core.NorwayGeometryMutation;
 import org.ogolem.core.SimpleBondInfo;
@@ -51,7 +49,7 @@ import org.ogolem.random.StandardRNG;
  * Benchmark the Norway packing mutation/init for a LJ cluster.
  *
  * @author Johannes Dieterich
- * @version 2020-08-09
+ * @version 2026-10-18
  */
 class NorwayPackingLJBench implements SingleMicroBenchmark {
 
@@ -71,10 +69,8 @@ class NorwayPackingLJBench implements SingleMicroBenchmark {
     this.norway =
         new NorwayGeometryMutation(
             NorwayGeometryMutation.PACKDIM.THREED,
-            CollisionDetection.CDTYPE.SIMPLEPAIRWISE,
             BLOWCOLL,
             BLOWDISS,
-            DissociationDetection.DEFAULTDD,
             NorwayGeometryMutation.MUTMODE.ASCENDING);
 
     assert (noLJAtoms > 0);
@@ -63,7 +63,7 @@ import org.ogolem.rmi.RMICodes.JOBSTATE;
  * A generic global optimization job.
  *
  * @author Johannes Dieterich
- * @version 2021-10-15
+ * @version 2026-10-18
  */
 public class GenericGlobOptJob<E, T extends Optimizable<E>> implements Job<T> {
 
@@ -492,21 +492,15 @@ public class GenericGlobOptJob<E, T extends Optimizable<E>> implements Job<T> {
                 + " results.");
       }
 
+      final List<T> fresh = newIndividuals(clientPool, lastStart);
+      final List<Niche> niches = (doNiching) ? nicheComp.computeNiches(fresh) : null;
+
       poolLock.writeLock().lock();
 
-      clientPool.forEach(
-          (t) -> {
-            final long id = t.getID();
-            // should be even easier: if ID is below our previous offset -> discard
-            if (!(id < lastStart)) {
-              if (doNiching) {
-                final Niche niche = nicheComp.computeNiche(t);
-                pool.addIndividualForcedUnsync(t, niche, t.getFitness());
-              } else {
-                pool.addIndividualForcedUnsync(t, null, t.getFitness());
-              }
-            }
-          });
+      for (int i = 0; i < fresh.size(); i++) {
+        final T t = fresh.get(i);
+        pool.addIndividualForcedUnsync(t, (doNiching) ? niches.get(i) : null, t.getFitness());
+      }
 
       int c = 0;
       for (final GenericPoolEntry<E, T> entry : pool) {
@@ -536,21 +530,16 @@ public class GenericGlobOptJob<E, T extends Optimizable<E>> implements Job<T> {
       stateLock.writeLock().unlock();
     } else {
       rl.unlock();
+
+      final List<T> fresh = newIndividuals(clientPool, lastStart);
+      final List<Niche> niches = (doNiching) ? nicheComp.computeNiches(fresh) : null;
+
       poolLock.writeLock().lock();
 
-      clientPool.forEach(
-          (t) -> {
-            final long id = t.getID();
-            // should be even easier: if ID is below our previous offset -> discard
-            if (!(id < lastStart)) {
-              if (doNiching) {
-                final Niche niche = nicheComp.computeNiche(t);
-                pool.addIndividualUnsync(t, niche, t.getFitness());
-              } else {
-                pool.addIndividualUnsync(t, null, t.getFitness());
-              }
-            }
-          });
+      for (int i = 0; i < fresh.size(); i++) {
+        final T t = fresh.get(i);
+        pool.addIndividualUnsync(t, (doNiching) ? niches.get(i) : null, t.getFitness());
+      }
 
       int c = 0;
       for (final GenericPoolEntry<E, T> entry : pool) {
@@ -605,6 +594,24 @@ public class GenericGlobOptJob<E, T extends Optimizable<E>> implements Job<T> {
     return mergedPool;
   }
 
+  /**
+   * @param clientPool the pool returned by a client
+   * @param lastStart the first ID handed out to this client
+   * @return the individuals originating from the client, i.e., new to us
+   */
+  private List<T> newIndividuals(final List<T> clientPool, final long lastStart) {
+
+    final List<T> fresh = new ArrayList<>(clientPool.size());
+    for (final T t : clientPool) {
+      // should be even easier: if ID is below our previous offset -> discard
+      if (!(t.getID() < lastStart)) {
+        fresh.add(t);
+      }
+    }
+
+    return fresh;
+  }
+
   @Override
   public boolean jobWaiting() {
 
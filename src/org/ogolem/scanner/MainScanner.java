@@ -49,7 +49,7 @@ import org.ogolem.io.OutputPrimitives;
  * Scans a set of explicit degrees of freedom and (if wished) quench the resulting structures.
  *
  * @author Johannes Dieterich
- * @version 2020-12-29
+ * @version 2026-10-18
  */
 public class MainScanner {
 
@@ -62,6 +62,16 @@ public class MainScanner {
       System.out.println(" * ONE molecule which must be flexible");
       System.out.println(
           " * a <SCANCONF> block containing at least one DoF scanning specification.");
+      System.out.println("Optional keywords in the <SCANCONF> block:");
+      System.out.println(" * QuenchScanStructures: locally optimize every scanned structure");
+      System.out.println(
+          " * EnergyScanStructures: single point energies of the scanned structures");
+      System.out.println(" * ScanThreads=N: work on N grid points in parallel (default: 1)");
+      System.out.println(
+          " * WarmStartQuench: start each quench from the quenched neighbor grid point");
+      System.out.println(" * ResumeScan: continue an interrupted scan from its output files");
+      System.out.println(
+          "All grid points go into scangeom-scan.xyz, indexed by scangeom-scan.idx.");
       return;
     }
 
@@ -111,7 +121,12 @@ public class MainScanner {
     try {
       final File f = new File(outFolder);
       if (f.exists() && f.isDirectory()) {
-        System.out.println("INFO: Output folder exists. This will overwrite whatever is in there!");
+        if (scanConf.resume) {
+          System.out.println("INFO: Output folder exists. Resuming the scan in there.");
+        } else {
+          System.out.println(
+              "INFO: Output folder exists. This will overwrite whatever is in there!");
+        }
       } else {
         OutputPrimitives.createAFolder(outFolder);
       }
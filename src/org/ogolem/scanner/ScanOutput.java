@@ -0,0 +1,278 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.scanner;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.ogolem.core.CartesianCoordinates;
+import org.ogolem.core.Input;
+
+/**
+ * Append-only output of a scan: all grid points go into one multi-xyz file, with a small index file
+ * recording where every finished point starts and how long its record is. A record is the
+ * non-optimized structure, optionally followed by the optimized one. As a record only enters the
+ * index once it is fully written, an interrupted scan can be resumed from these two files. The
+ * first line of the index holds the definition of the grid, a scan is only resumed for the same
+ * grid.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+final class ScanOutput implements AutoCloseable {
+
+  private static final String GRIDHEADER = "#grid ";
+
+  private final FileChannel xyz;
+  private final BufferedWriter index;
+  private final Map<Integer, long[]> records = new HashMap<>();
+  private long end;
+
+  /**
+   * Opens the output of a scan.
+   *
+   * @param outPrefix the prefix of the output files
+   * @param gridDefinition a one-line definition of the scanned grid
+   * @param resume if true, keep all records already indexed and drop anything half-written after
+   *     them. Otherwise, start from scratch.
+   * @throws IOException if the files cannot be opened or, when resuming, the index was written for
+   *     a different grid
+   */
+  ScanOutput(final String outPrefix, final String gridDefinition, final boolean resume)
+      throws IOException {
+
+    final String header = GRIDHEADER + gridDefinition.trim();
+
+    final Path xyzFile = Paths.get(outPrefix + "-scan.xyz");
+    final Path idxFile = Paths.get(outPrefix + "-scan.idx");
+
+    final List<String> valid = new ArrayList<>();
+    long validEnd = 0;
+    if (resume && Files.exists(xyzFile) && Files.exists(idxFile)) {
+      final long size = Files.size(xyzFile);
+      final List<String> lines = Files.readAllLines(idxFile, StandardCharsets.UTF_8);
+      if (!lines.isEmpty() && !lines.get(0).trim().equals(header)) {
+        throw new IOException(
+            "Index "
+                + idxFile
+                + " was written for a different scan grid, refusing to resume. Expected "
+                + header
+                + " but found "
+                + lines.get(0).trim()
+                + ".");
+      }
+      for (final String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+        final String[] sa = line.trim().split("\\s+");
+        if (sa.length != 3) {
+          break; // the partial last line of an interrupted run
+        }
+        final long offset;
+        final long length;
+        final int point;
+        try {
+          point = Integer.parseInt(sa[0]);
+          offset = Long.parseLong(sa[1]);
+          length = Long.parseLong(sa[2]);
+        } catch (NumberFormatException e) {
+          break;
+        }
+        if (offset != validEnd || offset + length > size) {
+          break;
+        }
+        valid.add(line.trim());
+        validEnd = offset + length;
+        records.put(point, new long[] {offset, length});
+      }
+    }
+
+    this.xyz =
+        FileChannel.open(
+            xyzFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    xyz.truncate(validEnd);
+    this.end = validEnd;
+
+    this.index =
+        Files.newBufferedWriter(
+            idxFile,
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+    index.write(header);
+    index.newLine();
+    for (final String line : valid) {
+      index.write(line);
+      index.newLine();
+    }
+    index.flush();
+  }
+
+  /**
+   * @param point the ID of the grid point
+   * @return whether this point has a complete record
+   */
+  synchronized boolean isDone(final int point) {
+    return records.containsKey(point);
+  }
+
+  /**
+   * @param noOfPoints the number of points in the grid
+   * @return how many points with an ID between 1 and noOfPoints have a complete record
+   */
+  synchronized int noOfDone(final int noOfPoints) {
+    int done = 0;
+    for (final int point : records.keySet()) {
+      if (point >= 1 && point <= noOfPoints) {
+        done++;
+      }
+    }
+    return done;
+  }
+
+  /**
+   * Appends the record of one grid point and indexes it.
+   *
+   * @param point the ID of the grid point
+   * @param header prepended to the comment lines of the record
+   * @param nonOpt the printable non-optimized structure
+   * @param opt the printable optimized structure, may be null
+   * @throws IOException if writing fails
+   */
+  synchronized void write(
+      final int point, final String header, final String[] nonOpt, final String[] opt)
+      throws IOException {
+
+    final StringBuilder sb = new StringBuilder();
+    append(sb, header + " nonopt", nonOpt);
+    if (opt != null) {
+      append(sb, header + " opt", opt);
+    }
+    final byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+    final ByteBuffer buff = ByteBuffer.wrap(bytes);
+    long pos = end;
+    while (buff.hasRemaining()) {
+      pos += xyz.write(buff, pos);
+    }
+
+    index.write(point + " " + end + " " + bytes.length);
+    index.newLine();
+    index.flush();
+
+    records.put(point, new long[] {end, bytes.length});
+    end += bytes.length;
+  }
+
+  /**
+   * Reads the optimized structure of a finished grid point back in.
+   *
+   * @param point the ID of the grid point
+   * @param reference provides atoms, charges, spins and z-matrix of the structure
+   * @return the optimized structure with an updated z-matrix or null if the point was not written
+   *     in this or a previous run or has no optimized structure
+   * @throws Exception if reading or parsing fails
+   */
+  CartesianCoordinates readOptimized(final int point, final CartesianCoordinates reference)
+      throws Exception {
+
+    final long[] loc = locate(point);
+    if (loc == null) {
+      return null;
+    }
+
+    final ByteBuffer buff = ByteBuffer.allocate((int) loc[1]);
+    long pos = loc[0];
+    while (buff.hasRemaining()) {
+      final int read = xyz.read(buff, pos);
+      if (read < 0) {
+        throw new IOException("Record of point " + point + " is truncated.");
+      }
+      pos += read;
+    }
+
+    final String[] lines = new String(buff.array(), StandardCharsets.UTF_8).split("\n");
+    final int noAtoms = Integer.parseInt(lines[0].trim());
+    final int optStart = noAtoms + 2;
+    if (lines.length < optStart + noAtoms + 2) {
+      return null; // no optimized structure in this record
+    }
+    final String[] optLines = new String[noAtoms + 2];
+    System.arraycopy(lines, optStart, optLines, 0, optLines.length);
+
+    final CartesianCoordinates parsed =
+        Input.parseCartesFromFileData(
+            optLines,
+            reference.getNoOfMolecules(),
+            reference.getAllAtomsPerMol(),
+            reference.getAllSpins().clone(),
+            reference.getAllCharges().clone());
+
+    final CartesianCoordinates opt = new CartesianCoordinates(reference);
+    opt.setAllXYZ(parsed.getAllXYZCoord());
+    opt.updateRefZMatrix();
+
+    return opt;
+  }
+
+  private synchronized long[] locate(final int point) {
+    return records.get(point);
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    index.close();
+    xyz.close();
+  }
+
+  private static void append(final StringBuilder sb, final String header, final String[] block) {
+    sb.append(block[0]).append('\n');
+    sb.append(header).append(' ').append(block[1]).append('\n');
+    for (int i = 2; i < block.length; i++) {
+      sb.append(block[i]).append('\n');
+    }
+  }
+}
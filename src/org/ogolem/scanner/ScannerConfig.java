@@ -43,7 +43,7 @@ import org.ogolem.core.Constants;
 /**
  * The configuration of the scanner.
  * @author Johannes Dieterich
- * @version 2013-09-22
+ * @version 2026-10-18
  */
 class ScannerConfig {
     
@@ -63,6 +63,13 @@ class ScannerConfig {
                         this.optimize = true;
                     } else if(l.startsWith("EnergyScanStructures")){
                         this.singlePoints = true;
+                    } else if(l.startsWith("ScanThreads=")){
+                        this.threads = Integer.parseInt(l.substring(12).trim());
+                        if(threads < 1){throw new Exception("ScanThreads= must be at least 1.");}
+                    } else if(l.startsWith("WarmStartQuench")){
+                        this.warmStart = true;
+                    } else if(l.startsWith("ResumeScan")){
+                        this.resume = true;
                     } else {
                         // a DoF specification
                         final String[] sa = l.split("\\;");
@@ -102,6 +109,22 @@ class ScannerConfig {
      */
     boolean singlePoints = false;
     
+    /**
+     * How many grid points are processed in parallel.
+     */
+    int threads = 1;
+    
+    /**
+     * If the quench of a grid point should start from the quenched structure of an
+     * already finished neighboring grid point (with the scanned DoFs set to this point).
+     */
+    boolean warmStart = false;
+    
+    /**
+     * If an interrupted scan should be continued from its output file.
+     */
+    boolean resume = false;
+    
     /**
      * A list of all the degrees of freedom to be scanned over.
      */
@@ -37,6 +37,13 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 */
 package org.ogolem.scanner;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.ogolem.core.CartesianFullBackend;
 import org.ogolem.core.BondInfo;
 import org.ogolem.core.CartesianCoordinates;
@@ -45,13 +52,17 @@ import org.ogolem.core.ZMatrix;
 import org.ogolem.io.OutputPrimitives;
 
 /**
- * The core of the scanner. Essentially a recursively working algorithm.
+ * The core of the scanner. The grid spanned by all scanned degrees of freedom is flattened (first
+ * DoF most significant) and its points are worked on by a pool of threads. Every point ends up as
+ * one record in an append-only output, which allows to resume interrupted scans. If wanted, the
+ * quench of a point starts from the quenched structure of its neighbor one step back in the
+ * innermost changing DoF.
  * @author Johannes Dieterich
- * @version 2017-03-03
+ * @version 2026-10-18
  */
 class ScannerCore {
     
-    private ScannerCore(){}; // no instantiation!// no instantiation!
+    private ScannerCore(){}; // no instantiation!
     
     static void scan(final ScannerConfig scanConf, final CartesianCoordinates cartes, final Newton locopt, final String outPrefix,
             final boolean[][] constraints, final boolean isConstricted, final BondInfo bonds){
@@ -61,16 +72,7 @@ class ScannerCore {
         // while we are there: write out our first geometry
         cartes.updateCartesians();
         if (scanConf.singlePoints) {
-            final CartesianFullBackend back = locopt.getBackend();
-            if (back == null) {
-                System.err.println("WARNING: Backend is null although you want single point energies. Well, you will not get any.");
-            } else {
-                final double e = back.energyCalculation(0, 0, cartes.getAll1DCartes(),
-                        cartes.getAllAtomTypes(), cartes.getAllAtomNumbers(),
-                        cartes.getAllAtomsPerMol(), new double[cartes.getNoOfAtoms()],
-                        cartes.getNoOfAtoms(), cartes.getAllCharges(), cartes.getAllSpins(), bonds, hasRigidEnv);
-                cartes.setEnergy(e);
-            }
+            singlePoint(0, cartes, locopt, bonds, hasRigidEnv);
         }
         final String[] father = cartes.createPrintableCartesians();
         try {
@@ -91,70 +93,235 @@ class ScannerCore {
                 e.printStackTrace(System.err);
             }
         }
-
         
-        final State state = new State();
-        scanner(state,0,scanConf,cartes,locopt,outPrefix,constraints,isConstricted,bonds);
+        final Grid grid = new Grid(scanConf.scanDoFs);
         
+        try(final ScanOutput out = new ScanOutput(outPrefix, grid.definition(), scanConf.resume)){
+            
+            final int done = out.noOfDone(grid.noOfPoints);
+            if(done > 0){
+                System.out.println("INFO: Resuming scan, " + done + " of " + grid.noOfPoints + " points are already done.");
+            }
+            
+            final boolean warm = scanConf.optimize && scanConf.warmStart;
+            final ThreadLocal<Newton> newtons = ThreadLocal.withInitial(locopt::copy);
+            final ExecutorService exec = Executors.newFixedThreadPool(scanConf.threads);
+            try {
+                final CountDownLatch latch = new CountDownLatch(grid.noOfPoints - done);
+                
+                if(!warm){
+                    for(int point = 0; point < grid.noOfPoints; point++){
+                        if(out.isDone(point+1)) continue;
+                        final int p = point;
+                        exec.execute(() -> {
+                            try{
+                                work(p, null, grid, scanConf, cartes, newtons.get(), out, constraints, isConstricted, bonds, hasRigidEnv);
+                            } finally {
+                                latch.countDown();
+                            }
+                        });
+                    }
+                } else {
+                    // each point waits for its parent, whose optimized structure it gets handed as the seed
+                    final AtomicIntegerArray children = new AtomicIntegerArray(grid.noOfPoints);
+                    for(int point = 1; point < grid.noOfPoints; point++){
+                        children.incrementAndGet(grid.parent(point));
+                    }
+                    final AtomicReferenceArray<CompletableFuture<CartesianCoordinates>> seeds = new AtomicReferenceArray<>(grid.noOfPoints);
+                    for(int point = 0; point < grid.noOfPoints; point++){
+                        final int p = point;
+                        final int parent = grid.parent(point);
+                        final CompletableFuture<CartesianCoordinates> mySeed;
+                        if(out.isDone(p+1)){
+                            // only read it back if someone needs it
+                            mySeed = (children.get(p) == 0) ? CompletableFuture.completedFuture(null)
+                                    : CompletableFuture.supplyAsync(() -> readBack(p, cartes, out), exec);
+                        } else {
+                            // a failed parent means a cold start, not a stalled subtree
+                            final CompletableFuture<CartesianCoordinates> parentSeed = (parent < 0) ? CompletableFuture.completedFuture(null)
+                                    : seeds.get(parent).exceptionally((t) -> null);
+                            mySeed = parentSeed.thenApplyAsync((seed) -> {
+                                try{
+                                    return work(p, seed, grid, scanConf, cartes, newtons.get(), out, constraints, isConstricted, bonds, hasRigidEnv);
+                                } finally {
+                                    latch.countDown();
+                                }
+                            }, exec);
+                        }
+                        if(parent >= 0){
+                            // once all children of the parent are scheduled, we do not need to hold on to its seed anymore
+                            if(children.decrementAndGet(parent) == 0) seeds.set(parent, null);
+                        }
+                        seeds.set(p, mySeed);
+                    }
+                }
+                
+                latch.await();
+            } finally {
+                exec.shutdown();
+            }
+        } catch(Exception e){
+            System.err.println("ERROR: Failure in scanning.");
+            e.printStackTrace(System.err);
+        }
     }
     
-    private static void scanner(final State state, final int myLevel, final ScannerConfig scanConf, final CartesianCoordinates cartes, final Newton locopt, final String outPrefix,
-            final boolean[][] constraints, final boolean isConstricted, final BondInfo bonds){
+    /**
+     * Works on one grid point.
+     * @param point the index of the point, the ID in the output is one higher
+     * @param seed the quenched structure of a neighbor to start the quench from, may be null
+     * @return the quenched structure with an updated z-matrix or null
+     */
+    private static CartesianCoordinates work(final int point, final CartesianCoordinates seed, final Grid grid,
+            final ScannerConfig scanConf, final CartesianCoordinates reference, final Newton locopt, final ScanOutput out,
+            final boolean[][] constraints, final boolean isConstricted, final BondInfo bonds, final boolean hasRigidEnv){
         
-        final boolean hasRigidEnv = cartes.containedEnvType() == CartesianCoordinates.ENVTYPE.RIGID;
+        final int geomID = point + 1;
+        final CartesianCoordinates cartes = new CartesianCoordinates(reference);
+        grid.setDoFs(point, cartes);
+        cartes.updateCartesians();
         
-        if(myLevel >= scanConf.scanDoFs.size()) {
-            // well, it seems we are at the bottom. so write out the geometry and (if wanted) optimize it
-            cartes.updateCartesians();
-            state.geomID++;
-            
-            if(scanConf.singlePoints){
-                final CartesianFullBackend back  = locopt.getBackend();
-                if(back == null){
-                    System.err.println("WARNING: Backend is null although you want single point energies. Well, you will not get any.");
-                } else {
-                    final double e = back.energyCalculation(state.geomID, 0, cartes.getAll1DCartes(),
-                            cartes.getAllAtomTypes(), cartes.getAllAtomNumbers(),
-                            cartes.getAllAtomsPerMol(), new double[cartes.getNoOfAtoms()],
-                            cartes.getNoOfAtoms(), cartes.getAllCharges(), cartes.getAllSpins(), bonds, hasRigidEnv);
-                    cartes.setEnergy(e);
-                }
+        if(scanConf.singlePoints){
+            singlePoint(geomID, cartes, locopt, bonds, hasRigidEnv);
+        }
+        final String[] unopt = cartes.createPrintableCartesians();
+        
+        String[] optCoords = null;
+        CartesianCoordinates opt = null;
+        if(scanConf.optimize){
+            final CartesianCoordinates start;
+            if(seed == null){
+                start = new CartesianCoordinates(cartes);
+            } else {
+                start = new CartesianCoordinates(seed);
+                grid.setDoFs(point, start);
+                start.updateCartesians();
             }
-            
-            final String[] unopt = cartes.createPrintableCartesians();
             try{
-                OutputPrimitives.writeOut(outPrefix + state.geomID + "-nonopt.xyz", unopt, false);
-            } catch (Exception e){
-                System.err.println("WARNING: Failure to write non-optimized geometry " + state.geomID);
+                opt = locopt.cartesToCartes(geomID, start, constraints, isConstricted, bonds);
+                optCoords = opt.createPrintableCartesians();
+            } catch(Exception e){
+                System.err.println("WARNING: Failure to optimize geometry " + geomID);
                 e.printStackTrace(System.err);
+                opt = null;
             }
-            
-            if(scanConf.optimize){
-                final CartesianCoordinates copy = new CartesianCoordinates(cartes);
-                try{
-                    final CartesianCoordinates opt = locopt.cartesToCartes(state.geomID, copy, constraints, isConstricted, bonds);
-                    final String[] optCoords = opt.createPrintableCartesians();
-                    OutputPrimitives.writeOut(outPrefix + state.geomID + "-opt.xyz", optCoords, false);
-                } catch(Exception e){
-                    System.err.println("WARNING: Failure to optimize or write optimized geometry " + state.geomID);
-                    e.printStackTrace(System.err);
-                }
-            }
-            
-            return;
         }
-                
-        final ScannerDoF myDoF = scanConf.scanDoFs.get(myLevel);
-        final ZMatrix zmat = cartes.getMolecularRefZMatrix(myDoF.getMolecule());
-        for(final double currVal : myDoF){
-            zmat.setDOF(myDoF.getAtom(), myDoF.getDoF(), currVal);
-            // now go one down
-            scanner(state, myLevel+1,scanConf,cartes,locopt,outPrefix,constraints,isConstricted,bonds);
+        
+        try{
+            out.write(geomID, "point " + geomID + " dofs " + grid.printableDoFs(point), unopt, optCoords);
+        } catch(Exception e){
+            System.err.println("WARNING: Failure to write geometry " + geomID);
+            e.printStackTrace(System.err);
+        }
+        
+        if(opt == null || !scanConf.warmStart) return null;
+        
+        final CartesianCoordinates next = new CartesianCoordinates(reference);
+        next.setAllXYZ(opt.getAllXYZCoord());
+        next.updateRefZMatrix();
+        
+        return next;
+    }
+    
+    private static CartesianCoordinates readBack(final int point, final CartesianCoordinates reference, final ScanOutput out){
+        try{
+            return out.readOptimized(point+1, reference);
+        } catch(Exception e){
+            System.err.println("WARNING: Failure to read back optimized geometry " + (point+1) + ", its neighbors will be started cold.");
+            e.printStackTrace(System.err);
+            return null;
         }
     }
     
-    private static class State {
+    private static void singlePoint(final int geomID, final CartesianCoordinates cartes, final Newton locopt,
+            final BondInfo bonds, final boolean hasRigidEnv){
+        
+        final CartesianFullBackend back = locopt.getBackend();
+        if (back == null) {
+            System.err.println("WARNING: Backend is null although you want single point energies. Well, you will not get any.");
+        } else {
+            final double e = back.energyCalculation(geomID, 0, cartes.getAll1DCartes(),
+                    cartes.getAllAtomTypes(), cartes.getAllAtomNumbers(),
+                    cartes.getAllAtomsPerMol(), new double[cartes.getNoOfAtoms()],
+                    cartes.getNoOfAtoms(), cartes.getAllCharges(), cartes.getAllSpins(), bonds, hasRigidEnv);
+            cartes.setEnergy(e);
+        }
+    }
+    
+    /**
+     * The flattened grid of all scanned degrees of freedom.
+     */
+    private static class Grid {
+        
+        private final List<ScannerDoF> dofs;
+        private final double[][] values;
+        final int noOfPoints;
+        
+        Grid(final List<ScannerDoF> dofs){
+            this.dofs = dofs;
+            this.values = new double[dofs.size()][];
+            long points = 1;
+            for(int i = 0; i < values.length; i++){
+                values[i] = dofs.get(i).getValues();
+                points *= values[i].length;
+            }
+            if(points > Integer.MAX_VALUE){
+                throw new RuntimeException("ERROR: Too many grid points in scan (" + points + ").");
+            }
+            this.noOfPoints = (int) points;
+        }
+        
+        /**
+         * @param point the index of a point
+         * @return the index of its neighbor one step back in the innermost DoF not at its start or -1 for the first point
+         */
+        int parent(final int point){
+            int stride = 1;
+            int rest = point;
+            for(int i = values.length-1; i >= 0; i--){
+                final int idx = rest % values[i].length;
+                if(idx > 0) return point - stride;
+                rest /= values[i].length;
+                stride *= values[i].length;
+            }
+            
+            return -1;
+        }
+        
+        void setDoFs(final int point, final CartesianCoordinates cartes){
+            int rest = point;
+            for(int i = values.length-1; i >= 0; i--){
+                final int idx = rest % values[i].length;
+                rest /= values[i].length;
+                final ScannerDoF dof = dofs.get(i);
+                final ZMatrix zmat = cartes.getMolecularRefZMatrix(dof.getMolecule());
+                zmat.setDOF(dof.getAtom(), dof.getDoF(), values[i][idx]);
+            }
+        }
         
-        long geomID = (long) 0;
+        String printableDoFs(final int point){
+            final String[] vals = new String[values.length];
+            int rest = point;
+            for(int i = values.length-1; i >= 0; i--){
+                final int idx = rest % values[i].length;
+                rest /= values[i].length;
+                vals[i] = String.format("%.4f", dofs.get(i).toInputUnits(values[i][idx]));
+            }
+            
+            return String.join(" ", vals);
+        }
+        
+        /**
+         * @return a one-line definition of the grid, identical for identical grids
+         */
+        String definition(){
+            final StringBuilder sb = new StringBuilder();
+            sb.append(noOfPoints);
+            for(final ScannerDoF dof : dofs){
+                sb.append(' ').append(dof.definition());
+            }
+            
+            return sb.toString();
+        }
     }
 }
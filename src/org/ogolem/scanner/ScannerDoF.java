@@ -36,14 +36,17 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 */
 package org.ogolem.scanner;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import org.ogolem.core.Constants;
 
 /**
  * A degree of freedom. Essentially, a pointer to one entry in the a z-Matrix
  * with an associated set of bounds and an increment.
  * @author Johannes Dieterich
- * @version 2013-09-22
+ * @version 2026-10-18
  */
 class ScannerDoF implements Iterable<Double>{
    
@@ -87,6 +90,39 @@ class ScannerDoF implements Iterable<Double>{
         return dof;
     }
     
+    /**
+     * All values of this degree of freedom, exactly as the iterator returns them.
+     * @return the grid values, internal units
+     */
+    double[] getValues(){
+        final List<Double> vals = new ArrayList<>();
+        for(final double val : this){
+            vals.add(val);
+        }
+        final double[] values = new double[vals.size()];
+        for(int i = 0; i < values.length; i++){
+            values[i] = vals.get(i);
+        }
+        
+        return values;
+    }
+    
+    /**
+     * Converts a value of this degree of freedom back to the units of the input.
+     * @param val the value in bohr or radians
+     * @return the value in angstrom or degrees
+     */
+    double toInputUnits(final double val){
+        return (dof == 0) ? val*Constants.BOHRTOANG : Math.toDegrees(val);
+    }
+    
+    /**
+     * @return molecule, atom, DoF, start, end and increment, separated by colons
+     */
+    String definition(){
+        return molecule + ":" + atom + ":" + dof + ":" + start + ":" + end + ":" + incr;
+    }
+    
     class ScannerDoFIterator implements Iterator<Double> {
         
         private double curr;
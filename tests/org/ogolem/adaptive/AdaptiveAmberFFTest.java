@@ -0,0 +1,257 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.adaptive;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ogolem.core.BondInfo;
+import org.ogolem.core.CartesianCoordinates;
+import org.ogolem.core.CoordTranslation;
+import org.ogolem.core.Gradient;
+import org.ogolem.core.Input;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class AdaptiveAmberFFTest {
+
+  private static final double NUMACC = 1e-9;
+
+  // ethanol, slightly distorted
+  private static final String ETHANOL =
+      "9\n"
+          + "ethanol\n"
+          + "C   0.000  0.000  0.000\n"
+          + "C   1.512  0.040 -0.020\n"
+          + "O   2.002  1.339  0.030\n"
+          + "H   2.962  1.309  0.050\n"
+          + "H   1.880 -0.520  0.890\n"
+          + "H   1.870 -0.530 -0.880\n"
+          + "H  -0.370  1.030  0.020\n"
+          + "H  -0.380 -0.530  0.880\n"
+          + "H  -0.390 -0.500 -0.900";
+
+  private static final float[] CHARGES = {
+    -0.18f, 0.14f, -0.66f, 0.42f, 0.03f, 0.03f, 0.06f, 0.06f, 0.10f
+  };
+
+  private static final String[] TYPES = {"CT", "CT", "OH", "HO", "H1", "H1", "HC", "HC", "HC"};
+
+  // the topology of the force field is read from the working directory
+  private static final String[] AUXFILES = {
+    "amberff-list13.aux",
+    "amberff-list14.aux",
+    "ids-harmonicbond.aux",
+    "ids-amberangle.aux",
+    "ids-amberdihedral.aux",
+    "ids-amberlj.aux"
+  };
+
+  private CartesianCoordinates cartes;
+  private BondInfo bonds;
+
+  @BeforeEach
+  public void writeTopology() throws Exception {
+
+    for (final String aux : AUXFILES) {
+      assumeFalse(Files.exists(Path.of(aux)), "Not overwriting existing " + aux + ".");
+    }
+
+    cartes =
+        Input.parseCartesFromFileData(
+            ETHANOL.split("\n"), 1, new int[] {9}, new short[9], CHARGES.clone());
+    bonds = CoordTranslation.checkForBonds(cartes, 1.3);
+    final int n = cartes.getNoOfAtoms();
+
+    final List<String> angles = new ArrayList<>();
+    final List<String> dihedrals = new ArrayList<>();
+    for (int j = 0; j < n; j++) {
+      for (int i = 0; i < n; i++) {
+        for (int k = i + 1; k < n; k++) {
+          if (i != j && k != j && bonds.hasBond(i, j) && bonds.hasBond(j, k)) {
+            angles.add(i + " " + j + " " + k);
+          }
+        }
+      }
+    }
+    for (int j = 0; j < n; j++) {
+      for (int k = j + 1; k < n; k++) {
+        if (!bonds.hasBond(j, k)) {
+          continue;
+        }
+        for (int i = 0; i < n; i++) {
+          for (int l = 0; l < n; l++) {
+            if (i != j
+                && i != k
+                && l != j
+                && l != k
+                && i != l
+                && bonds.hasBond(i, j)
+                && bonds.hasBond(k, l)) {
+              dihedrals.add(i + " " + j + " " + k + " " + l);
+            }
+          }
+        }
+      }
+    }
+    assertEquals(13, angles.size());
+    assertEquals(12, dihedrals.size());
+
+    final List<String> ids = new ArrayList<>();
+    for (int i = 0; i < n; i++) {
+      ids.add(i + " " + TYPES[i]);
+    }
+
+    Files.write(Path.of(AUXFILES[0]), angles, StandardCharsets.UTF_8);
+    Files.write(Path.of(AUXFILES[1]), dihedrals, StandardCharsets.UTF_8);
+    for (int f = 2; f < AUXFILES.length; f++) {
+      Files.write(Path.of(AUXFILES[f]), ids, StandardCharsets.UTF_8);
+    }
+  }
+
+  @AfterEach
+  public void removeTopology() throws IOException {
+    if (cartes == null) {
+      return; // skipped, nothing written
+    }
+    for (final String aux : AUXFILES) {
+      Files.deleteIfExists(Path.of(aux));
+    }
+  }
+
+  private AdaptiveParameters randomParameters() throws Exception {
+
+    final AdaptiveAmberFF stubber = new AdaptiveAmberFF(true, null, true, 0, 0, 0, false);
+    final ArrayList<CartesianCoordinates> refs = new ArrayList<>();
+    refs.add(cartes);
+    final AdaptiveParameters params = stubber.createInitialParameterStub(refs, "amberff");
+    final double[][] borders = stubber.minMaxBordersForParams(params);
+
+    final Random r = new Random(42);
+    final double[] p = new double[params.getNumberOfParamters()];
+    for (int i = 0; i < p.length; i++) {
+      p[i] = borders[0][i] + r.nextDouble() * (borders[1][i] - borders[0][i]);
+    }
+    params.copyParameters(p);
+
+    return params;
+  }
+
+  private double energy(final AdaptiveAmberFF ff, final double[] xyz1D) {
+    final int n = cartes.getNoOfAtoms();
+    return ff.energyCalculation(
+        -1,
+        0,
+        xyz1D,
+        cartes.getAllAtomTypes(),
+        cartes.getAllAtomNumbers(),
+        cartes.getAllAtomsPerMol(),
+        new double[1],
+        n,
+        cartes.getAllCharges(),
+        cartes.getAllSpins(),
+        bonds,
+        false);
+  }
+
+  private Gradient gradient(final AdaptiveAmberFF ff, final double[] xyz1D) {
+    final int n = cartes.getNoOfAtoms();
+    final Gradient grad = new Gradient(3, n);
+    ff.gradientCalculation(
+        -1,
+        0,
+        xyz1D,
+        cartes.getAllAtomTypes(),
+        cartes.getAllAtomNumbers(),
+        cartes.getAllAtomsPerMol(),
+        new double[1],
+        n,
+        cartes.getAllCharges(),
+        cartes.getAllSpins(),
+        bonds,
+        grad,
+        false);
+    return grad;
+  }
+
+  @Test
+  public void testVectorizedMatchesScalar() throws Exception {
+    System.out.println("vectorizedMatchesScalar");
+
+    final AdaptiveParameters params = randomParameters();
+    final AdaptiveAmberFF scalar = new AdaptiveAmberFF(false, params, true, 0, 0, 0, false, false);
+    final AdaptiveAmberFF vectorized =
+        new AdaptiveAmberFF(false, params, true, 0, 0, 0, false, true);
+
+    final int n = cartes.getNoOfAtoms();
+    final Random r = new Random(4242);
+    final double[] xyz1D = cartes.getAll1DCartes();
+    // several displaced structures, the first evaluation compiles the kernels
+    for (int step = 0; step < 5; step++) {
+      final double[] displaced = xyz1D.clone();
+      for (int i = 0; i < displaced.length; i++) {
+        displaced[i] += 0.1 * (r.nextDouble() - 0.5);
+      }
+
+      final double eRef = energy(scalar, displaced);
+      assertTrue(Double.isFinite(eRef) && eRef != 0.0);
+      assertEquals(eRef, energy(vectorized, displaced), NUMACC);
+
+      final Gradient gRef = gradient(scalar, displaced);
+      final Gradient gVec = gradient(vectorized, displaced);
+      assertEquals(eRef, gRef.getTotalEnergy(), NUMACC);
+      assertEquals(eRef, gVec.getTotalEnergy(), NUMACC);
+      for (int c = 0; c < 3; c++) {
+        for (int i = 0; i < n; i++) {
+          assertEquals(gRef.getTotalGradient()[c][i], gVec.getTotalGradient()[c][i], NUMACC);
+        }
+      }
+    }
+  }
+}
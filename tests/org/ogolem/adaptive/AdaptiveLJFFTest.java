@@ -49,7 +49,7 @@ import org.ogolem.core.SimpleBondInfo;
 
 /**
  * @author Johannes Dieterich
- * @version 2021-07-17
+ * @version 2026-10-18
  */
 public class AdaptiveLJFFTest {
 
@@ -58,6 +58,7 @@ public class AdaptiveLJFFTest {
   private static final double NUMACC = 1.0e-8;
 
   private final AdaptiveLJFF adapLJFF;
+  private final AdaptiveParameters params;
 
   private final int[] atsPerMol38;
   private final int[] atsPerMol55;
@@ -148,6 +149,7 @@ public class AdaptiveLJFFTest {
     paramVals[1] = -sigma; // to make it 12-6
     paramVals[2] = sigma;
 
+    this.params = params;
     adapLJFF =
         new AdaptiveLJFF(
             false /* pretend to be in core*/,
@@ -264,4 +266,79 @@ public class AdaptiveLJFFTest {
 
     assertEquals(0.0, gradTot55, NUMACC);
   }
+
+  @Test
+  public void testParameterGradient() {
+
+    final BondInfo bonds38 = new SimpleBondInfo(38);
+    final String key = params.getAllKeysCopy()[0];
+
+    // only one key, hence the key-local energy must be the total one
+    final double e38 = adapLJFF.energyOfStructWithParams(lj38, params, 0, bonds38);
+    assertEquals(ENERGYLJ38, e38, NUMACC);
+    assertEquals(e38, adapLJFF.energyOfStructForKey(lj38, params, 0, bonds38, key), NUMACC);
+
+    // plain central differences as reference
+    final double[] vals = params.getAllParamters();
+    final double[] refGrad = new double[vals.length];
+    for (int i = 0; i < vals.length; i++) {
+      final double orig = vals[i];
+      final double h = 1e-6 * Math.abs(orig);
+      params.setParameterAtPos(orig + h, i);
+      final double ePlus = adapLJFF.energyOfStructWithParams(lj38, params, 0, bonds38);
+      params.setParameterAtPos(orig - h, i);
+      final double eMinus = adapLJFF.energyOfStructWithParams(lj38, params, 0, bonds38);
+      params.setParameterAtPos(orig, i);
+      refGrad[i] = (ePlus - eMinus) / (2 * h);
+    }
+
+    // analytical
+    final double[] grad = new double[vals.length];
+    final double e = adapLJFF.gradientOfStructWithParams(lj38, params, 0, bonds38, grad);
+    assertEquals(ENERGYLJ38, e, NUMACC);
+    for (int i = 0; i < vals.length; i++) {
+      assertEquals(refGrad[i], grad[i], 1e-6 * Math.abs(refGrad[i]));
+    }
+
+    // numerical, parallel over blocks of parameters of a non-decomposable adaptivable
+    final Adaptivable plain = new BenchRastrigin(vals.length);
+    final AdaptiveParameters rastParams = new AdaptiveParameters(params);
+    final double[] serial = new double[vals.length];
+    final double[] parallel = new double[vals.length];
+    NumericalGradients.calculateParamGrad(lj38, rastParams, plain, 0, bonds38, serial);
+    try (final ParameterGradientEngine engine = new ParameterGradientEngine(2)) {
+      engine.runWith(
+          () ->
+              NumericalGradients.calculateParamGrad(lj38, rastParams, plain, 0, bonds38, parallel));
+    }
+    assertArrayEquals(serial, parallel, 0.0);
+    assertArrayEquals(params.getAllParamters(), rastParams.getAllParamters(), 0.0);
+  }
+
+  @Test
+  public void testParameterGradientEngineScope() {
+    System.out.println("parameterGradientEngineScope");
+    assertThrows(IllegalArgumentException.class, () -> new ParameterGradientEngine(0));
+    assertEquals(1, ParameterGradientEngine.current().getNumberOfThreads());
+
+    try (final ParameterGradientEngine engine = new ParameterGradientEngine(3)) {
+      assertSame(engine, engine.runWith(ParameterGradientEngine::current));
+      // only bound while running
+      assertEquals(1, ParameterGradientEngine.current().getNumberOfThreads());
+      // and not leaking into other threads, e.g., the pool's own
+      final ParameterGradientEngine[] other = new ParameterGradientEngine[1];
+      engine.runWith(
+          () -> {
+            final Thread t = new Thread(() -> other[0] = ParameterGradientEngine.current());
+            t.start();
+            try {
+              t.join();
+            } catch (InterruptedException e) {
+              throw new RuntimeException(e);
+            }
+            return null;
+          });
+      assertNotSame(engine, other[0]);
+    }
+  }
 }
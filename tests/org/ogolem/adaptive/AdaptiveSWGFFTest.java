@@ -45,8 +45,6 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.ogolem.core.BondInfo;
 import org.ogolem.core.CartesianCoordinates;
-import org.ogolem.core.CollisionDetection;
-import org.ogolem.core.DissociationDetection;
 import org.ogolem.core.Geometry;
 import org.ogolem.core.Gradient;
 import org.ogolem.core.NorwayGeometryMutation;
@@ -56,7 +54,7 @@ import org.ogolem.random.StandardRNG;
 
 /**
  * @author Johannes Dieterich
- * @version 2021-07-17
+ * @version 2026-10-18
  */
 public class AdaptiveSWGFFTest {
 
@@ -101,10 +99,8 @@ public class AdaptiveSWGFFTest {
     final NorwayGeometryMutation norway =
         new NorwayGeometryMutation(
             NorwayGeometryMutation.PACKDIM.THREED,
-            CollisionDetection.CDTYPE.SIMPLEPAIRWISE,
             1.4,
             4.0,
-            DissociationDetection.DEFAULTDD,
             NorwayGeometryMutation.MUTMODE.ASCENDING);
 
     final Geometry geom =
@@ -211,10 +207,8 @@ public class AdaptiveSWGFFTest {
     final NorwayGeometryMutation norway =
         new NorwayGeometryMutation(
             NorwayGeometryMutation.PACKDIM.THREED,
-            CollisionDetection.CDTYPE.SIMPLEPAIRWISE,
             1.4,
             4.0,
-            DissociationDetection.DEFAULTDD,
             NorwayGeometryMutation.MUTMODE.ASCENDING);
 
     final Geometry geom =
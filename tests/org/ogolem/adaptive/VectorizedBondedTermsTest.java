@@ -0,0 +1,250 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.adaptive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.ogolem.core.CoordTranslation;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class VectorizedBondedTermsTest {
+
+  private static final int NOATOMS = 23;
+  private static final double NUMACC = 1e-9;
+
+  private final int[][] bonds;
+  private final int[][] angles;
+  private final int[][] dihedrals;
+  private final int[] bondOffs;
+  private final int[] angleOffs;
+  private final int[] dihOffs;
+  private final double[] params;
+  private final double[] xyz1D;
+
+  public VectorizedBondedTermsTest() {
+
+    final Random r = new Random(42);
+
+    // a zig-zag chain, three parameter types per term class
+    bonds = new int[NOATOMS - 1][];
+    angles = new int[NOATOMS - 2][];
+    dihedrals = new int[NOATOMS - 3][];
+    bondOffs = new int[bonds.length];
+    angleOffs = new int[angles.length];
+    dihOffs = new int[dihedrals.length];
+    for (int i = 0; i < bonds.length; i++) {
+      bonds[i] = new int[] {i, i + 1};
+      bondOffs[i] = 2 * (i % 3);
+    }
+    for (int i = 0; i < angles.length; i++) {
+      angles[i] = new int[] {i, i + 1, i + 2};
+      angleOffs[i] = 6 + 2 * (i % 3);
+    }
+    for (int i = 0; i < dihedrals.length; i++) {
+      dihedrals[i] = new int[] {i, i + 1, i + 2, i + 3};
+      dihOffs[i] = 12 + 6 * (i % 3);
+    }
+
+    params = new double[30];
+    for (int p = 0; p < 6; p += 2) {
+      params[p] = 0.3 + 0.2 * r.nextDouble();
+      params[p + 1] = 2.5 + 0.5 * r.nextDouble();
+    }
+    for (int p = 6; p < 12; p += 2) {
+      params[p] = 0.05 + 0.05 * r.nextDouble();
+      params[p + 1] = 1.8 + 0.3 * r.nextDouble();
+    }
+    for (int p = 12; p < 30; p += 3) {
+      params[p] = 0.01 * r.nextDouble();
+      params[p + 1] = 1.0 + r.nextInt(3);
+      params[p + 2] = Math.PI * r.nextDouble();
+    }
+
+    xyz1D = new double[3 * NOATOMS];
+    for (int i = 0; i < NOATOMS; i++) {
+      xyz1D[i] = 2.4 * i + 0.3 * r.nextDouble();
+      xyz1D[i + NOATOMS] = ((i % 2 == 0) ? 1.0 : -1.0) + 0.5 * r.nextDouble();
+      xyz1D[i + 2 * NOATOMS] = 1.5 * r.nextDouble();
+    }
+  }
+
+  private VectorizedBondedTerms terms() {
+    return new VectorizedBondedTerms(
+        bonds, bondOffs, angles, angleOffs, dihedrals, dihOffs, params, 20.0, 100.0);
+  }
+
+  @Test
+  public void testEnergy() {
+
+    final double[][] xyz = new double[3][NOATOMS];
+    for (int c = 0; c < 3; c++) {
+      System.arraycopy(xyz1D, c * NOATOMS, xyz[c], 0, NOATOMS);
+    }
+
+    // scalar reference, the same functional forms as the AMBER terms
+    double ref = 0.0;
+    for (int b = 0; b < bonds.length; b++) {
+      final int i = bonds[b][0];
+      final int j = bonds[b][1];
+      final double dx = xyz[0][i] - xyz[0][j];
+      final double dy = xyz[1][i] - xyz[1][j];
+      final double dz = xyz[2][i] - xyz[2][j];
+      final double d = Math.sqrt(dx * dx + dy * dy + dz * dz) - params[bondOffs[b] + 1];
+      ref += 0.5 * params[bondOffs[b]] * d * d;
+    }
+    for (int a = 0; a < angles.length; a++) {
+      final double angle =
+          CoordTranslation.calcAngle(xyz, angles[a][0], angles[a][1], angles[a][2]);
+      final double d = angle - params[angleOffs[a] + 1];
+      ref += 0.5 * params[angleOffs[a]] * d * d;
+    }
+    for (int t = 0; t < dihedrals.length; t++) {
+      final int[] dih = dihedrals[t];
+      final double phi = CoordTranslation.calcDihedral(xyz, dih[0], dih[1], dih[2], dih[3]);
+      final int o = dihOffs[t];
+      ref +=
+          0.5
+              * (params[o] * (1 + Math.cos(params[o + 1] * phi - params[o + 2]))
+                  + params[o + 3] * (1 + Math.cos(params[o + 4] * phi - params[o + 5])));
+    }
+
+    final VectorizedBondedTerms terms = terms();
+    assertEquals(bonds.length, terms.getNumberOfBonds());
+    assertEquals(angles.length, terms.getNumberOfAngles());
+    assertEquals(dihedrals.length, terms.getNumberOfDihedrals());
+    assertEquals(ref, terms.energy(xyz1D, NOATOMS), NUMACC);
+
+    final double[][] grad = new double[3][NOATOMS];
+    assertEquals(ref, terms.gradient(xyz1D, NOATOMS, grad), NUMACC);
+  }
+
+  @Test
+  public void testGradient() {
+
+    final VectorizedBondedTerms terms = terms();
+    final double[][] grad = new double[3][NOATOMS];
+    terms.gradient(xyz1D, NOATOMS, grad);
+
+    final double h = 1e-6;
+    final VectorizedBondedTerms copy = terms.copy();
+    for (int i = 0; i < 3 * NOATOMS; i++) {
+      final double[] plus = xyz1D.clone();
+      plus[i] += h;
+      final double[] minus = xyz1D.clone();
+      minus[i] -= h;
+      final double num = (copy.energy(plus, NOATOMS) - copy.energy(minus, NOATOMS)) / (2 * h);
+      assertEquals(num, grad[i / NOATOMS][i % NOATOMS], 1e-6);
+    }
+  }
+
+  @Test
+  public void testBondCutoff() {
+
+    final double[] far = xyz1D.clone();
+    // pull the last atom far away: its bond hits the cutoff, contributing the penalty and no force
+    far[NOATOMS - 1] += 100.0;
+
+    final VectorizedBondedTerms bondsOnly =
+        new VectorizedBondedTerms(
+            bonds,
+            bondOffs,
+            new int[0][],
+            new int[0],
+            new int[0][],
+            new int[0],
+            params,
+            20.0,
+            100.0);
+    final double[][] grad = new double[3][NOATOMS];
+    final double eFar = bondsOnly.gradient(far, NOATOMS, grad);
+    final double[][] gradNear = new double[3][NOATOMS];
+    final double eNear = bondsOnly.gradient(xyz1D, NOATOMS, gradNear);
+
+    assertTrue(eFar > eNear + 90.0);
+    assertEquals(0.0, grad[0][NOATOMS - 1], 0.0);
+    assertEquals(0.0, grad[1][NOATOMS - 1], 0.0);
+    assertEquals(0.0, grad[2][NOATOMS - 1], 0.0);
+  }
+
+  @Test
+  public void testNaNTermsAreSkipped() {
+
+    // a broken last atom: as in the scalar terms, the angle and dihedral touching it are skipped
+    final double[] broken = xyz1D.clone();
+    broken[NOATOMS - 1] = Double.NaN;
+    final double[][] xyz = new double[3][NOATOMS];
+    for (int c = 0; c < 3; c++) {
+      System.arraycopy(broken, c * NOATOMS, xyz[c], 0, NOATOMS);
+    }
+
+    double ref = 0.0;
+    for (int a = 0; a < angles.length - 1; a++) {
+      final double angle =
+          CoordTranslation.calcAngle(xyz, angles[a][0], angles[a][1], angles[a][2]);
+      final double d = angle - params[angleOffs[a] + 1];
+      ref += 0.5 * params[angleOffs[a]] * d * d;
+    }
+    for (int t = 0; t < dihedrals.length - 1; t++) {
+      final int[] dih = dihedrals[t];
+      final double phi = CoordTranslation.calcDihedral(xyz, dih[0], dih[1], dih[2], dih[3]);
+      final int o = dihOffs[t];
+      ref +=
+          0.5
+              * (params[o] * (1 + Math.cos(params[o + 1] * phi - params[o + 2]))
+                  + params[o + 3] * (1 + Math.cos(params[o + 4] * phi - params[o + 5])));
+    }
+
+    final VectorizedBondedTerms noBonds =
+        new VectorizedBondedTerms(
+            new int[0][], new int[0], angles, angleOffs, dihedrals, dihOffs, params, 20.0, 100.0);
+    assertEquals(ref, noBonds.energy(broken, NOATOMS), NUMACC);
+
+    final double[][] grad = new double[3][NOATOMS];
+    assertEquals(ref, noBonds.gradient(broken, NOATOMS, grad), NUMACC);
+    for (int c = 0; c < 3; c++) {
+      for (int i = 0; i < NOATOMS; i++) {
+        assertFalse(Double.isNaN(grad[c][i]));
+      }
+      assertEquals(0.0, grad[c][NOATOMS - 1], 0.0);
+    }
+  }
+}
@@ -30,6 +30,7 @@ SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
 package org.ogolem.core;
 
 import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,7 +40,7 @@ import org.ogolem.generic.genericpool.Niche;
  * Test Class for Coulomb-Matrix
  *
  * @author Dominik Behrens
- * @version 2021-07-17
+ * @version 2026-10-18
  */
 public class CoulombMatrixTest {
   private CoulombMatrixNicheComp comp;
@@ -87,6 +88,28 @@ public class CoulombMatrixTest {
     Assertions.assertEquals("cmat-44", niche.getID());
   }
 
+  @Test
+  public void testBatchedAndCached() {
+    final List<Geometry> geoms = new ArrayList<>();
+    geoms.add(constructGoldCube(5, -0.219));
+    geoms.add(constructGoldCube(5, 0.229));
+    geoms.add(constructGoldCube(0, 0));
+    final List<Niche> batched = comp.computeNiches(geoms);
+    Assertions.assertEquals(List.of("cmat-45", "cmat-44", "cmat-0"), nicheIDs(batched));
+
+    // re-niching hits the cache and must not change anything, also for copies
+    Assertions.assertEquals(nicheIDs(batched), nicheIDs(comp.copy().computeNiches(geoms)));
+    for (int i = 0; i < geoms.size(); i++) {
+      Assertions.assertEquals(batched.get(i).getID(), comp.computeNiche(geoms.get(i)).getID());
+    }
+  }
+
+  private static List<String> nicheIDs(final List<Niche> niches) {
+    final List<String> ids = new ArrayList<>();
+    niches.forEach(n -> ids.add(n.getID()));
+    return ids;
+  }
+
   private Geometry constructGoldCube(double a, double b) {
     MoleculeConfig org = new MoleculeConfig(false);
     org.atomNumbers = new short[] {79};
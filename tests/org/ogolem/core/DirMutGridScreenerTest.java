@@ -0,0 +1,125 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class DirMutGridScreenerTest {
+
+  private static final String WATERS =
+      "12\n"
+          + "water tetramer\n"
+          + "O      1.4000    1.4000    0.0000\n"
+          + "H      2.0000    2.0000    0.4000\n"
+          + "H      1.8000    0.6000   -0.3000\n"
+          + "O     -1.4000    1.4000    0.1000\n"
+          + "H     -0.5000    1.5000    0.0000\n"
+          + "H     -1.7000    2.2000    0.5000\n"
+          + "O     -1.4000   -1.4000   -0.1000\n"
+          + "H     -1.5000   -0.5000    0.0000\n"
+          + "H     -2.2000   -1.7000    0.5000\n"
+          + "O      1.4000   -1.4000    0.0000\n"
+          + "H      0.5000   -1.5000    0.1000\n"
+          + "H      1.7000   -2.2000   -0.5000";
+
+  @Test
+  public void testConservativePruning() throws Exception {
+    System.out.println("conservativePruning");
+    final CartesianCoordinates cartes =
+        Input.parseCartesFromFileData(
+            WATERS.split("\n"), 4, new int[] {3, 3, 3, 3}, new short[4], new float[4]);
+    final BondInfo bonds = new SimpleBondInfo(12);
+    // intramolecular bonds
+    for (int m = 0; m < 4; m++) {
+      bonds.setBond(3 * m, 3 * m + 1, BondInfo.SINGLE);
+      bonds.setBond(3 * m, 3 * m + 2, BondInfo.SINGLE);
+    }
+    final double blow = 1.2;
+    final int molID = 2;
+    final double[][] xyzRef = cartes.getAllXYZCoord();
+    final double[] ref = {xyzRef[0][3 * molID], xyzRef[1][3 * molID], xyzRef[2][3 * molID]};
+    final DirMutGridScreener screener = new DirMutGridScreener(cartes, molID, ref, blow, bonds);
+    assertEquals(6, screener.getMolStart());
+    assertEquals(9, screener.getMolEnd());
+
+    final CollisionDetection cd = new CollisionDetection(CollisionDetection.CDTYPE.SIMPLEPAIRWISE);
+    final Random r = new Random(42);
+    final int n = 4000;
+    final double[] cx = new double[n];
+    final double[] cy = new double[n];
+    final double[] cz = new double[n];
+    for (int i = 0; i < n; i++) {
+      cx[i] = (r.nextDouble() - 0.5) * 16.0;
+      cy[i] = (r.nextDouble() - 0.5) * 16.0;
+      cz[i] = (r.nextDouble() - 0.5) * 16.0;
+    }
+    final boolean[] free = new boolean[n];
+    final int noFree = screener.screen(cx, cy, cz, n, free);
+    assertTrue(noFree > 0);
+    assertTrue(noFree < n);
+
+    int noAgree = 0;
+    for (int i = 0; i < n; i++) {
+      final CartesianCoordinates moved = new CartesianCoordinates(cartes);
+      final double[][] xyz = moved.getAllXYZCoord();
+      for (int at = 6; at < 9; at++) {
+        xyz[0][at] += cx[i] - ref[0];
+        xyz[1][at] += cy[i] - ref[1];
+        xyz[2][at] += cz[i] - ref[2];
+      }
+      assertEquals(free[i], screener.mayBeFree(cx[i], cy[i], cz[i]));
+      assertEquals(free[i], screener.mayBeFree(xyz));
+      final boolean coll = cd.checkOnlyForCollision(moved, blow, bonds);
+      if (!free[i]) {
+        // pruned placements must be collisions for the full check as well
+        assertTrue(coll);
+      }
+      if (free[i] == !coll) {
+        noAgree++;
+      }
+    }
+    // the rest of the tetramer is collision free, so the screener must be exact here
+    assertEquals(n, noAgree);
+  }
+}
@@ -0,0 +1,200 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class ExternalProcessesTest {
+
+  // waits for its stdin to be closed, i.e., runs as long as we want it to
+  private static final String[] CAT = {"/bin/cat"};
+
+  @BeforeEach
+  public void needCat() {
+    assumeTrue(new File(CAT[0]).canExecute(), "No " + CAT[0] + " to start.");
+  }
+
+  @AfterEach
+  public void noLimit() {
+    ExternalProcesses.setMaxConcurrent(0);
+  }
+
+  private static void awaitSlots(final int slots) throws InterruptedException {
+    // the slot is released asynchronously after the exit
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (ExternalProcesses.availableSlots() != slots && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(slots, ExternalProcesses.availableSlots());
+  }
+
+  private static void finish(final Process proc) throws Exception {
+    proc.getOutputStream().close();
+    assertTrue(proc.waitFor(30, TimeUnit.SECONDS));
+    assertEquals(0, proc.exitValue());
+  }
+
+  @Test
+  public void testNoLimit() throws Exception {
+    System.out.println("noLimit");
+
+    ExternalProcesses.setMaxConcurrent(0);
+    assertEquals(0, ExternalProcesses.getMaxConcurrent());
+    assertEquals(-1, ExternalProcesses.availableSlots());
+    ExternalProcesses.setMaxConcurrent(-3);
+    assertEquals(0, ExternalProcesses.getMaxConcurrent());
+    assertEquals(-1, ExternalProcesses.availableSlots());
+
+    final Process proc = ExternalProcesses.exec(CAT);
+    finish(proc);
+    assertEquals(-1, ExternalProcesses.availableSlots());
+  }
+
+  @Test
+  public void testReleaseOnExit() throws Exception {
+    System.out.println("releaseOnExit");
+
+    ExternalProcesses.setMaxConcurrent(2);
+    assertEquals(2, ExternalProcesses.getMaxConcurrent());
+    assertEquals(2, ExternalProcesses.availableSlots());
+
+    final Process first = ExternalProcesses.exec(CAT);
+    assertEquals(1, ExternalProcesses.availableSlots());
+    final Process second = ExternalProcesses.start(new ProcessBuilder(CAT));
+    assertEquals(0, ExternalProcesses.availableSlots());
+
+    finish(first);
+    awaitSlots(1);
+
+    // killed processes give their slot back as well
+    second.destroyForcibly();
+    assertTrue(second.waitFor(30, TimeUnit.SECONDS));
+    awaitSlots(2);
+  }
+
+  @Test
+  public void testBlocksAtLimit() throws Exception {
+    System.out.println("blocksAtLimit");
+
+    ExternalProcesses.setMaxConcurrent(1);
+    final Process first = ExternalProcesses.exec(CAT);
+
+    final CompletableFuture<Process> second =
+        CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return ExternalProcesses.exec(CAT);
+              } catch (IOException e) {
+                throw new RuntimeException(e);
+              }
+            });
+    assertThrows(TimeoutException.class, () -> second.get(500, TimeUnit.MILLISECONDS));
+    assertEquals(0, ExternalProcesses.availableSlots());
+
+    // the exit of the first one lets the second one start
+    finish(first);
+    final Process proc = second.get(30, TimeUnit.SECONDS);
+    assertEquals(0, ExternalProcesses.availableSlots());
+    finish(proc);
+    awaitSlots(1);
+  }
+
+  @Test
+  public void testReleaseOnFailedStart() throws Exception {
+    System.out.println("releaseOnFailedStart");
+
+    ExternalProcesses.setMaxConcurrent(1);
+    final String[] missing = {"/this/program/does/not/exist/ogolem"};
+    assertThrows(IOException.class, () -> ExternalProcesses.exec(missing));
+    assertEquals(1, ExternalProcesses.availableSlots());
+    assertThrows(IOException.class, () -> ExternalProcesses.start(new ProcessBuilder(missing)));
+    assertEquals(1, ExternalProcesses.availableSlots());
+  }
+
+  @Test
+  public void testInterruptedWhileWaiting() throws Exception {
+    System.out.println("interruptedWhileWaiting");
+
+    ExternalProcesses.setMaxConcurrent(1);
+    final Process first = ExternalProcesses.exec(CAT);
+
+    final CompletableFuture<Boolean> interrupted = new CompletableFuture<>();
+    final Thread waiter =
+        new Thread(
+            () -> {
+              try {
+                final Process proc = ExternalProcesses.exec(CAT);
+                proc.destroyForcibly();
+                interrupted.complete(false);
+              } catch (InterruptedIOException e) {
+                interrupted.complete(Thread.currentThread().isInterrupted());
+              } catch (IOException e) {
+                interrupted.completeExceptionally(e);
+              }
+            });
+    waiter.start();
+    Thread.sleep(200);
+    waiter.interrupt();
+
+    try {
+      // got the exception and kept the interrupt status
+      assertTrue(interrupted.get(30, TimeUnit.SECONDS));
+    } catch (ExecutionException e) {
+      fail(e.getCause());
+    }
+    // no slot was taken by the interrupted start
+    assertEquals(0, ExternalProcesses.availableSlots());
+    finish(first);
+    awaitSlots(1);
+  }
+}
@@ -0,0 +1,213 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.ogolem.core.Constants.ANGTOBOHR;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.ogolem.properties.Energy;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class GeometryCompactorTest {
+
+  private static final double NUMACC = 1e-12;
+  private static final double NUMACCSINGLE = 1e-5;
+
+  @Test
+  public void testRoundTripDouble() {
+
+    final Geometry ref = getWater2();
+    final GeometryCompactor compactor = new GeometryCompactor(ref, false);
+
+    final Geometry g = shifted(ref);
+    final Serializable packed = compactor.compact(g);
+    assertNotNull(packed);
+
+    final Geometry back = compactor.expand(packed);
+    assertNotSame(g, back);
+    assertSameIndividual(g, back, NUMACC);
+
+    // restoring twice must give independent geometries
+    final Geometry back2 = compactor.expand(packed);
+    back2.getMoleculeAtPosition(0).setExternalCenterOfMass(100.0, 100.0, 100.0);
+    assertSameIndividual(g, compactor.expand(packed), NUMACC);
+  }
+
+  @Test
+  public void testRoundTripSingle() {
+
+    final Geometry ref = getWater2();
+    final GeometryCompactor compactor = new GeometryCompactor(ref, true);
+
+    final Geometry g = shifted(ref);
+    final Geometry back = compactor.expand(compactor.compact(g));
+    assertSameIndividual(g, back, NUMACCSINGLE);
+  }
+
+  @Test
+  public void testDeviatingMoleculeKeptInFull() {
+
+    final Geometry ref = getWater2();
+    final GeometryCompactor compactor = new GeometryCompactor(ref, false);
+
+    final Geometry g = shifted(ref);
+    final double[][] xyz = g.getMoleculeAtPosition(1).getReferenceCartesians();
+    final double[][] distorted = new double[3][xyz[0].length];
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < xyz[i].length; j++) {
+        distorted[i][j] = 1.05 * xyz[i][j];
+      }
+    }
+    g.getMoleculeAtPosition(1).setReferenceCartesian(distorted);
+
+    final Geometry back = compactor.expand(compactor.compact(g));
+    assertSameIndividual(g, back, NUMACC);
+    final double[][] backXYZ = back.getMoleculeAtPosition(1).getReferenceCartesians();
+    for (int i = 0; i < 3; i++) {
+      assertArrayEquals(distorted[i], backXYZ[i], NUMACC);
+    }
+  }
+
+  @Test
+  public void testWithPropertiesNotPacked() {
+
+    final Geometry ref = getWater2();
+    final GeometryCompactor compactor = new GeometryCompactor(ref, false);
+
+    final Geometry g = shifted(ref);
+    g.addProperty(new Energy(-0.0099));
+    assertNull(compactor.compact(g));
+  }
+
+  private static Geometry shifted(final Geometry ref) {
+
+    final Geometry g = ref.copy();
+    g.setID(42);
+    g.setFatherID(7);
+    g.setMotherID(9);
+    g.setFitness(-0.0099);
+    g.setLocalOptimized(true);
+    g.setExtCoordMolecule(new double[] {0.1, -0.2, 0.3, 0.4, -0.5, 0.6}, 0);
+    g.setExtCoordMolecule(new double[] {3.1, 2.2, -1.3, -1.4, 0.25, 2.6}, 1);
+    g.getMoleculeAtPosition(1).setEnergy(-0.004);
+
+    return g;
+  }
+
+  private static void assertSameIndividual(
+      final Geometry exp, final Geometry res, final double acc) {
+
+    assertEquals(exp.getID(), res.getID());
+    assertEquals(exp.getFatherID(), res.getFatherID());
+    assertEquals(exp.getMotherID(), res.getMotherID());
+    assertEquals(exp.getFitness(), res.getFitness(), 0.0);
+    assertEquals(exp.isLocalOptimized(), res.isLocalOptimized());
+    assertEquals(exp.getNumberOfIndieParticles(), res.getNumberOfIndieParticles());
+    for (int i = 0; i < exp.getNumberOfIndieParticles(); i++) {
+      assertArrayEquals(exp.getCOM(i), res.getCOM(i), acc);
+      assertArrayEquals(exp.getEulers(i), res.getEulers(i), acc);
+      assertEquals(
+          exp.getMoleculeAtPosition(i).getEnergy(), res.getMoleculeAtPosition(i).getEnergy(), 0.0);
+    }
+
+    final double[] expCartes = exp.getCartesians().getAll1DCartes();
+    final double[] resCartes = res.getCartesians().getAll1DCartes();
+    assertArrayEquals(expCartes, resCartes, 10 * acc);
+  }
+
+  private static Geometry getWater2() {
+
+    final CartesianCoordinates c = new CartesianCoordinates(6, 2, new int[] {3, 3});
+    final double[][] xyz = c.getAllXYZCoord();
+    xyz[0][0] = -0.1858140 * ANGTOBOHR;
+    xyz[1][0] = -1.1749469 * ANGTOBOHR;
+    xyz[2][0] = 0.7662596 * ANGTOBOHR;
+    xyz[0][1] = -0.1285513 * ANGTOBOHR;
+    xyz[1][1] = -0.8984365 * ANGTOBOHR;
+    xyz[2][1] = 1.6808606 * ANGTOBOHR;
+    xyz[0][2] = -0.0582782 * ANGTOBOHR;
+    xyz[1][2] = -0.3702550 * ANGTOBOHR;
+    xyz[2][2] = 0.2638279 * ANGTOBOHR;
+    xyz[0][3] = 0.1747051 * ANGTOBOHR;
+    xyz[1][3] = 1.1050002 * ANGTOBOHR;
+    xyz[2][3] = -0.7244430 * ANGTOBOHR;
+    xyz[0][4] = -0.5650842 * ANGTOBOHR;
+    xyz[1][4] = 1.3134964 * ANGTOBOHR;
+    xyz[2][4] = -1.2949455 * ANGTOBOHR;
+    xyz[0][5] = 0.9282185 * ANGTOBOHR;
+    xyz[1][5] = 1.0652990 * ANGTOBOHR;
+    xyz[2][5] = -1.313402 * ANGTOBOHR;
+
+    final String[] atoms = c.getAllAtomTypes();
+    atoms[0] = "O";
+    atoms[1] = "H";
+    atoms[2] = "H";
+    atoms[3] = "O";
+    atoms[4] = "H";
+    atoms[5] = "H";
+
+    c.recalcAtomNumbers();
+
+    final int noOfMols = 2;
+    final int noOfAtoms = noOfMols * 3;
+    final int[] atsPerMol = new int[noOfMols];
+    final String[] sids = new String[noOfMols];
+    final boolean[] molFlexies = new boolean[noOfMols];
+    final boolean[] molConstr = new boolean[noOfMols];
+    final boolean[][] constrXYZ = new boolean[3][noOfAtoms];
+    final BondInfo bonds = new SimpleBondInfo(noOfAtoms);
+    final List<boolean[][]> allFlex = new ArrayList<>();
+    for (int i = 0; i < noOfMols; i++) {
+      atsPerMol[i] = 3;
+      sids[i] = "OHH";
+      final int o = i * 3;
+      bonds.setBond(o, o + 1, BondInfo.SINGLE);
+      bonds.setBond(o, o + 2, BondInfo.SINGLE);
+      allFlex.add(null);
+    }
+
+    return new Geometry(
+        c, 0, noOfMols, atsPerMol, molFlexies, allFlex, molConstr, constrXYZ, sids, bonds);
+  }
+}
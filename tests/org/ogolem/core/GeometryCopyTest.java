@@ -0,0 +1,138 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class GeometryCopyTest {
+
+  private static final double NUMACC = 1e-12;
+
+  @Test
+  public void testCopiesAreIndependent() {
+
+    final Geometry orig = getWater2();
+    final double[] origCartes = orig.getCartesians().getAll1DCartes();
+
+    final Geometry copy = orig.copy();
+    assertArrayEquals(origCartes, copy.getCartesians().getAll1DCartes(), NUMACC);
+
+    // write the reference of the copy, the original must not see this
+    final double[][] xyz = copy.getMoleculeAtPosition(0).getReferenceCartesians();
+    xyz[0][0] += 0.5;
+    xyz[1][1] -= 0.25;
+    assertArrayEquals(origCartes, orig.getCartesians().getAll1DCartes(), NUMACC);
+
+    // and vice versa, also for a second copy
+    final Geometry copy2 = orig.copy();
+    final double[] copy2Cartes = copy2.getCartesians().getAll1DCartes();
+    final double[][] moved = new double[3][3];
+    orig.getMoleculeAtPosition(1).setReferenceCartesian(moved);
+    assertArrayEquals(copy2Cartes, copy2.getCartesians().getAll1DCartes(), NUMACC);
+    assertArrayEquals(origCartes, copy2Cartes, NUMACC);
+  }
+
+  @Test
+  public void testTranslationLeavesReferenceUntouched() {
+
+    final Geometry orig = getWater2();
+    // no rotation at all, the reference may then not be moved to the COM
+    orig.setExtCoordMolecule(new double[] {1.0, 2.0, 3.0, 0.0, 0.0, 0.0}, 0);
+    final double[][] ref = orig.getMoleculeAtPosition(0).getReferenceCartesiansReadOnly();
+    final double[][] before = new double[][] {ref[0].clone(), ref[1].clone(), ref[2].clone()};
+
+    final double[] cartes1 = orig.getCartesians().getAll1DCartes();
+    final double[] cartes2 = orig.getCartesians().getAll1DCartes();
+    assertArrayEquals(cartes1, cartes2, NUMACC);
+    for (int i = 0; i < 3; i++) {
+      assertArrayEquals(before[i], ref[i], 0.0);
+    }
+  }
+
+  private static Geometry getWater2() {
+
+    final CartesianCoordinates c = new CartesianCoordinates(6, 2, new int[] {3, 3});
+    final double[][] xyz = c.getAllXYZCoord();
+    xyz[0][0] = -0.3511;
+    xyz[1][0] = -2.2203;
+    xyz[2][0] = 1.4480;
+    xyz[0][1] = -0.2429;
+    xyz[1][1] = -1.6978;
+    xyz[2][1] = 3.1763;
+    xyz[0][2] = -0.1101;
+    xyz[1][2] = -0.6997;
+    xyz[2][2] = 0.4986;
+    xyz[0][3] = 0.3301;
+    xyz[1][3] = 2.0882;
+    xyz[2][3] = -1.3690;
+    xyz[0][4] = -1.0679;
+    xyz[1][4] = 2.4822;
+    xyz[2][4] = -2.4471;
+    xyz[0][5] = 1.7541;
+    xyz[1][5] = 2.0131;
+    xyz[2][5] = -2.4820;
+
+    final String[] atoms = c.getAllAtomTypes();
+    for (int i = 0; i < 6; i++) {
+      atoms[i] = (i % 3 == 0) ? "O" : "H";
+    }
+    c.recalcAtomNumbers();
+
+    final int[] atsPerMol = new int[] {3, 3};
+    final String[] sids = new String[] {"OHH", "OHH"};
+    final boolean[] molFlexies = new boolean[2];
+    final boolean[] molConstr = new boolean[2];
+    final boolean[][] constrXYZ = new boolean[3][6];
+    final BondInfo bonds = new SimpleBondInfo(6);
+    final List<boolean[][]> allFlex = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      bonds.setBond(3 * i, 3 * i + 1, BondInfo.SINGLE);
+      bonds.setBond(3 * i, 3 * i + 2, BondInfo.SINGLE);
+      allFlex.add(null);
+    }
+
+    return new Geometry(c, 0, 2, atsPerMol, molFlexies, allFlex, molConstr, constrXYZ, sids, bonds);
+  }
+}
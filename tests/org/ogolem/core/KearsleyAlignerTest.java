@@ -0,0 +1,176 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class KearsleyAlignerTest {
+
+  private static final int NOATOMS = 17;
+  private static final double NUMACC = 1e-10;
+
+  private static double[][] centeredRandom(final Random r) {
+
+    final double[][] xyz = new double[3][NOATOMS];
+    for (int c = 0; c < 3; c++) {
+      double sum = 0.0;
+      for (int i = 0; i < NOATOMS; i++) {
+        xyz[c][i] = 10.0 * (r.nextDouble() - 0.5);
+        sum += xyz[c][i];
+      }
+      for (int i = 0; i < NOATOMS; i++) {
+        xyz[c][i] -= sum / NOATOMS;
+      }
+    }
+
+    return xyz;
+  }
+
+  private static double[][] rotated(final double[][] xyz, final Random r) {
+
+    final double[] euler =
+        new double[] {
+          2 * Math.PI * r.nextDouble(), Math.PI * r.nextDouble(), 2 * Math.PI * r.nextDouble()
+        };
+    return CoordTranslation.rotateXYZ(xyz, euler);
+  }
+
+  private static double directRMSD(final double[][] a, final double[][] b) {
+    double sum = 0.0;
+    for (int c = 0; c < 3; c++) {
+      for (int i = 0; i < NOATOMS; i++) {
+        sum += (a[c][i] - b[c][i]) * (a[c][i] - b[c][i]);
+      }
+    }
+    return Math.sqrt(sum / NOATOMS);
+  }
+
+  @Test
+  public void testRecoversRotation() {
+
+    final Random r = new Random(42);
+    final KearsleyAligner aligner = new KearsleyAligner();
+    for (int trial = 0; trial < 20; trial++) {
+      final double[][] ref = centeredRandom(r);
+      final double[][] rot = rotated(ref, r);
+
+      final double[][] aligned = new double[3][NOATOMS];
+      final double rmsd = aligner.align(ref, rot, NOATOMS, aligned);
+      assertEquals(0.0, rmsd, 1e-6);
+      assertEquals(0.0, directRMSD(ref, aligned), 1e-8);
+    }
+  }
+
+  @Test
+  public void testNoisyAlignment() {
+
+    final Random r = new Random(4242);
+    final KearsleyAligner aligner = new KearsleyAligner();
+    for (int trial = 0; trial < 20; trial++) {
+      final double[][] ref = centeredRandom(r);
+      final double[][] noisy = rotated(ref, r);
+      for (int c = 0; c < 3; c++) {
+        for (int i = 0; i < NOATOMS; i++) {
+          noisy[c][i] += 0.3 * (r.nextDouble() - 0.5);
+        }
+      }
+
+      // in place
+      final double[][] aligned =
+          new double[][] {noisy[0].clone(), noisy[1].clone(), noisy[2].clone()};
+      final double rmsd = aligner.align(ref, aligned, NOATOMS, aligned);
+      assertEquals(directRMSD(ref, aligned), rmsd, 1e-8);
+      assertTrue(rmsd < 0.3);
+
+      // a proper rotation
+      final double[] rot = aligner.getRotation();
+      final double det =
+          rot[0] * (rot[4] * rot[8] - rot[5] * rot[7])
+              - rot[1] * (rot[3] * rot[8] - rot[5] * rot[6])
+              + rot[2] * (rot[3] * rot[7] - rot[4] * rot[6]);
+      assertEquals(1.0, det, NUMACC);
+      for (int a = 0; a < 3; a++) {
+        for (int b = 0; b < 3; b++) {
+          final double dot =
+              rot[3 * a] * rot[3 * b]
+                  + rot[3 * a + 1] * rot[3 * b + 1]
+                  + rot[3 * a + 2] * rot[3 * b + 2];
+          assertEquals((a == b) ? 1.0 : 0.0, dot, NUMACC);
+        }
+      }
+
+      // no rotation found by perturbing the optimal one does better
+      final double[][] perturbed =
+          CoordTranslation.rotateXYZ(aligned, new double[] {0.01, 0.0, 0.0});
+      assertTrue(directRMSD(ref, perturbed) >= rmsd);
+    }
+  }
+
+  @Test
+  public void testBatchedMatchesSingle() {
+
+    final Random r = new Random(424242);
+    final double[][] ref = centeredRandom(r);
+    final List<double[][]> others = new ArrayList<>();
+    final List<double[][]> aligned = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      others.add((i % 2 == 0) ? rotated(ref, r) : centeredRandom(r));
+      aligned.add(new double[3][NOATOMS]);
+    }
+
+    final double[] rmsds = KearsleyAligner.alignAll(ref, others, NOATOMS, aligned);
+    final double[] rmsdsOnly = KearsleyAligner.alignAll(ref, others, NOATOMS, null);
+
+    final KearsleyAligner single = new KearsleyAligner();
+    final double[][] scratch = new double[3][NOATOMS];
+    for (int i = 0; i < others.size(); i++) {
+      final double rmsd = single.align(ref, others.get(i), NOATOMS, scratch);
+      assertEquals(rmsd, rmsds[i], NUMACC);
+      assertEquals(rmsd, rmsdsOnly[i], NUMACC);
+      assertEquals(0.0, directRMSD(scratch, aligned.get(i)), NUMACC);
+    }
+  }
+}
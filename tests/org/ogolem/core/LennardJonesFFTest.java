@@ -38,11 +38,12 @@ package org.ogolem.core;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 /**
  * @author Johannes Dieterich
- * @version 2021-07-17
+ * @version 2026-10-18
  */
 public class LennardJonesFFTest {
 
@@ -312,4 +313,90 @@ public class LennardJonesFFTest {
 
     assertEquals(0.0, gradTot55, NUMACC);
   }
+
+  @Test
+  public void testSubsetEnergy() {
+
+    final int[] atsPerMol38 = new int[38];
+    for (int i = 0; i < 38; i++) {
+      atsPerMol38[i] = 1;
+    }
+
+    CartesianCoordinates lj38 = null;
+    try {
+      lj38 =
+          Input.parseCartesFromFileData(
+              LJ38MIN.split("\n"), 38, atsPerMol38, new short[38], new float[38]);
+    } catch (Exception e) {
+      fail(e.toString());
+    }
+
+    final BondInfo bonds38 = new SimpleBondInfo(38);
+    final LennardJonesFF ljFF = new LennardJonesFF(true);
+
+    final double[] xyz = lj38.getAll1DCartes();
+    final int[] subset = {0, 5, 6, 23, 37};
+    final double[][] newXYZ = new double[3][subset.length];
+    final Random r = new Random(42);
+    for (int k = 0; k < subset.length; k++) {
+      for (int c = 0; c < 3; c++) {
+        newXYZ[c][k] = xyz[c * 38 + subset[k]] + (r.nextDouble() - 0.5) * 2.0;
+      }
+    }
+    // and one atom moved into the cutoff region of atom 1
+    newXYZ[0][0] = xyz[1] + 0.5;
+    newXYZ[1][0] = xyz[1 + 38];
+    newXYZ[2][0] = xyz[1 + 2 * 38];
+
+    final double[] moved = xyz.clone();
+    for (int k = 0; k < subset.length; k++) {
+      for (int c = 0; c < 3; c++) {
+        moved[c * 38 + subset[k]] = newXYZ[c][k];
+      }
+    }
+
+    final double eOld =
+        ljFF.energyCalculation(
+            -1,
+            0,
+            xyz,
+            lj38.getAllAtomTypes(),
+            lj38.getAllAtomNumbers(),
+            atsPerMol38,
+            new double[38],
+            38,
+            lj38.getAllCharges(),
+            lj38.getAllSpins(),
+            bonds38,
+            false);
+    final double eNew =
+        ljFF.energyCalculation(
+            -1,
+            0,
+            moved,
+            lj38.getAllAtomTypes(),
+            lj38.getAllAtomNumbers(),
+            atsPerMol38,
+            new double[38],
+            38,
+            lj38.getAllCharges(),
+            lj38.getAllSpins(),
+            bonds38,
+            false);
+
+    final double delta =
+        ljFF.energyChange(
+            xyz,
+            subset,
+            newXYZ,
+            lj38.getAllAtomTypes(),
+            lj38.getAllAtomNumbers(),
+            atsPerMol38,
+            38,
+            bonds38,
+            false);
+
+    assertEquals(eNew - eOld, delta, NUMACC * Math.abs(eNew - eOld));
+    assertArrayEquals(lj38.getAll1DCartes(), xyz);
+  }
 }
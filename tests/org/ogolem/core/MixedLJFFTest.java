@@ -38,11 +38,12 @@ package org.ogolem.core;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 /**
  * @author Johannes Dieterich
- * @version 2020-12-26
+ * @version 2026-10-18
  */
 public class MixedLJFFTest {
   private static final double ENERGYLJ38 = -0.0659856619926505;
@@ -256,4 +257,102 @@ public class MixedLJFFTest {
 
     assertEquals(0.0, gradTot55, NUMACC);
   }
+
+  @Test
+  public void testSubsetEnergyMixed() {
+
+    final int[] atsPerMol55 = new int[55];
+    for (int i = 0; i < 55; i++) {
+      atsPerMol55[i] = 1;
+    }
+
+    CartesianCoordinates lj55 = null;
+    try {
+      lj55 =
+          Input.parseCartesFromFileData(
+              LennardJonesFFTest.getLJ55MIN().split("\n"),
+              55,
+              atsPerMol55,
+              new short[55],
+              new float[55]);
+    } catch (Exception e) {
+      fail(e.toString());
+    }
+
+    // make it an Ar/Kr mixture
+    final String[] atoms = lj55.getAllAtomTypes().clone();
+    final short[] atomNos = lj55.getAllAtomNumbers().clone();
+    for (int i = 0; i < 55; i += 3) {
+      atoms[i] = "Kr";
+      atomNos[i] = AtomicProperties.giveAtomicNumber("Kr");
+    }
+
+    final BondInfo bonds55 = new SimpleBondInfo(55);
+    final MixedLJForceField ljFF = new MixedLJForceField(true);
+
+    final double[] xyz = lj55.getAll1DCartes();
+    final double[] energyparts = new double[55];
+    final double eRef =
+        ljFF.energyCalculation(
+            -1, 0, xyz, atoms, atomNos, atsPerMol55, energyparts, 55, null, null, bonds55, false);
+
+    // the subset energy of a single atom is its partial energy
+    for (final int at : new int[] {0, 1, 27, 54}) {
+      final double eSub =
+          ljFF.subsetEnergy(xyz, new int[] {at}, atoms, atomNos, atsPerMol55, 55, bonds55, false);
+      assertEquals(energyparts[at], eSub, NUMACC);
+    }
+
+    // the subset energy of all atoms is the total energy
+    final int[] all = new int[55];
+    for (int i = 0; i < 55; i++) {
+      all[i] = i;
+    }
+    final double eAll =
+        ljFF.subsetEnergy(xyz, all, atoms, atomNos, atsPerMol55, 55, bonds55, false);
+    assertEquals(eRef, eAll, NUMACC);
+
+    // the numerical gradient (which uses the subset energies) agrees with the analytical one
+    final double[] displaced = xyz.clone();
+    final Random r = new Random(4242);
+    for (int i = 0; i < displaced.length; i++) {
+      displaced[i] += (r.nextDouble() - 0.5) * 0.5;
+    }
+    final Gradient analytical = new Gradient(3, 55);
+    ljFF.gradientCalculation(
+        -1,
+        0,
+        displaced,
+        atoms,
+        atomNos,
+        atsPerMol55,
+        new double[55],
+        55,
+        null,
+        null,
+        bonds55,
+        analytical,
+        false);
+    final Gradient numerical =
+        NumericalGradients.numericalGradient(
+            -1,
+            0,
+            displaced,
+            atoms,
+            atomNos,
+            atsPerMol55,
+            new double[55],
+            55,
+            null,
+            null,
+            bonds55,
+            ljFF,
+            false);
+    assertEquals(analytical.getTotalEnergy(), numerical.getTotalEnergy(), NUMACC);
+    for (int c = 0; c < 3; c++) {
+      for (int i = 0; i < 55; i++) {
+        assertEquals(analytical.getTotalGradient()[c][i], numerical.getTotalGradient()[c][i], 1e-7);
+      }
+    }
+  }
 }
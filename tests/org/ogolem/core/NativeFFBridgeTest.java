@@ -0,0 +1,95 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.ogolem.helpers.NativeLibrariesTest;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class NativeFFBridgeTest {
+
+  private static double energy(final NativeFFBridge bridge) {
+    return bridge.energyCalculation(
+        0,
+        0,
+        new double[6],
+        new String[] {"Ar", "Ar"},
+        new short[] {18, 18},
+        new int[] {1, 1},
+        new double[2],
+        2,
+        new float[2],
+        new short[2],
+        new SimpleBondInfo(2),
+        false);
+  }
+
+  @Test
+  public void testMissingLibrary() {
+    System.out.println("missingLibrary");
+    final NativeFFBridge bridge = new NativeFFBridge("ogolemnosuchff", 0, -1000.0);
+    final UnsatisfiedLinkError err = assertThrows(UnsatisfiedLinkError.class, () -> energy(bridge));
+    assertEquals(
+        "Native library ogolemnosuchff ("
+            + System.mapLibraryName("ogolemnosuchff")
+            + ") not found.",
+        err.getMessage());
+  }
+
+  @Test
+  public void testMissingSymbol() {
+    System.out.println("missingSymbol");
+    final String old = NativeLibrariesTest.withJDKLibraryPath();
+    try {
+      final NativeFFBridge bridge = new NativeFFBridge(NativeLibrariesTest.JDKLIBRARY, 0, -1000.0);
+      final UnsatisfiedLinkError err =
+          assertThrows(UnsatisfiedLinkError.class, () -> energy(bridge));
+      assertEquals(
+          "Symbol ogo_ff_energy not found in native library "
+              + NativeLibrariesTest.JDKLIBRARY
+              + ".",
+          err.getMessage());
+    } finally {
+      NativeLibrariesTest.restoreLibraryPath(old);
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.ogolem.random.Lottery;
+import org.ogolem.random.StandardRNG;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class NorwayPackingHashTest {
+
+  private static final double BLOWCOLL = 1.1;
+  private static final double BLOWDISS = 2.2;
+
+  @Test
+  public void testAgainstBruteForce() {
+    System.out.println("againstBruteForce");
+    final int[] counts = againstBruteForce(BLOWCOLL, BLOWDISS);
+
+    // make sure all cases have actually been covered
+    assertTrue(counts[NorwayPackingHash.FREE] > 0);
+    assertTrue(counts[NorwayPackingHash.COLLISION] > 0);
+    assertTrue(counts[NorwayPackingHash.DETACHED] > 0);
+  }
+
+  @Test
+  public void testCollisionFactorLargerThanDissociation() {
+    System.out.println("collisionFactorLargerThanDissociation");
+    // the cells must be sized by the collision criterion then, otherwise collisions are missed
+    final int[] counts = againstBruteForce(BLOWDISS, BLOWCOLL);
+
+    assertEquals(0, counts[NorwayPackingHash.FREE]);
+    assertTrue(counts[NorwayPackingHash.COLLISION] > 0);
+    assertTrue(counts[NorwayPackingHash.DETACHED] > 0);
+  }
+
+  private static int[] againstBruteForce(final double blowColl, final double blowDiss) {
+
+    final Random r = new Random(42);
+    final double[] radiiTable = {0.6, 1.4, 2.5};
+    final int noPlaced = 300;
+    final double[][] placed = new double[3][noPlaced];
+    final double[] placedRadii = new double[noPlaced];
+    for (int i = 0; i < noPlaced; i++) {
+      for (int c = 0; c < 3; c++) {
+        placed[c][i] = (r.nextDouble() - 0.5) * 60.0;
+      }
+      placedRadii[i] = radiiTable[r.nextInt(radiiTable.length)];
+    }
+
+    final NorwayPackingHash hash = new NorwayPackingHash(blowColl, blowDiss, 2.5, 10);
+    // add in chunks to exercise the growth of the atom storage and the cell table
+    for (int start = 0; start < noPlaced; start += 7) {
+      final int n = Math.min(7, noPlaced - start);
+      final double[][] chunk = new double[3][n];
+      final double[] chunkRadii = new double[n];
+      for (int i = 0; i < n; i++) {
+        for (int c = 0; c < 3; c++) {
+          chunk[c][i] = placed[c][start + i];
+        }
+        chunkRadii[i] = placedRadii[start + i];
+      }
+      hash.add(chunk, chunkRadii, n);
+    }
+    assertEquals(noPlaced, hash.getNumberOfAtoms());
+
+    final int[] counts = new int[3];
+    final double[][] cand = new double[3][3];
+    final double[] candRadii = new double[3];
+    for (int trial = 0; trial < 5000; trial++) {
+      for (int i = 0; i < 3; i++) {
+        for (int c = 0; c < 3; c++) {
+          cand[c][i] = (r.nextDouble() - 0.5) * 70.0;
+        }
+        candRadii[i] = radiiTable[r.nextInt(radiiTable.length)];
+      }
+
+      boolean coll = false;
+      boolean attached = false;
+      for (int i = 0; i < 3; i++) {
+        for (int j = 0; j < noPlaced; j++) {
+          final double dx = cand[0][i] - placed[0][j];
+          final double dy = cand[1][i] - placed[1][j];
+          final double dz = cand[2][i] - placed[2][j];
+          final double dist = Math.sqrt(dx * dx + dy * dy + dz * dz);
+          final double radSum = candRadii[i] + placedRadii[j];
+          coll |= dist < blowColl * radSum;
+          attached |= dist <= blowDiss * radSum;
+        }
+      }
+      final int expected =
+          (coll)
+              ? NorwayPackingHash.COLLISION
+              : ((attached) ? NorwayPackingHash.FREE : NorwayPackingHash.DETACHED);
+      final int status = hash.test(cand, candRadii, 3);
+      assertEquals(expected, status);
+      counts[status]++;
+    }
+
+    return counts;
+  }
+
+  @Test
+  public void testPackedClusterIsSane() {
+    System.out.println("packedClusterIsSane");
+    Lottery.setGenerator(new StandardRNG(42));
+
+    final int noAtoms = 150;
+    final int[] atsPerMol = new int[noAtoms];
+    final String[] sids = new String[noAtoms];
+    for (int i = 0; i < noAtoms; i++) {
+      atsPerMol[i] = 1;
+      sids[i] = "Xe";
+    }
+    final CartesianCoordinates cartes = new CartesianCoordinates(noAtoms, noAtoms, atsPerMol);
+    final String[] atoms = cartes.getAllAtomTypes();
+    for (int i = 0; i < noAtoms; i++) {
+      atoms[i] = "Xe";
+    }
+    cartes.recalcAtomNumbersForced();
+
+    final BondInfo bonds = new SimpleBondInfo(noAtoms);
+    final Geometry geom =
+        new Geometry(
+            cartes,
+            0,
+            noAtoms,
+            atsPerMol,
+            new boolean[noAtoms],
+            null,
+            new boolean[noAtoms],
+            new boolean[3][noAtoms],
+            sids,
+            bonds);
+
+    final NorwayGeometryMutation norway =
+        new NorwayGeometryMutation(
+            NorwayGeometryMutation.PACKDIM.THREED,
+            BLOWCOLL,
+            BLOWDISS,
+            NorwayGeometryMutation.MUTMODE.RANDOM);
+
+    final Geometry packed = norway.mutate(geom);
+    assertEquals(noAtoms, packed.getNumberOfIndieParticles());
+
+    final CartesianCoordinates packedCartes = packed.getCartesians();
+    final CollisionDetection cd = new CollisionDetection(CollisionDetection.CDTYPE.SIMPLEPAIRWISE);
+    final CollisionInfo info = new SingleCollisionInfo();
+    info.resizeDistsAndClearState(noAtoms);
+    cd.checkForCollision(packedCartes, BLOWCOLL, bonds, info);
+    assertFalse(info.hasCollision());
+    final boolean dissociated =
+        DissociationDetection.checkForDissociation(
+            info.getPairWiseDistances(),
+            packedCartes.getAllAtomTypes(),
+            packedCartes.getAllAtomNumbers(),
+            BLOWDISS,
+            DissociationDetection.DEFAULTDD);
+    assertFalse(dissociated);
+  }
+}
@@ -0,0 +1,443 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class PeriodicPairForceFieldTest {
+
+  private static final double NUMACC = 1.0e-10;
+  private static final int NOATOMS = 80;
+
+  private static final double[][] CELL =
+      new double[][] {{50.0, 0.0, 0.0}, {4.0, 48.0, 0.0}, {-3.0, 2.0, 52.0}};
+
+  private static double[] randomAtoms(final Random r, final PeriodicCell cell, final double minD) {
+
+    final double[][] vecs = cell.getCellVectors();
+    final double[] xyz = new double[3 * NOATOMS];
+    final double[] d = new double[3];
+    int placed = 0;
+    while (placed < NOATOMS) {
+      final double s0 = r.nextDouble();
+      final double s1 = r.nextDouble();
+      final double s2 = r.nextDouble();
+      for (int c = 0; c < 3; c++) {
+        xyz[placed + c * NOATOMS] = s0 * vecs[0][c] + s1 * vecs[1][c] + s2 * vecs[2][c];
+      }
+      boolean ok = true;
+      for (int j = 0; j < placed && ok; j++) {
+        for (int c = 0; c < 3; c++) {
+          d[c] = xyz[placed + c * NOATOMS] - xyz[j + c * NOATOMS];
+        }
+        cell.minimumImage(d);
+        ok = (d[0] * d[0] + d[1] * d[1] + d[2] * d[2] > minD * minD);
+      }
+      if (ok) {
+        placed++;
+      }
+    }
+
+    return xyz;
+  }
+
+  private static String[] argons() {
+    final String[] atoms = new String[NOATOMS];
+    for (int i = 0; i < NOATOMS; i++) {
+      atoms[i] = "Ar";
+    }
+    return atoms;
+  }
+
+  private static int[] singleAtomMols() {
+    final int[] atsPerMol = new int[NOATOMS];
+    for (int i = 0; i < NOATOMS; i++) {
+      atsPerMol[i] = 1;
+    }
+    return atsPerMol;
+  }
+
+  private static short[] atomNos() {
+    final short[] nos = new short[NOATOMS];
+    for (int i = 0; i < NOATOMS; i++) {
+      nos[i] = 18;
+    }
+    return nos;
+  }
+
+  private static float[] alternatingCharges() {
+    final float[] charges = new float[NOATOMS];
+    for (int i = 0; i < NOATOMS; i++) {
+      charges[i] = (i % 2 == 0) ? 0.4f : -0.4f;
+    }
+    return charges;
+  }
+
+  private static double energy(
+      final PeriodicPairForceField ff, final double[] xyz, final float[] charges) {
+    return ff.energyCalculation(
+        -1,
+        0,
+        xyz,
+        argons(),
+        atomNos(),
+        singleAtomMols(),
+        new double[NOATOMS],
+        NOATOMS,
+        charges,
+        new short[NOATOMS],
+        new SimpleBondInfo(NOATOMS),
+        false);
+  }
+
+  @Test
+  public void testCellListMatchesAllPairs() {
+
+    final PeriodicCell cell = new PeriodicCell(CELL, new boolean[] {true, true, true});
+    final double cutoff = 15.0;
+    final PeriodicPairForceField ff = new PeriodicPairForceField(cell, cutoff, true, false, 0.0);
+
+    final Random r = new Random(42);
+    final double[] xyz = randomAtoms(r, cell, 6.5);
+
+    // all pairs under the minimum image convention, O(N^2)
+    final double eps = AtomicProperties.giveLennardJonesEpsilon("Ar");
+    final double sig = AtomicProperties.giveLennardJonesSigma("Ar");
+    final double cutRPow6 = Math.pow(sig * sig / (cutoff * cutoff), 3);
+    final double shift = 4.0 * eps * (cutRPow6 * cutRPow6 - cutRPow6);
+    final double[] d = new double[3];
+    double ref = 0.0;
+    int noPairs = 0;
+    for (int i = 0; i < NOATOMS - 1; i++) {
+      for (int j = i + 1; j < NOATOMS; j++) {
+        for (int c = 0; c < 3; c++) {
+          d[c] = xyz[i + c * NOATOMS] - xyz[j + c * NOATOMS];
+        }
+        cell.minimumImage(d);
+        final double distSq = d[0] * d[0] + d[1] * d[1] + d[2] * d[2];
+        if (distSq >= cutoff * cutoff) {
+          continue;
+        }
+        noPairs++;
+        final double invRPow6 = Math.pow(sig * sig / distSq, 3);
+        ref += 4.0 * eps * (invRPow6 * invRPow6 - invRPow6) - shift;
+      }
+    }
+
+    assertTrue(noPairs > 0);
+    assertEquals(ref, energy(ff, xyz, new float[NOATOMS]), NUMACC);
+
+    final CellList cells = new CellList(cell, cutoff);
+    assertEquals(noPairs, cells.build(xyz, NOATOMS));
+  }
+
+  @Test
+  public void testLatticeTranslation() {
+
+    final PeriodicCell cell = new PeriodicCell(CELL, new boolean[] {true, true, true});
+    final PeriodicPairForceField ff = new PeriodicPairForceField(cell, 15.0, true, true, 0.1);
+
+    final Random r = new Random(4242);
+    final double[] xyz = randomAtoms(r, cell, 6.5);
+    final float[] charges = alternatingCharges();
+    final double e = energy(ff, xyz, charges);
+
+    // moving atoms by full cell vectors must not change anything
+    final double[] moved = xyz.clone();
+    for (int i = 0; i < NOATOMS; i += 3) {
+      final int k = i % 3;
+      for (int c = 0; c < 3; c++) {
+        moved[i + c * NOATOMS] += ((i % 2 == 0) ? 1 : -2) * CELL[k][c];
+      }
+    }
+
+    assertEquals(e, energy(ff, moved, charges), 1e-9);
+  }
+
+  @Test
+  public void testGradient() {
+
+    final PeriodicCell cell = new PeriodicCell(CELL, new boolean[] {true, true, false});
+    final PeriodicPairForceField ff = new PeriodicPairForceField(cell, 15.0, true, true, 0.1);
+
+    final Random r = new Random(424242);
+    final double[] xyz = randomAtoms(r, cell, 6.5);
+    final float[] charges = alternatingCharges();
+
+    final Gradient analytical = new Gradient(3, NOATOMS);
+    ff.gradientCalculation(
+        -1,
+        0,
+        xyz,
+        argons(),
+        atomNos(),
+        singleAtomMols(),
+        new double[NOATOMS],
+        NOATOMS,
+        charges,
+        new short[NOATOMS],
+        new SimpleBondInfo(NOATOMS),
+        analytical,
+        false);
+
+    final Gradient numerical =
+        NumericalGradients.numericalGradient(
+            -1,
+            0,
+            xyz,
+            argons(),
+            atomNos(),
+            singleAtomMols(),
+            new double[NOATOMS],
+            NOATOMS,
+            charges,
+            new short[NOATOMS],
+            new SimpleBondInfo(NOATOMS),
+            ff,
+            false);
+
+    assertEquals(numerical.getTotalEnergy(), analytical.getTotalEnergy(), NUMACC);
+    for (int c = 0; c < 3; c++) {
+      for (int i = 0; i < NOATOMS; i++) {
+        assertEquals(numerical.getTotalGradient()[c][i], analytical.getTotalGradient()[c][i], 1e-6);
+      }
+    }
+  }
+
+  @Test
+  public void testMultiAtomMolecules() {
+
+    final PeriodicCell cell = new PeriodicCell(CELL, new boolean[] {true, true, true});
+    final double cutoff = 15.0;
+    final PeriodicPairForceField ff = new PeriodicPairForceField(cell, cutoff, true, false, 0.0);
+
+    final Random r = new Random(4711);
+    final double[] xyz = randomAtoms(r, cell, 6.5);
+
+    // molecules of 1 to 4 atoms, consecutive in the geometry
+    final int[] atsPerMol = new int[NOATOMS];
+    final int[] molOf = new int[NOATOMS];
+    int noMols = 0;
+    int off = 0;
+    while (off < NOATOMS) {
+      final int size = Math.min(1 + noMols % 4, NOATOMS - off);
+      for (int i = off; i < off + size; i++) {
+        molOf[i] = noMols;
+      }
+      atsPerMol[noMols++] = size;
+      off += size;
+    }
+    final int[] mols = Arrays.copyOf(atsPerMol, noMols);
+
+    // all intermolecular pairs under the minimum image convention, O(N^2)
+    final double eps = AtomicProperties.giveLennardJonesEpsilon("Ar");
+    final double sig = AtomicProperties.giveLennardJonesSigma("Ar");
+    final double cutRPow6 = Math.pow(sig * sig / (cutoff * cutoff), 3);
+    final double shift = 4.0 * eps * (cutRPow6 * cutRPow6 - cutRPow6);
+    final double[] d = new double[3];
+    final double[] refParts = new double[noMols];
+    double ref = 0.0;
+    int noIntra = 0;
+    for (int i = 0; i < NOATOMS - 1; i++) {
+      for (int j = i + 1; j < NOATOMS; j++) {
+        for (int c = 0; c < 3; c++) {
+          d[c] = xyz[i + c * NOATOMS] - xyz[j + c * NOATOMS];
+        }
+        cell.minimumImage(d);
+        final double distSq = d[0] * d[0] + d[1] * d[1] + d[2] * d[2];
+        if (distSq >= cutoff * cutoff) {
+          continue;
+        }
+        if (molOf[i] == molOf[j]) {
+          noIntra++;
+          continue;
+        }
+        final double invRPow6 = Math.pow(sig * sig / distSq, 3);
+        final double e = 4.0 * eps * (invRPow6 * invRPow6 - invRPow6) - shift;
+        refParts[molOf[i]] += e;
+        refParts[molOf[j]] += e;
+        ref += e;
+      }
+    }
+
+    assertTrue(noIntra > 0);
+
+    final double[] energyparts = new double[noMols];
+    final double e =
+        ff.energyCalculation(
+            -1,
+            0,
+            xyz,
+            argons(),
+            atomNos(),
+            mols,
+            energyparts,
+            NOATOMS,
+            new float[NOATOMS],
+            new short[NOATOMS],
+            new SimpleBondInfo(NOATOMS),
+            false);
+
+    assertEquals(ref, e, NUMACC);
+    assertArrayEquals(refParts, energyparts, NUMACC);
+  }
+
+  @Test
+  public void testSlabNotPeriodicAlongC() {
+
+    final PeriodicCell cell = new PeriodicCell(CELL, new boolean[] {true, true, false});
+    final CellList cells = new CellList(cell, 15.0);
+
+    // two atoms, one cell vector c apart: images along c must not interact
+    final double[] xyz = new double[6];
+    xyz[1] = CELL[2][0];
+    xyz[3] = CELL[2][1];
+    xyz[5] = CELL[2][2];
+    assertEquals(0, cells.build(xyz, 2));
+
+    // but they do along a, if close enough
+    xyz[1] = CELL[0][0] - 3.0;
+    xyz[3] = CELL[0][1];
+    xyz[5] = CELL[0][2];
+    assertEquals(1, cells.build(xyz, 2));
+    assertEquals(9.0, cells.getPairDistSq()[0], NUMACC);
+  }
+
+  @Test
+  public void testErfcDerivative() {
+
+    final double h = 1e-5;
+    // positive arguments only, as in alpha * r. At zero, the fit of erfc jumps by about 1e-8.
+    for (double x = 0.01; x <= 6.0; x += 0.05) {
+      final double fd =
+          (PeriodicPairForceField.erfc(x + h) - PeriodicPairForceField.erfc(x - h)) / (2 * h);
+      final double d = PeriodicPairForceField.erfcDerivative(x);
+      // consistent with the fit, to finite difference accuracy
+      assertEquals(fd, d, 1e-9, "x = " + x);
+      // and close to the exact derivative, the fit is not made for derivatives
+      assertEquals(-2.0 / Math.sqrt(Math.PI) * Math.exp(-x * x), d, 1e-5, "x = " + x);
+    }
+  }
+
+  private static Gradient wolfPair(final PeriodicPairForceField ff, final double dist) {
+
+    final double[] xyz = new double[6];
+    xyz[1] = dist;
+    final Gradient grad = new Gradient(3, 2);
+    ff.gradientCalculation(
+        -1,
+        0,
+        xyz,
+        new String[] {"Ar", "Ar"},
+        new short[] {18, 18},
+        new int[] {1, 1},
+        new double[2],
+        2,
+        new float[] {0.5f, -0.5f},
+        new short[2],
+        new SimpleBondInfo(2),
+        grad,
+        false);
+
+    return grad;
+  }
+
+  @Test
+  public void testWolfForceVanishesAtCutoff() {
+
+    final PeriodicCell cell = new PeriodicCell(CELL, new boolean[] {true, true, true});
+    final double cutoff = 15.0;
+    final PeriodicPairForceField ff = new PeriodicPairForceField(cell, cutoff, false, true, 0.1);
+
+    // just inside and just outside the cutoff: no jump in energy, no force
+    final Gradient inside = wolfPair(ff, cutoff - 1e-7);
+    final Gradient outside = wolfPair(ff, cutoff + 1e-7);
+    assertEquals(outside.getTotalEnergy(), inside.getTotalEnergy(), 1e-12);
+    assertEquals(0.0, inside.getTotalGradient()[0][0], 1e-9);
+    assertEquals(0.0, inside.getTotalGradient()[0][1], 1e-9);
+    assertEquals(0.0, outside.getTotalGradient()[0][0], 0.0);
+  }
+
+  @Test
+  public void testBackendDefaults() throws Exception {
+
+    final String cell = "cell=28.0/28.0/28.0,coulomb=wolf";
+    final PeriodicPairForceField defaults =
+        (PeriodicPairForceField)
+            BackendFactory.mapStringToBackend(null, "periodicff:" + cell, null, ".");
+    final PeriodicPairForceField explicit =
+        (PeriodicPairForceField)
+            BackendFactory.mapStringToBackend(
+                null, "periodicff:" + cell + ",lj=true,alpha=0.2,cutoff=9.0", null, ".");
+
+    final double l = 28.0 * Constants.ANGTOBOHR;
+    final PeriodicCell pc =
+        new PeriodicCell(
+            new double[][] {{l, 0.0, 0.0}, {0.0, l, 0.0}, {0.0, 0.0, l}},
+            new boolean[] {true, true, true});
+    final PeriodicPairForceField reference =
+        new PeriodicPairForceField(
+            pc, 9.0 * Constants.ANGTOBOHR, true, true, 0.2 / Constants.ANGTOBOHR);
+
+    final double[] xyz = randomAtoms(new Random(4711), pc, 6.5);
+    final float[] charges = alternatingCharges();
+    final double ref = energy(reference, xyz, charges);
+    assertEquals(ref, energy(defaults, xyz, charges), NUMACC);
+    assertEquals(ref, energy(explicit, xyz, charges), NUMACC);
+  }
+
+  @Test
+  public void testIllegalLJToken() {
+
+    for (final String lj : new String[] {"ture", "yes", "1", ""}) {
+      assertThrows(
+          RuntimeException.class,
+          () ->
+              BackendFactory.mapStringToBackend(
+                  null, "periodicff:cell=28.0/28.0/28.0,lj=" + lj, null, "."),
+          lj);
+    }
+  }
+}
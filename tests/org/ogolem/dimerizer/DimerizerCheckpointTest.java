@@ -0,0 +1,161 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.dimerizer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ogolem.core.Geometry;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class DimerizerCheckpointTest {
+
+  @TempDir File tmpDir;
+
+  private static List<double[]> grid(final double spacing) {
+    final List<double[]> points = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      points.add(new double[] {i * spacing, 0.0, 0.0, 0.0, 0.0, 0.0});
+    }
+    return points;
+  }
+
+  @Test
+  public void testRestore() throws IOException {
+    System.out.println("restore");
+    final String file = new File(tmpDir, "dimerizer.chk").getAbsolutePath();
+    final Geometry geom = DimerizerCoreTest.dimer();
+    geom.setFitness(-42.0);
+    try (final DimerizerCheckpoint chk = new DimerizerCheckpoint(file, grid(1.0))) {
+      assertTrue(chk.getRestored().isEmpty());
+      chk.append(3, geom);
+      chk.append(1, null);
+    }
+
+    try (final DimerizerCheckpoint chk = new DimerizerCheckpoint(file, grid(1.0))) {
+      final Map<Integer, Geometry> restored = chk.getRestored();
+      assertEquals(2, restored.size());
+      assertTrue(restored.containsKey(1));
+      assertNull(restored.get(1));
+      assertEquals(-42.0, restored.get(3).getFitness(), 0.0);
+      chk.append(0, null);
+    }
+
+    try (final DimerizerCheckpoint chk = new DimerizerCheckpoint(file, grid(1.0))) {
+      assertEquals(3, chk.getRestored().size());
+    }
+  }
+
+  @Test
+  public void testFailedIsRetried() throws IOException {
+    System.out.println("failedIsRetried");
+    final String file = new File(tmpDir, "dimerizer.chk").getAbsolutePath();
+    try (final DimerizerCheckpoint chk = new DimerizerCheckpoint(file, grid(1.0))) {
+      chk.append(1, null);
+      chk.appendFailure(2);
+    }
+
+    try (final DimerizerCheckpoint chk = new DimerizerCheckpoint(file, grid(1.0))) {
+      assertEquals(1, chk.getRestored().size());
+      assertFalse(chk.getRestored().containsKey(2));
+      chk.append(2, DimerizerCoreTest.dimer());
+    }
+
+    try (final DimerizerCheckpoint chk = new DimerizerCheckpoint(file, grid(1.0))) {
+      assertEquals(2, chk.getRestored().size());
+      assertNotNull(chk.getRestored().get(2));
+    }
+  }
+
+  @Test
+  public void testTruncatedRecord() throws IOException {
+    System.out.println("truncatedRecord");
+    final String file = new File(tmpDir, "dimerizer.chk").getAbsolutePath();
+    try (final DimerizerCheckpoint chk = new DimerizerCheckpoint(file, grid(1.0))) {
+      chk.append(2, null);
+      chk.append(4, DimerizerCoreTest.dimer());
+    }
+
+    // killed while writing the last record
+    try (final RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.setLength(raf.length() - 10);
+    }
+
+    try (final DimerizerCheckpoint chk = new DimerizerCheckpoint(file, grid(1.0))) {
+      assertEquals(1, chk.getRestored().size());
+      assertTrue(chk.getRestored().containsKey(2));
+      chk.append(4, null);
+    }
+
+    try (final DimerizerCheckpoint chk = new DimerizerCheckpoint(file, grid(1.0))) {
+      assertEquals(2, chk.getRestored().size());
+      assertNull(chk.getRestored().get(4));
+    }
+  }
+
+  @Test
+  public void testOtherGridIsDiscarded() throws IOException {
+    System.out.println("otherGridIsDiscarded");
+    final String file = new File(tmpDir, "dimerizer.chk").getAbsolutePath();
+    try (final DimerizerCheckpoint chk = new DimerizerCheckpoint(file, grid(1.0))) {
+      chk.append(2, null);
+    }
+
+    // same number of points, different spacing
+    try (final DimerizerCheckpoint chk = new DimerizerCheckpoint(file, grid(0.5))) {
+      assertTrue(chk.getRestored().isEmpty());
+    }
+
+    // and the checkpoint now belongs to the new grid
+    try (final DimerizerCheckpoint chk = new DimerizerCheckpoint(file, grid(1.0))) {
+      assertTrue(chk.getRestored().isEmpty());
+    }
+    try (final DimerizerCheckpoint chk = new DimerizerCheckpoint(file, grid(0.5))) {
+      assertTrue(chk.getRestored().isEmpty());
+    }
+  }
+}
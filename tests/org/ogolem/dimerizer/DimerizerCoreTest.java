@@ -0,0 +1,278 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.dimerizer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import contrib.edu.princeton.eac.Grid;
+import java.io.File;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ogolem.core.BondInfo;
+import org.ogolem.core.CartesianCoordinates;
+import org.ogolem.core.CartesianFullBackend;
+import org.ogolem.core.Geometry;
+import org.ogolem.core.Molecule;
+import org.ogolem.core.Newton;
+import org.ogolem.core.SimpleBondInfo;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class DimerizerCoreTest {
+
+  private static final double BLOWFAC = 1.2;
+
+  @TempDir File tmpDir;
+
+  /**
+   * Two argon "molecules" of two atoms each, as constricted as in the dimerizer input. The first
+   * atoms of both sit in the origin, the second ones far apart along z.
+   */
+  static Geometry dimer() {
+
+    final int[] atsPerMol = {2, 2};
+    final CartesianCoordinates cartes = new CartesianCoordinates(4, 2, atsPerMol);
+    final String[] atoms = cartes.getAllAtomTypes();
+    for (int i = 0; i < 4; i++) {
+      atoms[i] = "Ar";
+    }
+    cartes.recalcAtomNumbersForced();
+    final double[][] xyz = cartes.getAllXYZCoord();
+    xyz[2][1] = -7.0;
+    xyz[2][3] = 7.0;
+
+    return new Geometry(
+        cartes,
+        0,
+        2,
+        atsPerMol,
+        new boolean[2],
+        List.of(new boolean[3][2], new boolean[3][2]),
+        new boolean[] {true, true},
+        new boolean[3][4],
+        new String[] {"Ar2", "Ar2"},
+        new SimpleBondInfo(4));
+  }
+
+  private static Grid<Geometry> grid() {
+    // 4 x 3 x 2 points, the first x plane collides
+    return new Grid<>(
+        new double[] {0.0, -2.0, 0.0, 0.0, 0.0, 0.0},
+        new double[] {30.0, 2.0, 3.0, 0.0, 0.0, 0.0},
+        new double[] {10.0, 2.0, 3.0, 1.0, 1.0, 1.0});
+  }
+
+  @Test
+  public void testParallelMatchesExpected() {
+    System.out.println("parallelMatchesExpected");
+    final Grid<Geometry> grid = grid();
+    final CountingNewton newton = new CountingNewton();
+    DimerizerCore.runAllPoints(
+        grid, dimer(), newton, BLOWFAC, 4, new File(tmpDir, "dimerizer.chk").getAbsolutePath());
+
+    final List<double[]> points = grid.getAllGridPoints();
+    final List<Geometry> results = grid.getListOfAllAttachments();
+    assertEquals(24, points.size());
+    int noRelaxed = 0;
+    for (int i = 0; i < points.size(); i++) {
+      final double[] p = points.get(i);
+      final double dist = Math.sqrt(p[0] * p[0] + p[1] * p[1] + p[2] * p[2]);
+      if (p[0] == 0.0) {
+        assertNull(results.get(i), "collision expected at point " + i);
+        continue;
+      }
+      assertNotNull(results.get(i), "no result for point " + i);
+      assertEquals(dist, results.get(i).getFitness(), 1e-10);
+      assertEquals(i, results.get(i).getID());
+      noRelaxed++;
+    }
+    assertEquals(noRelaxed, CountingNewton.IDS.size());
+  }
+
+  @Test
+  public void testRestartFromCheckpoint() {
+    System.out.println("restartFromCheckpoint");
+    final String chk = new File(tmpDir, "dimerizer.chk").getAbsolutePath();
+    final Grid<Geometry> first = grid();
+    DimerizerCore.runAllPoints(first, dimer(), new CountingNewton(), BLOWFAC, 3, chk);
+
+    // nothing is left to do, so the optimizer must not be touched
+    final Grid<Geometry> second = grid();
+    DimerizerCore.runAllPoints(second, dimer(), new FailingNewton(), BLOWFAC, 3, chk);
+
+    final List<Geometry> firstRes = first.getListOfAllAttachments();
+    final List<Geometry> secondRes = second.getListOfAllAttachments();
+    for (int i = 0; i < firstRes.size(); i++) {
+      if (firstRes.get(i) == null) {
+        assertNull(secondRes.get(i));
+      } else {
+        assertEquals(firstRes.get(i).getFitness(), secondRes.get(i).getFitness(), 0.0);
+      }
+    }
+  }
+
+  @Test
+  public void testRetryFailedFromCheckpoint() {
+    System.out.println("retryFailedFromCheckpoint");
+    final String chk = new File(tmpDir, "dimerizer.chk").getAbsolutePath();
+    final Grid<Geometry> first = grid();
+    DimerizerCore.runAllPoints(first, dimer(), new FlakyNewton(), BLOWFAC, 3, chk);
+
+    final List<double[]> points = first.getAllGridPoints();
+    final Set<Long> failed = new HashSet<>();
+    for (int i = 0; i < points.size(); i++) {
+      assertNull(first.getListOfAllAttachments().get(i));
+      if (points.get(i)[0] != 0.0 && i % 2 == 1) {
+        failed.add((long) i);
+      }
+    }
+
+    // only the failed points are relaxed again
+    final Grid<Geometry> second = grid();
+    DimerizerCore.runAllPoints(second, dimer(), new CountingNewton(), BLOWFAC, 3, chk);
+    assertEquals(failed, CountingNewton.IDS);
+    for (final long id : failed) {
+      assertNotNull(second.getListOfAllAttachments().get((int) id));
+    }
+  }
+
+  /** "Relaxes" to the distance between the first atoms of the two molecules. */
+  private static class CountingNewton implements Newton {
+
+    private static final long serialVersionUID = (long) 20261018;
+
+    static final Set<Long> IDS = ConcurrentHashMap.newKeySet();
+
+    CountingNewton() {
+      IDS.clear();
+    }
+
+    private CountingNewton(final CountingNewton orig) {}
+
+    @Override
+    public Newton copy() {
+      return new CountingNewton(this);
+    }
+
+    @Override
+    public Molecule localOptimization(final Molecule mStartMolecule) {
+      throw new UnsupportedOperationException("Not needed.");
+    }
+
+    @Override
+    public Geometry localOptimization(final Geometry gStartGeometry) {
+      assertTrue(IDS.add(gStartGeometry.getID()), "point relaxed twice");
+      final Geometry opt = gStartGeometry.copy();
+      final double[][] xyz = opt.getCartesians().getAllXYZCoord();
+      final double dx = xyz[0][2] - xyz[0][0];
+      final double dy = xyz[1][2] - xyz[1][0];
+      final double dz = xyz[2][2] - xyz[2][0];
+      opt.setFitness(Math.sqrt(dx * dx + dy * dy + dz * dz));
+      return opt;
+    }
+
+    @Override
+    public CartesianCoordinates cartesToCartes(
+        long id,
+        CartesianCoordinates cartes,
+        boolean[][] constraints,
+        boolean isConstricted,
+        final BondInfo bonds) {
+      throw new UnsupportedOperationException("Not needed.");
+    }
+
+    @Override
+    public String myIDandMethod() {
+      return "counting";
+    }
+
+    @Override
+    public CartesianFullBackend getBackend() {
+      return null;
+    }
+
+    @Override
+    public long getNumberOfGeomLocalOpts() {
+      return 0;
+    }
+
+    @Override
+    public long getNumberOfMolLocalOpts() {
+      return 0;
+    }
+  }
+
+  /** Fails for odd grid points and returns nothing for even ones. */
+  private static final class FlakyNewton extends CountingNewton {
+
+    private static final long serialVersionUID = (long) 20261018;
+
+    @Override
+    public Newton copy() {
+      return new FlakyNewton();
+    }
+
+    @Override
+    public Geometry localOptimization(final Geometry gStartGeometry) {
+      if (gStartGeometry.getID() % 2 == 1) {
+        throw new RuntimeException("Relaxation failed.");
+      }
+      return null;
+    }
+  }
+
+  private static final class FailingNewton extends CountingNewton {
+
+    private static final long serialVersionUID = (long) 20261018;
+
+    @Override
+    public Newton copy() {
+      return new FailingNewton();
+    }
+
+    @Override
+    public Geometry localOptimization(final Geometry gStartGeometry) {
+      throw new RuntimeException("Should have been restored from the checkpoint.");
+    }
+  }
+}
@@ -0,0 +1,279 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.familytree;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class MainFamilyTreeTest {
+
+  private static final String WHITE = "#FFFFFFFF";
+  private static final String POOL = "#BF0000FF";
+  private static final String MUM = "#FF0000FF";
+  private static final String DAD = "#0000FFFF";
+
+  /*
+   * initial pool 0, 1, 2. 4 was not accepted, 6 was null, 7 is in the final pool, 8 has no
+   * children.
+   */
+  private static final String OUTPUT =
+      "some output before\n"
+          + FamilyHistory.HISTORYSTART
+          + "\n"
+          + "   ID   mother   father   accepted   null\n"
+          + "3 0 1 true false\n"
+          + "4 1 2 false false\n"
+          + "5 3 0 true false\n"
+          + "6 3 4 true true\n"
+          + "7 5 2 true false\n"
+          + "8 0 1 true false\n"
+          + "-------------------------------------\n"
+          + "some output after\n";
+
+  private static String familyTree(final String mode) throws Exception {
+
+    final VisualizationConfig config = new VisualizationConfig(new String[] {"OutputMode=" + mode});
+    final FamilyHistory hist = FamilyHistory.parse(new BufferedReader(new StringReader(OUTPUT)));
+    if (config.addAllFinalPoolIndividuals) {
+      hist.setInFinalPool(7);
+    }
+
+    final StringWriter writer = new StringWriter();
+    MainFamilyTree.writeFamilyTree(hist, config, writer);
+
+    return writer.toString();
+  }
+
+  private static String dot(final List<String> lines) {
+    final String sep = System.lineSeparator();
+    final StringBuilder sb = new StringBuilder();
+    sb.append("digraph FamilyTree {").append(sep);
+    sb.append("   bgcolor = \"black\";").append(sep);
+    for (final String line : lines) {
+      sb.append("   ").append(line).append(sep);
+    }
+    sb.append("}").append(sep);
+    return sb.toString();
+  }
+
+  private static String vertex(final int vertex, final int id, final String fill) {
+    return vertex
+        + " [label=\"id="
+        + id
+        + "\", shape = \"circle\", style = \"filled\", color = \"white\", fillcolor = \""
+        + fill
+        + "\"];";
+  }
+
+  private static String edge(final int from, final int to, final String color) {
+    return from
+        + " -> "
+        + to
+        + " [style = \"filled\", color = \""
+        + color
+        + "\", penwidth = \"3\"];";
+  }
+
+  @Test
+  public void testParse() throws Exception {
+    System.out.println("parse");
+
+    final FamilyHistory hist = FamilyHistory.parse(new BufferedReader(new StringReader(OUTPUT)));
+    assertEquals(9, hist.size());
+    for (int id = 0; id < 9; id++) {
+      assertTrue(hist.isPresent(id));
+    }
+    assertFalse(hist.isPresent(9));
+    assertEquals(-1, hist.mother(2));
+    assertEquals(3, hist.mother(6));
+    assertEquals(4, hist.father(6));
+    final int[] children = {3, 3, 2, 2, 1, 1, 0, 0, 0};
+    for (int id = 0; id < 9; id++) {
+      assertEquals(children[id], hist.noChildren(id), "children of " + id);
+    }
+    assertEquals(3, hist.maxNoChildren());
+    assertThrows(IllegalArgumentException.class, () -> hist.setInFinalPool(9));
+  }
+
+  @Test
+  public void testOnlyWithChildren() throws Exception {
+    System.out.println("onlyWithChildren");
+
+    final List<String> lines = new ArrayList<>();
+    for (int id = 0; id <= 5; id++) {
+      lines.add(vertex(id + 1, id, WHITE));
+    }
+    lines.add(edge(1, 4, MUM));
+    lines.add(edge(2, 4, DAD));
+    lines.add(edge(2, 5, MUM));
+    lines.add(edge(3, 5, DAD));
+    lines.add(edge(4, 6, MUM));
+    lines.add(edge(1, 6, DAD));
+
+    assertEquals(dot(lines), familyTree("onlywithchildren"));
+  }
+
+  @Test
+  public void testOnlyWithChildrenAndFinalPool() throws Exception {
+    System.out.println("onlyWithChildrenAndFinalPool");
+
+    final List<String> lines = new ArrayList<>();
+    for (int id = 0; id <= 5; id++) {
+      lines.add(vertex(id + 1, id, WHITE));
+    }
+    lines.add(vertex(7, 7, POOL));
+    lines.add(edge(1, 4, MUM));
+    lines.add(edge(2, 4, DAD));
+    lines.add(edge(2, 5, MUM));
+    lines.add(edge(3, 5, DAD));
+    lines.add(edge(4, 6, MUM));
+    lines.add(edge(1, 6, DAD));
+    lines.add(edge(6, 7, MUM));
+    lines.add(edge(3, 7, DAD));
+
+    assertEquals(dot(lines), familyTree("onlywithchildrenandfinalpool"));
+  }
+
+  @Test
+  public void testOnlyAccepted() throws Exception {
+    System.out.println("onlyAccepted");
+
+    final List<String> lines = new ArrayList<>();
+    lines.add(vertex(1, 0, WHITE));
+    lines.add(vertex(2, 1, WHITE));
+    lines.add(vertex(3, 2, WHITE));
+    lines.add(vertex(4, 3, WHITE));
+    lines.add(vertex(5, 5, WHITE));
+    lines.add(vertex(6, 7, WHITE));
+    lines.add(vertex(7, 8, WHITE));
+    lines.add(edge(1, 4, MUM));
+    lines.add(edge(2, 4, DAD));
+    lines.add(edge(4, 5, MUM));
+    lines.add(edge(1, 5, DAD));
+    lines.add(edge(5, 6, MUM));
+    lines.add(edge(3, 6, DAD));
+    lines.add(edge(1, 7, MUM));
+    lines.add(edge(2, 7, DAD));
+
+    assertEquals(dot(lines), familyTree("onlyaccepted"));
+  }
+
+  @Test
+  public void testOnlyAcceptedAndFinalPool() throws Exception {
+    System.out.println("onlyAcceptedAndFinalPool");
+
+    final List<String> lines = new ArrayList<>();
+    lines.add(vertex(1, 0, WHITE));
+    lines.add(vertex(2, 1, WHITE));
+    lines.add(vertex(3, 2, WHITE));
+    lines.add(vertex(4, 3, WHITE));
+    lines.add(vertex(5, 5, WHITE));
+    lines.add(vertex(6, 7, POOL));
+    lines.add(vertex(7, 8, WHITE));
+    lines.add(edge(1, 4, MUM));
+    lines.add(edge(2, 4, DAD));
+    lines.add(edge(4, 5, MUM));
+    lines.add(edge(1, 5, DAD));
+    lines.add(edge(5, 6, MUM));
+    lines.add(edge(3, 6, DAD));
+    lines.add(edge(1, 7, MUM));
+    lines.add(edge(2, 7, DAD));
+
+    assertEquals(dot(lines), familyTree("onlyacceptedandfinalpool"));
+  }
+
+  @Test
+  public void testFinalPoolAncestry() throws Exception {
+    System.out.println("finalPoolAncestry");
+
+    final List<String> lines = new ArrayList<>();
+    lines.add(vertex(1, 0, WHITE));
+    lines.add(vertex(2, 1, WHITE));
+    lines.add(vertex(3, 2, WHITE));
+    lines.add(vertex(4, 3, WHITE));
+    lines.add(vertex(5, 5, WHITE));
+    lines.add(vertex(6, 7, POOL));
+    lines.add(edge(1, 4, MUM));
+    lines.add(edge(2, 4, DAD));
+    lines.add(edge(4, 5, MUM));
+    lines.add(edge(1, 5, DAD));
+    lines.add(edge(5, 6, MUM));
+    lines.add(edge(3, 6, DAD));
+
+    assertEquals(dot(lines), familyTree("finalpoolancestry"));
+  }
+
+  @Test
+  public void testVerboseLabel() throws Exception {
+    System.out.println("verboseLabel");
+
+    final VisualizationConfig config =
+        new VisualizationConfig(new String[] {"OutputMode=finalpoolancestry", "VerboseLabel"});
+    final FamilyHistory hist = FamilyHistory.parse(new BufferedReader(new StringReader(OUTPUT)));
+    hist.setInFinalPool(5);
+
+    final StringWriter writer = new StringWriter();
+    MainFamilyTree.writeFamilyTree(hist, config, writer);
+
+    final String[] lines = writer.toString().split(System.lineSeparator());
+    // header, 0, 1, 3, 5, four edges and the closing brace
+    assertEquals(11, lines.length);
+    assertTrue(lines[2].startsWith("   1 [label=\"id=0 / children=3\""));
+    assertTrue(lines[3].startsWith("   2 [label=\"id=1 / children=3\""));
+    assertTrue(lines[4].startsWith("   3 [label=\"id=3 / children=2\""));
+    assertTrue(lines[5].startsWith("   4 [label=\"id=5 / children=1\""));
+    assertTrue(lines[5].endsWith("fillcolor = \"" + POOL + "\"];"));
+  }
+
+  @Test
+  public void testUnknownOutputMode() {
+    System.out.println("unknownOutputMode");
+
+    assertThrows(
+        Exception.class, () -> new VisualizationConfig(new String[] {"OutputMode=everything"}));
+  }
+}
@@ -0,0 +1,196 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.freqs;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ogolem.core.BondInfo;
+import org.ogolem.core.CartesianCoordinates;
+import org.ogolem.core.Input;
+import org.ogolem.core.LennardJonesFF;
+import org.ogolem.core.SimpleBondInfo;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class ParallelHessianCalculatorTest {
+
+  private static final String LJ7 =
+      "7\n"
+          + "LJ7 pentagonal bipyramid\n"
+          + "Ar        0.0000000    0.0000000    1.1236000\n"
+          + "Ar        0.0000000    0.0000000   -1.1236000\n"
+          + "Ar        1.0686000    0.0000000    0.3472000\n"
+          + "Ar        0.3302000    1.0163000   -0.3472000\n"
+          + "Ar       -0.8645000    0.6281000    0.3472000\n"
+          + "Ar       -0.8645000   -0.6281000   -0.3472000\n"
+          + "Ar        0.3302000   -1.0163000    0.3472000";
+
+  @TempDir File tmpDir;
+
+  private static CartesianCoordinates lj7() throws Exception {
+    final int[] atsPerMol = new int[7];
+    for (int i = 0; i < 7; i++) {
+      atsPerMol[i] = 1;
+    }
+    return Input.parseCartesFromFileData(LJ7.split("\n"), 7, atsPerMol, new short[7], new float[7]);
+  }
+
+  @Test
+  public void testAgainstSerialFromGrads() throws Exception {
+    System.out.println("againstSerialFromGrads");
+    final CartesianCoordinates cartes = lj7();
+    final BondInfo bonds = new SimpleBondInfo(7);
+    final double[][] serial =
+        NumericalHessianCalculator.numericalHessianFromGrads(
+            0, cartes, new LennardJonesFF(false), bonds);
+    final double[][] parallel =
+        new ParallelHessianCalculator(new LennardJonesFF(false), 4, true, null)
+            .calculateHessian(0, cartes, bonds);
+    for (int i = 0; i < serial.length; i++) {
+      assertEquals(serial[i][i], parallel[i][i], 1e-10);
+      for (int j = 0; j < serial.length; j++) {
+        assertEquals(parallel[i][j], parallel[j][i], 0.0);
+        assertEquals(0.5 * (serial[i][j] + serial[j][i]), parallel[i][j], 1e-8);
+      }
+    }
+  }
+
+  @Test
+  public void testAgainstSerialFromPoints() throws Exception {
+    System.out.println("againstSerialFromPoints");
+    final CartesianCoordinates cartes = lj7();
+    final BondInfo bonds = new SimpleBondInfo(7);
+    final double[][] serial =
+        NumericalHessianCalculator.numericalHessianFromPoints(
+            0, cartes, new LennardJonesFF(false), bonds);
+    final double[][] parallel =
+        new ParallelHessianCalculator(new LennardJonesFF(false), 3, false, null)
+            .calculateHessian(0, cartes, bonds);
+    for (int i = 0; i < serial.length; i++) {
+      assertArrayEquals(serial[i], parallel[i], 1e-8);
+    }
+  }
+
+  @Test
+  public void testCheckpointRestart() throws Exception {
+    System.out.println("checkpointRestart");
+    final CartesianCoordinates cartes = lj7();
+    final BondInfo bonds = new SimpleBondInfo(7);
+    final String checkpoint = new File(tmpDir, "hessian.chk").getAbsolutePath();
+    final double[][] first =
+        new ParallelHessianCalculator(new LennardJonesFF(false), 2, true, checkpoint)
+            .calculateHessian(0, cartes, bonds);
+    assertTrue(new File(checkpoint).exists());
+
+    // a restart must read all rows from the checkpoint and not touch the (now broken) backend
+    final double[][] restarted =
+        new ParallelHessianCalculator(new BrokenLJ(), 2, true, checkpoint)
+            .calculateHessian(0, cartes, bonds);
+    for (int i = 0; i < first.length; i++) {
+      assertArrayEquals(first[i], restarted[i], 1e-12);
+    }
+  }
+
+  @Test
+  public void testCheckpointOfOtherGeometry() throws Exception {
+    System.out.println("checkpointOfOtherGeometry");
+    final CartesianCoordinates cartes = lj7();
+    final BondInfo bonds = new SimpleBondInfo(7);
+    final String checkpoint = new File(tmpDir, "hessian.chk").getAbsolutePath();
+    new ParallelHessianCalculator(new LennardJonesFF(false), 2, true, checkpoint)
+        .calculateHessian(0, cartes, bonds);
+
+    // a slightly different geometry must not pick up the old rows
+    final double[][] xyz = cartes.getAllXYZCoord();
+    xyz[0][2] += 0.05;
+    cartes.setAllXYZ(xyz);
+    final double[][] fresh =
+        new ParallelHessianCalculator(new LennardJonesFF(false), 2, true, null)
+            .calculateHessian(0, cartes, bonds);
+    final double[][] restarted =
+        new ParallelHessianCalculator(new LennardJonesFF(false), 2, true, checkpoint)
+            .calculateHessian(0, cartes, bonds);
+    for (int i = 0; i < fresh.length; i++) {
+      assertArrayEquals(fresh[i], restarted[i], 1e-12);
+    }
+
+    // the checkpoint was started over and now belongs to the new geometry
+    final double[][] again =
+        new ParallelHessianCalculator(new BrokenLJ(), 2, true, checkpoint)
+            .calculateHessian(0, cartes, bonds);
+    for (int i = 0; i < fresh.length; i++) {
+      assertArrayEquals(fresh[i], again[i], 1e-12);
+    }
+  }
+
+  private static final class BrokenLJ extends LennardJonesFF {
+
+    private static final long serialVersionUID = (long) 20261018;
+
+    BrokenLJ() {
+      super(false);
+    }
+
+    @Override
+    public BrokenLJ copy() {
+      return new BrokenLJ();
+    }
+
+    @Override
+    public void gradientCalculation(
+        long lID,
+        int iIteration,
+        double[] xyz1D,
+        String[] saAtomTypes,
+        short[] atomNos,
+        int[] atsPerMol,
+        double[] energyparts,
+        int iNoOfAtoms,
+        float[] faCharges,
+        short[] iaSpins,
+        final BondInfo bonds,
+        final org.ogolem.core.Gradient gradient,
+        final boolean hasRigidEnv) {
+      throw new RuntimeException("Should have been read from checkpoint.");
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.generic.stats;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ogolem.generic.stats.DetailedStatistics.Latency;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class DetailedStatisticsExporterTest {
+
+  @TempDir File tmpDir;
+
+  @Test
+  public void testJSONSnapshot() {
+    System.out.println("JSONSnapshot");
+
+    final BasicDetailedBackend stats = new BasicDetailedBackend();
+    for (int i = 0; i < 3; i++) {
+      stats.incrementTrials();
+    }
+    stats.incrementSanityDiscards();
+    stats.incrementLocalOpts();
+    stats.incrementLocalOpts();
+    for (int i = 0; i < 5; i++) {
+      stats.incrementFitnessEvals();
+    }
+    for (int i = 0; i < 4; i++) {
+      stats.incrementGradientEvals();
+    }
+    stats.incrementUnknown("x");
+    stats.incrementUnknown("a\"b");
+    stats.incrementUnknown("a\"b");
+    stats.incrementUnknown("t\tab");
+    stats.recordLatency(Latency.LOCALOPT, 10);
+    stats.recordLatency(Latency.LOCALOPT, 20);
+    stats.recordLatency(Latency.LOCALOPT, 30);
+    stats.recordLatency(Latency.SANITYCHECK, 5);
+
+    final String expected =
+        "{\"time\":1234,\"trials\":3,\"sanitydiscards\":1,\"localopts\":2,\"fitnessevals\":5,"
+            + "\"gradientevals\":4,\"custom\":{\"a\\\"b\":2,\"t\\u0009ab\":1,\"x\":1},"
+            + "\"latencies\":{"
+            + "\"localopt\":{\"count\":3,\"mean\":20,\"p50\":20,\"p90\":30,\"p99\":30,\"max\":30},"
+            + "\"fitness\":{\"count\":0,\"mean\":0,\"p50\":0,\"p90\":0,\"p99\":0,\"max\":0},"
+            + "\"sanitycheck\":{\"count\":1,\"mean\":5,\"p50\":5,\"p90\":5,\"p99\":5,\"max\":5}}}";
+
+    assertEquals(expected, GenericDetailStatistics.toJSON(stats, 1234));
+  }
+
+  @Test
+  public void testJSONSnapshotWithoutLatencies() {
+    System.out.println("JSONSnapshotWithoutLatencies");
+
+    // the dummy backend counts nothing and reports -1
+
+    assertEquals(
+        "{\"time\":0,\"trials\":-1,\"sanitydiscards\":-1,\"localopts\":-1,\"fitnessevals\":-1,"
+            + "\"gradientevals\":-1,\"custom\":{},\"latencies\":{}}",
+        GenericDetailStatistics.toJSON(new DummyDetailedStats(), 0));
+  }
+
+  @Test
+  public void testExportOnClose() throws Exception {
+    System.out.println("exportOnClose");
+
+    // statistics are global, do not switch them on for everybody else
+    assumeFalse(GenericDetailStatistics.isEnabled());
+
+    final File out = new File(tmpDir, "detailedstats.jsonl");
+    try (final DetailedStatisticsExporter exporter =
+        new DetailedStatisticsExporter(out.getAbsolutePath(), 3600)) {
+      assertFalse(out.exists());
+    }
+    try (final DetailedStatisticsExporter exporter =
+        new DetailedStatisticsExporter(out.getAbsolutePath(), 3600)) {}
+
+    // one line per snapshot, appended
+    final List<String> lines = Files.readAllLines(out.toPath(), StandardCharsets.UTF_8);
+    assertEquals(List.of("{}", "{}"), lines);
+  }
+
+  @Test
+  public void testIllegalInterval() {
+    System.out.println("illegalInterval");
+
+    final String file = new File(tmpDir, "never.jsonl").getAbsolutePath();
+    assertThrows(IllegalArgumentException.class, () -> new DetailedStatisticsExporter(file, 0));
+    assertThrows(IllegalArgumentException.class, () -> new DetailedStatisticsExporter(file, -1));
+  }
+}
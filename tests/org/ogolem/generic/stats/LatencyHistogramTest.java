@@ -0,0 +1,166 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.generic.stats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class LatencyHistogramTest {
+
+  @Test
+  public void testExactBuckets() {
+    System.out.println("exactBuckets");
+
+    // the first two powers of two are resolved exactly
+    for (int v = 0; v < 64; v++) {
+      assertEquals(v, LatencyHistogram.bucketOf(v));
+      assertEquals(v, LatencyHistogram.lowestEquivalentValue(v));
+      assertEquals(v, LatencyHistogram.highestEquivalentValue(v));
+    }
+    assertEquals(64, LatencyHistogram.bucketOf(64));
+    assertEquals(64, LatencyHistogram.bucketOf(65));
+    assertEquals(65, LatencyHistogram.bucketOf(66));
+    assertEquals(64, LatencyHistogram.lowestEquivalentValue(64));
+    assertEquals(65, LatencyHistogram.highestEquivalentValue(64));
+  }
+
+  @Test
+  public void testBucketBoundaries() {
+    System.out.println("bucketBoundaries");
+
+    int bucket = 0;
+    while (true) {
+      final long lowest = LatencyHistogram.lowestEquivalentValue(bucket);
+      final long highest = LatencyHistogram.highestEquivalentValue(bucket);
+      assertTrue(lowest <= highest, "bucket " + bucket);
+      assertEquals(bucket, LatencyHistogram.bucketOf(lowest), "lowest of bucket " + bucket);
+      assertEquals(bucket, LatencyHistogram.bucketOf(highest), "highest of bucket " + bucket);
+      // about 3% precision
+      assertTrue((highest - lowest) <= lowest / 32, "width of bucket " + bucket);
+      if (highest == Long.MAX_VALUE) {
+        break;
+      }
+      // no gaps between buckets
+      assertEquals(highest + 1, LatencyHistogram.lowestEquivalentValue(bucket + 1));
+      bucket++;
+    }
+    assertEquals(59 * 32 - 1, bucket);
+    assertEquals(bucket, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testPercentiles() {
+    System.out.println("percentiles");
+
+    final LatencyHistogram hist = new LatencyHistogram();
+    assertEquals(0, hist.getCount());
+    assertEquals(0, hist.getMean());
+    assertEquals(0, hist.getValueAtPercentile(50.0));
+
+    for (long v = 1; v <= 1000; v++) {
+      hist.record(v);
+    }
+    assertEquals(1000, hist.getCount());
+    assertEquals(500, hist.getMean());
+    assertEquals(1000, hist.getMax());
+
+    assertEquals(1, hist.getValueAtPercentile(0.0));
+    assertEquals(1000, hist.getValueAtPercentile(100.0));
+    // clamped to [0,100]
+    assertEquals(1, hist.getValueAtPercentile(-5.0));
+    assertEquals(1000, hist.getValueAtPercentile(150.0));
+    // the highest value of the bucket holding the exact percentile
+    assertEquals(503, hist.getValueAtPercentile(50.0));
+    assertEquals(911, hist.getValueAtPercentile(90.0));
+    assertEquals(991, hist.getValueAtPercentile(99.0));
+    for (double p = 1.0; p < 100.0; p += 1.0) {
+      final long exact = (long) Math.ceil(p * 10.0);
+      final long val = hist.getValueAtPercentile(p);
+      assertTrue(val >= exact && val <= exact * 1.03, "percentile " + p);
+    }
+  }
+
+  @Test
+  public void testNegativeAndLargeValues() {
+    System.out.println("negativeAndLargeValues");
+
+    final LatencyHistogram hist = new LatencyHistogram();
+    hist.record(-42);
+    assertEquals(1, hist.getCount());
+    assertEquals(0, hist.getMax());
+    assertEquals(0, hist.getValueAtPercentile(100.0));
+
+    hist.record(Long.MAX_VALUE);
+    assertEquals(Long.MAX_VALUE, hist.getMax());
+    assertEquals(Long.MAX_VALUE, hist.getValueAtPercentile(100.0));
+    assertEquals(0, hist.getValueAtPercentile(50.0));
+  }
+
+  @Test
+  public void testConcurrentRecording() throws Exception {
+    System.out.println("concurrentRecording");
+
+    final LatencyHistogram hist = new LatencyHistogram();
+    final List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      final Thread thread =
+          new Thread(
+              () -> {
+                for (long v = 1; v <= 10000; v++) {
+                  hist.record(v);
+                }
+              });
+      threads.add(thread);
+      thread.start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    assertEquals(40000, hist.getCount());
+    assertEquals(10000, hist.getMax());
+    assertEquals(5000, hist.getMean());
+    assertEquals(10000, hist.getValueAtPercentile(100.0));
+  }
+}
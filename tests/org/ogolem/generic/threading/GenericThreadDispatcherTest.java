@@ -0,0 +1,199 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.generic.threading;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ogolem.adaptive.AdaptiveParameters;
+import org.ogolem.generic.generichistory.GenericHistory;
+import org.ogolem.generic.generichistory.GenericHistoryConfig;
+import org.ogolem.generic.genericpool.GenericPool;
+import org.ogolem.generic.genericpool.GenericPoolConfig;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class GenericThreadDispatcherTest {
+
+  @TempDir File tmpDir;
+
+  @AfterEach
+  public void resetHistory() {
+    GenericHistory.resetReference();
+  }
+
+  private GenericThreadDispatcher<Double, AdaptiveParameters, AdaptiveParameters> dispatcher(
+      final int threads,
+      final int steps,
+      final int subsToWait,
+      final TaskFactory<Double, AdaptiveParameters, AdaptiveParameters> tasker)
+      throws Exception {
+
+    final AdaptiveParameters example =
+        new AdaptiveParameters(2, 0, new String[] {"test"}, new int[] {2}, "test");
+    final GenericPoolConfig<Double, AdaptiveParameters> poolConf = new GenericPoolConfig<>();
+    poolConf.setPoolSize(4);
+    poolConf.setInterBinFile(new File(tmpDir, "pool.bin").getAbsolutePath());
+    final GenericHistoryConfig histConf = new GenericHistoryConfig();
+    histConf.binOut = new File(tmpDir, "history.bin").getAbsolutePath();
+    histConf.asciiAppend = new File(tmpDir, "history.log").getAbsolutePath();
+    histConf.silentMode = true;
+
+    return new GenericThreadDispatcher<>(
+        threads,
+        new GenericPool<>(poolConf, example),
+        GenericHistory.getReference(histConf),
+        new ObjectCache<>(threads, example),
+        0,
+        steps,
+        tasker,
+        subsToWait,
+        false,
+        null);
+  }
+
+  @Test
+  public void testInFlightWindow() {
+    System.out.println("inFlightWindow");
+    assertEquals(3, GenericThreadDispatcher.inFlightWindow(2, 3, false));
+    assertEquals(4, GenericThreadDispatcher.inFlightWindow(2, 100, false));
+    assertEquals(2, GenericThreadDispatcher.inFlightWindow(2, 1, false));
+    assertEquals(5, GenericThreadDispatcher.inFlightWindow(5, 1, true));
+  }
+
+  @Test
+  public void testWindowCapsOutstandingTasks() throws Exception {
+    System.out.println("windowCapsOutstandingTasks");
+
+    final AtomicInteger outstanding = new AtomicInteger();
+    final AtomicInteger maxOutstanding = new AtomicInteger();
+    final AtomicInteger done = new AtomicInteger();
+    final TaskFactory<Double, AdaptiveParameters, AdaptiveParameters> tasker =
+        (pool, history, ref, useCache, cache, doNiching, nicheComp, nicheCompCache, id) -> {
+          // created means submitted, until the task is done
+          maxOutstanding.accumulateAndGet(outstanding.incrementAndGet(), Math::max);
+          return () -> {
+            try {
+              Thread.sleep(2);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            } finally {
+              done.incrementAndGet();
+              outstanding.decrementAndGet();
+            }
+          };
+        };
+
+    dispatcher(2, 60, 3, tasker).doAllTasks(new File(tmpDir, "STOP").toPath());
+
+    assertEquals(60, done.get());
+    assertEquals(0, outstanding.get());
+    assertTrue(maxOutstanding.get() <= 3, "too many tasks in flight: " + maxOutstanding.get());
+  }
+
+  @Test
+  public void testStopFileEndsRun() throws Exception {
+    System.out.println("stopFileEndsRun");
+
+    final Path stop = new File(tmpDir, "STOP").toPath();
+    final AtomicInteger done = new AtomicInteger();
+    final TaskFactory<Double, AdaptiveParameters, AdaptiveParameters> tasker =
+        (pool, history, ref, useCache, cache, doNiching, nicheComp, nicheCompCache, id) ->
+            () -> {
+              try {
+                if (id == 10) {
+                  Files.createFile(stop);
+                }
+                Thread.sleep(1);
+              } catch (IOException e) {
+                throw new RuntimeException(e);
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              }
+              done.incrementAndGet();
+            };
+
+    final int steps = 100000;
+    dispatcher(2, steps, 4, tasker).doAllTasks(stop);
+
+    assertTrue(Files.exists(stop));
+    assertTrue(done.get() > 10);
+    assertTrue(done.get() < steps, "the stop file was ignored");
+  }
+
+  @Test
+  public void testExistingStopFile() throws Exception {
+    System.out.println("existingStopFile");
+
+    final Path stop = new File(tmpDir, "STOP").toPath();
+    Files.createFile(stop);
+    final AtomicInteger created = new AtomicInteger();
+    final TaskFactory<Double, AdaptiveParameters, AdaptiveParameters> tasker =
+        (pool, history, ref, useCache, cache, doNiching, nicheComp, nicheCompCache, id) -> {
+          created.incrementAndGet();
+          return () -> {};
+        };
+
+    dispatcher(2, 100, 4, tasker).doAllTasks(stop);
+
+    assertEquals(0, created.get());
+  }
+
+  @Test
+  public void testUnwatchableDirectory() throws Exception {
+    System.out.println("unwatchableDirectory");
+
+    // registering a missing directory fails, the watcher must fall back to looking for the file
+    final File dir = new File(tmpDir, "notyet");
+    final Path stop = new File(dir, "STOP").toPath();
+    try (final StopFileWatcher watcher = new StopFileWatcher(stop)) {
+      assertFalse(watcher.isStopRequested());
+      assertTrue(dir.mkdir());
+      Files.createFile(stop);
+      assertTrue(watcher.isStopRequested());
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.generic.threading;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.ogolem.generic.threading.IslandConfig.Topology;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class IslandConfigTest {
+
+  @Test
+  public void testParse() throws Exception {
+    System.out.println("parse");
+
+    final IslandConfig conf =
+        IslandConfig.parse("islands=8, interval=200,migrants=2,topology=random");
+    assertEquals(8, conf.getNumberOfIslands());
+    assertEquals(200, conf.getMigrationInterval());
+    assertEquals(2, conf.getNumberOfMigrants());
+    assertEquals(Topology.RANDOM, conf.getTopology());
+    assertEquals("islands=8,interval=200,migrants=2,topology=random", conf.toString());
+
+    // round trip
+    final IslandConfig again = IslandConfig.parse(conf.toString());
+    assertEquals(conf.toString(), again.toString());
+  }
+
+  @Test
+  public void testDefaults() throws Exception {
+    System.out.println("defaults");
+
+    final IslandConfig conf = IslandConfig.parse("islands=4");
+    assertEquals(4, conf.getNumberOfIslands());
+    assertEquals(100, conf.getMigrationInterval());
+    assertEquals(1, conf.getNumberOfMigrants());
+    assertEquals(Topology.RING, conf.getTopology());
+    assertEquals(Topology.RING, IslandConfig.parse("islands=4,topology=RiNg").getTopology());
+    assertEquals(0, IslandConfig.parse("islands=4,migrants=0").getNumberOfMigrants());
+  }
+
+  @Test
+  public void testRejectBadInput() {
+    System.out.println("rejectBadInput");
+
+    final String[] bad = {
+      "",
+      "interval=10",
+      "islands=0",
+      "islands=-2",
+      "islands=four",
+      "islands=4,interval=0",
+      "islands=4,migrants=-1",
+      "islands=4,topology=star",
+      "islands=4,migrations=2",
+      "islands=4,interval=",
+    };
+    for (final String options : bad) {
+      assertThrows(Exception.class, () -> IslandConfig.parse(options), options);
+    }
+    assertThrows(IllegalArgumentException.class, () -> new IslandConfig(1, 0, 0, Topology.RING));
+  }
+}
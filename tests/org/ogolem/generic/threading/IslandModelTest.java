@@ -0,0 +1,185 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.generic.threading;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ogolem.adaptive.AdaptiveParameters;
+import org.ogolem.generic.genericpool.GenericPool;
+import org.ogolem.generic.genericpool.GenericPoolConfig;
+import org.ogolem.generic.genericpool.GenericStatistics;
+import org.ogolem.generic.threading.IslandConfig.Topology;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class IslandModelTest {
+
+  @TempDir File tmpDir;
+
+  @Test
+  public void testShare() {
+    System.out.println("share");
+
+    assertEquals(4, IslandModel.share(10, 3, 0));
+    assertEquals(3, IslandModel.share(10, 3, 1));
+    assertEquals(3, IslandModel.share(10, 3, 2));
+    assertEquals(0, IslandModel.share(2, 3, 2));
+    for (int total = 0; total < 50; total++) {
+      for (int n = 1; n < 9; n++) {
+        int sum = 0;
+        for (int k = 0; k < n; k++) {
+          final int share = IslandModel.share(total, n, k);
+          sum += share;
+          // the remainder goes to the first ones
+          if (k > 0) {
+            assertTrue(share <= IslandModel.share(total, n, k - 1));
+          }
+          assertTrue(share - total / n <= 1);
+        }
+        assertEquals(total, sum);
+      }
+    }
+  }
+
+  @Test
+  public void testIslandFile() {
+    System.out.println("islandFile");
+
+    final String sep = File.separator;
+    assertEquals("pool-island3.bin", IslandModel.islandFile("pool.bin", 3));
+    assertEquals("pool.tar-island0.gz", IslandModel.islandFile("pool.tar.gz", 0));
+    assertEquals("pool-island1", IslandModel.islandFile("pool", 1));
+    assertEquals(
+        "out" + sep + "pool-island2.bin", IslandModel.islandFile("out" + sep + "pool.bin", 2));
+    // a dot in the directory only
+    assertEquals("run.1" + sep + "pool-island2", IslandModel.islandFile("run.1" + sep + "pool", 2));
+    // hidden files have no extension
+    assertEquals(".pool-island0", IslandModel.islandFile(".pool", 0));
+    assertEquals("out" + sep + ".pool-island0", IslandModel.islandFile("out" + sep + ".pool", 0));
+  }
+
+  @Test
+  public void testRingTarget() {
+    System.out.println("ringTarget");
+
+    assertEquals(1, IslandModel.target(Topology.RING, 0, 4));
+    assertEquals(3, IslandModel.target(Topology.RING, 2, 4));
+    assertEquals(0, IslandModel.target(Topology.RING, 3, 4));
+    assertEquals(0, IslandModel.target(Topology.RING, 1, 2));
+  }
+
+  @Test
+  public void testRandomTarget() {
+    System.out.println("randomTarget");
+
+    final int noIslands = 4;
+    for (int from = 0; from < noIslands; from++) {
+      final boolean[] hit = new boolean[noIslands];
+      for (int i = 0; i < 1000; i++) {
+        final int to = IslandModel.target(Topology.RANDOM, from, noIslands);
+        assertTrue(to >= 0 && to < noIslands);
+        assertNotEquals(from, to);
+        hit[to] = true;
+      }
+      // all others are reached
+      for (int to = 0; to < noIslands; to++) {
+        assertEquals(to != from, hit[to], "from " + from + " to " + to);
+      }
+    }
+    // two islands: always the other one
+    assertEquals(1, IslandModel.target(Topology.RANDOM, 0, 2));
+    assertEquals(0, IslandModel.target(Topology.RANDOM, 1, 2));
+  }
+
+  private static AdaptiveParameters example() {
+    return new AdaptiveParameters(2, 0, new String[] {"test"}, new int[] {2}, "test");
+  }
+
+  @Test
+  public void testCreateIslands() {
+    System.out.println("createIslands");
+
+    final String bin = new File(tmpDir, "pool.bin").getAbsolutePath();
+    final String log = new File(tmpDir, "stats.log").getAbsolutePath();
+    final GenericStatistics stats = new GenericStatistics(log, 100, false);
+    final GenericPoolConfig<Double, AdaptiveParameters> poolConf = new GenericPoolConfig<>();
+    poolConf.setPoolSize(11);
+    poolConf.setInterBinFile(bin);
+    poolConf.setStats(stats);
+
+    // twice with the same (shared) configuration
+    for (int i = 0; i < 2; i++) {
+      final List<GenericPool<Double, AdaptiveParameters>> pools =
+          IslandModel.createIslands(poolConf, example(), 3);
+      assertEquals(3, pools.size());
+      // one population split over the islands
+      assertEquals(4, pools.get(0).getPoolSize());
+      assertEquals(4, pools.get(1).getPoolSize());
+      assertEquals(3, pools.get(2).getPoolSize());
+
+      // the configuration is left as it was
+      assertEquals(11, poolConf.getPoolSize());
+      assertEquals(bin, poolConf.getInterBinFile());
+      assertSame(stats, poolConf.getStats());
+    }
+
+    // one statistics log per island, the names do not compound
+    final String[] files = tmpDir.list();
+    Arrays.sort(files);
+    assertArrayEquals(
+        new String[] {"stats-island0.log", "stats-island1.log", "stats-island2.log"}, files);
+  }
+
+  @Test
+  public void testPoolTooSmallForIslands() {
+    System.out.println("poolTooSmallForIslands");
+
+    final GenericPoolConfig<Double, AdaptiveParameters> poolConf = new GenericPoolConfig<>();
+    poolConf.setPoolSize(5);
+    assertThrows(
+        IllegalArgumentException.class, () -> IslandModel.createIslands(poolConf, example(), 3));
+    assertEquals(5, poolConf.getPoolSize());
+    assertEquals(2, IslandModel.createIslands(poolConf, example(), 2).size());
+  }
+}
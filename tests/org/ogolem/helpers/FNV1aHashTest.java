@@ -0,0 +1,88 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.helpers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class FNV1aHashTest {
+
+  private static long hashOf(final String s) {
+    return new FNV1aHash().update(s.getBytes(StandardCharsets.UTF_8)).getValue();
+  }
+
+  @Test
+  public void testReferenceValues() {
+    System.out.println("referenceValues");
+    assertEquals(0xcbf29ce484222325L, new FNV1aHash().getValue());
+    assertEquals(0xaf63dc4c8601ec8cL, hashOf("a"));
+    assertEquals(0x85944171f73967e8L, hashOf("foobar"));
+  }
+
+  @Test
+  public void testWideValuesAreLittleEndianBytes() {
+    System.out.println("wideValuesAreLittleEndianBytes");
+    final long l = 0x0102030405060708L;
+    final byte[] bytes = {8, 7, 6, 5, 4, 3, 2, 1};
+    assertEquals(new FNV1aHash().update(bytes).getValue(), new FNV1aHash().update(l).getValue());
+    assertEquals(
+        new FNV1aHash().update(new byte[] {4, 3, 2, 1}).getValue(),
+        new FNV1aHash().update(0x01020304).getValue());
+    assertEquals(
+        new FNV1aHash().update(Double.doubleToLongBits(1.5)).getValue(),
+        new FNV1aHash().update(1.5).getValue());
+  }
+
+  @Test
+  public void testDistinguishes() {
+    System.out.println("distinguishes");
+    assertNotEquals(
+        new FNV1aHash().update(0.0).getValue(), new FNV1aHash().update(-0.0).getValue());
+    assertNotEquals(
+        new FNV1aHash().update("ab").update("c").getValue(),
+        new FNV1aHash().update("a").update("bc").getValue());
+    assertNotEquals(
+        new FNV1aHash().update(1.0).update(2.0).getValue(),
+        new FNV1aHash().update(2.0).update(1.0).getValue());
+  }
+}
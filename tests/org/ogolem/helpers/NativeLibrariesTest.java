@@ -0,0 +1,121 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.helpers;
+
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.invoke.MethodHandle;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class NativeLibrariesTest {
+
+  // a library of the running JDK that is not loaded by default and not on the linker search path
+  public static final String JDKLIBRARY = "prefs";
+  public static final String JDKSYMBOL = "Java_java_util_prefs_FileSystemPreferences_chmod";
+
+  /** Puts the library directory of the running JDK (behind a bogus one) on java.library.path. */
+  public static String withJDKLibraryPath() {
+    final String old = System.getProperty("java.library.path");
+    final String jdkLibs = System.getProperty("java.home") + File.separator + "lib";
+    System.setProperty(
+        "java.library.path", File.separator + "nonexistent" + File.pathSeparator + jdkLibs);
+    return old;
+  }
+
+  public static void restoreLibraryPath(final String old) {
+    if (old == null) {
+      System.clearProperty("java.library.path");
+    } else {
+      System.setProperty("java.library.path", old);
+    }
+  }
+
+  @Test
+  public void testLookupOnLibraryPath() {
+    System.out.println("lookupOnLibraryPath");
+    final String old = withJDKLibraryPath();
+    try {
+      final FunctionDescriptor desc = FunctionDescriptor.of(JAVA_INT, ADDRESS, ADDRESS, JAVA_INT);
+      final MethodHandle handle = NativeLibraries.downcall(JDKLIBRARY, JDKSYMBOL, desc);
+      assertNotNull(handle);
+      assertSame(handle, NativeLibraries.downcall(JDKLIBRARY, JDKSYMBOL, desc));
+    } finally {
+      restoreLibraryPath(old);
+    }
+  }
+
+  @Test
+  public void testMissingLibrary() {
+    System.out.println("missingLibrary");
+    final UnsatisfiedLinkError err =
+        assertThrows(
+            UnsatisfiedLinkError.class,
+            () -> NativeLibraries.downcall("ogolemnosuchlib", "foo", FunctionDescriptor.ofVoid()));
+    assertEquals(
+        "Native library ogolemnosuchlib ("
+            + System.mapLibraryName("ogolemnosuchlib")
+            + ") not found.",
+        err.getMessage());
+  }
+
+  @Test
+  public void testMissingSymbol() {
+    System.out.println("missingSymbol");
+    final String old = withJDKLibraryPath();
+    try {
+      final UnsatisfiedLinkError err =
+          assertThrows(
+              UnsatisfiedLinkError.class,
+              () ->
+                  NativeLibraries.downcall(
+                      JDKLIBRARY, "ogo_no_such_symbol", FunctionDescriptor.ofVoid()));
+      assertEquals(
+          "Symbol ogo_no_such_symbol not found in native library " + JDKLIBRARY + ".",
+          err.getMessage());
+    } finally {
+      restoreLibraryPath(old);
+    }
+  }
+}
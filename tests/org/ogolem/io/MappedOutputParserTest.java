@@ -0,0 +1,209 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.io;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class MappedOutputParserTest {
+
+  private static final String OUTPUT =
+      "          TOTAL ENERGY            =       -100.00000 EV\n"
+          + "  CARTESIAN COORDINATES\n"
+          + "\n"
+          + "    1    O     0.0000    0.0000    0.0000\n"
+          + "  some noise\n"
+          + "          TOTAL ENERGY            =       -418.69281 EV\n"
+          + "  CARTESIAN COORDINATES\n"
+          + "\n"
+          + "    1    O     0.1234   -1.5E-3    2.25D+01\n"
+          + "    2    H    -0.7571    0.5866   12345.678901234567890\n"
+          + "    3    H     0.7571    0.5866    0.0000\n";
+
+  @TempDir File tmpDir;
+
+  private String writeOutput() throws IOException {
+    final File f = new File(tmpDir, "test.out");
+    Files.write(f.toPath(), OUTPUT.getBytes(StandardCharsets.US_ASCII));
+    return f.getAbsolutePath();
+  }
+
+  @Test
+  public void testBackwardsSearch() throws IOException {
+    System.out.println("backwardsSearch");
+    try (final MappedOutputParser parser = MappedOutputParser.open(writeOutput())) {
+      final int energy = parser.lastIndexOf("TOTAL ENERGY");
+      assertTrue(energy > 0);
+      final int pos = parser.skipWhite(parser.lineStart(energy)) + 26;
+      assertEquals(-418.69281, parser.parseDouble(pos), 0.0);
+      assertEquals(-1, parser.lastIndexOf("NOT PRESENT"));
+    }
+  }
+
+  @Test
+  public void testBackwardsSearchBound() throws IOException {
+    System.out.println("backwardsSearchBound");
+    try (final MappedOutputParser parser = MappedOutputParser.open(writeOutput())) {
+      final int last = parser.lastIndexOf("TOTAL ENERGY");
+      final int first = parser.indexOf("TOTAL ENERGY", 0);
+      assertTrue(first < last);
+      // a match at exactly the bound is excluded, one byte more includes it
+      assertEquals(last, parser.lastIndexOf("TOTAL ENERGY", last + 1));
+      assertEquals(first, parser.lastIndexOf("TOTAL ENERGY", last));
+      assertEquals(first, parser.lastIndexOf("TOTAL ENERGY", first + 1));
+      assertEquals(-1, parser.lastIndexOf("TOTAL ENERGY", first));
+      assertEquals(-1, parser.lastIndexOf("TOTAL ENERGY", 0));
+      // bounds beyond the end of the file are fine
+      assertEquals(last, parser.lastIndexOf("TOTAL ENERGY", parser.size() + 42));
+      // a marker at the very start or end of the file
+      assertEquals(0, parser.lastIndexOf(" ", 1));
+      assertEquals(-1, parser.lastIndexOf(" ", 0));
+      assertEquals(parser.size() - 1, parser.lastIndexOf("\n", parser.size()));
+    }
+  }
+
+  @Test
+  public void testColumn() throws IOException {
+    System.out.println("column");
+    final File f = new File(tmpDir, "orca.out");
+    Files.write(
+        f.toPath(),
+        ("FINAL SINGLE POINT ENERGY       -76.026760\n"
+                + "FINAL SINGLE POINT ENERGY\n"
+                + "   -1.0\n")
+            .getBytes(StandardCharsets.US_ASCII));
+    try (final MappedOutputParser parser = MappedOutputParser.open(f.getAbsolutePath())) {
+      final int first = parser.indexOf("FINAL SINGLE POINT ENERGY", 0);
+      assertEquals(-76.02676, parser.parseDouble(parser.column(first, 26)), 0.0);
+
+      // a short line must not run into the value on the next one
+      final int last = parser.lastIndexOf("FINAL SINGLE POINT ENERGY");
+      assertThrows(NumberFormatException.class, () -> parser.column(last, 26));
+      final int end = parser.column(last, 25);
+      assertThrows(NumberFormatException.class, () -> parser.parseDouble(end));
+    }
+  }
+
+  @Test
+  public void testLineStartingWith() throws IOException {
+    System.out.println("lineStartingWith");
+    final File f = new File(tmpDir, "tinker.out");
+    Files.write(
+        f.toPath(),
+        (" Total Potential Energy :        -12.5000 Kcal/mole\n"
+                + " Intermolecular Energy :          -3.0 Kcal/mole\n"
+                + " Ratio of Total Potential Energy : 0.5\n")
+            .getBytes(StandardCharsets.US_ASCII));
+    try (final MappedOutputParser parser = MappedOutputParser.open(f.getAbsolutePath())) {
+      final int pos = parser.lastIndexOfLineStartingWith("Total Potential Energy :");
+      assertEquals(1, pos);
+      assertEquals(-12.5, parser.parseDoubleToken(pos, 4), 0.0);
+      assertTrue(parser.lastIndexOf("Total Potential Energy :") > pos);
+      assertEquals(-1, parser.lastIndexOfLineStartingWith("Energy :"));
+    }
+  }
+
+  @Test
+  public void testTokens() throws IOException {
+    System.out.println("tokens");
+    try (final MappedOutputParser parser = MappedOutputParser.open(writeOutput())) {
+      final int geom = parser.lastIndexOf("CARTESIAN COORDINATES");
+      final int line = parser.advanceLines(geom, 2);
+      assertEquals(5, parser.noOfTokens(line));
+      assertEquals(1, parser.parseInt(parser.token(line, 0)));
+      assertTrue(parser.tokenEqualsIgnoreCase(parser.token(line, 1), "o"));
+      assertFalse(parser.tokenEqualsIgnoreCase(parser.token(line, 1), "Os"));
+      assertEquals(0.1234, parser.parseDoubleToken(line, 2), 0.0);
+      assertEquals(-1.5E-3, parser.parseDoubleToken(line, 3), 0.0);
+      assertEquals(22.5, parser.parseDoubleToken(line, 4), 0.0);
+      assertEquals(-1, parser.token(line, 5));
+
+      final int next = parser.nextLine(line);
+      assertEquals("H", parser.tokenAt(parser.token(next, 1)));
+      assertEquals(
+          Double.parseDouble("12345.678901234567890"), parser.parseDoubleToken(next, 4), 0.0);
+
+      final int last = parser.lastLineStart();
+      assertEquals(3, parser.parseInt(last));
+      assertEquals(-1, parser.nextLine(last));
+      assertEquals(next, parser.previousLine(last));
+    }
+  }
+
+  @Test
+  public void testParseDoubleMatchesJDK() throws IOException {
+    System.out.println("parseDoubleMatchesJDK");
+    final String[] numbers = {
+      "0.0",
+      "-0.5",
+      "1",
+      "3.14159265358979",
+      "1e-300",
+      "-2.5E+10",
+      "0.000001234",
+      "123456789012",
+      "6.02214076e23",
+      "1.7976931348623157E308",
+      "4.9E-324",
+      "-0.100000000000000005551"
+    };
+    final StringBuilder sb = new StringBuilder();
+    for (final String n : numbers) {
+      sb.append(n).append('\n');
+    }
+    final File f = new File(tmpDir, "numbers.out");
+    Files.write(f.toPath(), sb.toString().getBytes(StandardCharsets.US_ASCII));
+    try (final MappedOutputParser parser = MappedOutputParser.open(f.getAbsolutePath())) {
+      int line = 0;
+      for (final String n : numbers) {
+        assertEquals(Double.parseDouble(n), parser.parseDouble(line), 0.0, n);
+        line = parser.nextLine(line);
+      }
+      assertThrows(NumberFormatException.class, () -> parser.parseDouble(parser.size()));
+    }
+  }
+}
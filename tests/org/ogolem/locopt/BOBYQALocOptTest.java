@@ -46,7 +46,7 @@ import org.junit.jupiter.api.Test;
  * A test class for BOBYQA, the bound-constraint gradient-free optimizer.
  *
  * @author Johannes Dieterich
- * @version 2021-07-17
+ * @version 2026-10-18
  */
 public class BOBYQALocOptTest {
 
@@ -103,4 +103,91 @@ public class BOBYQALocOptTest {
       }
     }
   }
+
+  /** Concurrently evaluated interpolation points must not change the optimization. */
+  @Test
+  public void testThreadedMatchesSerial() {
+    System.out.println("threadedMatchesSerial");
+    final Random r = new Random(42);
+    final double shift = 4.2;
+    final int dim = 12;
+    final HarmonicFunction func = new HarmonicFunction(0.0001, shift, 0.0, 0.0, 42 * shift);
+
+    final BOBYQALocOpt<Double, BasicOptimizableType> serial =
+        new BOBYQALocOpt<>(func, 9999, 1e-1, 1e-6);
+    final BOBYQALocOpt<Double, BasicOptimizableType> threaded =
+        new BOBYQALocOpt<>(func.copy(), 9999, 1e-1, 1e-6, 4, false);
+
+    final double[] gen = new double[dim];
+    for (int x = 0; x < dim; x++) {
+      gen[x] = (42.0 * r.nextDouble() + shift) / (42 + shift);
+    }
+
+    final BasicOptimizableType res1 = serial.optimize(new BasicOptimizableType(gen.clone()));
+    final BasicOptimizableType res2 = threaded.optimize(new BasicOptimizableType(gen.clone()));
+
+    assertEquals(res1.getFitness(), res2.getFitness(), 0.0);
+    assertArrayEquals(res1.getGenomeAsDouble(), res2.getGenomeAsDouble(), 0.0);
+  }
+
+  /** A warm-started rerun from the previous solution must still converge. */
+  @Test
+  public void testWarmStart() {
+    System.out.println("warmStart");
+    final double shift = 4.2;
+    final int dim = 12;
+    final double convergedTrust = 1e-6;
+    final HarmonicFunction func = new HarmonicFunction(0.0001, shift, 0.0, 0.0, 42 * shift);
+
+    final BOBYQALocOpt<Double, BasicOptimizableType> instance =
+        new BOBYQALocOpt<>(func, 9999, 1e-1, convergedTrust, 1, true);
+
+    final double[] gen = new double[dim];
+    for (int x = 0; x < dim; x++) {
+      gen[x] = (x + shift) / (42 + shift);
+    }
+
+    // the warm start is kept per copy
+    final BOBYQALocOpt<Double, BasicOptimizableType> opt = instance.copy();
+    final BasicOptimizableType res1 = opt.optimize(new BasicOptimizableType(gen));
+    final BasicOptimizableType res2 = opt.optimize(res1);
+
+    assertTrue(
+        Math.abs(res2.getFitness()) <= convergedTrust, "Fitness wrong: " + res2.getFitness());
+    final double[] resDat = res2.getGenomeAsDouble();
+    for (int x = 0; x < dim; x++) {
+      assertEquals(shift, resDat[x], 10 * convergedTrust);
+    }
+  }
+
+  /** Runs of other copies (threads) must not change the outcome of a warm-started copy. */
+  @Test
+  public void testWarmStartPerCopy() {
+    System.out.println("warmStartPerCopy");
+    final Random r = new Random(4242);
+    final double shift = 4.2;
+    final int dim = 12;
+    final HarmonicFunction func = new HarmonicFunction(0.0001, shift, 0.0, 0.0, 42 * shift);
+
+    final BOBYQALocOpt<Double, BasicOptimizableType> instance =
+        new BOBYQALocOpt<>(func, 9999, 1e-1, 1e-6, 1, true);
+
+    final double[] gen = new double[dim];
+    final double[] near = new double[dim];
+    for (int x = 0; x < dim; x++) {
+      gen[x] = (42.0 * r.nextDouble() + shift) / (42 + shift);
+      near[x] = (shift + 1e-3 * x) / (42 + shift);
+    }
+
+    final BasicOptimizableType reference =
+        instance.copy().optimize(new BasicOptimizableType(gen.clone()));
+
+    // another copy barely moves, that must not clamp the radius of the next one
+    instance.copy().optimize(new BasicOptimizableType(near));
+    final BasicOptimizableType again =
+        instance.copy().optimize(new BasicOptimizableType(gen.clone()));
+
+    assertEquals(reference.getFitness(), again.getFitness(), 0.0);
+    assertArrayEquals(reference.getGenomeAsDouble(), again.getGenomeAsDouble(), 0.0);
+  }
 }
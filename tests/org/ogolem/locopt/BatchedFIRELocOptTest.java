@@ -0,0 +1,121 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.locopt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A test class for the batched FIRE.
+ *
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class BatchedFIRELocOptTest {
+
+  /** A batch must give exactly what optimizing one individual after the other gives. */
+  @Test
+  public void testBatchMatchesSingle() {
+    System.out.println("batchMatchesSingle");
+    final Random r = new Random(42);
+    final double shift = 4.2;
+    final double numAcc = 1e-7;
+    final HarmonicFunction func = new HarmonicFunction(0.0001, shift, 0.0);
+
+    final FIRELocOpt.FireConfig fc = new FIRELocOpt.FireConfig();
+    fc.iMaxIterations = 1000;
+    fc.dFMax = 1e-12;
+    fc.dMaxMove = 0.2;
+    final BatchedFIRELocOpt<Double, BasicOptimizableType> batched =
+        new BatchedFIRELocOpt<>(fc, func);
+    final FIRELocOpt<Double, BasicOptimizableType> single = new FIRELocOpt<>(fc, func.copy());
+
+    final int dim = 42;
+    final List<BasicOptimizableType> starts = new ArrayList<>();
+    for (int k = 0; k < 7; k++) {
+      final double[] gen = new double[dim];
+      for (int x = 0; x < dim; x++) {
+        gen[x] = 42.0 * r.nextDouble() + shift;
+      }
+      starts.add(new BasicOptimizableType(gen));
+    }
+
+    final List<BasicOptimizableType> results = batched.fitness(starts);
+    assertEquals(starts.size(), results.size());
+
+    for (int k = 0; k < starts.size(); k++) {
+      final BasicOptimizableType res = results.get(k);
+      final BasicOptimizableType ref = single.optimize(starts.get(k));
+      assertEquals(ref.getFitness(), res.getFitness(), 0.0, "Fitness differs for " + k);
+      assertArrayEquals(ref.getGenomeAsDouble(), res.getGenomeAsDouble(), 0.0);
+      assertTrue(Math.abs(res.getFitness()) <= numAcc, "Fitness wrong: " + res.getFitness());
+    }
+  }
+
+  /** A batch of one through the single individual interface. */
+  @Test
+  public void testOptimizeOne() {
+    System.out.println("optimizeOne");
+    final double shift = 4.2;
+    final double numAcc = 1e-7;
+    final HarmonicFunction func = new HarmonicFunction(0.0001, shift, 0.0);
+
+    final FIRELocOpt.FireConfig fc = new FIRELocOpt.FireConfig();
+    fc.iMaxIterations = 1000;
+    fc.dFMax = 1e-12;
+    fc.dMaxMove = 0.2;
+    final BatchedFIRELocOpt<Double, BasicOptimizableType> batched =
+        new BatchedFIRELocOpt<>(fc, func);
+    final FIRELocOpt<Double, BasicOptimizableType> single = new FIRELocOpt<>(fc, func.copy());
+
+    final double[] gen = new double[12];
+    for (int x = 0; x < gen.length; x++) {
+      gen[x] = 0.5 * x;
+    }
+    final BasicOptimizableType start = new BasicOptimizableType(gen);
+    final BasicOptimizableType res = batched.fitness(start, false);
+    final BasicOptimizableType ref = single.optimize(start);
+
+    assertEquals(ref.getFitness(), res.getFitness(), 0.0);
+    assertArrayEquals(ref.getGenomeAsDouble(), res.getGenomeAsDouble(), 0.0);
+    assertArrayEquals(gen, start.getGenomeAsDouble(), 0.0, "Start was changed.");
+  }
+}
@@ -72,7 +72,7 @@ public class HarmonicFunction implements GenericBackend<Double,BasicOptimizableT
     
     @Override
     public HarmonicFunction copy() {
-        return new HarmonicFunction(a,x0,b,boundUp,boundLow);
+        return new HarmonicFunction(a,x0,b,boundLow,boundUp);
     }
 
     @Override
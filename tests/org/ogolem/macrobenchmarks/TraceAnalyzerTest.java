@@ -0,0 +1,212 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.macrobenchmarks;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ogolem.generic.tracing.CacheCheckoutEvent;
+import org.ogolem.generic.tracing.ExternalProcessEvent;
+import org.ogolem.generic.tracing.GAStageEvent;
+import org.ogolem.generic.tracing.PoolLockEvent;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class TraceAnalyzerTest {
+
+  private static final long MS = 1000000;
+
+  @TempDir File tmpDir;
+
+  /** The columns after the key of every table row, by key. */
+  private static Map<String, String[]> rows(final List<String> summary) {
+    final Map<String, String[]> rows = new HashMap<>();
+    for (final String line : summary) {
+      if (line.length() <= 41 || line.startsWith("#")) {
+        continue;
+      }
+      final String key = line.substring(0, 40).trim();
+      assertNull(rows.put(key, line.substring(41).trim().split("\\s+")), "twice: " + key);
+    }
+    return rows;
+  }
+
+  @Test
+  public void testPercentile() {
+    System.out.println("percentile");
+
+    final long[] one = {7};
+    assertEquals(7, TraceAnalyzer.percentile(one, 0.0));
+    assertEquals(7, TraceAnalyzer.percentile(one, 50.0));
+    assertEquals(7, TraceAnalyzer.percentile(one, 100.0));
+
+    final long[] hundred = new long[100];
+    for (int i = 0; i < 100; i++) {
+      hundred[i] = i + 1;
+    }
+    assertEquals(1, TraceAnalyzer.percentile(hundred, 0.0));
+    assertEquals(50, TraceAnalyzer.percentile(hundred, 50.0));
+    assertEquals(99, TraceAnalyzer.percentile(hundred, 99.0));
+    assertEquals(100, TraceAnalyzer.percentile(hundred, 99.5));
+    assertEquals(100, TraceAnalyzer.percentile(hundred, 100.0));
+  }
+
+  @Test
+  public void testSummary() {
+    System.out.println("summary");
+
+    final TraceAnalyzer analyzer = new TraceAnalyzer();
+    analyzer.addStage(GAStageEvent.STEP, null, 10 * MS);
+    analyzer.addStage(GAStageEvent.STEP, null, 30 * MS);
+    analyzer.addStage(GAStageEvent.STEP, "", 20 * MS);
+    analyzer.addStage(GAStageEvent.CROSSOVER, "xo1", 2 * MS);
+    analyzer.addStage(GAStageEvent.CROSSOVER, "xo1", 1 * MS);
+    analyzer.addStage(GAStageEvent.CROSSOVER, null, 3 * MS);
+    analyzer.addOther("pool write lock wait", 6 * MS);
+
+    final List<String> summary = analyzer.getSummary();
+    final Map<String, String[]> rows = rows(summary);
+
+    assertArrayEquals(
+        new String[] {"count", "total", "mean", "p50", "p99", "max", "share"}, rows.get("stage"));
+    assertArrayEquals(
+        new String[] {"3", "60.000", "20.000", "20.000", "30.000", "30.000", "100.00%"},
+        rows.get("step"));
+    assertArrayEquals(
+        new String[] {"3", "6.000", "2.000", "2.000", "3.000", "3.000", "10.00%"},
+        rows.get("crossover"));
+    assertArrayEquals(
+        new String[] {"2", "3.000", "1.500", "1.000", "2.000", "2.000", "5.00%"},
+        rows.get("crossover: xo1"));
+    assertArrayEquals(
+        new String[] {"1", "6.000", "6.000", "6.000", "6.000", "6.000", "10.00%"},
+        rows.get("pool write lock wait"));
+    assertNotNull(rows.get("stage: operator"));
+    assertNotNull(rows.get("waits and external calls"));
+    // three headers, four rows
+    assertEquals(7, rows.size());
+  }
+
+  @Test
+  public void testSummaryWithoutSteps() {
+    System.out.println("summaryWithoutSteps");
+
+    final TraceAnalyzer analyzer = new TraceAnalyzer();
+    assertEquals(List.of("stage"), List.copyOf(rows(analyzer.getSummary()).keySet()));
+
+    analyzer.addStage(GAStageEvent.LOCALOPT, null, 4 * MS);
+    final Map<String, String[]> rows = rows(analyzer.getSummary());
+    // no operators, no waits: no tables for them
+    assertEquals(2, rows.size());
+    assertArrayEquals(
+        new String[] {"1", "4.000", "4.000", "4.000", "4.000", "4.000", "n/a"},
+        rows.get("localopt"));
+  }
+
+  @Test
+  public void testRecording() throws Exception {
+    System.out.println("recording");
+
+    final Path file = new File(tmpDir, "ogo.jfr").toPath();
+    try (final Recording recording = new Recording()) {
+      for (final String event :
+          new String[] {
+            "org.ogolem.GAStage",
+            "org.ogolem.PoolLockWait",
+            "org.ogolem.CacheCheckout",
+            "org.ogolem.ExternalProcess"
+          }) {
+        recording.enable(event).withThreshold(Duration.ZERO);
+      }
+      recording.start();
+
+      for (int i = 0; i < 3; i++) {
+        final GAStageEvent step = GAStageEvent.start(i, GAStageEvent.STEP);
+        final GAStageEvent xover = GAStageEvent.start(i, GAStageEvent.CROSSOVER);
+        if (xover.finish()) {
+          xover.operator = "xo" + (i % 2);
+          xover.commit();
+        }
+        if (step.finish()) {
+          step.commit();
+        }
+      }
+
+      final PoolLockEvent read = new PoolLockEvent();
+      read.begin();
+      read.commit();
+      final PoolLockEvent write = new PoolLockEvent();
+      write.begin();
+      write.write = true;
+      write.commit();
+
+      final CacheCheckoutEvent cache = new CacheCheckoutEvent();
+      cache.begin();
+      cache.type = "Geometry";
+      cache.commit();
+
+      final ExternalProcessEvent proc = new ExternalProcessEvent();
+      proc.begin();
+      proc.command = "xtb";
+      proc.commit();
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    final Map<String, String[]> rows = rows(new TraceAnalyzer(file).getSummary());
+    assertEquals("3", rows.get("step")[0]);
+    assertEquals("3", rows.get("crossover")[0]);
+    assertEquals("2", rows.get("crossover: xo0")[0]);
+    assertEquals("1", rows.get("crossover: xo1")[0]);
+    assertEquals("1", rows.get("pool read lock wait")[0]);
+    assertEquals("1", rows.get("pool write lock wait")[0]);
+    assertEquals("1", rows.get("cache checkout Geometry")[0]);
+    assertEquals("1", rows.get("external xtb")[0]);
+    assertEquals(11, rows.size());
+  }
+}
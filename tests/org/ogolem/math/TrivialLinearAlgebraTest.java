@@ -46,7 +46,7 @@ import org.junit.jupiter.api.Test;
  * Tests for trivial linear algebra
  *
  * @author Johannes Dieterich
- * @version 2021-07-17
+ * @version 2026-10-18
  */
 public class TrivialLinearAlgebraTest {
 
@@ -87,4 +87,32 @@ public class TrivialLinearAlgebraTest {
       assertArrayEquals(matCDat[i], matCOurDat[i], 1e-10);
     }
   }
+
+  @Test
+  public void testSymmetricEigenvalues() {
+    System.out.println("symmetricEigenvalues");
+
+    final Random r = new Random(42);
+    for (final int n : new int[] {1, 2, 7, 50}) {
+      final Matrix mat = new Matrix(n, n);
+      final double[][] matDat = mat.getArray();
+      final double[][] upper = new double[n][n];
+      for (int i = 0; i < n; i++) {
+        for (int j = i; j < n; j++) {
+          final double d = (i == j && n > 2) ? 0.0 : r.nextDouble() - 0.5;
+          matDat[i][j] = d;
+          matDat[j][i] = d;
+          upper[i][j] = d;
+        }
+      }
+
+      // Jama reference path
+      final double[] ref = new contrib.jama.EigenvalueDecomposition(mat, true).getRealEigenvalues();
+
+      final double[] evals = new double[n];
+      TrivialLinearAlgebra.symmetricEigenvalues(upper, evals, new double[n]);
+
+      assertArrayEquals(ref, evals, 0.0, "Eigenvalues differ for dimension " + n);
+    }
+  }
 }
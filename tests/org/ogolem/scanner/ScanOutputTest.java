@@ -0,0 +1,148 @@
+/*
+Copyright (c) 2026, J. M. Dieterich and B. Hartke
+All rights reserved.
+
+Redistribution and use in source and binary forms, with or without
+modification, are permitted provided that the following conditions are met:
+
+    * Redistributions of source code must retain the above copyright
+      notice, this list of conditions and the following disclaimer.
+
+    * Redistributions in binary form must reproduce the above copyright
+      notice, this list of conditions and the following disclaimer in the
+      documentation and/or other materials provided with the distribution.
+
+    * All advertising materials mentioning features or use of this software
+      must display the following acknowledgement:
+
+      This product includes software of the ogolem.org project developed by
+      J. M. Dieterich and B. Hartke (Christian-Albrechts-University Kiel, Germany)
+      and contributors.
+
+    * Neither the name of the ogolem.org project, the University of Kiel
+      nor the names of its contributors may be used to endorse or promote products
+      derived from this software without specific prior written permission.
+
+THIS SOFTWARE IS PROVIDED BY THE AUTHOR(S) ''AS IS'' AND ANY
+EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+DISCLAIMED. IN NO EVENT SHALL THE AUTHOR(S) BE LIABLE FOR ANY
+DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+(INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+(INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+*/
+package org.ogolem.scanner;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Johannes Dieterich
+ * @version 2026-10-18
+ */
+public class ScanOutputTest {
+
+  private static final String GRID = "4 0:1:0:1.0:2.5:0.5";
+
+  @TempDir File tmpDir;
+
+  private String prefix() {
+    return new File(tmpDir, "scangeom").getAbsolutePath();
+  }
+
+  private static String[] structure(final int point) {
+    return new String[] {"1", "energy " + point, "H 0.0 0.0 " + point + ".0"};
+  }
+
+  @Test
+  public void testResume() throws IOException {
+    System.out.println("resume");
+    try (final ScanOutput out = new ScanOutput(prefix(), GRID, false)) {
+      assertEquals(0, out.noOfDone(4));
+      out.write(1, "point 1", structure(1), null);
+      out.write(3, "point 3", structure(3), structure(3));
+    }
+
+    try (final ScanOutput out = new ScanOutput(prefix(), GRID, true)) {
+      assertEquals(2, out.noOfDone(4));
+      assertTrue(out.isDone(1));
+      assertFalse(out.isDone(2));
+      assertTrue(out.isDone(3));
+      out.write(2, "point 2", structure(2), null);
+    }
+
+    try (final ScanOutput out = new ScanOutput(prefix(), GRID, true)) {
+      assertEquals(3, out.noOfDone(4));
+      // only points within the grid count
+      assertEquals(1, out.noOfDone(1));
+    }
+
+    // not resuming starts from scratch
+    try (final ScanOutput out = new ScanOutput(prefix(), GRID, false)) {
+      assertEquals(0, out.noOfDone(4));
+    }
+    assertEquals(0L, Files.size(Path.of(prefix() + "-scan.xyz")));
+  }
+
+  @Test
+  public void testTruncation() throws IOException {
+    System.out.println("truncation");
+    try (final ScanOutput out = new ScanOutput(prefix(), GRID, false)) {
+      out.write(1, "point 1", structure(1), null);
+      out.write(2, "point 2", structure(2), null);
+    }
+    final Path xyz = Path.of(prefix() + "-scan.xyz");
+    final Path idx = Path.of(prefix() + "-scan.idx");
+    final long validSize = Files.size(xyz);
+
+    // an interrupted run: a half-written record and a partial index line
+    Files.write(xyz, "1\npoint 3 non".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    Files.write(idx, "3 1".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+    try (final ScanOutput out = new ScanOutput(prefix(), GRID, true)) {
+      assertEquals(2, out.noOfDone(4));
+      assertFalse(out.isDone(3));
+      assertEquals(validSize, Files.size(xyz));
+      out.write(3, "point 3", structure(3), null);
+    }
+
+    final List<String> lines = Files.readAllLines(idx, StandardCharsets.UTF_8);
+    assertEquals(4, lines.size());
+    assertEquals("#grid " + GRID, lines.get(0));
+    assertTrue(lines.get(3).startsWith("3 " + validSize + " "));
+
+    // an index pointing past the end of the xyz file is dropped from there on
+    Files.write(xyz, new byte[0], StandardOpenOption.TRUNCATE_EXISTING);
+    try (final ScanOutput out = new ScanOutput(prefix(), GRID, true)) {
+      assertEquals(0, out.noOfDone(4));
+    }
+  }
+
+  @Test
+  public void testRefuseOtherGrid() throws IOException {
+    System.out.println("refuseOtherGrid");
+    try (final ScanOutput out = new ScanOutput(prefix(), GRID, false)) {
+      out.write(1, "point 1", structure(1), null);
+    }
+
+    assertThrows(
+        IOException.class, () -> new ScanOutput(prefix(), "4 0:1:0:1.0:2.5:0.25", true).close());
+
+    // the refused output must be left alone
+    try (final ScanOutput out = new ScanOutput(prefix(), GRID, true)) {
+      assertEquals(1, out.noOfDone(4));
+    }
+  }
+}